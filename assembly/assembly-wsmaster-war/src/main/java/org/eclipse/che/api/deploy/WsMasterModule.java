@@ -26,8 +26,10 @@ import java.util.Map;
 import javax.sql.DataSource;
 import org.eclipse.che.api.core.notification.RemoteSubscriptionStorage;
 import org.eclipse.che.api.core.rest.CheJsonProvider;
+import org.eclipse.che.api.core.rest.HttpJsonRequestFactory;
 import org.eclipse.che.api.core.rest.MessageBodyAdapter;
 import org.eclipse.che.api.core.rest.MessageBodyAdapterInterceptor;
+import org.eclipse.che.api.core.rest.PooledHttpJsonRequestFactory;
 import org.eclipse.che.api.deploy.jsonrpc.CheJsonRpcWebSocketConfigurationModule;
 import org.eclipse.che.api.factory.server.FactoryAcceptValidator;
 import org.eclipse.che.api.factory.server.FactoryCreateValidator;
@@ -195,6 +197,8 @@ public class WsMasterModule extends AbstractModule {
         .asEagerSingleton();
     bind(org.eclipse.che.api.workspace.server.event.RuntimeLogJsonRpcMessenger.class)
         .asEagerSingleton();
+    bind(org.eclipse.che.api.workspace.server.event.RuntimeLogEventBatcher.class)
+        .asEagerSingleton();
 
     bind(org.eclipse.che.security.oauth.OAuthAuthenticatorProvider.class)
         .to(org.eclipse.che.security.oauth.OAuthAuthenticatorProviderImpl.class);
@@ -225,6 +229,9 @@ public class WsMasterModule extends AbstractModule {
     terminationMultiBinder
         .addBinding()
         .to(org.eclipse.che.api.workspace.server.hc.probe.ProbeSchedulerTermination.class);
+    terminationMultiBinder
+        .addBinding()
+        .to(org.eclipse.che.api.workspace.activity.WorkspaceActivityTermination.class);
     bind(DBTermination.class);
 
     final Map<String, String> persistenceProperties = new HashMap<>();
@@ -283,6 +290,9 @@ public class WsMasterModule extends AbstractModule {
         "org.eclipse.che.core.db.h2.jpa.eclipselink.H2ExceptionHandler");
     bind(TokenValidator.class).to(org.eclipse.che.api.local.DummyTokenValidator.class);
     bind(MachineTokenProvider.class).to(MachineTokenProvider.EmptyMachineTokenProvider.class);
+    if (Boolean.valueOf(System.getenv("CHE_CORE_REST_HTTP__CLIENT_POOLED"))) {
+      bind(HttpJsonRequestFactory.class).to(PooledHttpJsonRequestFactory.class);
+    }
 
     bind(DataSource.class).toProvider(org.eclipse.che.core.db.h2.H2DataSourceProvider.class);
 
@@ -20,6 +20,7 @@ import javax.inject.Named;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestProcessorConfigurationProvider;
 import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.eclipse.che.commons.lang.execution.ExecutorServiceBuilder;
+import org.eclipse.che.commons.lang.execution.VirtualThreadExecutors;
 import org.eclipse.che.commons.observability.ExecutorServiceWrapper;
 import org.slf4j.Logger;
 
@@ -40,34 +41,47 @@ public class CheMajorWebSocketEndpointConfiguration
       "che.core.jsonrpc.processor_max_pool_size";
   public static final String JSON_RPC_MAJOR_QUEUE_CAPACITY_PARAMETER_NAME =
       "che.core.jsonrpc.processor_queue_capacity";
+  public static final String JSON_RPC_MAJOR_EXECUTION_MODE_PARAMETER_NAME =
+      "che.core.jsonrpc.processor_execution_mode";
 
   @Inject
   public CheMajorWebSocketEndpointConfiguration(
       @Named(JSON_RPC_MAJOR_CORE_POOL_SIZE_PARAMETER_NAME) int corePoolSize,
       @Named(JSON_RPC_MAJOR_MAX_POOL_SIZE_PARAMETER_NAME) int maxPoolSize,
       @Named(JSON_RPC_MAJOR_QUEUE_CAPACITY_PARAMETER_NAME) int queueCapacity,
+      @Named(JSON_RPC_MAJOR_EXECUTION_MODE_PARAMETER_NAME) String executionMode,
       ExecutorServiceWrapper wrapper) {
-    this.executor =
-        wrapper.wrap(
-            new ExecutorServiceBuilder()
-                .corePoolSize(corePoolSize)
-                .maxPoolSize(maxPoolSize)
-                .queueCapacity(queueCapacity)
-                .threadFactory(
-                    new ThreadFactoryBuilder()
-                        .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
-                        .setNameFormat(CheMajorWebSocketEndpoint.ENDPOINT_ID + "-%d")
-                        .setDaemon(true)
-                        .build())
-                .rejectedExecutionHandler(
-                    (r, executor) ->
-                        LOG.error(
-                            "Executor on major websocket endpoint rejected to handle the payload {}. Some important messages may be lost. Consider increasing `{}`. Now it's configured to {}",
-                            r,
-                            JSON_RPC_MAJOR_QUEUE_CAPACITY_PARAMETER_NAME,
-                            queueCapacity))
-                .build(),
+    ExecutorService executorService = null;
+    if ("virtual".equals(executionMode)) {
+      executorService = VirtualThreadExecutors.newVirtualThreadPerTaskExecutor().orElse(null);
+      if (executorService == null) {
+        LOG.warn(
+            "Virtual threads are not supported, websocket endpoint {} uses a thread pool",
             CheMajorWebSocketEndpoint.ENDPOINT_ID);
+      }
+    }
+    if (executorService == null) {
+      executorService =
+          new ExecutorServiceBuilder()
+              .corePoolSize(corePoolSize)
+              .maxPoolSize(maxPoolSize)
+              .queueCapacity(queueCapacity)
+              .threadFactory(
+                  new ThreadFactoryBuilder()
+                      .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                      .setNameFormat(CheMajorWebSocketEndpoint.ENDPOINT_ID + "-%d")
+                      .setDaemon(true)
+                      .build())
+              .rejectedExecutionHandler(
+                  (r, executor) ->
+                      LOG.error(
+                          "Executor on major websocket endpoint rejected to handle the payload {}. Some important messages may be lost. Consider increasing `{}`. Now it's configured to {}",
+                          r,
+                          JSON_RPC_MAJOR_QUEUE_CAPACITY_PARAMETER_NAME,
+                          queueCapacity))
+              .build();
+    }
+    this.executor = wrapper.wrap(executorService, CheMajorWebSocketEndpoint.ENDPOINT_ID);
   }
 
   @Override
@@ -11,6 +11,8 @@
  */
 package org.eclipse.che.api.deploy.jsonrpc;
 
+import static org.slf4j.LoggerFactory.getLogger;
+
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.concurrent.ExecutorService;
 import javax.inject.Inject;
@@ -18,7 +20,9 @@ import javax.inject.Named;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestProcessorConfigurationProvider;
 import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.eclipse.che.commons.lang.execution.ExecutorServiceBuilder;
+import org.eclipse.che.commons.lang.execution.VirtualThreadExecutors;
 import org.eclipse.che.commons.observability.ExecutorServiceWrapper;
+import org.slf4j.Logger;
 
 /**
  * {@link RequestProcessorConfigurationProvider.Configuration} implementation used to configure
@@ -27,6 +31,8 @@ import org.eclipse.che.commons.observability.ExecutorServiceWrapper;
 public class CheMinorWebSocketEndpointConfiguration
     implements RequestProcessorConfigurationProvider.Configuration {
 
+  private static final Logger LOG = getLogger(CheMinorWebSocketEndpointConfiguration.class);
+
   private final ExecutorService executor;
 
   public static final String JSON_RPC_MINOR_CORE_POOL_SIZE_PARAMETER_NAME =
@@ -35,27 +41,40 @@ public class CheMinorWebSocketEndpointConfiguration
       "che.core.jsonrpc.minor_processor_max_pool_size";
   public static final String JSON_RPC_MINOR_QUEUE_CAPACITY_PARAMETER_NAME =
       "che.core.jsonrpc.minor_processor_queue_capacity";
+  public static final String JSON_RPC_MINOR_EXECUTION_MODE_PARAMETER_NAME =
+      "che.core.jsonrpc.minor_processor_execution_mode";
 
   @Inject
   public CheMinorWebSocketEndpointConfiguration(
       @Named(JSON_RPC_MINOR_CORE_POOL_SIZE_PARAMETER_NAME) int corePoolSize,
       @Named(JSON_RPC_MINOR_MAX_POOL_SIZE_PARAMETER_NAME) int maxPoolSize,
       @Named(JSON_RPC_MINOR_QUEUE_CAPACITY_PARAMETER_NAME) int queueCapacity,
+      @Named(JSON_RPC_MINOR_EXECUTION_MODE_PARAMETER_NAME) String executionMode,
       ExecutorServiceWrapper wrapper) {
-    this.executor =
-        wrapper.wrap(
-            new ExecutorServiceBuilder()
-                .corePoolSize(corePoolSize)
-                .maxPoolSize(maxPoolSize)
-                .queueCapacity(queueCapacity)
-                .threadFactory(
-                    new ThreadFactoryBuilder()
-                        .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
-                        .setNameFormat(CheMinorWebSocketEndpoint.ENDPOINT_ID + "-%d")
-                        .setDaemon(true)
-                        .build())
-                .build(),
+    ExecutorService executorService = null;
+    if ("virtual".equals(executionMode)) {
+      executorService = VirtualThreadExecutors.newVirtualThreadPerTaskExecutor().orElse(null);
+      if (executorService == null) {
+        LOG.warn(
+            "Virtual threads are not supported, websocket endpoint {} uses a thread pool",
             CheMinorWebSocketEndpoint.ENDPOINT_ID);
+      }
+    }
+    if (executorService == null) {
+      executorService =
+          new ExecutorServiceBuilder()
+              .corePoolSize(corePoolSize)
+              .maxPoolSize(maxPoolSize)
+              .queueCapacity(queueCapacity)
+              .threadFactory(
+                  new ThreadFactoryBuilder()
+                      .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                      .setNameFormat(CheMinorWebSocketEndpoint.ENDPOINT_ID + "-%d")
+                      .setDaemon(true)
+                      .build())
+              .build();
+    }
+    this.executor = wrapper.wrap(executorService, CheMinorWebSocketEndpoint.ENDPOINT_ID);
   }
 
   @Override
@@ -16,7 +16,6 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static org.eclipse.che.api.core.websocket.impl.WebsocketIdService.SEPARATOR;
 import static org.slf4j.LoggerFactory.getLogger;
 
-import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.websocket.commons.WebSocketMessageReceiver;
@@ -35,7 +34,6 @@ public class JsonRpcMessageReceiver implements WebSocketMessageReceiver {
   private final RequestDispatcher requestDispatcher;
   private final ResponseDispatcher responseDispatcher;
   private final JsonRpcErrorTransmitter errorTransmitter;
-  private final JsonRpcQualifier jsonRpcQualifier;
   private final JsonRpcUnmarshaller jsonRpcUnmarshaller;
   private final RequestProcessor requestProcessor;
 
@@ -44,13 +42,11 @@ public class JsonRpcMessageReceiver implements WebSocketMessageReceiver {
       RequestDispatcher requestDispatcher,
       ResponseDispatcher responseDispatcher,
       JsonRpcErrorTransmitter errorTransmitter,
-      JsonRpcQualifier jsonRpcQualifier,
       JsonRpcUnmarshaller jsonRpcUnmarshaller,
       RequestProcessor requestProcessor) {
     this.requestDispatcher = requestDispatcher;
     this.responseDispatcher = responseDispatcher;
     this.errorTransmitter = errorTransmitter;
-    this.jsonRpcQualifier = jsonRpcQualifier;
     this.jsonRpcUnmarshaller = jsonRpcUnmarshaller;
     this.requestProcessor = requestProcessor;
   }
@@ -63,66 +59,63 @@ public class JsonRpcMessageReceiver implements WebSocketMessageReceiver {
     checkArgument(!message.isEmpty(), "Message must not be empty");
 
     LOGGER.debug("Receiving message: {}, from endpoint: {}", message, combinedEndpointId);
-    if (!jsonRpcQualifier.isValidJson(message)) {
-      String error = "An error occurred on the server while parsing the JSON text";
-      errorTransmitter.transmit(combinedEndpointId, new JsonRpcException(-32700, error));
-    }
-
-    List<String> messages = jsonRpcUnmarshaller.unmarshalArray(message);
-    for (String innerMessage : messages) {
-      if (jsonRpcQualifier.isJsonRpcRequest(innerMessage)) {
-        String endpointId = combinedEndpointId.split(SEPARATOR)[1];
-        ProcessRequestTask task = new ProcessRequestTask(combinedEndpointId, innerMessage);
-        requestProcessor.process(endpointId, task);
-      } else if (jsonRpcQualifier.isJsonRpcResponse(innerMessage)) {
-        processResponse(combinedEndpointId, innerMessage);
-      } else {
-        processError();
-      }
+    try {
+      jsonRpcUnmarshaller.unmarshal(
+          message,
+          request -> processRequest(combinedEndpointId, request),
+          response -> processResponse(combinedEndpointId, response));
+    } catch (JsonRpcException e) {
+      LOGGER.debug("Failed to read message: {}, endpoint: {}", e.getMessage(), combinedEndpointId);
+      errorTransmitter.transmit(combinedEndpointId, e);
     }
   }
 
-  private void processError() {
-    String error = "Something wen't wrong during incoming websocket message parsing";
-    IllegalStateException exception = new IllegalStateException(error);
-    LOGGER.error(error, exception);
-    throw exception;
+  private void processRequest(String combinedEndpointId, JsonRpcRequest request) {
+    String endpointId = combinedEndpointId.split(SEPARATOR)[1];
+    ProcessRequestTask task = new ProcessRequestTask(combinedEndpointId, request);
+    try {
+      requestProcessor.process(endpointId, request.getMethod(), task);
+    } catch (JsonRpcException e) {
+      LOGGER.debug("Request is rejected: {}, endpoint: {}", e.getMessage(), combinedEndpointId);
+      task.transmitError(e);
+    }
   }
 
-  private void processResponse(String endpointId, String innerMessage) {
-    JsonRpcResponse response = jsonRpcUnmarshaller.unmarshalResponse(innerMessage);
+  private void processResponse(String endpointId, JsonRpcResponse response) {
     responseDispatcher.dispatch(endpointId, response);
   }
 
   private class ProcessRequestTask implements Runnable {
 
     private final String endpointId;
-    private final String innerMessage;
+    private final JsonRpcRequest request;
 
-    public ProcessRequestTask(String endpointId, String innerMessage) {
+    public ProcessRequestTask(String endpointId, JsonRpcRequest request) {
       this.endpointId = endpointId;
-      this.innerMessage = innerMessage;
+      this.request = request;
     }
 
     @Override
     public void run() {
-      JsonRpcRequest request = null;
       try {
-        request = jsonRpcUnmarshaller.unmarshalRequest(innerMessage);
         requestDispatcher.dispatch(endpointId, request);
       } catch (JsonRpcException e) {
-        if (request == null || request.getId() == null) {
-          errorTransmitter.transmit(endpointId, e);
-        } else {
-          errorTransmitter.transmit(
-              endpointId, new JsonRpcException(e.getCode(), e.getMessage(), request.getId()));
-        }
+        transmitError(e);
+      }
+    }
+
+    private void transmitError(JsonRpcException e) {
+      if (request.getId() == null) {
+        errorTransmitter.transmit(endpointId, e);
+      } else {
+        errorTransmitter.transmit(
+            endpointId, new JsonRpcException(e.getCode(), e.getMessage(), request.getId()));
       }
     }
 
     @Override
     public String toString() {
-      return "JsonRPC request `" + innerMessage + "` for " + endpointId;
+      return "JsonRPC request `" + request.getMethod() + "` for " + endpointId;
     }
   }
 }
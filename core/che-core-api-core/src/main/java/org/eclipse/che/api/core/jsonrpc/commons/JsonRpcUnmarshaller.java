@@ -11,32 +11,24 @@
  */
 package org.eclipse.che.api.core.jsonrpc.commons;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 /** Transforms plain text messages into JSON RPC structures. */
 public interface JsonRpcUnmarshaller {
   /**
-   * Creates an array of stringified JSON RPC structures, which can further be unmarshalled
-   * separately.
+   * Reads a plain text message, which is either a single JSON RPC structure or an array of them, in
+   * a single pass and passes the requests and responses it contains to the corresponding consumers
+   * in the order of the message. Nothing is passed to the consumers unless the whole message is
+   * read successfully.
    *
    * @param message incoming message
-   * @return array of serialized JSON RPC
+   * @param requestConsumer consumer of the requests of the message
+   * @param responseConsumer consumer of the responses of the message
+   * @throws JsonRpcException with code -32700 when the message is not a valid JSON, or with code
+   *     -32600 when it contains a structure which is neither a request nor a response
    */
-  List<String> unmarshalArray(String message);
-
-  /**
-   * Creates a request out of a plain text message
-   *
-   * @param message plain text message
-   * @return JSON RPC request entity
-   */
-  JsonRpcRequest unmarshalRequest(String message);
-
-  /**
-   * Creates a response out of a plain text message
-   *
-   * @param message plain text message
-   * @return JSON RPC response entity
-   */
-  JsonRpcResponse unmarshalResponse(String message);
+  void unmarshal(
+      String message,
+      Consumer<JsonRpcRequest> requestConsumer,
+      Consumer<JsonRpcResponse> responseConsumer);
 }
@@ -20,4 +20,16 @@ public interface RequestProcessor {
    * @param runnable runnable to be called for processing of a request
    */
   void process(String endpointId, Runnable runnable);
+
+  /**
+   * Process a runnable interface that handles a request of the specified method
+   *
+   * @param endpointId an endpoint that requested the processing
+   * @param method method of the request
+   * @param runnable runnable to be called for processing of a request
+   * @throws JsonRpcException when the request is rejected and won't be processed
+   */
+  default void process(String endpointId, String method, Runnable runnable) {
+    process(endpointId, runnable);
+  }
 }
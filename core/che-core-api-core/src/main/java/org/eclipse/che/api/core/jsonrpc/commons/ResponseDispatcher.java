@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.slf4j.Logger;
@@ -31,8 +32,10 @@ public class ResponseDispatcher {
   private final JsonRpcComposer composer;
   private final TimeoutActionRunner timeoutActionRunner;
 
-  private final Map<String, SingleTypedPromise<?>> singleTypedPromises = new ConcurrentHashMap<>();
-  private final Map<String, ListTypedPromise<?>> listTypedPromises = new ConcurrentHashMap<>();
+  private final Map<PromiseKey, SingleTypedPromise<?>> singleTypedPromises =
+      new ConcurrentHashMap<>();
+  private final Map<PromiseKey, ListTypedPromise<?>> listTypedPromises = new ConcurrentHashMap<>();
+  private final LongAdder timedOutPromises = new LongAdder();
 
   @Inject
   public ResponseDispatcher(JsonRpcComposer composer, TimeoutActionRunner timeoutActionRunner) {
@@ -50,10 +53,6 @@ public class ResponseDispatcher {
     checkNotNull(rClass, "Result class must not be null");
   }
 
-  private static String generateKey(String endpointId, String requestId) {
-    return endpointId + '@' + requestId;
-  }
-
   public void dispatch(String endpointId, JsonRpcResponse response) {
     checkNotNull(endpointId, "Endpoint ID name must not be null");
     checkArgument(!endpointId.isEmpty(), "Endpoint ID name must not be empty");
@@ -64,7 +63,7 @@ public class ResponseDispatcher {
       return;
     }
 
-    String key = generateKey(endpointId, responseId);
+    PromiseKey key = new PromiseKey(endpointId, responseId);
 
     if (response.hasResult()) {
       dispatchResult(endpointId, response, key);
@@ -75,41 +74,60 @@ public class ResponseDispatcher {
     }
   }
 
-  public synchronized <R> JsonRpcPromise<R> registerPromiseForSingleObject(
+  public <R> JsonRpcPromise<R> registerPromiseForSingleObject(
       String endpointId, String requestId, Class<R> rClass, int timeoutInMillis) {
     checkArguments(endpointId, requestId, rClass);
 
     SingleTypedPromise<R> promise = new SingleTypedPromise<>(rClass);
-    String key = generateKey(endpointId, requestId);
+    PromiseKey key = new PromiseKey(endpointId, requestId);
     singleTypedPromises.put(key, promise);
     if (timeoutInMillis > 0) {
       timeoutActionRunner.schedule(
-          timeoutInMillis, () -> runTimeoutConsumer(singleTypedPromises.remove(key)));
+          timeoutInMillis,
+          () -> {
+            if (singleTypedPromises.remove(key, promise)) {
+              runTimeoutConsumer(promise);
+            }
+          });
     }
     return promise;
   }
 
-  public synchronized <R> JsonRpcPromise<List<R>> registerPromiseForListOfObjects(
+  public <R> JsonRpcPromise<List<R>> registerPromiseForListOfObjects(
       String endpointId, String requestId, Class<R> rClass, int timeoutInMillis) {
     checkArguments(endpointId, requestId, rClass);
 
     ListTypedPromise<R> promise = new ListTypedPromise<>(rClass);
-    String key = generateKey(endpointId, requestId);
+    PromiseKey key = new PromiseKey(endpointId, requestId);
     listTypedPromises.put(key, promise);
     if (timeoutInMillis > 0) {
       timeoutActionRunner.schedule(
-          timeoutInMillis, () -> runTimeoutConsumer(listTypedPromises.remove(key)));
+          timeoutInMillis,
+          () -> {
+            if (listTypedPromises.remove(key, promise)) {
+              runTimeoutConsumer(promise);
+            }
+          });
     }
     return promise;
   }
 
+  /** Returns the number of requests which are waiting for a response. */
+  public long getPendingPromisesCount() {
+    return singleTypedPromises.size() + listTypedPromises.size();
+  }
+
+  /** Returns the number of requests which did not get a response in time. */
+  public long getTimedOutPromisesCount() {
+    return timedOutPromises.sum();
+  }
+
   private void runTimeoutConsumer(JsonRpcPromise<?> promise) {
-    Optional.ofNullable(promise)
-        .flatMap(JsonRpcPromise::getTimeoutRunnable)
-        .ifPresent(Runnable::run);
+    timedOutPromises.increment();
+    promise.getTimeoutRunnable().ifPresent(Runnable::run);
   }
 
-  private void dispatchResult(String endpointId, JsonRpcResponse response, String key) {
+  private void dispatchResult(String endpointId, JsonRpcResponse response, PromiseKey key) {
     Optional.ofNullable(listTypedPromises.remove(key))
         .ifPresent(
             promise ->
@@ -141,13 +159,54 @@ public class ResponseDispatcher {
                                             composer.composeOne(response.getResult(), type)))));
   }
 
-  private void dispatchError(String endpointId, JsonRpcResponse response, String key) {
+  private void dispatchError(String endpointId, JsonRpcResponse response, PromiseKey key) {
     SingleTypedPromise<?> singlePromise = singleTypedPromises.remove(key);
-    ListTypedPromise<?> listPromise = listTypedPromises.remove(key);
-    JsonRpcPromise<?> promise = singlePromise != null ? singlePromise : listPromise;
+    JsonRpcPromise<?> promise =
+        singlePromise != null ? singlePromise : listTypedPromises.remove(key);
+    if (promise == null) {
+      LOGGER.debug("No pending request for error response: {}, endpoint: {}", key, endpointId);
+      return;
+    }
     promise.getFailureConsumer().ifPresent(it -> it.accept(endpointId, response.getError()));
   }
 
+  /** Identifies the request a promise waits a response for. */
+  private static final class PromiseKey {
+    private final String endpointId;
+    private final String requestId;
+    private final int hash;
+
+    private PromiseKey(String endpointId, String requestId) {
+      this.endpointId = endpointId;
+      this.requestId = requestId;
+      this.hash = 31 * endpointId.hashCode() + requestId.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof PromiseKey)) {
+        return false;
+      }
+      PromiseKey that = (PromiseKey) obj;
+      return hash == that.hash
+          && requestId.equals(that.requestId)
+          && endpointId.equals(that.endpointId);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public String toString() {
+      return endpointId + '@' + requestId;
+    }
+  }
+
   private class ListTypedPromise<R> extends JsonRpcPromise<List<R>> {
     private final Class<R> type;
 
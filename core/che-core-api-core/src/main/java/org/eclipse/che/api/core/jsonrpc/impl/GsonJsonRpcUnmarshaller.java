@@ -13,18 +13,23 @@ package org.eclipse.che.api.core.jsonrpc.impl;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.Collections.singletonList;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcError;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcException;
 import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcParams;
 import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcRequest;
 import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcResponse;
@@ -41,54 +46,112 @@ public class GsonJsonRpcUnmarshaller implements JsonRpcUnmarshaller {
   }
 
   @Override
-  public List<String> unmarshalArray(String message) {
-    return getArray(message, jsonParser.parse(message).isJsonArray());
-  }
-
-  @Override
-  public JsonRpcRequest unmarshalRequest(String message) {
+  public void unmarshal(
+      String message,
+      Consumer<JsonRpcRequest> requestConsumer,
+      Consumer<JsonRpcResponse> responseConsumer) {
     checkNotNull(message, "Message must not be null");
     checkArgument(!message.isEmpty(), "Message must not be empty");
 
-    JsonObject request = jsonParser.parse(message).getAsJsonObject();
-
-    String method = getMethod(request);
-    String id = getId(request);
-    JsonRpcParams params = getParams(request);
+    List<Object> structures = new ArrayList<>();
+    try (JsonReader reader = new JsonReader(new StringReader(message))) {
+      reader.setLenient(true);
+      if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+        reader.beginArray();
+        while (reader.hasNext()) {
+          structures.add(readStructure(reader));
+        }
+        reader.endArray();
+      } else {
+        structures.add(readStructure(reader));
+      }
+      if (reader.peek() != JsonToken.END_DOCUMENT) {
+        throw new JsonRpcException(-32700, "Message contains more than one JSON value");
+      }
+    } catch (IOException | JsonParseException e) {
+      throw new JsonRpcException(
+          -32700, "An error occurred on the server while parsing the JSON text");
+    } catch (IllegalStateException | NumberFormatException e) {
+      throw new JsonRpcException(-32600, "The JSON sent is not a valid request or response");
+    }
 
-    return new JsonRpcRequest(id, method, params);
+    for (Object structure : structures) {
+      if (structure instanceof JsonRpcRequest) {
+        requestConsumer.accept((JsonRpcRequest) structure);
+      } else {
+        responseConsumer.accept((JsonRpcResponse) structure);
+      }
+    }
   }
 
-  @Override
-  public JsonRpcResponse unmarshalResponse(String message) {
-    checkNotNull(message, "Message must not be null");
-    checkArgument(!message.isEmpty(), "Message must not be empty");
-
-    JsonObject response = jsonParser.parse(message).getAsJsonObject();
+  /**
+   * Reads the next JSON object of the reader into a request, if it has a method, or into a
+   * response, if it has either a result or an error. Only the values of params, result and error
+   * are parsed into JSON elements, the rest of the object is consumed as tokens.
+   */
+  private Object readStructure(JsonReader reader) throws IOException {
+    String id = null;
+    String method = null;
+    JsonElement params = null;
+    JsonElement result = null;
+    JsonElement error = null;
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "id":
+          id = readNullableString(reader);
+          break;
+        case "method":
+          method = readNullableString(reader);
+          break;
+        case "params":
+          params = jsonParser.parse(reader);
+          break;
+        case "result":
+          result = jsonParser.parse(reader);
+          break;
+        case "error":
+          error = jsonParser.parse(reader);
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
 
-    String id = getId(response);
-    JsonRpcResult result = getResult(response);
-    JsonRpcError error = getError(response);
+    if (method != null) {
+      return new JsonRpcRequest(id, method, getParams(params));
+    }
+    if ((result == null) != (error == null)) {
+      return new JsonRpcResponse(id, getResult(result), getError(error));
+    }
+    throw new IllegalStateException("Neither request nor response");
+  }
 
-    return new JsonRpcResponse(id, result, error);
+  private String readNullableString(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    return reader.nextString();
   }
 
-  private JsonRpcError getError(JsonObject response) {
-    if (!response.has("error")) {
+  private JsonRpcError getError(JsonElement jsonElement) {
+    if (jsonElement == null) {
       return null;
     }
 
-    int code = response.get("error").getAsJsonObject().get("code").getAsInt();
-    String errorMessage = response.get("error").getAsJsonObject().get("message").getAsString();
+    int code = jsonElement.getAsJsonObject().get("code").getAsInt();
+    String errorMessage = jsonElement.getAsJsonObject().get("message").getAsString();
     return new JsonRpcError(code, errorMessage);
   }
 
-  private JsonRpcResult getResult(JsonObject response) {
-    if (!response.has("result")) {
+  private JsonRpcResult getResult(JsonElement jsonElement) {
+    if (jsonElement == null) {
       return null;
     }
 
-    JsonElement jsonElement = response.get("result");
     if (!jsonElement.isJsonArray()) {
       return new JsonRpcResult(getInnerItem(jsonElement));
     }
@@ -104,12 +167,11 @@ public class GsonJsonRpcUnmarshaller implements JsonRpcUnmarshaller {
     return new JsonRpcResult(innerResults);
   }
 
-  private JsonRpcParams getParams(JsonObject jsonObject) {
-    if (!jsonObject.has("params")) {
+  private JsonRpcParams getParams(JsonElement jsonElement) {
+    if (jsonElement == null) {
       return null;
     }
 
-    JsonElement jsonElement = jsonObject.get("params");
     if (!jsonElement.isJsonArray()) {
       return new JsonRpcParams(getInnerItem(jsonElement));
     }
@@ -125,29 +187,6 @@ public class GsonJsonRpcUnmarshaller implements JsonRpcUnmarshaller {
     return new JsonRpcParams(innerParameters);
   }
 
-  private String getId(JsonObject jsonObject) {
-    return jsonObject.has("id") ? jsonObject.get("id").getAsString() : null;
-  }
-
-  private String getMethod(JsonObject jsonObject) {
-    return jsonObject.get("method").getAsString();
-  }
-
-  private List<String> getArray(String message, boolean isArray) {
-    if (!isArray) {
-      return singletonList(message);
-    }
-
-    JsonArray jsonArray = jsonParser.parse(message).getAsJsonArray();
-    int size = jsonArray.size();
-    List<String> result = new ArrayList<>(size);
-    for (int i = 0; i < size; i++) {
-      JsonElement jsonElement = jsonArray.get(i);
-      result.add(jsonElement.toString());
-    }
-    return result;
-  }
-
   private Object getInnerItem(JsonElement jsonElement) {
     if (jsonElement.isJsonNull()) {
       return null;
@@ -19,7 +19,6 @@ import com.google.inject.assistedinject.FactoryModuleBuilder;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcComposer;
 import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcMarshaller;
-import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcQualifier;
 import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcUnmarshaller;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestHandlerConfigurator;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestProcessor;
@@ -36,7 +35,6 @@ public class JsonRpcModule extends AbstractModule {
 
     bind(JsonRpcMarshaller.class).to(GsonJsonRpcMarshaller.class);
     bind(JsonRpcUnmarshaller.class).to(GsonJsonRpcUnmarshaller.class);
-    bind(JsonRpcQualifier.class).to(GsonJsonRpcQualifier.class);
     bind(JsonRpcComposer.class).to(GsonJsonRpcComposer.class);
 
     bind(RequestProcessor.class).to(ServerSideRequestProcessor.class);
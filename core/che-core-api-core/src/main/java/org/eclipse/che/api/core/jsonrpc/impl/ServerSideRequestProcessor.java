@@ -11,22 +11,77 @@
  */
 package org.eclipse.che.api.core.jsonrpc.impl;
 
+import static org.slf4j.LoggerFactory.getLogger;
+
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import javax.inject.Named;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcException;
+import org.eclipse.che.api.core.jsonrpc.commons.RequestHandlerManager;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestProcessor;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestProcessorConfigurationProvider;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestProcessorConfigurationProvider.Configuration;
+import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.commons.lang.Pair;
 import org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext;
+import org.slf4j.Logger;
 
+/**
+ * Processes requests on the executor of the endpoint they come from.
+ *
+ * <p>Requests of a method which has a concurrency limit configured are processed by at most that
+ * many executor threads at a time, the rest of them wait in a queue of the method without occupying
+ * executor threads, so blocking handlers of one method can not exhaust the executor. When the queue
+ * of a method is full, the request is rejected with a JSON RPC error. Processing statistics are
+ * collected for each registered method.
+ */
 @Singleton
 public class ServerSideRequestProcessor implements RequestProcessor {
+  private static final Logger LOG = getLogger(ServerSideRequestProcessor.class);
+
+  public static final String METHOD_CONCURRENCY_LIMITS_PARAMETER_NAME =
+      "che.core.jsonrpc.processor_method_concurrency_limits";
+  public static final String METHOD_QUEUE_CAPACITY_PARAMETER_NAME =
+      "che.core.jsonrpc.processor_method_queue_capacity";
+
+  /** JSON RPC error code of the requests rejected because the queue of the method is full. */
+  public static final int REQUEST_REJECTED_ERROR_CODE = -32000;
+
   private final RequestProcessorConfigurationProvider requestProcessorConfigurator;
+  private final RequestHandlerManager requestHandlerManager;
+  private final Map<String, Integer> concurrencyLimits;
+  private final int queueCapacity;
+  private final Map<String, MethodStatistics> methodStatistics = new ConcurrentHashMap<>();
+
+  private volatile Consumer<MethodStatistics> methodStatisticsListener;
 
   @Inject
   public ServerSideRequestProcessor(
-      RequestProcessorConfigurationProvider requestProcessorConfigurator) {
+      RequestProcessorConfigurationProvider requestProcessorConfigurator,
+      RequestHandlerManager requestHandlerManager,
+      @Nullable @Named(METHOD_CONCURRENCY_LIMITS_PARAMETER_NAME)
+          Pair<String, String>[] concurrencyLimits,
+      @Named(METHOD_QUEUE_CAPACITY_PARAMETER_NAME) int queueCapacity) {
     this.requestProcessorConfigurator = requestProcessorConfigurator;
+    this.requestHandlerManager = requestHandlerManager;
+    this.queueCapacity = queueCapacity;
+    this.concurrencyLimits = new HashMap<>();
+    if (concurrencyLimits != null) {
+      for (Pair<String, String> limit : concurrencyLimits) {
+        this.concurrencyLimits.put(limit.first, Integer.parseInt(limit.second));
+      }
+    }
   }
 
   @Override
@@ -35,4 +90,148 @@ public class ServerSideRequestProcessor implements RequestProcessor {
     ExecutorService executionService = configuration.getExecutorService();
     executionService.execute(ThreadLocalPropagateContext.wrap(runnable));
   }
+
+  @Override
+  public void process(String endpointId, String method, Runnable runnable) {
+    if (!requestHandlerManager.isRegistered(method)) {
+      // error response is sent by the request dispatcher
+      process(endpointId, runnable);
+      return;
+    }
+    Configuration configuration = requestProcessorConfigurator.get(endpointId);
+    MethodStatistics statistics =
+        methodStatistics.computeIfAbsent(method, this::createMethodStatistics);
+    statistics.submit(
+        configuration.getExecutorService(), ThreadLocalPropagateContext.wrap(runnable));
+  }
+
+  /** Returns processing statistics of the methods which have been requested so far. */
+  public Collection<MethodStatistics> getMethodStatistics() {
+    return Collections.unmodifiableCollection(methodStatistics.values());
+  }
+
+  /**
+   * Sets the listener which is notified when processing statistics of a method is created, i.e.
+   * when the method is requested the first time.
+   */
+  public void setMethodStatisticsListener(Consumer<MethodStatistics> listener) {
+    this.methodStatisticsListener = listener;
+  }
+
+  private MethodStatistics createMethodStatistics(String method) {
+    MethodStatistics statistics =
+        new MethodStatistics(method, concurrencyLimits.getOrDefault(method, 0), queueCapacity);
+    Consumer<MethodStatistics> listener = methodStatisticsListener;
+    if (listener != null) {
+      listener.accept(statistics);
+    }
+    return statistics;
+  }
+
+  /**
+   * Processing statistics of a JSON RPC method, also limits the number of requests of the method
+   * processed concurrently.
+   */
+  public static class MethodStatistics {
+    private final String method;
+    private final int concurrencyLimit;
+    private final int queueCapacity;
+    private final LongAdder processedRequests = new LongAdder();
+    private final LongAdder rejectedRequests = new LongAdder();
+    private final LongAdder processingTimeNanos = new LongAdder();
+
+    // guarded by this
+    private final Queue<Runnable> waitingRequests = new ArrayDeque<>();
+    private int runningRequests;
+
+    private MethodStatistics(String method, int concurrencyLimit, int queueCapacity) {
+      this.method = method;
+      this.concurrencyLimit = concurrencyLimit;
+      this.queueCapacity = queueCapacity;
+    }
+
+    public String getMethod() {
+      return method;
+    }
+
+    /** Returns the number of requests waiting for a permit of the method concurrency limit. */
+    public synchronized int getWaitingRequests() {
+      return waitingRequests.size();
+    }
+
+    /** Returns the number of requests submitted to the executor and not processed yet. */
+    public synchronized int getRunningRequests() {
+      return runningRequests;
+    }
+
+    public long getProcessedRequests() {
+      return processedRequests.sum();
+    }
+
+    /** Returns the number of requests rejected because the queue of the method was full. */
+    public long getRejectedRequests() {
+      return rejectedRequests.sum();
+    }
+
+    /** Returns total time from receiving to finishing processing of the requests. */
+    public long getProcessingTimeNanos() {
+      return processingTimeNanos.sum();
+    }
+
+    private void submit(ExecutorService executor, Runnable runnable) {
+      long receivedNanos = System.nanoTime();
+      Runnable request =
+          () -> {
+            try {
+              runnable.run();
+            } finally {
+              processedRequests.increment();
+              processingTimeNanos.add(System.nanoTime() - receivedNanos);
+              runNext(executor);
+            }
+          };
+      synchronized (this) {
+        if (concurrencyLimit > 0 && runningRequests >= concurrencyLimit) {
+          if (waitingRequests.size() >= queueCapacity) {
+            rejectedRequests.increment();
+            throw new JsonRpcException(
+                REQUEST_REJECTED_ERROR_CODE,
+                "Too many requests of method '" + method + "' are waiting to be processed");
+          }
+          waitingRequests.add(request);
+          return;
+        }
+        runningRequests++;
+      }
+      if (!tryExecute(executor, request)) {
+        runNext(executor);
+      }
+    }
+
+    private void runNext(ExecutorService executor) {
+      while (true) {
+        Runnable next;
+        synchronized (this) {
+          next = waitingRequests.poll();
+          if (next == null) {
+            runningRequests--;
+            return;
+          }
+        }
+        if (tryExecute(executor, next)) {
+          return;
+        }
+      }
+    }
+
+    private boolean tryExecute(ExecutorService executor, Runnable request) {
+      try {
+        executor.execute(request);
+        return true;
+      } catch (RejectedExecutionException e) {
+        LOG.error("Executor rejected to process a request of method '{}'", method, e);
+        return false;
+      }
+    }
+  }
 }
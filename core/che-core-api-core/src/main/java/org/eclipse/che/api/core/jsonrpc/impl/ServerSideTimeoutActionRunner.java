@@ -11,24 +11,128 @@
  */
 package org.eclipse.che.api.core.jsonrpc.impl;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
 import org.eclipse.che.api.core.jsonrpc.commons.TimeoutActionRunner;
+import org.slf4j.Logger;
 
+/**
+ * Runs timeout actions with a hashed timing wheel. Scheduling only appends the action to a
+ * lock-free queue, a single thread moves the actions to the buckets of the wheel and runs the
+ * expired ones once per tick, so the cost of a timeout does not depend on the number of pending
+ * ones. Actions are run on the wheel thread and must be short.
+ */
 @Singleton
 public class ServerSideTimeoutActionRunner implements TimeoutActionRunner {
+  private static final Logger LOG = getLogger(ServerSideTimeoutActionRunner.class);
+
+  private static final long DEFAULT_TICK_MILLIS = 100;
+  private static final int DEFAULT_WHEEL_SIZE = 512;
+
+  private final long tickNanos;
+  private final ArrayDeque<Timeout>[] wheel;
+  private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final ScheduledExecutorService executor =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat("ServerSideTimeoutActionRunner")
+              .setDaemon(true)
+              .build());
+
+  // accessed by the wheel thread only
+  private long startNanos;
+  private long tick;
+
+  @Inject
+  public ServerSideTimeoutActionRunner() {
+    this(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+  }
+
+  @SuppressWarnings("unchecked")
+  ServerSideTimeoutActionRunner(long tickMillis, int wheelSize) {
+    this.tickNanos = MILLISECONDS.toNanos(tickMillis);
+    this.wheel = new ArrayDeque[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      wheel[i] = new ArrayDeque<>();
+    }
+  }
 
   @Override
   public void schedule(int timeoutInMillis, Runnable runnable) {
-    new Timer()
-        .schedule(
-            new TimerTask() {
-              @Override
-              public void run() {
-                runnable.run();
-              }
-            },
-            timeoutInMillis);
+    if (started.compareAndSet(false, true)) {
+      executor.execute(() -> startNanos = System.nanoTime());
+      executor.scheduleAtFixedRate(this::advance, tickNanos, tickNanos, NANOSECONDS);
+    }
+    scheduled.add(new Timeout(System.nanoTime() + MILLISECONDS.toNanos(timeoutInMillis), runnable));
+  }
+
+  @PreDestroy
+  void stop() {
+    executor.shutdownNow();
+  }
+
+  private void advance() {
+    try {
+      transferScheduled();
+      expireCurrentBucket();
+    } catch (RuntimeException e) {
+      LOG.error(e.getMessage(), e);
+    }
+    tick++;
+  }
+
+  private void transferScheduled() {
+    Timeout timeout;
+    while ((timeout = scheduled.poll()) != null) {
+      long deadlineTick = Math.max((timeout.deadlineNanos - startNanos) / tickNanos, tick);
+      timeout.rounds = (deadlineTick - tick) / wheel.length;
+      wheel[(int) (deadlineTick % wheel.length)].add(timeout);
+    }
+  }
+
+  private void expireCurrentBucket() {
+    ArrayDeque<Timeout> bucket = wheel[(int) (tick % wheel.length)];
+    ArrayDeque<Timeout> next = wheel[(int) ((tick + 1) % wheel.length)];
+    long now = System.nanoTime();
+    for (int i = bucket.size(); i > 0; i--) {
+      Timeout timeout = bucket.poll();
+      if (timeout.rounds > 0) {
+        timeout.rounds--;
+        bucket.add(timeout);
+      } else if (timeout.deadlineNanos > now) {
+        // the tick came a bit earlier than the deadline
+        next.add(timeout);
+      } else {
+        try {
+          timeout.action.run();
+        } catch (RuntimeException e) {
+          LOG.error("Timeout action failed: {}", e.getMessage(), e);
+        }
+      }
+    }
+  }
+
+  private static class Timeout {
+    private final long deadlineNanos;
+    private final Runnable action;
+    private long rounds;
+
+    private Timeout(long deadlineNanos, Runnable action) {
+      this.deadlineNanos = deadlineNanos;
+      this.action = action;
+    }
   }
 }
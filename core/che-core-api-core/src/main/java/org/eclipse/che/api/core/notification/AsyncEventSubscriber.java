@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.notification;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers events to the wrapped subscriber asynchronously, so the thread that publishes an event
+ * is not blocked by the subscriber.
+ *
+ * <p>Events are distributed between a fixed number of lanes by the ordering key of the event, e.g.
+ * workspace id. Each lane delivers its events one by one in the order they were published, so
+ * events with the same ordering key are never reordered. Lanes have bounded queues, so a slow
+ * subscriber never blocks the publisher: when the queue of a lane is full the event is dropped and
+ * counted, see {@link #getDroppedEvents()}.
+ *
+ * <p>Subscribers which implement {@link TimestampedEventSubscriber} receive the time when the event
+ * was published along with the event.
+ *
+ * @see EventService#subscribeAsync(EventSubscriber, Class, Function)
+ */
+public class AsyncEventSubscriber<T> implements EventSubscriber<T> {
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncEventSubscriber.class);
+
+  private final EventSubscriber<T> delegate;
+  private final Function<? super T, ?> orderingKey;
+  private final ThreadPoolExecutor[] lanes;
+  private final LongAdder deliveredEvents = new LongAdder();
+  private final LongAdder lagNanos = new LongAdder();
+  private final LongAdder droppedEvents = new LongAdder();
+
+  AsyncEventSubscriber(
+      EventSubscriber<T> delegate,
+      Function<? super T, ?> orderingKey,
+      int lanesCount,
+      int laneCapacity) {
+    checkArgument(lanesCount > 0, "Number of lanes must be positive");
+    checkArgument(laneCapacity > 0, "Capacity of lanes must be positive");
+    this.delegate = delegate;
+    this.orderingKey = orderingKey;
+    this.lanes = new ThreadPoolExecutor[lanesCount];
+    for (int i = 0; i < lanesCount; i++) {
+      lanes[i] =
+          new ThreadPoolExecutor(
+              1,
+              1,
+              0L,
+              TimeUnit.MILLISECONDS,
+              new LinkedBlockingQueue<>(laneCapacity),
+              new ThreadFactoryBuilder()
+                  .setNameFormat(
+                      "AsyncEventSubscriber-" + delegate.getClass().getSimpleName() + "-" + i)
+                  .setDaemon(true)
+                  .build(),
+              new DropPolicy());
+    }
+  }
+
+  @Override
+  public void onEvent(T event) {
+    long publishTime = System.currentTimeMillis();
+    long publishedNanos = System.nanoTime();
+    laneOf(orderingKey.apply(event)).execute(() -> deliver(event, publishTime, publishedNanos));
+  }
+
+  /**
+   * Runs the task in the lane of the given ordering key and waits until it completes. The task runs
+   * after the events with the same ordering key which were published before this call, so it may
+   * act upon the results of their delivery.
+   *
+   * @param orderingKey the ordering key of the events which must be delivered before the task
+   * @param task the task to run
+   * @param timeout the maximum time to wait
+   * @param unit the unit of the timeout
+   * @return the result of the task
+   * @throws ExecutionException if the task fails
+   * @throws CancellationException if the queue of the lane is full
+   * @throws TimeoutException if the task does not complete in time, the task is cancelled unless
+   *     it is already running
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  public <R> R callInOrder(Object orderingKey, Callable<R> task, long timeout, TimeUnit unit)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    FutureTask<R> future = new FutureTask<>(task);
+    laneOf(orderingKey).execute(future);
+    try {
+      return future.get(timeout, unit);
+    } finally {
+      future.cancel(false);
+    }
+  }
+
+  /** Returns the subscriber which receives the events. */
+  public EventSubscriber<T> getDelegate() {
+    return delegate;
+  }
+
+  /** Returns the number of events waiting to be delivered. */
+  public int getPendingEvents() {
+    int pending = 0;
+    for (ThreadPoolExecutor lane : lanes) {
+      pending += lane.getQueue().size();
+    }
+    return pending;
+  }
+
+  /** Returns the number of events delivered to the subscriber. */
+  public long getDeliveredEvents() {
+    return deliveredEvents.sum();
+  }
+
+  /** Returns the total time events spent between publishing and delivery, in nanoseconds. */
+  public long getLagNanos() {
+    return lagNanos.sum();
+  }
+
+  /** Returns the number of events dropped because the queue of their lane was full. */
+  public long getDroppedEvents() {
+    return droppedEvents.sum();
+  }
+
+  /**
+   * Waits until the events published before this call are delivered.
+   *
+   * @param timeout the maximum time to wait
+   * @param unit the unit of the timeout
+   * @return true if the events are delivered, false if the timeout elapsed before or a lane is full
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  public boolean awaitDelivery(long timeout, TimeUnit unit) throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(lanes.length);
+    for (ThreadPoolExecutor lane : lanes) {
+      if (lane.isShutdown()) {
+        latch.countDown();
+      } else {
+        // lanes deliver events one by one, so the marker runs after all the events queued before
+        FutureTask<Void> marker = new FutureTask<>(latch::countDown, null);
+        lane.execute(marker);
+        if (marker.isCancelled()) {
+          return false;
+        }
+      }
+    }
+    return latch.await(timeout, unit);
+  }
+
+  /** Stops delivery, events which are not delivered yet are discarded. */
+  void shutdown() {
+    for (ThreadPoolExecutor lane : lanes) {
+      lane.shutdownNow();
+    }
+  }
+
+  private ThreadPoolExecutor laneOf(Object orderingKey) {
+    return lanes[orderingKey == null ? 0 : Math.floorMod(orderingKey.hashCode(), lanes.length)];
+  }
+
+  @SuppressWarnings("unchecked")
+  private void deliver(T event, long publishTime, long publishedNanos) {
+    lagNanos.add(System.nanoTime() - publishedNanos);
+    deliveredEvents.increment();
+    try {
+      if (delegate instanceof TimestampedEventSubscriber) {
+        ((TimestampedEventSubscriber<T>) delegate).onEvent(event, publishTime);
+      } else {
+        delegate.onEvent(event);
+      }
+    } catch (RuntimeException e) {
+      LOG.error(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Drops the event when the lane has no space for it. Tasks which are waited for are cancelled
+   * instead, so that the caller does not wait for them in vain.
+   */
+  private class DropPolicy implements RejectedExecutionHandler {
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+      if (task instanceof Future) {
+        ((Future<?>) task).cancel(false);
+      } else if (executor.isShutdown()) {
+        LOG.debug("Asynchronous subscriber is unsubscribed, event is discarded");
+      } else {
+        droppedEvents.increment();
+        LOG.warn(
+            "Asynchronous subscriber {} does not keep up with events, event is dropped", delegate);
+      }
+    }
+  }
+}
@@ -11,18 +11,22 @@
  */
 package org.eclipse.che.api.core.notification;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.google.common.annotations.VisibleForTesting;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Function;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,44 +51,48 @@ import org.slf4j.LoggerFactory;
 public class EventService {
   private static final Logger LOG = LoggerFactory.getLogger(EventService.class);
 
-  private static final int CACHE_NUM = 1 << 2;
-  private static final int CACHE_MASK = CACHE_NUM - 1;
-  private static final int SEG_SIZE = 32;
+  private static final EventSubscriber[] NO_SUBSCRIBERS = new EventSubscriber[0];
 
-  private final LoadingCache<Class<?>, Set<Class<?>>>[] typeCache;
-  private final ConcurrentMap<Class<?>, Set<EventSubscriber>> subscribersByEventType;
+  public static final String ASYNC_LANES_PARAMETER_NAME = "che.core.event.async_lanes";
+  public static final String ASYNC_LANE_CAPACITY_PARAMETER_NAME =
+      "che.core.event.async_lane_capacity";
+
+  private static final int DEFAULT_ASYNC_LANES = 4;
+  private static final int DEFAULT_ASYNC_LANE_CAPACITY = 10_000;
+
+  /** The number of lanes of each asynchronous subscriber. */
+  @com.google.inject.Inject(optional = true)
+  @Named(ASYNC_LANES_PARAMETER_NAME)
+  private int asyncLanes;
+
+  /** The number of events each lane of an asynchronous subscriber can hold. */
+  @com.google.inject.Inject(optional = true)
+  @Named(ASYNC_LANE_CAPACITY_PARAMETER_NAME)
+  private int asyncLaneCapacity;
+
+  // guarded by this
+  private final Map<Class<?>, Set<EventSubscriber>> subscribersByEventType = new HashMap<>();
+
+  // guarded by this
+  private final Map<EventSubscriber<?>, AsyncEventSubscriber<?>> asyncSubscribers =
+      new HashMap<>();
+
+  /**
+   * Subscribers of each published event class, including subscribers of its super types. The
+   * table is replaced on every subscription change, so publishing needs neither locks nor
+   * allocations once the table contains the event class.
+   */
+  private volatile ConcurrentMap<Class<?>, EventSubscriber[]> dispatchTable =
+      new ConcurrentHashMap<>();
 
-  @SuppressWarnings("unchecked")
   public EventService() {
-    subscribersByEventType = new ConcurrentHashMap<>();
-    typeCache = new LoadingCache[CACHE_NUM];
-    for (int i = 0; i < CACHE_NUM; i++) {
-      typeCache[i] =
-          CacheBuilder.newBuilder()
-              .concurrencyLevel(SEG_SIZE)
-              .build(
-                  new CacheLoader<Class<?>, Set<Class<?>>>() {
-                    @Override
-                    public Set<Class<?>> load(Class<?> eventClass) {
-                      LinkedList<Class<?>> parents = new LinkedList<>();
-                      Set<Class<?>> classes = new HashSet<>();
-                      parents.add(eventClass);
-                      while (!parents.isEmpty()) {
-                        Class<?> clazz = parents.pop();
-                        classes.add(clazz);
-                        Class<?> parent = clazz.getSuperclass();
-                        if (parent != null) {
-                          parents.add(parent);
-                        }
-                        Class<?>[] interfaces = clazz.getInterfaces();
-                        if (interfaces.length > 0) {
-                          Collections.addAll(parents, interfaces);
-                        }
-                      }
-                      return classes;
-                    }
-                  });
-    }
+    this(DEFAULT_ASYNC_LANES, DEFAULT_ASYNC_LANE_CAPACITY);
+  }
+
+  @VisibleForTesting
+  EventService(int asyncLanes, int asyncLaneCapacity) {
+    this.asyncLanes = asyncLanes;
+    this.asyncLaneCapacity = asyncLaneCapacity;
   }
 
   /**
@@ -98,18 +106,17 @@ public class EventService {
     if (event == null) {
       throw new IllegalArgumentException("Null event.");
     }
-    final Class<?> eventClass = event.getClass();
-    for (Class<?> clazz : typeCache[eventClass.hashCode() & CACHE_MASK].getUnchecked(eventClass)) {
-      final Set<EventSubscriber> eventSubscribers = subscribersByEventType.get(clazz);
-      if (eventSubscribers != null && !eventSubscribers.isEmpty()) {
-        for (EventSubscriber eventSubscriber : eventSubscribers) {
-          try {
-            LOG.debug("Publish event {} for {}", event, eventSubscriber);
-            eventSubscriber.onEvent(event);
-          } catch (RuntimeException e) {
-            LOG.error(e.getMessage(), e);
-          }
-        }
+    final ConcurrentMap<Class<?>, EventSubscriber[]> table = dispatchTable;
+    EventSubscriber[] eventSubscribers = table.get(event.getClass());
+    if (eventSubscribers == null) {
+      eventSubscribers = table.computeIfAbsent(event.getClass(), this::compileSubscribers);
+    }
+    for (EventSubscriber eventSubscriber : eventSubscribers) {
+      try {
+        LOG.debug("Publish event {} for {}", event, eventSubscriber);
+        eventSubscriber.onEvent(event);
+      } catch (RuntimeException e) {
+        LOG.error(e.getMessage(), e);
       }
     }
     return event;
@@ -137,16 +144,47 @@ public class EventService {
     doSubscribe(subscriber, eventType);
   }
 
-  private void doSubscribe(EventSubscriber<?> subscriber, Class<?> eventType) {
-    Set<EventSubscriber> entries = subscribersByEventType.get(eventType);
-    if (entries == null) {
-      Set<EventSubscriber> newEntries = new CopyOnWriteArraySet<>();
-      entries = subscribersByEventType.putIfAbsent(eventType, newEntries);
-      if (entries == null) {
-        entries = newEntries;
-      }
+  /**
+   * Subscribe to an event, events are delivered to the given subscriber asynchronously. Events with
+   * equal ordering keys are delivered in the order they were published, events with different keys
+   * may be delivered concurrently. Use it for subscribers that do slow work, e.g. I/O, so that they
+   * do not delay the thread which publishes events. The number of lanes and their capacity are
+   * configured with {@value #ASYNC_LANES_PARAMETER_NAME} and {@value
+   * #ASYNC_LANE_CAPACITY_PARAMETER_NAME}, events which do not fit into the lane are dropped.
+   *
+   * @param subscriber The subscriber to call when an event is published.
+   * @param eventType The event to subscribe to.
+   * @param orderingKey function which returns the ordering key of an event, e.g. workspace id
+   * @return the subscriber which delivers events to the given one
+   * @see AsyncEventSubscriber
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized <T> AsyncEventSubscriber<T> subscribeAsync(
+      EventSubscriber<? extends T> subscriber, Class<T> eventType, Function<T, ?> orderingKey) {
+    AsyncEventSubscriber<T> asyncSubscriber =
+        (AsyncEventSubscriber<T>) asyncSubscribers.get(subscriber);
+    if (asyncSubscriber != null) {
+      return asyncSubscriber;
+    }
+    asyncSubscriber =
+        new AsyncEventSubscriber<>(
+            (EventSubscriber<T>) subscriber, orderingKey, asyncLanes, asyncLaneCapacity);
+    asyncSubscribers.put(subscriber, asyncSubscriber);
+    doSubscribe(asyncSubscriber, eventType);
+    return asyncSubscriber;
+  }
+
+  /** Returns subscribers registered with {@link #subscribeAsync}. */
+  public synchronized List<AsyncEventSubscriber<?>> getAsyncSubscribers() {
+    return new ArrayList<>(asyncSubscribers.values());
+  }
+
+  private synchronized void doSubscribe(EventSubscriber<?> subscriber, Class<?> eventType) {
+    final Set<EventSubscriber> entries =
+        subscribersByEventType.computeIfAbsent(eventType, k -> new LinkedHashSet<>());
+    if (entries.add(subscriber)) {
+      invalidate(eventType);
     }
-    entries.add(subscriber);
   }
 
   /**
@@ -163,16 +201,57 @@ public class EventService {
     doUnsubscribe(subscriber, eventType);
   }
 
-  private void doUnsubscribe(EventSubscriber<?> subscriber, Class<?> eventType) {
+  private synchronized void doUnsubscribe(EventSubscriber<?> subscriber, Class<?> eventType) {
+    final AsyncEventSubscriber<?> asyncSubscriber = asyncSubscribers.remove(subscriber);
+    if (asyncSubscriber != null) {
+      asyncSubscriber.shutdown();
+      subscriber = asyncSubscriber;
+    }
     final Set<EventSubscriber> entries = subscribersByEventType.get(eventType);
-    if (entries != null && !entries.isEmpty()) {
-      boolean changed = entries.remove(subscriber);
-      if (changed) {
-        if (entries.isEmpty()) {
-          subscribersByEventType.remove(eventType);
-        }
+    if (entries != null && entries.remove(subscriber)) {
+      if (entries.isEmpty()) {
+        subscribersByEventType.remove(eventType);
+      }
+      invalidate(eventType);
+    }
+  }
+
+  /**
+   * Replaces the dispatch table with a copy which does not contain the event classes affected by
+   * the subscription change of the given type, they are compiled again on the next publishing.
+   */
+  private void invalidate(Class<?> eventType) {
+    final ConcurrentMap<Class<?>, EventSubscriber[]> table = new ConcurrentHashMap<>();
+    for (Map.Entry<Class<?>, EventSubscriber[]> entry : dispatchTable.entrySet()) {
+      if (!eventType.isAssignableFrom(entry.getKey())) {
+        table.put(entry.getKey(), entry.getValue());
+      }
+    }
+    dispatchTable = table;
+  }
+
+  /** Collects subscribers of the given event class and all its super classes and interfaces. */
+  private synchronized EventSubscriber[] compileSubscribers(Class<?> eventClass) {
+    final List<EventSubscriber> result = new ArrayList<>();
+    final LinkedList<Class<?>> parents = new LinkedList<>();
+    final Set<Class<?>> classes = new HashSet<>();
+    parents.add(eventClass);
+    while (!parents.isEmpty()) {
+      Class<?> clazz = parents.pop();
+      if (!classes.add(clazz)) {
+        continue;
+      }
+      final Set<EventSubscriber> eventSubscribers = subscribersByEventType.get(clazz);
+      if (eventSubscribers != null) {
+        result.addAll(eventSubscribers);
+      }
+      Class<?> parent = clazz.getSuperclass();
+      if (parent != null) {
+        parents.add(parent);
       }
+      Collections.addAll(parents, clazz.getInterfaces());
     }
+    return result.isEmpty() ? NO_SUBSCRIBERS : result.toArray(new EventSubscriber[0]);
   }
 
   private Class<?> getEventType(EventSubscriber<?> subscriber) {
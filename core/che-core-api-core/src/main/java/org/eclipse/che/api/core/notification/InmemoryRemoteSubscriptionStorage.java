@@ -11,6 +11,9 @@
  */
 package org.eclipse.che.api.core.notification;
 
+import static java.util.stream.Collectors.toSet;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
@@ -19,7 +22,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Singleton;
 
 /**
- * Imnemory implementation of {@link RemoteSubscriptionStorage}
+ * Imnemory implementation of {@link RemoteSubscriptionStorage}. Besides the method based storage
+ * it keeps an index of subscriptions by method and scope entry.
  *
  * @author Max Shaposhnik (mshaposh@redhat.com)
  */
@@ -28,6 +32,8 @@ public class InmemoryRemoteSubscriptionStorage implements RemoteSubscriptionStor
 
   private final Map<String, Set<RemoteSubscriptionContext>> subscriptions =
       new ConcurrentHashMap<>();
+  private final Map<String, Map<Map.Entry<String, String>, Set<RemoteSubscriptionContext>>>
+      scopeIndex = new ConcurrentHashMap<>();
 
   @Override
   public Set<RemoteSubscriptionContext> getByMethod(String method) {
@@ -35,18 +41,72 @@ public class InmemoryRemoteSubscriptionStorage implements RemoteSubscriptionStor
   }
 
   @Override
-  public void addSubscription(String method, RemoteSubscriptionContext remoteSubscriptionContext) {
+  public Set<RemoteSubscriptionContext> getByMethodAndScope(
+      String method, String scopeKey, String scopeValue) {
+    Map<Map.Entry<String, String>, Set<RemoteSubscriptionContext>> methodIndex =
+        scopeIndex.get(method);
+    if (methodIndex == null) {
+      return Collections.emptySet();
+    }
+    return methodIndex.getOrDefault(
+        new SimpleImmutableEntry<>(scopeKey, scopeValue), Collections.emptySet());
+  }
+
+  @Override
+  public synchronized void addSubscription(
+      String method, RemoteSubscriptionContext remoteSubscriptionContext) {
     subscriptions
         .computeIfAbsent(method, k -> ConcurrentHashMap.newKeySet(1))
         .add(remoteSubscriptionContext);
+
+    if (remoteSubscriptionContext.getScope() == null) {
+      return;
+    }
+    Map<Map.Entry<String, String>, Set<RemoteSubscriptionContext>> methodIndex =
+        scopeIndex.computeIfAbsent(method, k -> new ConcurrentHashMap<>());
+    for (Map.Entry<String, String> scopeEntry : remoteSubscriptionContext.getScope().entrySet()) {
+      methodIndex
+          .computeIfAbsent(
+              new SimpleImmutableEntry<>(scopeEntry.getKey(), scopeEntry.getValue()),
+              k -> ConcurrentHashMap.newKeySet(1))
+          .add(remoteSubscriptionContext);
+    }
   }
 
   @Override
-  public void removeSubscription(String method, String endpointId) {
-    subscriptions
-        .getOrDefault(method, Collections.emptySet())
-        .removeIf(
-            remoteSubscriptionContext ->
-                Objects.equals(remoteSubscriptionContext.getEndpointId(), endpointId));
+  public synchronized void removeSubscription(String method, String endpointId) {
+    Set<RemoteSubscriptionContext> methodSubscriptions = subscriptions.get(method);
+    if (methodSubscriptions == null) {
+      return;
+    }
+
+    Set<RemoteSubscriptionContext> removed =
+        methodSubscriptions
+            .stream()
+            .filter(context -> Objects.equals(context.getEndpointId(), endpointId))
+            .collect(toSet());
+    methodSubscriptions.removeAll(removed);
+
+    Map<Map.Entry<String, String>, Set<RemoteSubscriptionContext>> methodIndex =
+        scopeIndex.get(method);
+    if (methodIndex == null) {
+      return;
+    }
+    for (RemoteSubscriptionContext context : removed) {
+      if (context.getScope() == null) {
+        continue;
+      }
+      for (Map.Entry<String, String> scopeEntry : context.getScope().entrySet()) {
+        SimpleImmutableEntry<String, String> key =
+            new SimpleImmutableEntry<>(scopeEntry.getKey(), scopeEntry.getValue());
+        Set<RemoteSubscriptionContext> contexts = methodIndex.get(key);
+        if (contexts != null) {
+          contexts.remove(context);
+          if (contexts.isEmpty()) {
+            methodIndex.remove(key);
+          }
+        }
+      }
+    }
   }
 }
@@ -14,10 +14,15 @@ package org.eclipse.che.api.core.notification;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcMarshaller;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcParams;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcRequest;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestHandlerConfigurator;
-import org.eclipse.che.api.core.jsonrpc.commons.RequestTransmitter;
 import org.eclipse.che.api.core.notification.dto.EventSubscription;
+import org.eclipse.che.api.core.websocket.commons.WebSocketMessageTransmitter;
 
 @Singleton
 public class RemoteSubscriptionManager {
@@ -26,16 +31,19 @@ public class RemoteSubscriptionManager {
   public static final String UNSUBSCRIBE_JSON_RPC_METHOD = "unSubscribe";
 
   private final EventService eventService;
-  private final RequestTransmitter requestTransmitter;
+  private final JsonRpcMarshaller marshaller;
+  private final WebSocketMessageTransmitter transmitter;
   private final RemoteSubscriptionStorage remoteSubscriptionStorage;
 
   @Inject
   public RemoteSubscriptionManager(
       EventService eventService,
-      RequestTransmitter requestTransmitter,
+      JsonRpcMarshaller marshaller,
+      WebSocketMessageTransmitter transmitter,
       RemoteSubscriptionStorage remoteSubscriptionStorage) {
     this.eventService = eventService;
-    this.requestTransmitter = requestTransmitter;
+    this.marshaller = marshaller;
+    this.transmitter = transmitter;
     this.remoteSubscriptionStorage = remoteSubscriptionStorage;
   }
 
@@ -56,15 +64,46 @@ public class RemoteSubscriptionManager {
         .withBiConsumer(this::consumeUnSubscriptionRequest);
   }
 
+  /**
+   * Registers transmission of events of the given type to every subscriber of the method which
+   * scope satisfies the given predicate.
+   */
   public <T> void register(
       String method, Class<T> eventType, BiPredicate<T, Map<String, String>> biPredicate) {
     eventService.subscribe(
         event ->
-            remoteSubscriptionStorage
-                .getByMethod(method)
-                .stream()
-                .filter(context -> biPredicate.test(event, context.getScope()))
-                .forEach(context -> transmit(context.getEndpointId(), method, event)),
+            transmit(method, event, remoteSubscriptionStorage.getByMethod(method), biPredicate),
+        eventType);
+  }
+
+  /**
+   * Registers transmission of events of the given type to subscribers of the method which scope
+   * contains the value of the given key extracted from the event, e.g. {@code workspaceId}. Only
+   * the matching subscriptions are looked up in the storage.
+   */
+  public <T> void register(
+      String method, Class<T> eventType, String scopeKey, Function<T, String> scopeValueExtractor) {
+    register(method, eventType, scopeKey, scopeValueExtractor, (event, scope) -> true);
+  }
+
+  /**
+   * Same as {@link #register(String, Class, String, Function)} but additionally filters matching
+   * subscriptions with the given predicate.
+   */
+  public <T> void register(
+      String method,
+      Class<T> eventType,
+      String scopeKey,
+      Function<T, String> scopeValueExtractor,
+      BiPredicate<T, Map<String, String>> biPredicate) {
+    eventService.subscribe(
+        event ->
+            transmit(
+                method,
+                event,
+                remoteSubscriptionStorage.getByMethodAndScope(
+                    method, scopeKey, scopeValueExtractor.apply(event)),
+                biPredicate),
         eventType);
   }
 
@@ -79,12 +118,21 @@ public class RemoteSubscriptionManager {
     remoteSubscriptionStorage.removeSubscription(eventSubscription.getMethod(), endpointId);
   }
 
-  private <T> void transmit(String endpointId, String method, T event) {
-    requestTransmitter
-        .newRequest()
-        .endpointId(endpointId)
-        .methodName(method)
-        .paramsAsDto(event)
-        .sendAndSkipResult();
+  /** Transmits the event to matching subscribers, the event is serialized only once. */
+  private <T> void transmit(
+      String method,
+      T event,
+      Set<RemoteSubscriptionContext> contexts,
+      BiPredicate<T, Map<String, String>> biPredicate) {
+    String message = null;
+    for (RemoteSubscriptionContext context : contexts) {
+      if (!biPredicate.test(event, context.getScope())) {
+        continue;
+      }
+      if (message == null) {
+        message = marshaller.marshall(new JsonRpcRequest(null, method, new JsonRpcParams(event)));
+      }
+      transmitter.transmit(context.getEndpointId(), message);
+    }
   }
 }
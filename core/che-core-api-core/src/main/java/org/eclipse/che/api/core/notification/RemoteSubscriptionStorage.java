@@ -11,6 +11,9 @@
  */
 package org.eclipse.che.api.core.notification;
 
+import static java.util.stream.Collectors.toSet;
+
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -29,6 +32,27 @@ public interface RemoteSubscriptionStorage {
    */
   Set<RemoteSubscriptionContext> getByMethod(String method);
 
+  /**
+   * Returns active subscriptions for the given method which scope contains the given value of the
+   * given scope key. Implementations are encouraged to index subscriptions by scope, so that the
+   * result is computed without checking every subscription of the method.
+   *
+   * @param method Method name
+   * @param scopeKey key of the scope entry, e.g. {@code workspaceId}
+   * @param scopeValue expected value of the scope entry
+   * @return active subscriptions to this method with matching scope
+   */
+  default Set<RemoteSubscriptionContext> getByMethodAndScope(
+      String method, String scopeKey, String scopeValue) {
+    return getByMethod(method)
+        .stream()
+        .filter(
+            context ->
+                context.getScope() != null
+                    && Objects.equals(context.getScope().get(scopeKey), scopeValue))
+        .collect(toSet());
+  }
+
   /**
    * Adds new subscription to the given method subscriptions list
    *
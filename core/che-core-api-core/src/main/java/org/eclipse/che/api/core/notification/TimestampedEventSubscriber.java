@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.notification;
+
+/**
+ * Receives notification events along with the time they were published. Subscribers which record
+ * the time of events use it when they are subscribed with {@link EventService#subscribeAsync}, so
+ * that the recorded time does not depend on how long the event waited for delivery.
+ *
+ * @see AsyncEventSubscriber
+ */
+public interface TimestampedEventSubscriber<T> extends EventSubscriber<T> {
+
+  /**
+   * Receives notification that an event has been published to the EventService.
+   *
+   * @param event the published event
+   * @param publishTime the time in milliseconds when the event was published
+   */
+  void onEvent(T event, long publishTime);
+
+  /** Receives the event which is delivered right when it is published. */
+  @Override
+  default void onEvent(T event) {
+    onEvent(event, System.currentTimeMillis());
+  }
+}
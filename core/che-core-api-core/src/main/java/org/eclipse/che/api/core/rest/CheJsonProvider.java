@@ -40,6 +40,7 @@ import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.dto.server.JsonSerializable;
 import org.eclipse.che.dto.shared.DTO;
+import org.eclipse.che.everrest.ETagResponseFilter;
 import org.everrest.core.impl.provider.JsonEntityProvider;
 
 /**
@@ -94,7 +95,13 @@ public class CheJsonProvider<T> implements MessageBodyReader<T>, MessageBodyWrit
       throws IOException, WebApplicationException {
     // Add Cache-Control before start write body.
     httpHeaders.putSingle(HttpHeaders.CACHE_CONTROL, "public, no-cache, no-store, no-transform");
-    if (t instanceof JsonSerializable) {
+    // JSON may be already computed for the ETag of the response
+    String json = ETagResponseFilter.getEntityJson(t);
+    if (json != null) {
+      try (Writer w = new OutputStreamWriter(entityStream, StandardCharsets.UTF_8)) {
+        w.write(json);
+      }
+    } else if (t instanceof JsonSerializable) {
       try (Writer w = new OutputStreamWriter(entityStream, StandardCharsets.UTF_8)) {
         ((JsonSerializable) t).toJson(w);
       }
@@ -25,6 +25,7 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.HttpHeaders;
@@ -164,6 +165,15 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
     return doRequest(timeout, url, method, body, queryParams, authorizationHeaderValue, headers);
   }
 
+  @Override
+  public CompletableFuture<HttpJsonResponse> requestAsync() {
+    if (method == null) {
+      throw new IllegalStateException("Could not perform request, request method was not set.");
+    }
+    return doRequestAsync(
+        timeout, url, method, body, queryParams, authorizationHeaderValue, headers);
+  }
+
   /**
    * Makes this request using {@link HttpURLConnection}.
    *
@@ -199,19 +209,7 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
       throws IOException, ServerException, ForbiddenException, NotFoundException,
           UnauthorizedException, ConflictException, BadRequestException {
     final String authToken = EnvironmentContext.getCurrent().getSubject().getToken();
-    final boolean hasQueryParams = parameters != null && !parameters.isEmpty();
-    if (hasQueryParams || authToken != null) {
-      final UriBuilder ub = UriBuilder.fromUri(url);
-      // remove sensitive information from url.
-      ub.replaceQueryParam("token", EMPTY_ARRAY);
-
-      if (hasQueryParams) {
-        for (Pair<String, ?> parameter : parameters) {
-          ub.queryParam(parameter.first, parameter.second);
-        }
-      }
-      url = ub.build().toString();
-    }
+    url = buildUrl(url, parameters, authToken);
     final HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
     conn.setConnectTimeout(timeout > 0 ? timeout : 60000);
     conn.setReadTimeout(timeout > 0 ? timeout : 60000);
@@ -257,40 +255,12 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
         try (Reader reader = new InputStreamReader(in)) {
           str = CharStreams.toString(reader);
         }
-        final String contentType = conn.getContentType();
-        if (contentType != null
-            && (contentType.startsWith(MediaType.APPLICATION_JSON)
-                || contentType.startsWith("application/vnd.api+json"))) {
-          final ServiceError serviceError =
-              DtoFactory.getInstance().createDtoFromJson(str, ServiceError.class);
-          if (serviceError.getMessage() != null) {
-            if (responseCode == Response.Status.FORBIDDEN.getStatusCode()) {
-              throw new ForbiddenException(serviceError);
-            } else if (responseCode == Response.Status.NOT_FOUND.getStatusCode()) {
-              throw new NotFoundException(serviceError);
-            } else if (responseCode == Response.Status.UNAUTHORIZED.getStatusCode()) {
-              throw new UnauthorizedException(serviceError);
-            } else if (responseCode == Response.Status.CONFLICT.getStatusCode()) {
-              throw new ConflictException(serviceError);
-            } else if (responseCode == Response.Status.INTERNAL_SERVER_ERROR.getStatusCode()) {
-              throw new ServerException(serviceError);
-            } else if (responseCode == Response.Status.BAD_REQUEST.getStatusCode()) {
-              throw new BadRequestException(serviceError);
-            }
-            throw new ServerException(serviceError);
-          }
-        }
-        // Can't parse content as json or content has format other we expect for error.
-        throw new IOException(
-            String.format(
-                "Failed access: %s, method: %s, response code: %d, message: %s",
-                UriBuilder.fromUri(url).replaceQuery("token").build(), method, responseCode, str));
+        throwErrorResponse(url, method, responseCode, conn.getContentType(), str);
       }
       final String contentType = conn.getContentType();
       if (responseCode != HttpURLConnection.HTTP_NO_CONTENT
           && contentType != null
-          && !(contentType.startsWith(MediaType.APPLICATION_JSON)
-              || contentType.startsWith("application/vnd.api+json"))) {
+          && !isJsonContentType(contentType)) {
         throw new IOException(conn.getResponseMessage());
       }
 
@@ -303,6 +273,102 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
     }
   }
 
+  /**
+   * Makes this request without blocking the calling thread. This implementation performs the
+   * request in the calling thread with {@link #doRequest} and returns already completed future, the
+   * implementations which support non-blocking I/O should override it.
+   *
+   * <p>Parameters are the same as for {@link #doRequest}.
+   *
+   * @return future which is completed with the response to this request or exceptionally with one
+   *     of the exceptions described by {@link #doRequest}
+   */
+  protected CompletableFuture<HttpJsonResponse> doRequestAsync(
+      int timeout,
+      String url,
+      String method,
+      Object body,
+      List<Pair<String, ?>> parameters,
+      String authorizationHeaderValue,
+      List<Pair<String, String>> headers) {
+    final CompletableFuture<HttpJsonResponse> future = new CompletableFuture<>();
+    try {
+      future.complete(
+          doRequest(timeout, url, method, body, parameters, authorizationHeaderValue, headers));
+    } catch (Exception x) {
+      future.completeExceptionally(x);
+    }
+    return future;
+  }
+
+  /**
+   * Appends query parameters to the given url, when the authorization token is present the
+   * "token" query parameter is removed from the url.
+   */
+  static String buildUrl(String url, List<Pair<String, ?>> parameters, String authToken) {
+    final boolean hasQueryParams = parameters != null && !parameters.isEmpty();
+    if (hasQueryParams || authToken != null) {
+      final UriBuilder ub = UriBuilder.fromUri(url);
+      // remove sensitive information from url.
+      ub.replaceQueryParam("token", EMPTY_ARRAY);
+
+      if (hasQueryParams) {
+        for (Pair<String, ?> parameter : parameters) {
+          ub.queryParam(parameter.first, parameter.second);
+        }
+      }
+      url = ub.build().toString();
+    }
+    return url;
+  }
+
+  /** Returns true when the given content type is one of the json content types. */
+  static boolean isJsonContentType(String contentType) {
+    return contentType.startsWith(MediaType.APPLICATION_JSON)
+        || contentType.startsWith("application/vnd.api+json");
+  }
+
+  /**
+   * Throws an exception which corresponds to the given error response, never returns normally.
+   *
+   * @param url request url
+   * @param method request method
+   * @param responseCode response code, not 2xx
+   * @param contentType response content type, may be null
+   * @param content response content
+   * @throws IOException when content is not a json service error
+   */
+  static void throwErrorResponse(
+      String url, String method, int responseCode, String contentType, String content)
+      throws IOException, ServerException, ForbiddenException, NotFoundException,
+          UnauthorizedException, ConflictException, BadRequestException {
+    if (contentType != null && isJsonContentType(contentType)) {
+      final ServiceError serviceError =
+          DtoFactory.getInstance().createDtoFromJson(content, ServiceError.class);
+      if (serviceError.getMessage() != null) {
+        if (responseCode == Response.Status.FORBIDDEN.getStatusCode()) {
+          throw new ForbiddenException(serviceError);
+        } else if (responseCode == Response.Status.NOT_FOUND.getStatusCode()) {
+          throw new NotFoundException(serviceError);
+        } else if (responseCode == Response.Status.UNAUTHORIZED.getStatusCode()) {
+          throw new UnauthorizedException(serviceError);
+        } else if (responseCode == Response.Status.CONFLICT.getStatusCode()) {
+          throw new ConflictException(serviceError);
+        } else if (responseCode == Response.Status.INTERNAL_SERVER_ERROR.getStatusCode()) {
+          throw new ServerException(serviceError);
+        } else if (responseCode == Response.Status.BAD_REQUEST.getStatusCode()) {
+          throw new BadRequestException(serviceError);
+        }
+        throw new ServerException(serviceError);
+      }
+    }
+    // Can't parse content as json or content has format other we expect for error.
+    throw new IOException(
+        String.format(
+            "Failed access: %s, method: %s, response code: %d, message: %s",
+            UriBuilder.fromUri(url).replaceQuery("token").build(), method, responseCode, content));
+  }
+
   @Override
   public String toString() {
     return "DefaultHttpJsonRequest{"
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.rest;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.eclipse.che.api.core.BadRequestException;
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.api.core.ForbiddenException;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.UnauthorizedException;
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.lang.Pair;
+import org.eclipse.che.dto.server.DtoFactory;
+
+/**
+ * Implementation of {@link HttpJsonRequest} which performs requests with the {@link OkHttpClient}
+ * shared by all the requests created by the same {@link PooledHttpJsonRequestFactory}, so the
+ * connections are kept alive and reused, and {@link #requestAsync()} doesn't block the calling
+ * thread. Synchronous requests to the same host are limited by the permits of the host, provided by
+ * the factory.
+ *
+ * <p>The same as {@link DefaultHttpJsonRequest} the implementation is not thread-safe, but it is
+ * reusable.
+ *
+ * @see PooledHttpJsonRequestFactory
+ */
+public class PooledHttpJsonRequest extends DefaultHttpJsonRequest {
+
+  private static final okhttp3.MediaType JSON = okhttp3.MediaType.parse(MediaType.APPLICATION_JSON);
+
+  private final OkHttpClient httpClient;
+  private final Function<String, Semaphore> hostPermits;
+
+  protected PooledHttpJsonRequest(
+      OkHttpClient httpClient, Function<String, Semaphore> hostPermits, String url) {
+    super(url);
+    this.httpClient = httpClient;
+    this.hostPermits = hostPermits;
+  }
+
+  protected PooledHttpJsonRequest(
+      OkHttpClient httpClient, Function<String, Semaphore> hostPermits, Link link) {
+    super(link);
+    this.httpClient = httpClient;
+    this.hostPermits = hostPermits;
+  }
+
+  /**
+   * Makes this request using shared {@link OkHttpClient}, see {@link DefaultHttpJsonRequest}. The
+   * calling thread is blocked while the per host limit of synchronous requests is reached.
+   */
+  @Override
+  protected DefaultHttpJsonResponse doRequest(
+      int timeout,
+      String url,
+      String method,
+      Object body,
+      List<Pair<String, ?>> parameters,
+      String authorizationHeaderValue,
+      List<Pair<String, String>> headers)
+      throws IOException, ServerException, ForbiddenException, NotFoundException,
+          UnauthorizedException, ConflictException, BadRequestException {
+    final Call call =
+        newCall(timeout, url, method, body, parameters, authorizationHeaderValue, headers);
+    final Semaphore permits = hostPermits.apply(call.request().url().host());
+    try {
+      permits.acquire();
+    } catch (InterruptedException x) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the per host requests limit");
+    }
+    try (Response response = call.execute()) {
+      return toJsonResponse(response);
+    } finally {
+      permits.release();
+    }
+  }
+
+  @Override
+  protected CompletableFuture<HttpJsonResponse> doRequestAsync(
+      int timeout,
+      String url,
+      String method,
+      Object body,
+      List<Pair<String, ?>> parameters,
+      String authorizationHeaderValue,
+      List<Pair<String, String>> headers) {
+    final CompletableFuture<HttpJsonResponse> future = new CompletableFuture<>();
+    final Call call;
+    try {
+      call = newCall(timeout, url, method, body, parameters, authorizationHeaderValue, headers);
+    } catch (RuntimeException x) {
+      future.completeExceptionally(x);
+      return future;
+    }
+    call.enqueue(
+        new Callback() {
+          @Override
+          public void onFailure(Call call, IOException x) {
+            future.completeExceptionally(x);
+          }
+
+          @Override
+          public void onResponse(Call call, Response response) {
+            try (Response r = response) {
+              future.complete(toJsonResponse(r));
+            } catch (Exception x) {
+              future.completeExceptionally(x);
+            }
+          }
+        });
+    future.whenComplete(
+        (response, x) -> {
+          if (future.isCancelled()) {
+            call.cancel();
+          }
+        });
+    return future;
+  }
+
+  private Call newCall(
+      int timeout,
+      String url,
+      String method,
+      Object body,
+      List<Pair<String, ?>> parameters,
+      String authorizationHeaderValue,
+      List<Pair<String, String>> headers) {
+    final String authToken = EnvironmentContext.getCurrent().getSubject().getToken();
+    final Request.Builder builder = new Request.Builder().url(buildUrl(url, parameters, authToken));
+    if (headers != null) {
+      for (Pair<String, String> header : headers) {
+        builder.header(header.first, header.second);
+      }
+    }
+    // drop a hint for server side that we want to receive application/json
+    builder.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
+    if (!isNullOrEmpty(authorizationHeaderValue)) {
+      builder.header(HttpHeaders.AUTHORIZATION, authorizationHeaderValue);
+    } else if (authToken != null) {
+      builder.header(HttpHeaders.AUTHORIZATION, authToken);
+    }
+    if (body != null) {
+      if (HttpMethod.GET.equals(method)) {
+        // keep the behaviour of HttpURLConnection which sends GET request with body as POST
+        method = HttpMethod.POST;
+      }
+      builder.method(method, RequestBody.create(JSON, DtoFactory.getInstance().toJson(body)));
+    } else {
+      builder.method(method, requiresBody(method) ? RequestBody.create(null, new byte[0]) : null);
+    }
+
+    OkHttpClient client = httpClient;
+    if (timeout > 0) {
+      // shares connection pool and dispatcher with the original client
+      client =
+          httpClient
+              .newBuilder()
+              .connectTimeout(timeout, TimeUnit.MILLISECONDS)
+              .readTimeout(timeout, TimeUnit.MILLISECONDS)
+              .build();
+    }
+    return client.newCall(builder.build());
+  }
+
+  private static DefaultHttpJsonResponse toJsonResponse(Response response)
+      throws IOException, ServerException, ForbiddenException, NotFoundException,
+          UnauthorizedException, ConflictException, BadRequestException {
+    final ResponseBody responseBody = response.body();
+    final String content = responseBody == null ? "" : responseBody.string();
+    final int responseCode = response.code();
+    final String contentType = response.header(HttpHeaders.CONTENT_TYPE);
+    if ((responseCode / 100) != 2) {
+      throwErrorResponse(
+          response.request().url().toString(),
+          response.request().method(),
+          responseCode,
+          contentType,
+          content);
+    }
+    if (responseCode != HttpURLConnection.HTTP_NO_CONTENT
+        && contentType != null
+        && !isJsonContentType(contentType)) {
+      throw new IOException(response.message());
+    }
+    return new DefaultHttpJsonResponse(content, responseCode, response.headers().toMultimap());
+  }
+
+  private static boolean requiresBody(String method) {
+    return HttpMethod.POST.equals(method)
+        || HttpMethod.PUT.equals(method)
+        || "PATCH".equals(method);
+  }
+}
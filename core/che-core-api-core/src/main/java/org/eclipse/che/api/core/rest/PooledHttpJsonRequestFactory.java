@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.rest;
+
+import static java.util.Arrays.asList;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import javax.validation.constraints.NotNull;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+
+/**
+ * Creates {@link PooledHttpJsonRequest} instances which share a single {@link OkHttpClient}.
+ *
+ * <p>Unlike {@link DefaultHttpJsonRequestFactory} connections are kept alive in the connection pool
+ * and reused by the subsequent requests to the same host, HTTP/2 is used when the server supports
+ * it (negotiated over TLS), the number of requests executed concurrently is limited per host, the
+ * requests over the limit wait in the queue. The per host limit applies separately to asynchronous
+ * requests, which are queued by the {@link Dispatcher}, and to synchronous ones, which block the
+ * calling thread until a permit of the host is available. Requests are instrumented with the given
+ * {@link EventListener}, so when metrics are enabled they are published the same way as for other
+ * Che http clients.
+ */
+@Singleton
+public class PooledHttpJsonRequestFactory implements HttpJsonRequestFactory {
+
+  private final OkHttpClient httpClient;
+  private final LoadingCache<String, Semaphore> hostPermits;
+
+  @Inject
+  public PooledHttpJsonRequestFactory(
+      @Named("che.core.rest.http_client.async_requests.max") int maxRequests,
+      @Named("che.core.rest.http_client.async_requests.max_per_host") int maxRequestsPerHost,
+      @Named("che.core.rest.http_client.connection_pool.max_idle") int maxIdleConnections,
+      @Named("che.core.rest.http_client.connection_pool.keep_alive_sec") int keepAliveSec,
+      EventListener eventListener) {
+    final Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(maxRequests);
+    dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+    this.httpClient =
+        new OkHttpClient.Builder()
+            .dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveSec, TimeUnit.SECONDS))
+            .protocols(asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+            .connectTimeout(60, TimeUnit.SECONDS)
+            .readTimeout(60, TimeUnit.SECONDS)
+            .writeTimeout(60, TimeUnit.SECONDS)
+            .eventListener(eventListener)
+            .build();
+    // permits of a host are kept while there are requests holding or waiting for them
+    this.hostPermits =
+        CacheBuilder.newBuilder()
+            .weakValues()
+            .build(CacheLoader.from(() -> new Semaphore(maxRequestsPerHost, true)));
+  }
+
+  @Override
+  public HttpJsonRequest fromUrl(@NotNull String url) {
+    return new PooledHttpJsonRequest(httpClient, hostPermits::getUnchecked, url);
+  }
+
+  @Override
+  public HttpJsonRequest fromLink(@NotNull Link link) {
+    return new PooledHttpJsonRequest(httpClient, hostPermits::getUnchecked, link);
+  }
+
+  /** Returns the number of open connections, both in use and idle. */
+  public int getConnectionCount() {
+    return httpClient.connectionPool().connectionCount();
+  }
+
+  /** Returns the number of idle connections kept alive in the pool. */
+  public int getIdleConnectionCount() {
+    return httpClient.connectionPool().idleConnectionCount();
+  }
+
+  /** Returns the number of requests which are being executed. */
+  public int getRunningRequestCount() {
+    return httpClient.dispatcher().runningCallsCount();
+  }
+
+  /**
+   * Returns the number of asynchronous requests waiting for the per host or total limit and of
+   * synchronous requests waiting for the per host limit.
+   */
+  public int getQueuedRequestCount() {
+    int queued = httpClient.dispatcher().queuedCallsCount();
+    for (Semaphore permits : hostPermits.asMap().values()) {
+      queued += permits.getQueueLength();
+    }
+    return queued;
+  }
+
+  /** Cancels pending requests and closes pooled connections. */
+  @PreDestroy
+  public void shutdown() {
+    httpClient.dispatcher().cancelAll();
+    httpClient.dispatcher().executorService().shutdown();
+    httpClient.connectionPool().evictAll();
+  }
+}
@@ -13,7 +13,6 @@ package org.eclipse.che.api.core.websocket.impl;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
-import java.io.IOException;
 import java.util.Optional;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -26,6 +25,10 @@ import org.slf4j.Logger;
  * session is not opened adds messages to re-sender to try to send them when session will be opened
  * again.
  *
+ * <p>Each session has its own bounded outbound queue that is drained asynchronously, so a slow
+ * session does not delay messages sent to other sessions. When the queue of a session is full the
+ * oldest pending notification is dropped, see {@link SessionMessageQueue}.
+ *
  * @author Dmitry Kuleshov
  */
 @Singleton
@@ -34,34 +37,55 @@ public class BasicWebSocketMessageTransmitter implements WebSocketMessageTransmi
 
   private final WebSocketSessionRegistry registry;
   private final MessagesReSender reSender;
+  private final SessionMessageQueues queues;
 
   @Inject
   public BasicWebSocketMessageTransmitter(
-      WebSocketSessionRegistry registry, MessagesReSender reSender) {
+      WebSocketSessionRegistry registry, MessagesReSender reSender, SessionMessageQueues queues) {
     this.registry = registry;
     this.reSender = reSender;
+    this.queues = queues;
   }
 
   @Override
-  public synchronized void transmit(String endpointId, String message) {
+  public void transmit(String endpointId, String message) {
     Optional<Session> sessionOptional = registry.get(endpointId);
 
     if (!sessionOptional.isPresent()) {
-      sessionOptional = registry.getByPartialMatch(endpointId).stream().findFirst();
+      // combined identifiers of sessions start with the client identifier
+      sessionOptional =
+          registry.getByPrefix(endpointId + WebsocketIdService.SEPARATOR).stream().findFirst();
     }
 
     if (!sessionOptional.isPresent() || !sessionOptional.get().isOpen()) {
       LOG.debug("Session is not registered or closed, adding message to pending");
 
+      sessionOptional.ifPresent(queues::remove);
       reSender.add(endpointId, message);
     } else {
-      LOG.debug("Session registered and open, sending message");
+      LOG.debug("Session registered and open, enqueueing message");
 
-      try {
-        sessionOptional.get().getBasicRemote().sendText(message);
-      } catch (IOException e) {
-        LOG.error("Error while trying to send a message to a basic websocket remote endpoint", e);
-      }
+      queues.offer(sessionOptional.get(), message);
     }
   }
+
+  /** Returns the number of messages waiting in outbound queues of all sessions. */
+  public long getQueuedMessagesCount() {
+    return queues.getQueuedMessagesCount();
+  }
+
+  /** Returns the number of messages which sending was completed, successfully or not. */
+  public long getSentMessagesCount() {
+    return queues.getSentMessagesCount();
+  }
+
+  /** Returns the number of messages dropped because outbound queue of a session was full. */
+  public long getDroppedMessagesCount() {
+    return queues.getDroppedMessagesCount();
+  }
+
+  /** Returns the total time spent sending messages, in nanoseconds. */
+  public long getSendTimeNanos() {
+    return queues.getSendTimeNanos();
+  }
 }
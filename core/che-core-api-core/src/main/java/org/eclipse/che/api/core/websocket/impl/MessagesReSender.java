@@ -11,60 +11,87 @@
  */
 package org.eclipse.che.api.core.websocket.impl;
 
-import com.google.common.collect.EvictingQueue;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
+import javax.websocket.SendResult;
 import javax.websocket.Session;
 import org.eclipse.che.commons.schedule.ScheduleDelay;
+import org.slf4j.Logger;
 
 /**
  * Instance is responsible for re-sending messages that were not sent during the period when WEB
  * SOCKET session was closed. If session is closed during re-send process it stops and left messages
  * will be re-sent as WEB SOCKET session becomes open again.
  *
+ * <p>Messages of each endpoint are kept in a buffer and get monotonically increasing identifiers.
+ * Messages are re-sent one by one through the outbound queue of the session, a message is removed
+ * from the buffer only when its sending is completed successfully, so the identifier of the last
+ * delivered message works as a replay cursor of the endpoint. The total size of buffered messages
+ * is limited, messages that do not fit are dropped. Messages which are not delivered during the
+ * configured time to live are dropped as well.
+ *
  * @author Dmitry Kuleshov
  */
 @Singleton
 public class MessagesReSender {
-
-  private static final int MAX_MESSAGES = 100;
+  private static final Logger LOG = getLogger(MessagesReSender.class);
 
   private final WebSocketSessionRegistry registry;
+  private final SessionMessageQueues queues;
+  private final long maxBufferedBytes;
+  private final long messageTtlMillis;
+  private final AtomicLong bufferedBytes = new AtomicLong();
 
-  private final Map<String, Queue<DelayedMessage>> delayedMessageRegistry =
-      new ConcurrentHashMap<>();
+  private final Map<String, EndpointMessages> delayedMessageRegistry = new ConcurrentHashMap<>();
 
   @Inject
-  public MessagesReSender(WebSocketSessionRegistry registry) {
+  public MessagesReSender(
+      WebSocketSessionRegistry registry,
+      SessionMessageQueues queues,
+      @Named("che.websocket.resend.max_buffered_bytes") long maxBufferedBytes,
+      @Named("che.websocket.resend.message_ttl_s") long messageTtlSeconds) {
     this.registry = registry;
+    this.queues = queues;
+    this.maxBufferedBytes = maxBufferedBytes;
+    this.messageTtlMillis = TimeUnit.SECONDS.toMillis(messageTtlSeconds);
   }
 
   @ScheduleDelay(initialDelay = 60, delay = 60)
   void cleanStaleMessages() {
     long currentTimeMillis = System.currentTimeMillis();
 
-    delayedMessageRegistry
-        .values()
-        .forEach(it -> it.removeIf(m -> currentTimeMillis - m.timeMillis > 60_000));
-
-    delayedMessageRegistry.values().removeIf(Queue::isEmpty);
+    for (String endpointId : delayedMessageRegistry.keySet()) {
+      delayedMessageRegistry.computeIfPresent(
+          endpointId, (k, messages) -> messages.removeStale(currentTimeMillis) ? null : messages);
+    }
   }
 
   public void add(String endpointId, String message) {
-
-    delayedMessageRegistry
-        .computeIfAbsent(endpointId, k -> EvictingQueue.create(MAX_MESSAGES))
-        .offer(new DelayedMessage(message));
+    delayedMessageRegistry.compute(
+        endpointId,
+        (k, messages) -> {
+          if (messages == null) {
+            messages = new EndpointMessages();
+          }
+          messages.add(message);
+          return messages;
+        });
   }
 
   public void resend(String endpointId) {
-    Queue<DelayedMessage> delayedMessages = delayedMessageRegistry.remove(endpointId);
+    EndpointMessages messages = delayedMessageRegistry.get(endpointId);
 
-    if (delayedMessages == null || delayedMessages.isEmpty()) {
+    if (messages == null) {
       return;
     }
 
@@ -74,31 +101,111 @@ public class MessagesReSender {
       return;
     }
 
-    Queue<DelayedMessage> backingQueue = EvictingQueue.create(delayedMessages.size());
-    while (!delayedMessages.isEmpty()) {
-      backingQueue.offer(delayedMessages.poll());
+    messages.resend(sessionOptional.get());
+  }
+
+  /** Returns the approximate size of all the buffered messages in bytes. */
+  public long getBufferedBytes() {
+    return bufferedBytes.get();
+  }
+
+  private static long sizeOf(String message) {
+    return 2L * message.length();
+  }
+
+  private class EndpointMessages {
+    // guarded by this
+    private final Deque<DelayedMessage> messages = new ArrayDeque<>();
+    private long nextId;
+    private Session resendingSession;
+
+    synchronized void add(String message) {
+      long size = sizeOf(message);
+      if (bufferedBytes.addAndGet(size) > maxBufferedBytes) {
+        bufferedBytes.addAndGet(-size);
+        LOG.debug("Re-send buffer is full, dropping message");
+        return;
+      }
+      messages.offerLast(new DelayedMessage(nextId++, message));
+    }
+
+    /** Removes stale messages and returns true if there is nothing left to re-send. */
+    synchronized boolean removeStale(long currentTimeMillis) {
+      while (!messages.isEmpty()
+          && currentTimeMillis - messages.peekFirst().timeMillis > messageTtlMillis) {
+        release(messages.pollFirst());
+      }
+      return messages.isEmpty() && resendingSession == null;
+    }
+
+    /**
+     * Starts re-sending through the given session. If a previous session is still re-sending
+     * messages, it is replaced by the given one.
+     */
+    void resend(Session session) {
+      DelayedMessage next;
+      synchronized (this) {
+        if (resendingSession == session || messages.isEmpty()) {
+          return;
+        }
+        resendingSession = session;
+        next = messages.peekFirst();
+      }
+      send(session, next);
+    }
+
+    private void send(Session session, DelayedMessage message) {
+      if (!session.isOpen()) {
+        stopResending(session);
+        return;
+      }
+      queues.offer(session, message.message, r -> onSent(session, message, r));
+    }
+
+    private void onSent(Session session, DelayedMessage message, SendResult result) {
+      if (!result.isOK()) {
+        LOG.debug("Error while re-sending a message", result.getException());
+        stopResending(session);
+        return;
+      }
+
+      DelayedMessage next;
+      synchronized (this) {
+        // the message might be removed as stale while it was being sent
+        if (!messages.isEmpty() && messages.peekFirst().id == message.id) {
+          release(messages.pollFirst());
+        }
+        if (resendingSession != session) {
+          return;
+        }
+        next = messages.peekFirst();
+        if (next == null) {
+          resendingSession = null;
+          return;
+        }
+      }
+      send(session, next);
     }
 
-    Session session = sessionOptional.get();
-    for (DelayedMessage delayedMessage : backingQueue) {
-      if (session.isOpen()) {
-        session.getAsyncRemote().sendText(delayedMessage.message);
-      } else {
-        delayedMessages.add(delayedMessage);
+    private synchronized void stopResending(Session session) {
+      if (resendingSession == session) {
+        resendingSession = null;
       }
     }
 
-    if (!delayedMessages.isEmpty()) {
-      delayedMessageRegistry.put(endpointId, delayedMessages);
+    private void release(DelayedMessage message) {
+      bufferedBytes.addAndGet(-sizeOf(message.message));
     }
   }
 
   private static class DelayedMessage {
 
+    private final long id;
     private final long timeMillis;
     private final String message;
 
-    private DelayedMessage(String message) {
+    private DelayedMessage(long id, String message) {
+      this.id = id;
       this.message = message;
       this.timeMillis = System.currentTimeMillis();
     }
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.websocket.impl;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.LongConsumer;
+import javax.websocket.CloseReason;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+import org.slf4j.Logger;
+
+/**
+ * Bounded outbound queue of a single WEB SOCKET session. Messages are sent one at a time through
+ * the asynchronous remote of the session, the next message is sent as soon as the previous one is
+ * completed. A slow consumer never blocks the threads that transmit messages to other sessions.
+ *
+ * <p>When the queue is full the oldest pending message which may be lost, e.g. a JSON RPC
+ * notification, is dropped. JSON RPC messages with an identifier, i.e. responses and requests
+ * which wait for a response, are never dropped: when the queue is full of them the session is
+ * closed, so that the client reconnects instead of waiting for a response forever.
+ *
+ * <p>A message may be enqueued along with a handler which is notified about the result of sending.
+ * Handlers of dropped messages are notified with a failed result.
+ */
+class SessionMessageQueue {
+  private static final Logger LOG = getLogger(SessionMessageQueue.class);
+
+  private static final CloseReason QUEUE_OVERFLOW_CLOSE_REASON =
+      new CloseReason(
+          CloseReason.CloseCodes.TRY_AGAIN_LATER, "Client does not keep up with messages");
+
+  private final Session session;
+  private final int capacity;
+  private final LongConsumer sendTimeListener;
+  private final Runnable dropListener;
+
+  // guarded by this
+  private final Deque<OutboundMessage> messages = new ArrayDeque<>();
+  private boolean sending;
+
+  SessionMessageQueue(
+      Session session, int capacity, LongConsumer sendTimeListener, Runnable dropListener) {
+    this.session = session;
+    this.capacity = capacity;
+    this.sendTimeListener = sendTimeListener;
+    this.dropListener = dropListener;
+  }
+
+  /** Enqueues the message and starts sending if there is no message in flight. */
+  void offer(String message) {
+    offer(message, null);
+  }
+
+  /**
+   * Enqueues the message and starts sending if there is no message in flight. The given handler, if
+   * not null, is notified when the message is sent or dropped.
+   */
+  void offer(String message, SendHandler handler) {
+    OutboundMessage offered = new OutboundMessage(message, handler);
+    OutboundMessage next = null;
+    OutboundMessage dropped = null;
+    List<OutboundMessage> discarded = null;
+    synchronized (this) {
+      if (messages.size() >= capacity) {
+        dropped = pollDroppable();
+      }
+      if (messages.size() < capacity) {
+        messages.offerLast(offered);
+        if (!sending) {
+          sending = true;
+          next = messages.pollFirst();
+        }
+      } else if (offered.isDroppable()) {
+        dropped = offered;
+      } else {
+        discarded = new ArrayList<>(messages);
+        discarded.add(offered);
+        messages.clear();
+      }
+    }
+
+    if (dropped != null) {
+      LOG.debug("Outbound queue of session '{}' is full, dropping a message", session.getId());
+      dropListener.run();
+      dropped.notifyDropped();
+    }
+
+    if (discarded != null) {
+      LOG.warn(
+          "Outbound queue of session '{}' is full of messages which can not be dropped, "
+              + "closing the session",
+          session.getId());
+      close(discarded);
+    }
+
+    if (next != null) {
+      send(next);
+    }
+  }
+
+  /** Returns the number of messages waiting to be sent. */
+  synchronized int size() {
+    return messages.size();
+  }
+
+  Session getSession() {
+    return session;
+  }
+
+  /** Removes the oldest message which may be dropped from the queue, returns null if none. */
+  private OutboundMessage pollDroppable() {
+    for (Iterator<OutboundMessage> it = messages.iterator(); it.hasNext(); ) {
+      OutboundMessage message = it.next();
+      if (message.isDroppable()) {
+        it.remove();
+        return message;
+      }
+    }
+    return null;
+  }
+
+  private void close(List<OutboundMessage> discarded) {
+    for (OutboundMessage message : discarded) {
+      dropListener.run();
+      message.notifyDropped();
+    }
+    try {
+      session.close(QUEUE_OVERFLOW_CLOSE_REASON);
+    } catch (IOException e) {
+      LOG.error("Error while closing websocket session '{}'", session.getId(), e);
+    }
+  }
+
+  private void send(OutboundMessage message) {
+    long start = System.nanoTime();
+    try {
+      session.getAsyncRemote().sendText(message.text, result -> onSent(message, start, result));
+    } catch (RuntimeException e) {
+      LOG.error("Error while trying to send a message to an async websocket remote endpoint", e);
+      onSent(message, start, new SendResult(e));
+    }
+  }
+
+  private void onSent(OutboundMessage message, long start, SendResult result) {
+    sendTimeListener.accept(System.nanoTime() - start);
+
+    if (!result.isOK()) {
+      LOG.debug(
+          "Error while sending a message to websocket session '{}'",
+          session.getId(),
+          result.getException());
+    }
+    message.complete(result);
+
+    OutboundMessage next;
+    List<OutboundMessage> discarded = null;
+    synchronized (this) {
+      if (!session.isOpen()) {
+        discarded = new ArrayList<>(messages);
+        messages.clear();
+      }
+      next = messages.pollFirst();
+      if (next == null) {
+        sending = false;
+      }
+    }
+    if (discarded != null) {
+      discarded.forEach(OutboundMessage::notifyDropped);
+    }
+    if (next != null) {
+      send(next);
+    }
+  }
+
+  private static class OutboundMessage {
+    private final String text;
+    private final SendHandler handler;
+
+    // computed only when the queue is full
+    private Boolean droppable;
+
+    private OutboundMessage(String text, SendHandler handler) {
+      this.text = text;
+      this.handler = handler;
+    }
+
+    /**
+     * Checks whether the message may be dropped, that is any message except a JSON RPC message
+     * with an identifier.
+     */
+    private boolean isDroppable() {
+      if (droppable == null) {
+        droppable = !hasJsonRpcId(text);
+      }
+      return droppable;
+    }
+
+    private void complete(SendResult result) {
+      if (handler != null) {
+        handler.onResult(result);
+      }
+    }
+
+    private void notifyDropped() {
+      complete(new SendResult(new IllegalStateException("Message is dropped from outbound queue")));
+    }
+
+    private static boolean hasJsonRpcId(String text) {
+      try (JsonReader reader = new JsonReader(new StringReader(text))) {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+          return false;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+          if ("id".equals(reader.nextName()) && reader.peek() != JsonToken.NULL) {
+            return true;
+          }
+          reader.skipValue();
+        }
+        return false;
+      } catch (IOException | IllegalStateException e) {
+        return false;
+      }
+    }
+  }
+}
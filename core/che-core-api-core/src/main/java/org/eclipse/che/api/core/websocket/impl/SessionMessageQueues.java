@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.websocket.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import javax.websocket.SendHandler;
+import javax.websocket.Session;
+import org.eclipse.che.commons.schedule.ScheduleDelay;
+
+/**
+ * Holds outbound queues of WEB SOCKET sessions. All the messages sent to a session, both regular
+ * and re-sent ones, must go through its queue, so that only one message is written to the session
+ * at a time and messages are written in the order they are enqueued.
+ */
+@Singleton
+public class SessionMessageQueues {
+
+  private final int capacity;
+
+  private final Map<Session, SessionMessageQueue> queues = new ConcurrentHashMap<>();
+  private final LongAdder sentMessages = new LongAdder();
+  private final LongAdder droppedMessages = new LongAdder();
+  private final LongAdder sendTimeNanos = new LongAdder();
+
+  @Inject
+  public SessionMessageQueues(@Named("che.websocket.session_queue_capacity") int capacity) {
+    this.capacity = capacity;
+  }
+
+  /** Enqueues the message to the outbound queue of the given session. */
+  public void offer(Session session, String message) {
+    offer(session, message, null);
+  }
+
+  /**
+   * Enqueues the message to the outbound queue of the given session. The handler, if any, is
+   * notified when the message is sent, or with a failed result when the message is dropped.
+   */
+  public void offer(Session session, String message, SendHandler handler) {
+    queues.computeIfAbsent(session, this::createQueue).offer(message, handler);
+  }
+
+  /** Removes the queue of the given session. */
+  public void remove(Session session) {
+    queues.remove(session);
+  }
+
+  /** Returns the number of messages waiting in outbound queues of all sessions. */
+  public long getQueuedMessagesCount() {
+    long count = 0;
+    for (SessionMessageQueue queue : queues.values()) {
+      count += queue.size();
+    }
+    return count;
+  }
+
+  /** Returns the number of messages which sending was completed, successfully or not. */
+  public long getSentMessagesCount() {
+    return sentMessages.sum();
+  }
+
+  /** Returns the number of messages dropped because outbound queue of a session was full. */
+  public long getDroppedMessagesCount() {
+    return droppedMessages.sum();
+  }
+
+  /** Returns the total time spent sending messages, in nanoseconds. */
+  public long getSendTimeNanos() {
+    return sendTimeNanos.sum();
+  }
+
+  @ScheduleDelay(initialDelay = 60, delay = 60)
+  void cleanClosedSessionQueues() {
+    queues.values().removeIf(queue -> !queue.getSession().isOpen());
+  }
+
+  private SessionMessageQueue createQueue(Session session) {
+    return new SessionMessageQueue(
+        session,
+        capacity,
+        nanos -> {
+          sentMessages.increment();
+          sendTimeNanos.add(nanos);
+        },
+        droppedMessages::increment);
+  }
+}
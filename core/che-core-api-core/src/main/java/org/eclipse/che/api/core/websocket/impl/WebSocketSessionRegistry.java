@@ -16,9 +16,11 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 import java.util.HashSet;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import javax.inject.Singleton;
 import javax.websocket.Session;
 import org.slf4j.Logger;
@@ -26,6 +28,11 @@ import org.slf4j.Logger;
 /**
  * Binds WEB SOCKET session to a specific endpoint form which it was opened.
  *
+ * <p>Sessions are indexed by endpoint identifier, by session and by sorted endpoint identifiers,
+ * so that lookups by session and by endpoint identifier prefix do not need to scan all the
+ * registered sessions. Modifications are serialized to keep the indexes consistent, lookups are not
+ * blocked.
+ *
  * @author Dmitry Kuleshov
  */
 @Singleton
@@ -33,27 +40,51 @@ public class WebSocketSessionRegistry {
   private static final Logger LOG = getLogger(WebSocketSessionRegistry.class);
 
   private final Map<String, Session> sessionsMap = new ConcurrentHashMap<>();
+  private final Map<Session, String> endpointIdsMap = new ConcurrentHashMap<>();
+  private final NavigableMap<String, Session> sortedSessionsMap = new ConcurrentSkipListMap<>();
+
+  public synchronized void add(String endpointId, Session session) {
+    LOG.debug("Registering session {} with endpoint {}", session.getId(), endpointId);
 
-  public void add(String endpointId, Session session) {
-    LOG.debug("Registering session with endpoint {}", session.getId(), endpointId);
+    String previousEndpointId = endpointIdsMap.put(session, endpointId);
+    if (previousEndpointId != null && !previousEndpointId.equals(endpointId)) {
+      sessionsMap.remove(previousEndpointId);
+      sortedSessionsMap.remove(previousEndpointId);
+    }
 
-    sessionsMap.put(endpointId, session);
+    Session previousSession = sessionsMap.put(endpointId, session);
+    if (previousSession != null && !previousSession.equals(session)) {
+      endpointIdsMap.remove(previousSession);
+    }
+    sortedSessionsMap.put(endpointId, session);
   }
 
-  public Optional<Session> remove(String endpointId) {
+  public synchronized Optional<Session> remove(String endpointId) {
     LOG.debug("Cancelling registration for session with endpoint {}", endpointId);
 
-    return Optional.ofNullable(sessionsMap.remove(endpointId));
+    Session session = sessionsMap.remove(endpointId);
+    if (session != null) {
+      endpointIdsMap.remove(session);
+      sortedSessionsMap.remove(endpointId);
+    }
+    return Optional.ofNullable(session);
   }
 
-  public Optional<Session> remove(Session session) {
-    return get(session).flatMap(id -> Optional.ofNullable(sessionsMap.remove(id)));
+  public synchronized Optional<Session> remove(Session session) {
+    return get(session).flatMap(this::remove);
   }
 
   public Optional<Session> get(String endpointId) {
     return Optional.ofNullable(sessionsMap.get(endpointId));
   }
 
+  /**
+   * Returns sessions which endpoint identifiers contain the given partial identifier. All the
+   * registered sessions are scanned.
+   *
+   * @deprecated use {@link #getByPrefix(String)} which doesn't need to scan all the sessions
+   */
+  @Deprecated
   public Set<Session> getByPartialMatch(String partialEndpointId) {
     return sessionsMap
         .entrySet()
@@ -63,13 +94,16 @@ public class WebSocketSessionRegistry {
         .collect(toSet());
   }
 
+  /** Returns sessions which endpoint identifiers start with the given prefix. */
+  public Set<Session> getByPrefix(String endpointIdPrefix) {
+    return new HashSet<>(
+        sortedSessionsMap
+            .subMap(endpointIdPrefix, true, endpointIdPrefix + Character.MAX_VALUE, true)
+            .values());
+  }
+
   public Optional<String> get(Session session) {
-    return sessionsMap
-        .entrySet()
-        .stream()
-        .filter(entry -> entry.getValue().equals(session))
-        .map(Map.Entry::getKey)
-        .findAny();
+    return Optional.ofNullable(endpointIdsMap.get(session));
   }
 
   public Set<Session> getSessions() {
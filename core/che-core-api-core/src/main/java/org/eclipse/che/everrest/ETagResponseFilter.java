@@ -20,6 +20,7 @@ import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.EntityTag;
@@ -37,11 +38,17 @@ import org.everrest.core.ResponseFilter;
  * clients that want to use conditional requests. It is applying on GET method and JSON content type
  * only.
  *
+ * <p>The tag is computed from the JSON of the entity, the JSON of {@link JsonSerializable} entities
+ * is kept in the request context so the message body writer can send it without serializing the
+ * entity again, see {@link #getEntityJson(Object)}.
+ *
  * @author Florent Benoit
  */
 @Filter
 public class ETagResponseFilter implements ResponseFilter {
 
+  private static final String ENTITY_JSON_ATTRIBUTE = ETagResponseFilter.class.getName() + ".json";
+
   public enum EntityType {
     JSON_SERIALIZABLE,
     STRING,
@@ -81,18 +88,28 @@ public class ETagResponseFilter implements ResponseFilter {
     HashFunction hashFunction = Hashing.md5();
     Hasher hasher = hashFunction.newHasher();
     boolean hashingSuccess = true;
+    // JSON of the entity that may be reused by the writer
+    String entityJson = null;
 
     // Manage a list
     if (entity instanceof List) {
       List<?> entities = (List) entity;
+      List<String> jsons = new ArrayList<>(entities.size());
       for (Object simpleEntity : entities) {
-        hashingSuccess = addHash(simpleEntity, hasher);
+        hashingSuccess = addHash(simpleEntity, hasher, jsons);
         if (!hashingSuccess) {
           break;
         }
       }
+      if (hashingSuccess && jsons.size() == entities.size() && !jsons.isEmpty()) {
+        entityJson = '[' + String.join(",", jsons) + ']';
+      }
     } else {
-      hashingSuccess = addHash(entity, hasher);
+      List<String> jsons = new ArrayList<>(1);
+      hashingSuccess = addHash(entity, hasher, jsons);
+      if (hashingSuccess && !jsons.isEmpty()) {
+        entityJson = jsons.get(0);
+      }
     }
 
     // if we're able to handle the hash
@@ -115,10 +132,54 @@ public class ETagResponseFilter implements ResponseFilter {
         Response.ResponseBuilder responseBuilder =
             Response.fromResponse(containerResponse.getResponse()).tag(entityTag);
         containerResponse.setResponse(responseBuilder.build());
+        if (entityJson != null) {
+          applicationContext
+              .getAttributes()
+              .put(ENTITY_JSON_ATTRIBUTE, new EntityJson(entity, entityJson));
+        }
       }
     }
   }
 
+  /**
+   * Returns the JSON of the given entity computed by this filter while handling the current
+   * request, or {@code null} if the JSON of this entity is not known.
+   *
+   * @param entity the entity of the current response
+   */
+  public static String getEntityJson(Object entity) {
+    ApplicationContext applicationContext = ApplicationContext.getCurrent();
+    if (applicationContext == null) {
+      return null;
+    }
+    Object entityJson = applicationContext.getAttributes().get(ENTITY_JSON_ATTRIBUTE);
+    if (entityJson instanceof EntityJson && ((EntityJson) entityJson).entity == entity) {
+      return ((EntityJson) entityJson).json;
+    }
+    return null;
+  }
+
+  /**
+   * Helper method to add entity to hash. If there is an invalid entity type it will return false
+   *
+   * @param entity the entity object to analyze and extract JSON for hashing it
+   * @param hasher the hasher used to add the hashes
+   * @param jsons the list where JSON of {@link JsonSerializable} entity is added
+   */
+  private boolean addHash(Object entity, Hasher hasher, List<String> jsons) {
+    if (getElementType(entity) != JSON_SERIALIZABLE) {
+      return addHash(entity, hasher);
+    }
+    try {
+      String json = getJson(entity, JSON_SERIALIZABLE);
+      hasher.putString(json, Charset.defaultCharset());
+      jsons.add(json);
+    } catch (RuntimeException e) {
+      return false;
+    }
+    return true;
+  }
+
   /**
    * Helper method to add entity to hash. If there is an invalid entity type it will return false
    *
@@ -177,4 +238,15 @@ public class ETagResponseFilter implements ResponseFilter {
 
     return UNKNOWN;
   }
+
+  /** JSON of the response entity computed by the filter. */
+  private static class EntityJson {
+    final Object entity;
+    final String json;
+
+    EntityJson(Object entity, String json) {
+      this.entity = entity;
+      this.json = json;
+    }
+  }
 }
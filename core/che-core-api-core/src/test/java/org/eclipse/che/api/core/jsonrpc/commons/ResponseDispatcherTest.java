@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.jsonrpc.commons;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests for {@link ResponseDispatcher} */
+@Listeners(MockitoTestNGListener.class)
+public class ResponseDispatcherTest {
+
+  static final String ENDPOINT_ID = "endpoint-id";
+
+  @Mock JsonRpcComposer composer;
+
+  private List<Runnable> timeoutActions;
+  private ResponseDispatcher responseDispatcher;
+
+  @BeforeMethod
+  public void setUp() {
+    timeoutActions = new ArrayList<>();
+    responseDispatcher =
+        new ResponseDispatcher(composer, (timeout, action) -> timeoutActions.add(action));
+  }
+
+  @Test
+  public void shouldResolvePromiseOnResult() {
+    AtomicInteger resolved = new AtomicInteger();
+    responseDispatcher
+        .registerPromiseForSingleObject(ENDPOINT_ID, "1", String.class, 0)
+        .onSuccess(resolved::incrementAndGet);
+
+    responseDispatcher.dispatch(ENDPOINT_ID, new JsonRpcResponse("1", result(), null));
+
+    assertEquals(resolved.get(), 1);
+    assertEquals(responseDispatcher.getPendingPromisesCount(), 0);
+  }
+
+  @Test
+  public void shouldRejectPromiseOnError() {
+    AtomicInteger rejected = new AtomicInteger();
+    responseDispatcher
+        .registerPromiseForListOfObjects(ENDPOINT_ID, "1", String.class, 0)
+        .onFailure(error -> rejected.incrementAndGet());
+
+    responseDispatcher.dispatch(
+        ENDPOINT_ID, new JsonRpcResponse("1", null, new JsonRpcError(-1, "error")));
+
+    assertEquals(rejected.get(), 1);
+    assertEquals(responseDispatcher.getPendingPromisesCount(), 0);
+  }
+
+  @Test
+  public void shouldNotResolvePromiseOfAnotherEndpoint() {
+    AtomicInteger resolved = new AtomicInteger();
+    responseDispatcher
+        .registerPromiseForSingleObject(ENDPOINT_ID, "1", String.class, 0)
+        .onSuccess(resolved::incrementAndGet);
+
+    responseDispatcher.dispatch("another-endpoint-id", new JsonRpcResponse("1", result(), null));
+
+    assertEquals(resolved.get(), 0);
+    assertEquals(responseDispatcher.getPendingPromisesCount(), 1);
+  }
+
+  @Test
+  public void shouldIgnoreErrorResponseWithoutPromise() {
+    responseDispatcher.dispatch(
+        ENDPOINT_ID, new JsonRpcResponse("1", null, new JsonRpcError(-1, "error")));
+  }
+
+  @Test
+  public void shouldRunTimeoutActionOfPendingPromise() {
+    AtomicInteger timedOut = new AtomicInteger();
+    responseDispatcher
+        .registerPromiseForSingleObject(ENDPOINT_ID, "1", String.class, 1000)
+        .onTimeout(timedOut::incrementAndGet);
+
+    timeoutActions.forEach(Runnable::run);
+
+    assertEquals(timedOut.get(), 1);
+    assertEquals(responseDispatcher.getPendingPromisesCount(), 0);
+    assertEquals(responseDispatcher.getTimedOutPromisesCount(), 1);
+  }
+
+  @Test
+  public void shouldNotRunTimeoutActionOfResolvedPromise() {
+    AtomicInteger timedOut = new AtomicInteger();
+    responseDispatcher
+        .registerPromiseForSingleObject(ENDPOINT_ID, "1", String.class, 1000)
+        .onTimeout(timedOut::incrementAndGet);
+    responseDispatcher.dispatch(ENDPOINT_ID, new JsonRpcResponse("1", result(), null));
+
+    timeoutActions.forEach(Runnable::run);
+
+    assertEquals(timedOut.get(), 0);
+    assertEquals(responseDispatcher.getTimedOutPromisesCount(), 0);
+  }
+
+  @Test
+  public void shouldNotRemovePromiseOfReusedRequestIdOnTimeoutOfPreviousOne() {
+    AtomicInteger resolved = new AtomicInteger();
+    responseDispatcher.registerPromiseForSingleObject(ENDPOINT_ID, "1", String.class, 1000);
+    responseDispatcher.dispatch(ENDPOINT_ID, new JsonRpcResponse("1", result(), null));
+    responseDispatcher
+        .registerPromiseForSingleObject(ENDPOINT_ID, "1", String.class, 0)
+        .onSuccess(resolved::incrementAndGet);
+
+    timeoutActions.forEach(Runnable::run);
+    responseDispatcher.dispatch(ENDPOINT_ID, new JsonRpcResponse("1", result(), null));
+
+    assertEquals(resolved.get(), 1);
+  }
+
+  @Test
+  public void shouldResolveOutstandingPromisesRegisteredConcurrently() throws Exception {
+    int threads = 8;
+    int promisesPerThread = 12_500;
+    AtomicInteger resolved = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        String endpointId = ENDPOINT_ID + t;
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < promisesPerThread; i++) {
+                    responseDispatcher
+                        .registerPromiseForSingleObject(endpointId, "" + i, String.class, 0)
+                        .onSuccess(resolved::incrementAndGet);
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      assertEquals(responseDispatcher.getPendingPromisesCount(), threads * promisesPerThread);
+
+      futures.clear();
+      for (int t = 0; t < threads; t++) {
+        String endpointId = ENDPOINT_ID + t;
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < promisesPerThread; i++) {
+                    responseDispatcher.dispatch(
+                        endpointId, new JsonRpcResponse("" + i, result(), null));
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(resolved.get(), threads * promisesPerThread);
+    assertEquals(responseDispatcher.getPendingPromisesCount(), 0);
+    assertTrue(timeoutActions.isEmpty());
+  }
+
+  private static JsonRpcResult result() {
+    return new JsonRpcResult("result");
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.jsonrpc.impl;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcException;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcRequest;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcResponse;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/** Tests for {@link GsonJsonRpcUnmarshaller} */
+public class GsonJsonRpcUnmarshallerTest {
+
+  private GsonJsonRpcUnmarshaller unmarshaller;
+  private List<JsonRpcRequest> requests;
+  private List<JsonRpcResponse> responses;
+
+  @BeforeMethod
+  public void setUp() {
+    unmarshaller = new GsonJsonRpcUnmarshaller(new JsonParser());
+    requests = new ArrayList<>();
+    responses = new ArrayList<>();
+  }
+
+  @Test
+  public void shouldUnmarshalRequest() {
+    unmarshal("{\"jsonrpc\":\"2.0\",\"params\":{\"a\":\"b\"},\"method\":\"test\",\"id\":\"1\"}");
+
+    assertEquals(requests.size(), 1);
+    assertTrue(responses.isEmpty());
+    JsonRpcRequest request = requests.get(0);
+    assertEquals(request.getId(), "1");
+    assertEquals(request.getMethod(), "test");
+    assertTrue(request.getParams().isSingle());
+    assertEquals(((JsonObject) request.getParams().getOne()).get("a").getAsString(), "b");
+  }
+
+  @Test
+  public void shouldUnmarshalNotificationWithListOfParams() {
+    unmarshal("{\"jsonrpc\":\"2.0\",\"method\":\"test\",\"params\":[1,\"a\",true,null]}");
+
+    JsonRpcRequest request = requests.get(0);
+    assertNull(request.getId());
+    assertEquals(request.getParams().getMany().get(0), 1.0);
+    assertEquals(request.getParams().getMany().get(1), "a");
+    assertEquals(request.getParams().getMany().get(2), true);
+    assertNull(request.getParams().getMany().get(3));
+  }
+
+  @Test
+  public void shouldUnmarshalResponses() {
+    unmarshal(
+        "[{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"ok\"},"
+            + "{\"jsonrpc\":\"2.0\",\"id\":\"3\",\"error\":{\"code\":-1,\"message\":\"e\"}}]");
+
+    assertTrue(requests.isEmpty());
+    assertEquals(responses.size(), 2);
+    assertEquals(responses.get(0).getId(), "2");
+    assertEquals(responses.get(0).getResult().getOne(), "ok");
+    assertEquals(responses.get(1).getId(), "3");
+    assertEquals(responses.get(1).getError().getCode(), -1);
+    assertEquals(responses.get(1).getError().getMessage(), "e");
+  }
+
+  @Test
+  public void shouldUnmarshalBatchOfRequestsAndResponses() {
+    unmarshal(
+        "[{\"jsonrpc\":\"2.0\",\"method\":\"a\"},"
+            + "{\"jsonrpc\":\"2.0\",\"id\":\"1\",\"result\":null},"
+            + "{\"jsonrpc\":\"2.0\",\"method\":\"b\"}]");
+
+    assertEquals(requests.size(), 2);
+    assertEquals(requests.get(0).getMethod(), "a");
+    assertEquals(requests.get(1).getMethod(), "b");
+    assertEquals(responses.size(), 1);
+    assertNull(responses.get(0).getResult().getOne());
+  }
+
+  @DataProvider
+  public Object[][] invalidMessages() {
+    return new Object[][] {
+      {"{\"jsonrpc\":\"2.0\",\"method\":", -32700},
+      {"[{\"jsonrpc\":\"2.0\",\"method\":\"a\"}", -32700},
+      {"{\"jsonrpc\":\"2.0\",\"method\":\"a\"} {}", -32700},
+      {"{\"jsonrpc\":\"2.0\",\"id\":\"1\"}", -32600},
+      {"[{\"jsonrpc\":\"2.0\",\"method\":\"a\"},\"b\"]", -32600},
+      {"{\"jsonrpc\":\"2.0\",\"method\":{}}", -32600}
+    };
+  }
+
+  @Test(dataProvider = "invalidMessages")
+  public void shouldNotPassAnythingWhenMessageIsInvalid(String message, int code) {
+    try {
+      unmarshal(message);
+      fail("JsonRpcException expected");
+    } catch (JsonRpcException e) {
+      assertEquals(e.getCode(), code);
+    }
+
+    assertTrue(requests.isEmpty());
+    assertTrue(responses.isEmpty());
+  }
+
+  private void unmarshal(String message) {
+    unmarshaller.unmarshal(message, requests::add, responses::add);
+  }
+}
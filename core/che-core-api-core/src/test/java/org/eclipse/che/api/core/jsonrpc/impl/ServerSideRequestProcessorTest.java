@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.jsonrpc.impl;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.Mockito.lenient;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcException;
+import org.eclipse.che.api.core.jsonrpc.commons.RequestHandlerManager;
+import org.eclipse.che.api.core.jsonrpc.commons.RequestProcessorConfigurationProvider;
+import org.eclipse.che.api.core.jsonrpc.impl.ServerSideRequestProcessor.MethodStatistics;
+import org.eclipse.che.commons.lang.Pair;
+import org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests for {@link ServerSideRequestProcessor} */
+@Listeners(MockitoTestNGListener.class)
+public class ServerSideRequestProcessorTest {
+
+  static final String ENDPOINT_ID = "endpoint-id";
+  static final String METHOD = "test/method";
+  static final String LIMITED_METHOD = "test/limited";
+  static final int QUEUE_CAPACITY = 8;
+
+  @Mock RequestHandlerManager requestHandlerManager;
+
+  private ExecutorService executor;
+  private ServerSideRequestProcessor processor;
+
+  @BeforeMethod
+  public void setUp() {
+    executor = Executors.newCachedThreadPool();
+    RequestProcessorConfigurationProvider configurationProvider =
+        endpointId ->
+            new RequestProcessorConfigurationProvider.Configuration() {
+              @Override
+              public String getEndpointId() {
+                return endpointId;
+              }
+
+              @Override
+              public ExecutorService getExecutorService() {
+                return executor;
+              }
+            };
+    lenient().when(requestHandlerManager.isRegistered(METHOD)).thenReturn(true);
+    lenient().when(requestHandlerManager.isRegistered(LIMITED_METHOD)).thenReturn(true);
+    @SuppressWarnings("unchecked")
+    Pair<String, String>[] limits = new Pair[] {Pair.of(LIMITED_METHOD, "2")};
+    processor =
+        new ServerSideRequestProcessor(
+            configurationProvider, requestHandlerManager, limits, QUEUE_CAPACITY);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void shouldNotProcessMoreRequestsOfMethodThanLimit() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch processed = new CountDownLatch(10);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    for (int i = 0; i < 10; i++) {
+      processor.process(
+          ENDPOINT_ID,
+          LIMITED_METHOD,
+          () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            await(release);
+            running.decrementAndGet();
+            processed.countDown();
+          });
+    }
+
+    MethodStatistics statistics = processor.getMethodStatistics().iterator().next();
+    assertEquals(statistics.getRunningRequests(), 2);
+    assertEquals(statistics.getWaitingRequests(), 8);
+    release.countDown();
+    assertTrue(processed.await(10, SECONDS));
+    assertEquals(maxRunning.get(), 2);
+  }
+
+  @Test
+  public void shouldRejectRequestsOfMethodWhenItsQueueIsFull() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch processed = new CountDownLatch(10);
+    for (int i = 0; i < 10; i++) {
+      processor.process(
+          ENDPOINT_ID,
+          LIMITED_METHOD,
+          () -> {
+            await(release);
+            processed.countDown();
+          });
+    }
+
+    try {
+      processor.process(ENDPOINT_ID, LIMITED_METHOD, () -> {});
+      fail("Request is expected to be rejected");
+    } catch (JsonRpcException e) {
+      assertEquals(e.getCode(), ServerSideRequestProcessor.REQUEST_REJECTED_ERROR_CODE);
+    }
+
+    MethodStatistics statistics = processor.getMethodStatistics().iterator().next();
+    assertEquals(statistics.getWaitingRequests(), QUEUE_CAPACITY);
+    assertEquals(statistics.getRejectedRequests(), 1);
+    release.countDown();
+    assertTrue(processed.await(10, SECONDS));
+  }
+
+  @Test
+  public void shouldProcessLongRunningRequestsConcurrently() throws Exception {
+    int requests = 2000;
+    CountDownLatch started = new CountDownLatch(requests);
+    CountDownLatch release = new CountDownLatch(1);
+    for (int i = 0; i < requests; i++) {
+      processor.process(
+          ENDPOINT_ID,
+          METHOD,
+          () -> {
+            started.countDown();
+            await(release);
+          });
+    }
+
+    assertTrue(started.await(30, SECONDS));
+    release.countDown();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(30, SECONDS));
+    MethodStatistics statistics = processor.getMethodStatistics().iterator().next();
+    assertEquals(statistics.getMethod(), METHOD);
+    assertEquals(statistics.getProcessedRequests(), requests);
+    assertEquals(statistics.getWaitingRequests(), 0);
+  }
+
+  @Test
+  public void shouldPropagateThreadLocalsToRequestProcessing() throws Exception {
+    ThreadLocal<String> threadLocal = new ThreadLocal<>();
+    ThreadLocalPropagateContext.addThreadLocal(threadLocal);
+    try {
+      threadLocal.set("value");
+      CountDownLatch processed = new CountDownLatch(1);
+      AtomicInteger propagated = new AtomicInteger();
+      processor.process(
+          ENDPOINT_ID,
+          METHOD,
+          () -> {
+            if ("value".equals(threadLocal.get())) {
+              propagated.incrementAndGet();
+            }
+            processed.countDown();
+          });
+
+      assertTrue(processed.await(10, SECONDS));
+      assertEquals(propagated.get(), 1);
+    } finally {
+      threadLocal.remove();
+      ThreadLocalPropagateContext.removeThreadLocal(threadLocal);
+    }
+  }
+
+  @Test
+  public void shouldNotCollectStatisticsOfUnregisteredMethods() throws Exception {
+    CountDownLatch processed = new CountDownLatch(1);
+
+    processor.process(ENDPOINT_ID, "unknown", processed::countDown);
+
+    assertTrue(processed.await(10, SECONDS));
+    assertTrue(processor.getMethodStatistics().isEmpty());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
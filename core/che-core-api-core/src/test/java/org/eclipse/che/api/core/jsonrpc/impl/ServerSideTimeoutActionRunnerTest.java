@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.jsonrpc.impl;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests for {@link ServerSideTimeoutActionRunner} */
+public class ServerSideTimeoutActionRunnerTest {
+
+  private ServerSideTimeoutActionRunner runner;
+
+  @BeforeMethod
+  public void setUp() {
+    // small wheel makes timeouts wrap around it several times
+    runner = new ServerSideTimeoutActionRunner(5, 8);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    runner.stop();
+  }
+
+  @Test
+  public void shouldNotRunActionsBeforeTimeout() throws Exception {
+    int actions = 1000;
+    CountDownLatch latch = new CountDownLatch(actions);
+    AtomicInteger early = new AtomicInteger();
+    for (int i = 0; i < actions; i++) {
+      int timeout = i % 200;
+      long deadline = System.nanoTime() + MILLISECONDS.toNanos(timeout);
+      runner.schedule(
+          timeout,
+          () -> {
+            if (System.nanoTime() < deadline) {
+              early.incrementAndGet();
+            }
+            latch.countDown();
+          });
+    }
+
+    assertTrue(latch.await(10, SECONDS));
+    assertEquals(early.get(), 0);
+  }
+
+  @Test
+  public void shouldRunActionsAfterFailedOne() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    runner.schedule(
+        10,
+        () -> {
+          throw new IllegalStateException("test exception");
+        });
+    runner.schedule(20, latch::countDown);
+
+    assertTrue(latch.await(10, SECONDS));
+  }
+}
@@ -11,9 +11,16 @@
  */
 package org.eclipse.che.api.core.notification;
 
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -160,6 +167,209 @@ public class EventServiceTest {
     Assert.assertEquals(events.size(), 0);
   }
 
+  @Test
+  public void shouldDeliverEventsToSubscriberAddedAfterPublishing() {
+    final List<String> events = new ArrayList<>();
+    bus.subscribe(event -> events.add("ext:" + event), ExtEvent.class);
+    bus.publish(new ExtEvent());
+    bus.publish(new Event());
+
+    bus.subscribe(event -> events.add("base:" + event), Event.class);
+    events.clear();
+    bus.publish(new ExtEvent());
+    bus.publish(new Event());
+
+    Assert.assertEquals(events.size(), 3);
+    Assert.assertTrue(events.contains("ext:ext_event"));
+    Assert.assertTrue(events.contains("base:ext_event"));
+    Assert.assertTrue(events.contains("base:event"));
+  }
+
+  @Test
+  public void shouldKeepSubscribersOfUnrelatedEventsOnSubscriptionChange() {
+    final List<Object> events = new ArrayList<>();
+    bus.subscribe(events::add, String.class);
+    bus.publish("hello");
+
+    EventSubscriber<Event> subscriber = events::add;
+    bus.subscribe(subscriber, Event.class);
+    bus.unsubscribe(subscriber, Event.class);
+    bus.publish("world");
+
+    Assert.assertEquals(events.size(), 2);
+  }
+
+  @Test
+  public void shouldDeliverEventOnceToSubscriberOfInterface() {
+    final List<Object> events = new ArrayList<>();
+    bus.subscribe(events::add, CharSequence.class);
+
+    bus.publish("hello");
+
+    Assert.assertEquals(events.size(), 1);
+  }
+
+  @Test
+  public void shouldDeliverEventsOfTheSameKeyToAsyncSubscriberInOrder() throws Exception {
+    final Map<String, List<Integer>> events = new ConcurrentHashMap<>();
+    final CountDownLatch delivered = new CountDownLatch(1000);
+    bus.subscribeAsync(
+        (String event) -> {
+          String[] parts = event.split(":");
+          events
+              .computeIfAbsent(parts[0], k -> new CopyOnWriteArrayList<>())
+              .add(Integer.parseInt(parts[1]));
+          delivered.countDown();
+        },
+        String.class,
+        event -> event.split(":")[0]);
+
+    for (int i = 0; i < 100; i++) {
+      for (int key = 0; key < 10; key++) {
+        bus.publish(key + ":" + i);
+      }
+    }
+
+    Assert.assertTrue(delivered.await(10, SECONDS));
+    Assert.assertEquals(events.size(), 10);
+    for (List<Integer> keyEvents : events.values()) {
+      for (int i = 0; i < keyEvents.size(); i++) {
+        Assert.assertEquals(keyEvents.get(i).intValue(), i);
+      }
+    }
+    AsyncEventSubscriber<?> asyncSubscriber = bus.getAsyncSubscribers().get(0);
+    Assert.assertEquals(asyncSubscriber.getDeliveredEvents(), 1000);
+    Assert.assertEquals(asyncSubscriber.getPendingEvents(), 0);
+  }
+
+  @Test
+  public void shouldNotBlockPublisherBySlowAsyncSubscriber() throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    final List<String> events = new CopyOnWriteArrayList<>();
+    EventSubscriber<String> subscriber =
+        event -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          events.add(event);
+        };
+    bus.subscribeAsync(subscriber, String.class, event -> event);
+
+    bus.publish("hello");
+
+    Assert.assertTrue(events.isEmpty());
+    release.countDown();
+    bus.unsubscribe(subscriber, String.class);
+  }
+
+  @Test
+  public void shouldDropEventsWhichDoNotFitIntoLaneOfAsyncSubscriber() throws Exception {
+    bus = new EventService(1, 1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch delivered = new CountDownLatch(2);
+    final List<String> events = new CopyOnWriteArrayList<>();
+    AsyncEventSubscriber<String> asyncSubscriber =
+        bus.subscribeAsync(
+            (String event) -> {
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              events.add(event);
+              delivered.countDown();
+            },
+            String.class,
+            event -> event);
+
+    // the first event is being delivered, the second one waits in the lane
+    bus.publish("event1");
+    bus.publish("event2");
+    bus.publish("event3");
+
+    Assert.assertEquals(asyncSubscriber.getDroppedEvents(), 1);
+    release.countDown();
+    Assert.assertTrue(delivered.await(10, SECONDS));
+    Assert.assertEquals(events, asList("event1", "event2"));
+  }
+
+  @Test
+  public void shouldAwaitDeliveryOfPublishedEventsToAsyncSubscriber() throws Exception {
+    final List<String> events = new CopyOnWriteArrayList<>();
+    AsyncEventSubscriber<String> asyncSubscriber =
+        bus.subscribeAsync(
+            (String event) -> {
+              try {
+                Thread.sleep(1);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              events.add(event);
+            },
+            String.class,
+            event -> event);
+
+    for (int i = 0; i < 100; i++) {
+      bus.publish("event" + i);
+    }
+
+    Assert.assertTrue(asyncSubscriber.awaitDelivery(10, SECONDS));
+    Assert.assertEquals(events.size(), 100);
+  }
+
+  @Test
+  public void shouldCallTaskAfterPublishedEventsOfTheSameKey() throws Exception {
+    final List<String> events = new CopyOnWriteArrayList<>();
+    AsyncEventSubscriber<String> asyncSubscriber =
+        bus.subscribeAsync(
+            (String event) -> {
+              try {
+                Thread.sleep(10);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              events.add(event);
+            },
+            String.class,
+            event -> event.split(":")[0]);
+
+    bus.publish("key:1");
+    bus.publish("key:2");
+    List<String> seen =
+        asyncSubscriber.callInOrder("key", () -> new ArrayList<>(events), 10, SECONDS);
+
+    Assert.assertEquals(seen, asList("key:1", "key:2"));
+  }
+
+  @Test
+  public void shouldDeliverPublishTimeToTimestampedAsyncSubscriber() throws Exception {
+    final List<Long> times = new CopyOnWriteArrayList<>();
+    AsyncEventSubscriber<String> asyncSubscriber =
+        bus.subscribeAsync(
+            (TimestampedEventSubscriber<String>) (event, publishTime) -> times.add(publishTime),
+            String.class,
+            event -> event);
+    long before = System.currentTimeMillis();
+
+    bus.publish("hello");
+
+    Assert.assertTrue(asyncSubscriber.awaitDelivery(10, SECONDS));
+    Assert.assertEquals(times.size(), 1);
+    Assert.assertTrue(times.get(0) >= before);
+  }
+
+  @Test
+  public void shouldUnsubscribeAsyncSubscriber() {
+    EventSubscriber<String> subscriber = event -> {};
+    bus.subscribeAsync(subscriber, String.class, event -> event);
+
+    bus.unsubscribe(subscriber, String.class);
+
+    Assert.assertTrue(bus.getAsyncSubscribers().isEmpty());
+  }
+
   @Test(expectedExceptions = IllegalArgumentException.class)
   public void shouldNotDetermineTheTypeOfEventOnSubscribe() {
     bus.subscribe(new CustomEventSubscriber<>());
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.notification;
+
+import static java.util.Collections.singletonMap;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcMarshaller;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcRequest;
+import org.eclipse.che.api.core.websocket.commons.WebSocketMessageTransmitter;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests for {@link RemoteSubscriptionManager} and {@link InmemoryRemoteSubscriptionStorage}. */
+@Listeners(MockitoTestNGListener.class)
+public class RemoteSubscriptionManagerTest {
+  private static final String METHOD = "event/changed";
+  private static final String MESSAGE = "{\"jsonrpc\":\"2.0\"}";
+
+  @Mock private JsonRpcMarshaller marshaller;
+  @Mock private WebSocketMessageTransmitter transmitter;
+
+  private EventService eventService;
+  private InmemoryRemoteSubscriptionStorage storage;
+  private RemoteSubscriptionManager manager;
+
+  @BeforeMethod
+  public void setUp() {
+    eventService = new EventService();
+    storage = new InmemoryRemoteSubscriptionStorage();
+    manager = new RemoteSubscriptionManager(eventService, marshaller, transmitter, storage);
+  }
+
+  @Test
+  public void shouldTransmitEventOnlyToSubscribersWithMatchingScope() {
+    when(marshaller.marshall(any(JsonRpcRequest.class))).thenReturn(MESSAGE);
+    subscribe("endpoint-1", "ws-1");
+    subscribe("endpoint-2", "ws-1");
+    subscribe("endpoint-3", "ws-2");
+    manager.register(METHOD, String.class, "workspaceId", event -> event);
+
+    eventService.publish("ws-1");
+
+    verify(transmitter).transmit("endpoint-1", MESSAGE);
+    verify(transmitter).transmit("endpoint-2", MESSAGE);
+    verify(transmitter, never()).transmit("endpoint-3", MESSAGE);
+    verify(marshaller, times(1)).marshall(any(JsonRpcRequest.class));
+  }
+
+  @Test
+  public void shouldNotSerializeEventIfThereAreNoMatchingSubscribers() {
+    subscribe("endpoint-1", "ws-1");
+    manager.register(METHOD, String.class, "workspaceId", event -> event);
+
+    eventService.publish("ws-2");
+
+    verify(marshaller, never()).marshall(any(JsonRpcRequest.class));
+    verify(transmitter, never()).transmit(anyString(), anyString());
+  }
+
+  @Test
+  public void shouldApplyPredicateToMatchingSubscribers() {
+    subscribe("endpoint-1", "ws-1");
+    manager.register(METHOD, String.class, "workspaceId", event -> event, (event, scope) -> false);
+
+    eventService.publish("ws-1");
+
+    verify(transmitter, never()).transmit(anyString(), anyString());
+  }
+
+  @Test
+  public void shouldTransmitEventToSubscribersSatisfyingPredicate() {
+    when(marshaller.marshall(any(JsonRpcRequest.class))).thenReturn(MESSAGE);
+    subscribe("endpoint-1", "ws-1");
+    subscribe("endpoint-2", "ws-2");
+    manager.register(
+        METHOD, String.class, (event, scope) -> event.equals(scope.get("workspaceId")));
+
+    eventService.publish("ws-2");
+
+    verify(transmitter).transmit("endpoint-2", MESSAGE);
+    verify(transmitter, never()).transmit("endpoint-1", MESSAGE);
+  }
+
+  @Test
+  public void shouldRemoveSubscriptionFromScopeIndex() {
+    subscribe("endpoint-1", "ws-1");
+    subscribe("endpoint-2", "ws-1");
+
+    storage.removeSubscription(METHOD, "endpoint-1");
+
+    assertEquals(storage.getByMethod(METHOD).size(), 1);
+    assertEquals(storage.getByMethodAndScope(METHOD, "workspaceId", "ws-1").size(), 1);
+
+    storage.removeSubscription(METHOD, "endpoint-2");
+
+    assertTrue(storage.getByMethodAndScope(METHOD, "workspaceId", "ws-1").isEmpty());
+  }
+
+  private void subscribe(String endpointId, String workspaceId) {
+    storage.addSubscription(
+        METHOD,
+        new RemoteSubscriptionContext(endpointId, singletonMap("workspaceId", workspaceId)));
+  }
+}
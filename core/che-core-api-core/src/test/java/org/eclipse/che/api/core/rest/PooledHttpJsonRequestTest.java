@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.rest;
+
+import static java.util.Collections.singletonList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import okhttp3.EventListener;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+import org.eclipse.che.api.core.util.LinksHelper;
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.everrest.assured.EverrestJetty;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests of {@link PooledHttpJsonRequest} against embedded server. */
+@Listeners(EverrestJetty.class)
+public class PooledHttpJsonRequestTest {
+
+  @SuppressWarnings("unused") // used by EverrestJetty
+  private static final DefaultHttpJsonRequestTest.EnvironmentFilter FILTER =
+      new DefaultHttpJsonRequestTest.EnvironmentFilter();
+
+  @SuppressWarnings("unused") // used by EverrestJetty
+  private static final ApiExceptionMapper EXCEPTION_MAPPER = new ApiExceptionMapper();
+
+  @SuppressWarnings("unused") // used by EverrestJetty
+  private static final TestService TEST_SERVICE = new TestService();
+
+  private PooledHttpJsonRequestFactory requestFactory;
+
+  @BeforeMethod
+  public void setUp() {
+    requestFactory = new PooledHttpJsonRequestFactory(10, 1, 5, 60, EventListener.NONE);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    requestFactory.shutdown();
+    EnvironmentContext.reset();
+  }
+
+  @Test
+  public void shouldReadJsonObjectBodyAsString(ITestContext ctx) throws Exception {
+    final HttpJsonResponse response =
+        requestFactory.fromUrl(getUrl(ctx) + "/application-json").useGetMethod().request();
+
+    assertEquals(response.getResponseCode(), 200);
+    assertEquals(response.asString(), TestService.JSON_OBJECT);
+  }
+
+  @Test
+  public void shouldSendJsonObjectBody(ITestContext ctx) throws Exception {
+    final Link link = LinksHelper.createLink("GET", "localhost:8080/application-json", "rel");
+
+    final List<Link> links =
+        requestFactory
+            .fromUrl(getUrl(ctx) + "/application-json")
+            .usePostMethod()
+            .setBody(singletonList(link))
+            .request()
+            .asList(Link.class);
+
+    assertEquals(links, singletonList(link));
+  }
+
+  @Test
+  public void shouldSendQueryParameters(ITestContext ctx) throws Exception {
+    final Map<String, String> map =
+        requestFactory
+            .fromUrl(getUrl(ctx) + "/query-parameters")
+            .usePutMethod()
+            .addQueryParam("param1", "value1")
+            .addQueryParam("param2", "value2")
+            .request()
+            .asProperties();
+
+    assertEquals(map, ImmutableMap.of("param1", "value1", "param2", "value2"));
+  }
+
+  @Test
+  public void shouldHandleNoContentResponse(ITestContext ctx) throws Exception {
+    final HttpJsonResponse response =
+        requestFactory.fromUrl(getUrl(ctx) + "/no-content").useDeleteMethod().request();
+
+    assertEquals(response.getResponseCode(), 204);
+  }
+
+  @Test(expectedExceptions = NotFoundException.class)
+  public void shouldThrowNotFoundExceptionWhenResponseCodeIs404(ITestContext ctx) throws Exception {
+    requestFactory.fromUrl(getUrl(ctx) + "/404/response-code-test").useGetMethod().request();
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  public void shouldThrowIOExceptionIfServerReturnsTypeDifferentFromApplicationJson(
+      ITestContext ctx) throws Exception {
+    requestFactory.fromUrl(getUrl(ctx) + "/text-plain").useGetMethod().request();
+  }
+
+  @Test
+  public void shouldReuseConnectionForSubsequentRequests(ITestContext ctx) throws Exception {
+    requestFactory.fromUrl(getUrl(ctx) + "/application-json").useGetMethod().request();
+    requestFactory.fromUrl(getUrl(ctx) + "/application-json").useGetMethod().request();
+
+    assertEquals(requestFactory.getConnectionCount(), 1);
+    assertEquals(requestFactory.getIdleConnectionCount(), 1);
+  }
+
+  @Test
+  public void shouldMakeRequestAsynchronously(ITestContext ctx) throws Exception {
+    final HttpJsonResponse response =
+        requestFactory
+            .fromUrl(getUrl(ctx) + "/application-json")
+            .useGetMethod()
+            .requestAsync()
+            .get(10, TimeUnit.SECONDS);
+
+    assertEquals(response.asString(), TestService.JSON_OBJECT);
+  }
+
+  @Test
+  public void shouldCompleteAsyncRequestExceptionallyWhenResponseCodeIs404(ITestContext ctx)
+      throws Exception {
+    final CompletableFuture<HttpJsonResponse> future =
+        requestFactory
+            .fromUrl(getUrl(ctx) + "/404/response-code-test")
+            .useGetMethod()
+            .requestAsync();
+
+    try {
+      future.get(10, TimeUnit.SECONDS);
+      fail("Request must fail with not found error");
+    } catch (ExecutionException x) {
+      assertTrue(x.getCause() instanceof NotFoundException);
+    }
+  }
+
+  @Test
+  public void shouldQueueAsyncRequestsOverPerHostLimit(ITestContext ctx) throws Exception {
+    final List<CompletableFuture<HttpJsonResponse>> futures = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      futures.add(requestFactory.fromUrl(getUrl(ctx) + "/delay/300").useGetMethod().requestAsync());
+    }
+
+    assertEquals(requestFactory.getRunningRequestCount(), 1);
+    assertEquals(requestFactory.getQueuedRequestCount(), 2);
+
+    for (CompletableFuture<HttpJsonResponse> future : futures) {
+      assertEquals(future.get(10, TimeUnit.SECONDS).asString(), TestService.JSON_OBJECT);
+    }
+    assertEquals(requestFactory.getQueuedRequestCount(), 0);
+  }
+
+  @Test
+  public void shouldBlockSyncRequestsOverPerHostLimit(ITestContext ctx) throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      final List<Future<HttpJsonResponse>> futures = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        futures.add(
+            executor.submit(
+                () -> requestFactory.fromUrl(getUrl(ctx) + "/delay/300").useGetMethod().request()));
+      }
+
+      final long deadline = System.currentTimeMillis() + 5_000;
+      while ((requestFactory.getRunningRequestCount() < 1
+              || requestFactory.getQueuedRequestCount() < 2)
+          && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      assertEquals(requestFactory.getRunningRequestCount(), 1);
+      assertEquals(requestFactory.getQueuedRequestCount(), 2);
+
+      for (Future<HttpJsonResponse> future : futures) {
+        assertEquals(future.get(10, TimeUnit.SECONDS).asString(), TestService.JSON_OBJECT);
+      }
+      assertEquals(requestFactory.getQueuedRequestCount(), 0);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private String getUrl(ITestContext ctx) {
+    return "http://localhost:" + ctx.getAttribute(EverrestJetty.JETTY_PORT) + "/rest/test";
+  }
+}
@@ -43,7 +43,8 @@ import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.dto.server.JsonArrayImpl;
 
 /**
- * Test service class, used in {@link DefaultHttpJsonRequestTest}.
+ * Test service class, used in {@link DefaultHttpJsonRequestTest} and {@link
+ * PooledHttpJsonRequestTest}.
  *
  * @author Yevhenii Voevodin
  */
@@ -133,6 +134,15 @@ public class TestService extends Service {
         .build();
   }
 
+  @GET
+  @Path("/delay/{millis}")
+  @Produces(APPLICATION_JSON)
+  public String getJsonObjectWithDelay(@PathParam("millis") long millis)
+      throws InterruptedException {
+    Thread.sleep(millis);
+    return JSON_OBJECT;
+  }
+
   @DELETE
   @Path("no-content")
   public Response noContent() {
@@ -12,18 +12,28 @@
 package org.eclipse.che.api.core.websocket.impl;
 
 import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import javax.websocket.CloseReason;
 import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
 import javax.websocket.Session;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -39,40 +49,185 @@ import org.testng.annotations.Test;
 public class BasicWebSocketMessageTransmitterTest {
   private static final String MESSAGE = "message";
   private static final String ENDPOINT_ID = "id";
+  private static final int QUEUE_CAPACITY = 2;
+  private static final String NOTIFICATION =
+      "{\"jsonrpc\":\"2.0\",\"method\":\"event\",\"params\":{\"id\":\"ws1\"}}";
+  private static final String RESPONSE_1 = "{\"jsonrpc\":\"2.0\",\"id\":\"1\",\"result\":true}";
+  private static final String RESPONSE_2 = "{\"jsonrpc\":\"2.0\",\"id\":\"2\",\"result\":true}";
+  private static final String RESPONSE_3 = "{\"jsonrpc\":\"2.0\",\"id\":\"3\",\"result\":true}";
 
   @Mock private WebSocketSessionRegistry registry;
   @Mock private MessagesReSender reSender;
-  @InjectMocks private BasicWebSocketMessageTransmitter transmitter;
 
   @Mock private Session session;
-  @Mock private RemoteEndpoint.Basic remote;
+  @Mock private RemoteEndpoint.Async remote;
+
+  private BasicWebSocketMessageTransmitter transmitter;
 
   @BeforeMethod
   public void setUp() throws Exception {
-    lenient().when(session.getBasicRemote()).thenReturn(remote);
+    lenient().when(session.getAsyncRemote()).thenReturn(remote);
     when(session.isOpen()).thenReturn(true);
 
-    when(registry.get(ENDPOINT_ID)).thenReturn(Optional.of(session));
+    lenient().when(registry.get(ENDPOINT_ID)).thenReturn(Optional.of(session));
     lenient().when(registry.getSessions()).thenReturn(emptySet());
+
+    transmitter =
+        new BasicWebSocketMessageTransmitter(
+            registry, reSender, new SessionMessageQueues(QUEUE_CAPACITY));
   }
 
   @Test
-  public void shouldSendDirectMessageIfSessionIsOpenAndEndpointIsSet() throws IOException {
+  public void shouldSendDirectMessageIfSessionIsOpenAndEndpointIsSet() {
     transmitter.transmit(ENDPOINT_ID, MESSAGE);
 
-    verify(session).getBasicRemote();
-    verify(remote).sendText(MESSAGE);
+    verify(session).getAsyncRemote();
+    verify(remote).sendText(eq(MESSAGE), any(SendHandler.class));
     verify(reSender, never()).add(eq(ENDPOINT_ID), anyString());
   }
 
   @Test
-  public void shouldAddMessageToPendingIfSessionIsNotOpenedAndEndpointIsSet() throws IOException {
+  public void shouldSendMessageToSessionOfClientIfEndpointIsClientId() {
+    when(registry.get("client")).thenReturn(Optional.empty());
+    when(registry.getByPrefix("client" + WebsocketIdService.SEPARATOR))
+        .thenReturn(singleton(session));
+
+    transmitter.transmit("client", MESSAGE);
+
+    verify(remote).sendText(eq(MESSAGE), any(SendHandler.class));
+    verify(registry, never()).getByPartialMatch(anyString());
+    verify(reSender, never()).add(anyString(), anyString());
+  }
+
+  @Test
+  public void shouldAddMessageToPendingIfSessionIsNotOpenedAndEndpointIsSet() {
     when(session.isOpen()).thenReturn(false);
 
     transmitter.transmit(ENDPOINT_ID, MESSAGE);
 
-    verify(session, never()).getBasicRemote();
-    verify(remote, never()).sendText(MESSAGE);
+    verify(session, never()).getAsyncRemote();
+    verify(remote, never()).sendText(anyString(), any(SendHandler.class));
     verify(reSender).add(ENDPOINT_ID, MESSAGE);
   }
+
+  @Test
+  public void shouldSendNextMessageOnlyWhenPreviousIsCompleted() {
+    ArgumentCaptor<SendHandler> handlerCaptor = ArgumentCaptor.forClass(SendHandler.class);
+
+    transmitter.transmit(ENDPOINT_ID, "first");
+    transmitter.transmit(ENDPOINT_ID, "second");
+
+    verify(remote).sendText(eq("first"), handlerCaptor.capture());
+    verify(remote, never()).sendText(eq("second"), any(SendHandler.class));
+    assertEquals(transmitter.getQueuedMessagesCount(), 1);
+
+    handlerCaptor.getValue().onResult(new SendResult());
+
+    verify(remote).sendText(eq("second"), any(SendHandler.class));
+    assertEquals(transmitter.getQueuedMessagesCount(), 0);
+    assertEquals(transmitter.getSentMessagesCount(), 1);
+  }
+
+  @Test
+  public void shouldDropOldestMessageWhenSessionQueueIsFull() {
+    ArgumentCaptor<SendHandler> handlerCaptor = ArgumentCaptor.forClass(SendHandler.class);
+
+    transmitter.transmit(ENDPOINT_ID, "in-flight");
+    transmitter.transmit(ENDPOINT_ID, "dropped");
+    transmitter.transmit(ENDPOINT_ID, "second");
+    transmitter.transmit(ENDPOINT_ID, "third");
+
+    verify(remote).sendText(eq("in-flight"), handlerCaptor.capture());
+    assertEquals(transmitter.getQueuedMessagesCount(), QUEUE_CAPACITY);
+    assertEquals(transmitter.getDroppedMessagesCount(), 1);
+
+    handlerCaptor.getValue().onResult(new SendResult());
+
+    verify(remote, never()).sendText(eq("dropped"), any(SendHandler.class));
+    verify(remote).sendText(eq("second"), any(SendHandler.class));
+  }
+
+  @Test
+  public void shouldDropNotificationRatherThanResponseWhenSessionQueueIsFull() {
+    ArgumentCaptor<SendHandler> handlerCaptor = ArgumentCaptor.forClass(SendHandler.class);
+
+    transmitter.transmit(ENDPOINT_ID, "in-flight");
+    transmitter.transmit(ENDPOINT_ID, RESPONSE_1);
+    transmitter.transmit(ENDPOINT_ID, NOTIFICATION);
+    transmitter.transmit(ENDPOINT_ID, RESPONSE_2);
+
+    verify(remote).sendText(eq("in-flight"), handlerCaptor.capture());
+    assertEquals(transmitter.getDroppedMessagesCount(), 1);
+
+    handlerCaptor.getValue().onResult(new SendResult());
+    verify(remote).sendText(eq(RESPONSE_1), handlerCaptor.capture());
+    handlerCaptor.getValue().onResult(new SendResult());
+
+    verify(remote).sendText(eq(RESPONSE_2), any(SendHandler.class));
+    verify(remote, never()).sendText(eq(NOTIFICATION), any(SendHandler.class));
+  }
+
+  @Test
+  public void shouldDropOfferedNotificationWhenSessionQueueIsFullOfResponses() throws Exception {
+    transmitter.transmit(ENDPOINT_ID, "in-flight");
+    transmitter.transmit(ENDPOINT_ID, RESPONSE_1);
+    transmitter.transmit(ENDPOINT_ID, RESPONSE_2);
+
+    transmitter.transmit(ENDPOINT_ID, NOTIFICATION);
+
+    assertEquals(transmitter.getQueuedMessagesCount(), QUEUE_CAPACITY);
+    assertEquals(transmitter.getDroppedMessagesCount(), 1);
+    verify(session, never()).close(any(CloseReason.class));
+  }
+
+  @Test
+  public void shouldCloseSessionWhenResponseOverflowsSessionQueue() throws Exception {
+    transmitter.transmit(ENDPOINT_ID, "in-flight");
+    transmitter.transmit(ENDPOINT_ID, RESPONSE_1);
+    transmitter.transmit(ENDPOINT_ID, RESPONSE_2);
+
+    transmitter.transmit(ENDPOINT_ID, RESPONSE_3);
+
+    ArgumentCaptor<CloseReason> reasonCaptor = ArgumentCaptor.forClass(CloseReason.class);
+    verify(session).close(reasonCaptor.capture());
+    assertEquals(reasonCaptor.getValue().getCloseCode(), CloseReason.CloseCodes.TRY_AGAIN_LATER);
+    assertEquals(transmitter.getQueuedMessagesCount(), 0);
+    assertEquals(transmitter.getDroppedMessagesCount(), 3);
+  }
+
+  @Test
+  public void shouldNotBlockFanOutWhenOneSessionIsSlow() {
+    // the session registered in setUp never completes its sends
+    transmitter.transmit(ENDPOINT_ID, MESSAGE);
+
+    List<RemoteEndpoint.Async> remotes = new ArrayList<>();
+    for (int i = 0; i < 5_000; i++) {
+      Session fastSession = mock(Session.class);
+      RemoteEndpoint.Async fastRemote = mock(RemoteEndpoint.Async.class);
+      when(fastSession.isOpen()).thenReturn(true);
+      when(fastSession.getAsyncRemote()).thenReturn(fastRemote);
+      doAnswer(
+              inv -> {
+                ((SendHandler) inv.getArgument(1)).onResult(new SendResult());
+                return null;
+              })
+          .when(fastRemote)
+          .sendText(anyString(), any(SendHandler.class));
+      when(registry.get("endpoint-" + i)).thenReturn(Optional.of(fastSession));
+      remotes.add(fastRemote);
+    }
+
+    for (int n = 0; n < 10; n++) {
+      transmitter.transmit(ENDPOINT_ID, MESSAGE);
+      for (int i = 0; i < remotes.size(); i++) {
+        transmitter.transmit("endpoint-" + i, MESSAGE);
+      }
+    }
+
+    for (RemoteEndpoint.Async fastRemote : remotes) {
+      verify(fastRemote, times(10)).sendText(eq(MESSAGE), any(SendHandler.class));
+    }
+    verify(remote, times(1)).sendText(eq(MESSAGE), any(SendHandler.class));
+    assertEquals(transmitter.getDroppedMessagesCount(), 10 - QUEUE_CAPACITY);
+  }
 }
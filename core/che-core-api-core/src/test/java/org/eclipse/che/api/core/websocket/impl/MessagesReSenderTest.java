@@ -11,16 +11,26 @@
  */
 package org.eclipse.che.api.core.websocket.impl;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
 
 import java.util.Optional;
 import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
 import javax.websocket.Session;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -37,8 +47,13 @@ public class MessagesReSenderTest {
   private static final String MESSAGE = "message";
   private static final String ENDPOINT_ID = "id";
 
+  private static final long MAX_BUFFERED_BYTES = 1024;
+  private static final long MESSAGE_TTL_SECONDS = 3600;
+  private static final int QUEUE_CAPACITY = 10;
+
   @Mock private WebSocketSessionRegistry sessionRegistry;
-  @InjectMocks private MessagesReSender reSender;
+  private SessionMessageQueues queues;
+  private MessagesReSender reSender;
 
   @Mock private Session session;
   @Mock private RemoteEndpoint.Async endpoint;
@@ -48,11 +63,21 @@ public class MessagesReSenderTest {
     when(sessionRegistry.get(anyString())).thenReturn(Optional.of(session));
     when(session.getAsyncRemote()).thenReturn(endpoint);
     when(session.isOpen()).thenReturn(true);
+    lenient()
+        .doAnswer(
+            inv -> {
+              ((SendHandler) inv.getArgument(1)).onResult(new SendResult());
+              return null;
+            })
+        .when(endpoint)
+        .sendText(anyString(), any(SendHandler.class));
   }
 
   @BeforeMethod
   public void before() {
-    reSender = new MessagesReSender(sessionRegistry);
+    queues = new SessionMessageQueues(QUEUE_CAPACITY);
+    reSender =
+        new MessagesReSender(sessionRegistry, queues, MAX_BUFFERED_BYTES, MESSAGE_TTL_SECONDS);
   }
 
   @Test
@@ -65,7 +90,7 @@ public class MessagesReSenderTest {
 
     verify(sessionRegistry).get(ENDPOINT_ID);
     verify(session, never()).getAsyncRemote();
-    verify(endpoint, never()).sendText(MESSAGE);
+    verify(endpoint, never()).sendText(eq(MESSAGE), any(SendHandler.class));
   }
 
   @Test
@@ -76,13 +101,13 @@ public class MessagesReSenderTest {
     reSender.resend(ENDPOINT_ID);
 
     verify(session, never()).getAsyncRemote();
-    verify(endpoint, never()).sendText(MESSAGE);
+    verify(endpoint, never()).sendText(eq(MESSAGE), any(SendHandler.class));
 
     when(session.isOpen()).thenReturn(true);
     reSender.resend(ENDPOINT_ID);
 
     verify(session).getAsyncRemote();
-    verify(endpoint).sendText(MESSAGE);
+    verify(endpoint).sendText(eq(MESSAGE), any(SendHandler.class));
   }
 
   @Test
@@ -93,7 +118,7 @@ public class MessagesReSenderTest {
 
     verify(sessionRegistry).get(ENDPOINT_ID);
     verify(session).getAsyncRemote();
-    verify(endpoint).sendText(MESSAGE);
+    verify(endpoint).sendText(eq(MESSAGE), any(SendHandler.class));
   }
 
   @Test
@@ -107,7 +132,7 @@ public class MessagesReSenderTest {
     verify(sessionRegistry).get(ENDPOINT_ID);
     verify(sessionRegistry).get("1");
     verify(session, times(2)).getAsyncRemote();
-    verify(endpoint, times(2)).sendText(MESSAGE);
+    verify(endpoint, times(2)).sendText(eq(MESSAGE), any(SendHandler.class));
   }
 
   @Test
@@ -117,12 +142,12 @@ public class MessagesReSenderTest {
     reSender.resend(ENDPOINT_ID);
     verify(sessionRegistry).get(ENDPOINT_ID);
     verify(session).getAsyncRemote();
-    verify(endpoint).sendText(MESSAGE);
+    verify(endpoint).sendText(eq(MESSAGE), any(SendHandler.class));
 
     reSender.resend(ENDPOINT_ID);
     verify(sessionRegistry).get(ENDPOINT_ID);
     verify(session).getAsyncRemote();
-    verify(endpoint).sendText(MESSAGE);
+    verify(endpoint).sendText(eq(MESSAGE), any(SendHandler.class));
   }
 
   @Test
@@ -136,7 +161,7 @@ public class MessagesReSenderTest {
     verify(sessionRegistry).get(ENDPOINT_ID);
     verify(sessionRegistry).get("1");
     verify(session, times(2)).getAsyncRemote();
-    verify(endpoint, times(2)).sendText(MESSAGE);
+    verify(endpoint, times(2)).sendText(eq(MESSAGE), any(SendHandler.class));
 
     reSender.resend(ENDPOINT_ID);
     reSender.resend("1");
@@ -144,6 +169,112 @@ public class MessagesReSenderTest {
     verify(sessionRegistry).get(ENDPOINT_ID);
     verify(sessionRegistry).get("1");
     verify(session, times(2)).getAsyncRemote();
-    verify(endpoint, times(2)).sendText(MESSAGE);
+    verify(endpoint, times(2)).sendText(eq(MESSAGE), any(SendHandler.class));
+  }
+
+  @Test
+  public void shouldResendMessagesInOrder() {
+    reSender.add(ENDPOINT_ID, "first");
+    reSender.add(ENDPOINT_ID, "second");
+
+    reSender.resend(ENDPOINT_ID);
+
+    InOrder inOrder = inOrder(endpoint);
+    inOrder.verify(endpoint).sendText(eq("first"), any(SendHandler.class));
+    inOrder.verify(endpoint).sendText(eq("second"), any(SendHandler.class));
+    assertEquals(reSender.getBufferedBytes(), 0);
+  }
+
+  @Test
+  public void shouldKeepMessagesWhichWereNotDelivered() {
+    ArgumentCaptor<SendHandler> handlerCaptor = ArgumentCaptor.forClass(SendHandler.class);
+    doAnswer(inv -> null).when(endpoint).sendText(anyString(), any(SendHandler.class));
+    reSender.add(ENDPOINT_ID, "first");
+    reSender.add(ENDPOINT_ID, "second");
+
+    reSender.resend(ENDPOINT_ID);
+    verify(endpoint).sendText(eq("first"), handlerCaptor.capture());
+    handlerCaptor.getValue().onResult(new SendResult(new IllegalStateException("closed")));
+
+    Session reconnected = mock(Session.class);
+    RemoteEndpoint.Async reconnectedEndpoint = mock(RemoteEndpoint.Async.class);
+    when(sessionRegistry.get(ENDPOINT_ID)).thenReturn(Optional.of(reconnected));
+    when(reconnected.isOpen()).thenReturn(true);
+    when(reconnected.getAsyncRemote()).thenReturn(reconnectedEndpoint);
+
+    reSender.resend(ENDPOINT_ID);
+
+    verify(reconnectedEndpoint).sendText(eq("first"), any(SendHandler.class));
+  }
+
+  @Test
+  public void shouldDropMessagesWhichExceedBufferLimit() {
+    char[] chars = new char[(int) MAX_BUFFERED_BYTES / 4];
+    String big = new String(chars);
+
+    reSender.add(ENDPOINT_ID, big);
+    reSender.add("1", big);
+    reSender.add("2", big);
+
+    assertEquals(reSender.getBufferedBytes(), MAX_BUFFERED_BYTES);
+
+    reSender.resend("2");
+
+    verify(endpoint, never()).sendText(anyString(), any(SendHandler.class));
+  }
+
+  @Test
+  public void shouldNotResendWhileAnotherMessageIsBeingSentToSession() {
+    ArgumentCaptor<SendHandler> handlerCaptor = ArgumentCaptor.forClass(SendHandler.class);
+    doAnswer(inv -> null).when(endpoint).sendText(anyString(), any(SendHandler.class));
+    queues.offer(session, "live");
+    reSender.add(ENDPOINT_ID, "first");
+    reSender.add(ENDPOINT_ID, "second");
+
+    reSender.resend(ENDPOINT_ID);
+
+    verify(endpoint).sendText(eq("live"), handlerCaptor.capture());
+    verify(endpoint, never()).sendText(eq("first"), any(SendHandler.class));
+
+    handlerCaptor.getValue().onResult(new SendResult());
+    verify(endpoint).sendText(eq("first"), handlerCaptor.capture());
+    verify(endpoint, never()).sendText(eq("second"), any(SendHandler.class));
+
+    handlerCaptor.getValue().onResult(new SendResult());
+    verify(endpoint).sendText(eq("second"), any(SendHandler.class));
+  }
+
+  @Test
+  public void shouldKeepMoreThanHundredMessagesOfEndpoint() {
+    for (int i = 0; i < 200; i++) {
+      reSender.add(ENDPOINT_ID, "m");
+    }
+
+    reSender.resend(ENDPOINT_ID);
+
+    verify(endpoint, times(200)).sendText(eq("m"), any(SendHandler.class));
+  }
+
+  @Test
+  public void shouldKeepMessagesUntilTheirTimeToLiveIsExpired() {
+    reSender.add(ENDPOINT_ID, MESSAGE);
+
+    reSender.cleanStaleMessages();
+    reSender.resend(ENDPOINT_ID);
+
+    verify(endpoint).sendText(eq(MESSAGE), any(SendHandler.class));
+  }
+
+  @Test
+  public void shouldDropMessagesWhichTimeToLiveIsExpired() throws Exception {
+    reSender = new MessagesReSender(sessionRegistry, queues, MAX_BUFFERED_BYTES, 0);
+    reSender.add(ENDPOINT_ID, MESSAGE);
+    Thread.sleep(10);
+
+    reSender.cleanStaleMessages();
+    reSender.resend(ENDPOINT_ID);
+
+    verify(endpoint, never()).sendText(anyString(), any(SendHandler.class));
+    assertEquals(reSender.getBufferedBytes(), 0);
   }
 }
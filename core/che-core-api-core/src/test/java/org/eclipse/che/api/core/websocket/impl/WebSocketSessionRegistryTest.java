@@ -11,10 +11,18 @@
  */
 package org.eclipse.che.api.core.websocket.impl;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.*;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.websocket.Session;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
@@ -83,4 +91,100 @@ public class WebSocketSessionRegistryTest {
     assertFalse(registry.getSessions().isEmpty());
     assertEquals(2, registry.getSessions().size());
   }
+
+  @Test
+  public void shouldGetEndpointIdBySession() {
+    registry.add("0", session);
+
+    assertEquals(registry.get(session), Optional.of("0"));
+  }
+
+  @Test
+  public void shouldRemoveSessionBySession() {
+    registry.add("0", session);
+
+    assertEquals(registry.remove(session), Optional.of(session));
+
+    assertFalse(registry.get("0").isPresent());
+    assertFalse(registry.get(session).isPresent());
+    assertTrue(registry.getByPrefix("0").isEmpty());
+  }
+
+  @Test
+  public void shouldReplaceEndpointIdOfReRegisteredSession() {
+    registry.add("0", session);
+    registry.add("1", session);
+
+    assertFalse(registry.get("0").isPresent());
+    assertEquals(registry.get(session), Optional.of("1"));
+    assertEquals(registry.getSessions().size(), 1);
+  }
+
+  @Test
+  public void shouldReplaceSessionOfReRegisteredEndpoint() {
+    Session other = mock(Session.class);
+    registry.add("0", session);
+    registry.add("0", other);
+
+    assertFalse(registry.get(session).isPresent());
+    assertEquals(registry.get(other), Optional.of("0"));
+    assertEquals(registry.getByPrefix("0"), singleton(other));
+  }
+
+  @Test
+  public void shouldGetSessionsByPrefix() {
+    Session other = mock(Session.class);
+    registry.add("client<-:->endpoint", session);
+    registry.add("clientB<-:->endpoint", other);
+    registry.add("another<-:->endpoint", mock(Session.class));
+
+    assertEquals(registry.getByPrefix("client<-:->").size(), 1);
+    assertEquals(registry.getByPrefix("client").size(), 2);
+    assertEquals(registry.getByPrefix("clientB"), singleton(other));
+  }
+
+  @Test
+  public void shouldGetAllSessionsWhichEndpointIdsContainPartialMatch() {
+    Session other = mock(Session.class);
+    registry.add("client<-:->endpoint", session);
+    registry.add("other-client<-:->endpoint", other);
+
+    assertEquals(registry.getByPartialMatch("client"), new HashSet<>(asList(session, other)));
+    assertTrue(registry.getByPartialMatch("missing").isEmpty());
+  }
+
+  @Test
+  public void shouldKeepIndexesConsistentUnderConcurrentModifications() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        int thread = t;
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < 1_000; i++) {
+                    String endpointId = String.format("%d-%04d", thread, i);
+                    Session s = mock(Session.class);
+                    registry.add(endpointId, s);
+                    if (i % 2 == 0) {
+                      registry.remove(s);
+                    }
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(registry.getSessions().size(), 8 * 500);
+    for (Session s : registry.getSessions()) {
+      String endpointId = registry.get(s).get();
+      assertEquals(registry.get(endpointId), Optional.of(s));
+      assertEquals(registry.getByPrefix(endpointId), singleton(s));
+    }
+  }
 }
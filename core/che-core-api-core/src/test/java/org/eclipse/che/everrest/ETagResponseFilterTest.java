@@ -12,26 +12,44 @@
 package org.eclipse.che.everrest;
 
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static javax.ws.rs.core.Response.Status.NOT_MODIFIED;
 import static javax.ws.rs.core.Response.Status.OK;
 import static org.everrest.core.ApplicationContext.anApplicationContext;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.ws.rs.GET;
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.Response;
 import org.eclipse.che.api.core.rest.ApiExceptionMapper;
+import org.eclipse.che.api.core.rest.CheJsonProvider;
+import org.eclipse.che.dto.server.JsonSerializable;
 import org.everrest.core.ApplicationContext;
+import org.everrest.core.GenericContainerRequest;
+import org.everrest.core.GenericContainerResponse;
 import org.everrest.core.impl.ApplicationProviderBinder;
 import org.everrest.core.impl.ContainerRequest;
 import org.everrest.core.impl.ContainerResponse;
@@ -42,6 +60,7 @@ import org.everrest.core.impl.RequestHandlerImpl;
 import org.everrest.core.impl.ResourceBinderImpl;
 import org.everrest.core.tools.DependencySupplierImpl;
 import org.everrest.core.tools.ResourceLauncher;
+import org.mockito.ArgumentCaptor;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -87,6 +106,36 @@ public class ETagResponseFilterTest {
     }
   }
 
+  /** Entity which counts its serializations */
+  public static class CountingEntity implements JsonSerializable {
+    private final String json;
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    public CountingEntity(String json) {
+      this.json = json;
+    }
+
+    @Override
+    public String toJson() {
+      serializations.incrementAndGet();
+      return json;
+    }
+
+    @Override
+    public void toJson(Writer w) {
+      try {
+        w.write(toJson());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public JsonElement toJsonElement() {
+      return new JsonParser().parse(toJson());
+    }
+  }
+
   /** Resource Launcher */
   private ResourceLauncher resourceLauncher;
 
@@ -212,4 +261,42 @@ public class ETagResponseFilterTest {
     // check null body
     Assert.assertNull(response.getEntity());
   }
+
+  /** Check if JSON computed for the ETag is written by the JSON provider */
+  @Test
+  public void serializeEntityOnce() throws Exception {
+    final String json = "{\"name\":\"a\"}";
+    final CountingEntity entity = new CountingEntity(json);
+    final GenericContainerRequest request = mock(GenericContainerRequest.class);
+    when(request.getMethod()).thenReturn(HttpMethod.GET);
+    ApplicationContext.setCurrent(
+        anApplicationContext()
+            .withRequest(request)
+            .withProviders(new ApplicationProviderBinder())
+            .build());
+    final GenericContainerResponse response = mock(GenericContainerResponse.class);
+    when(response.getEntity()).thenReturn(entity);
+    when(response.getContentType()).thenReturn(APPLICATION_JSON_TYPE);
+    when(response.getHttpHeaders()).thenReturn(new MultivaluedHashMap<>());
+    when(response.getResponse()).thenReturn(Response.ok(entity).build());
+
+    new ETagResponseFilter().doFilter(response);
+    final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    new CheJsonProvider<>(null)
+        .writeTo(
+            entity,
+            CountingEntity.class,
+            CountingEntity.class,
+            new Annotation[0],
+            APPLICATION_JSON_TYPE,
+            new MultivaluedHashMap<>(),
+            body);
+
+    final ArgumentCaptor<Response> captor = ArgumentCaptor.forClass(Response.class);
+    verify(response).setResponse(captor.capture());
+    Assert.assertEquals(
+        captor.getValue().getEntityTag(), new EntityTag("88148e411b9b424a2e0ddf108cb02baa"));
+    Assert.assertEquals(new String(body.toByteArray(), StandardCharsets.UTF_8), json);
+    Assert.assertEquals(entity.serializations.get(), 1);
+  }
 }
@@ -184,6 +184,24 @@ abstract class DtoImpl {
     return getters.keySet();
   }
 
+  /**
+   * Get the getters which fields are declared in the implementation of the given DTO, the getters
+   * which fields are inherited from the implementation of the super DTO interface are skipped.
+   */
+  protected List<Method> getFieldGetters(Class<?> dto) {
+    final Map<String, Method> getters = new HashMap<>();
+    addDtoGetters(dto, getters);
+    addSuperGetters(dto, getters);
+    final Set<String> superGetterNames = getSuperGetterNames(dto);
+    final List<Method> fieldGetters = new ArrayList<>();
+    for (Method getter : getters.values()) {
+      if (!superGetterNames.contains(getter.getName())) {
+        fieldGetters.add(getter);
+      }
+    }
+    return fieldGetters;
+  }
+
   /**
    * Adds all getters from parent <b>NOT DTO</b> interfaces for given {@code dto} interface. Does
    * not add method when it is already present in getters map.
@@ -13,6 +13,7 @@ package org.eclipse.che.dto.generator;
 
 import com.google.common.primitives.Primitives;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -70,6 +71,7 @@ public class DtoImplServerTemplate extends DtoImpl {
     emitSerializer(methods, builder);
     emitDeserializer(methods, builder);
     emitDeserializerShortcut(builder);
+    emitTypeAdapter(builder);
     emitCopyConstructor(methods, builder);
     // Delegation DTO methods.
     emitDelegateMethods(builder);
@@ -377,6 +379,206 @@ public class DtoImplServerTemplate extends DtoImpl {
     builder.append("    }\n\n");
   }
 
+  /**
+   * Emits a streaming adapter that reads and writes the fields of the implementation, including
+   * the fields inherited from the implementations of super DTOs, without reflection. Values of the
+   * fields are handled by the adapters of the field types, except strings and primitives which are
+   * written directly.
+   */
+  private void emitTypeAdapter(StringBuilder builder) {
+    final List<Method> getters = new ArrayList<>();
+    for (Class<?> dto = getDtoInterface(); dto != null; dto = getSuperDtoInterface(dto)) {
+      for (Method getter : getFieldGetters(dto)) {
+        if (getJavaFieldName(getter.getName()) != null) {
+          getters.add(getter);
+        }
+      }
+    }
+    final String implClassName = getImplClassName();
+    builder
+        .append("    public static class JsonAdapter extends com.google.gson.TypeAdapter<")
+        .append(implClassName)
+        .append("> {\n");
+    for (Method getter : getters) {
+      builder
+          .append("      private final com.google.gson.TypeAdapter<")
+          .append(getAdapterTypeName(getter.getGenericReturnType()))
+          .append("> ")
+          .append(getJavaFieldName(getter.getName()))
+          .append("Adapter;\n");
+    }
+    builder.append("\n");
+    builder.append("      public JsonAdapter(Gson gson) {\n");
+    for (Method getter : getters) {
+      final Type type = getter.getGenericReturnType();
+      final Class<?> rawClass = getRawClass(type);
+      final String adapterTypeName = getAdapterTypeName(type);
+      builder
+          .append("        this.")
+          .append(getJavaFieldName(getter.getName()))
+          .append("Adapter = ");
+      if (type instanceof Class<?>
+          && !rawClass.isPrimitive()
+          && !rawClass.isEnum()
+          && !Modifier.isFinal(rawClass.getModifiers())) {
+        // Values may be instances of subtypes, write them the same way as reflective adapter does.
+        builder
+            .append("new org.eclipse.che.dto.server.RuntimeTypeAdapter<>(gson, gson.getAdapter(")
+            .append(getTypeTokenExpression(type))
+            .append("), ")
+            .append(getTypeTokenExpression(type))
+            .append(");\n");
+      } else {
+        builder
+            .append("(com.google.gson.TypeAdapter<")
+            .append(adapterTypeName)
+            .append(">) gson.getAdapter(")
+            .append(getTypeTokenExpression(type))
+            .append(");\n");
+      }
+    }
+    builder.append("      }\n\n");
+
+    builder.append("      @Override\n");
+    builder
+        .append("      public void write(com.google.gson.stream.JsonWriter out, ")
+        .append(implClassName)
+        .append(" value) throws java.io.IOException {\n");
+    builder.append("        if (value == null) {\n");
+    builder.append("          out.nullValue();\n");
+    builder.append("          return;\n");
+    builder.append("        }\n");
+    builder.append("        out.beginObject();\n");
+    for (Method getter : getters) {
+      final String fieldName = getJavaFieldName(getter.getName());
+      builder.append("        out.name(\"").append(getJsonFieldName(getter)).append("\");\n");
+      if (isWrittenDirectly(getter.getGenericReturnType())) {
+        builder.append("        out.value(value.").append(fieldName).append(");\n");
+      } else {
+        builder
+            .append("        ")
+            .append(fieldName)
+            .append("Adapter.write(out, value.")
+            .append(fieldName)
+            .append(");\n");
+      }
+    }
+    builder.append("        out.endObject();\n");
+    builder.append("      }\n\n");
+
+    builder.append("      @Override\n");
+    builder
+        .append("      public ")
+        .append(implClassName)
+        .append(" read(com.google.gson.stream.JsonReader in) throws java.io.IOException {\n");
+    builder.append("        if (in.peek() == com.google.gson.stream.JsonToken.NULL) {\n");
+    builder.append("          in.nextNull();\n");
+    builder.append("          return null;\n");
+    builder.append("        }\n");
+    builder
+        .append("        ")
+        .append(implClassName)
+        .append(" value = new ")
+        .append(implClassName)
+        .append("();\n");
+    builder.append("        try {\n");
+    builder.append("          in.beginObject();\n");
+    builder.append("          while (in.hasNext()) {\n");
+    builder.append("            switch (in.nextName()) {\n");
+    for (Method getter : getters) {
+      final String fieldName = getJavaFieldName(getter.getName());
+      builder.append("              case \"").append(getJsonFieldName(getter)).append("\": {\n");
+      if (getter.getReturnType().isPrimitive()) {
+        // keep default value of primitive field when JSON value is null
+        builder
+            .append("                ")
+            .append(getAdapterTypeName(getter.getGenericReturnType()))
+            .append(" v = ")
+            .append(fieldName)
+            .append("Adapter.read(in);\n");
+        builder.append("                if (v != null) {\n");
+        builder.append("                  value.").append(fieldName).append(" = v;\n");
+        builder.append("                }\n");
+      } else {
+        builder
+            .append("                value.")
+            .append(fieldName)
+            .append(" = ")
+            .append(fieldName)
+            .append("Adapter.read(in);\n");
+      }
+      builder.append("                break;\n");
+      builder.append("              }\n");
+    }
+    builder.append("              default:\n");
+    builder.append("                in.skipValue();\n");
+    builder.append("            }\n");
+    builder.append("          }\n");
+    builder.append("          in.endObject();\n");
+    builder.append("        } catch (IllegalStateException e) {\n");
+    builder.append("          throw new com.google.gson.JsonSyntaxException(e);\n");
+    builder.append("        }\n");
+    builder.append("        return value;\n");
+    builder.append("      }\n");
+    builder.append("    }\n\n");
+  }
+
+  /** Tests whether or not values of the given type are written without type adapter. */
+  private static boolean isWrittenDirectly(Type type) {
+    return type == String.class || type == boolean.class || type == int.class || type == long.class;
+  }
+
+  /** Returns the name of the type handled by the adapter of the field with the given type. */
+  private String getAdapterTypeName(Type type) {
+    if (type instanceof Class<?> && ((Class<?>) type).isPrimitive()) {
+      return Primitives.wrap((Class<?>) type).getCanonicalName();
+    }
+    return getImplName(type, false);
+  }
+
+  /**
+   * Returns the expression which evaluates to the class or the {@code TypeToken} of the given type.
+   * The DTO collection types are replaced with the Java collections the same way as it is done in
+   * {@link #getImplName(Type, boolean)}.
+   */
+  private String getTypeTokenExpression(Type type) {
+    if (!(type instanceof ParameterizedType)) {
+      return getImplName(type, false) + ".class";
+    }
+    final Class<?> rawClass = getRawClass(type);
+    final StringBuilder builder =
+        new StringBuilder("com.google.gson.reflect.TypeToken.getParameterized(");
+    if (rawClass == JsonArray.class) {
+      builder.append(ArrayList.class.getCanonicalName()).append(".class");
+    } else if (rawClass == JsonStringMap.class) {
+      builder.append(HashMap.class.getCanonicalName()).append(".class, String.class");
+    } else {
+      builder.append(rawClass.getCanonicalName()).append(".class");
+    }
+    for (Type typeArgument : ((ParameterizedType) type).getActualTypeArguments()) {
+      builder.append(", ").append(getTypeTokenExpression(typeArgument));
+      if (typeArgument instanceof ParameterizedType) {
+        builder.append(".getType()");
+      }
+    }
+    return builder.append(")").toString();
+  }
+
+  /**
+   * Appends an expression which copies the value of 'any' property. JSON elements are copied
+   * structurally, other values are copied through their JSON representation.
+   */
+  private static StringBuilder appendCopyJsonExpression(String inValue, StringBuilder builder) {
+    builder.append("((");
+    builder.append(inValue);
+    builder.append(") instanceof JsonElement ? ((JsonElement) ");
+    builder.append(inValue);
+    builder.append(").deepCopy() : ");
+    appendNaiveCopyJsonExpression(inValue, builder);
+    builder.append(")");
+    return builder;
+  }
+
   private static StringBuilder appendNaiveCopyJsonExpression(
       String inValue, StringBuilder builder) {
     builder.append("((");
@@ -540,6 +742,10 @@ public class DtoImplServerTemplate extends DtoImpl {
     builder.append("    }\n\n");
   }
 
+  /**
+   * Emits a copy constructor. When the origin is an instance of this implementation its fields are
+   * copied directly, otherwise the values are obtained through the getters of the origin.
+   */
   private void emitCopyConstructor(List<Method> getters, StringBuilder builder) {
     String dtoInterface = getDtoInterface().getCanonicalName();
     String implClassName = getImplClassName();
@@ -549,9 +755,33 @@ public class DtoImplServerTemplate extends DtoImpl {
         .append("(")
         .append(dtoInterface)
         .append(" origin) {\n");
+    builder.append("      if (origin instanceof ").append(implClassName).append(") {\n");
+    builder
+        .append("        ")
+        .append(implClassName)
+        .append(" originImpl = (")
+        .append(implClassName)
+        .append(") origin;\n");
+    for (Method method : getters) {
+      Type type = method.getGenericReturnType();
+      String fieldValue =
+          "(("
+              + getImplName(type, false)
+              + ") originImpl."
+              + getJavaFieldName(method.getName())
+              + ")";
+      emitDeepCopyForGetters(expandType(type), 0, builder, fieldValue, method, "        ");
+    }
+    builder.append("        return;\n");
+    builder.append("      }\n");
     for (Method method : getters) {
       emitDeepCopyForGetters(
-          expandType(method.getGenericReturnType()), 0, builder, "origin", method, "      ");
+          expandType(method.getGenericReturnType()),
+          0,
+          builder,
+          "origin." + method.getName() + "()",
+          method,
+          "      ");
     }
     builder.append("    }\n\n");
   }
@@ -560,11 +790,10 @@ public class DtoImplServerTemplate extends DtoImpl {
       List<Type> expandedTypes,
       int depth,
       StringBuilder builder,
-      String origin,
+      String value,
       Method getter,
       String i) {
-    String getterName = getter.getName();
-    String fieldName = getJavaFieldName(getterName);
+    String fieldName = getJavaFieldName(getter.getName());
     String fieldNameIn = fieldName + "In";
     String fieldNameOut = fieldName + "Out";
     Type type = expandedTypes.get(depth);
@@ -578,10 +807,8 @@ public class DtoImplServerTemplate extends DtoImpl {
           .append(" ")
           .append(fieldNameIn)
           .append(" = ")
-          .append(origin)
-          .append(".")
-          .append(getterName)
-          .append("();\n");
+          .append(value)
+          .append(";\n");
       builder.append(i).append("if (").append(fieldNameIn).append(" != null) {\n");
       builder
           .append(i)
@@ -604,7 +831,7 @@ public class DtoImplServerTemplate extends DtoImpl {
       builder.append(i).append("}\n");
     } else if (isAny(rawClass)) {
       builder.append(i).append("this.").append(fieldName).append(" = ");
-      appendNaiveCopyJsonExpression(origin + "." + getterName + "()", builder).append(";\n");
+      appendCopyJsonExpression(value, builder).append(";\n");
     } else if (getEnclosingTemplate().isDtoInterface(rawClass)) {
       builder
           .append(i)
@@ -612,23 +839,13 @@ public class DtoImplServerTemplate extends DtoImpl {
           .append(" ")
           .append(fieldNameIn)
           .append(" = ")
-          .append(origin)
-          .append(".")
-          .append(getterName)
-          .append("();\n");
+          .append(value)
+          .append(";\n");
       builder.append(i).append("this.").append(fieldName).append(" = ");
       emitCheckNullAndCopyDto(rawClass, fieldNameIn, builder);
       builder.append(";\n");
     } else {
-      builder
-          .append(i)
-          .append("this.")
-          .append(fieldName)
-          .append(" = ")
-          .append(origin)
-          .append(".")
-          .append(getterName)
-          .append("();\n");
+      builder.append(i).append("this.").append(fieldName).append(" = ").append(value).append(";\n");
     }
   }
 
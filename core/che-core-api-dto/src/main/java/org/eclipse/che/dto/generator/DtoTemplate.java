@@ -289,6 +289,14 @@ public class DtoTemplate {
             .append("            return new ")
             .append(dto.getImplClassName())
             .append("(origin);\n");
+        builder.append("        }\n\n");
+        builder
+            .append("        public com.google.gson.TypeAdapter<? extends ")
+            .append(dtoInterface)
+            .append("> createTypeAdapter(Gson gson) {\n")
+            .append("            return new ")
+            .append(dto.getImplClassName())
+            .append(".JsonAdapter(gson);\n");
         builder.append("        }\n");
         builder.append("    });\n");
       }
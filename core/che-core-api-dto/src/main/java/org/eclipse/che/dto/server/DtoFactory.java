@@ -105,7 +105,9 @@ public final class DtoFactory {
   private final Map<Class<?>, DtoProvider<?>> dtoImpl2Providers = new ConcurrentHashMap<>();
   private final Gson dtoGson =
       buildDtoParser(
-          ServiceLoader.load(TypeAdapterFactory.class).iterator(), new DtoInterfaceTAF());
+          ServiceLoader.load(TypeAdapterFactory.class).iterator(),
+          new DtoInterfaceTAF(),
+          new DtoImplTAF());
 
   /**
    * Created deep copy of DTO object.
@@ -446,6 +448,22 @@ public final class DtoFactory {
     }
   }
 
+  /**
+   * Provides the streaming adapters generated for DTO implementation classes, so they are not
+   * serialized by Gson's {@link ReflectiveTypeAdapterFactory}.
+   */
+  private class DtoImplTAF implements TypeAdapterFactory {
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+      DtoProvider<?> prov = dtoImpl2Providers.get(type.getRawType());
+      if (prov != null) {
+        return (TypeAdapter<T>) prov.createTypeAdapter(gson);
+      }
+      return null;
+    }
+  }
+
   /**
    * Wraps Gson's default List/Map adapter factories serialize null List/Map fields as empty
    * instead.
@@ -11,7 +11,9 @@
  */
 package org.eclipse.che.dto.server;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
 
 /**
  * Provides implementation of DTO interface.
@@ -28,4 +30,14 @@ public interface DtoProvider<DTO> {
   DTO newInstance();
 
   DTO clone(DTO origin);
+
+  /**
+   * Creates streaming adapter which reads and writes instances of {@link #getImplClass()} without
+   * reflection, nested values are handled by adapters obtained from the given {@code gson}.
+   *
+   * @return adapter or {@code null} if implementation class should be handled by reflective adapter
+   */
+  default TypeAdapter<? extends DTO> createTypeAdapter(Gson gson) {
+    return null;
+  }
 }
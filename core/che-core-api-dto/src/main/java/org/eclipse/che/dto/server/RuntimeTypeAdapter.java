@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.dto.server;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Writes values with the adapter of their runtime type, the same way as Gson does it for the fields
+ * of reflectively serialized objects. It is used by the generated DTO adapters for the fields which
+ * declared type is not final, e.g. DTO interfaces or {@link Object}.
+ *
+ * @param <T> declared type of the value
+ */
+public final class RuntimeTypeAdapter<T> extends TypeAdapter<T> {
+
+  private final Gson gson;
+  private final TypeAdapter<T> delegate;
+  private final Class<?> declaredType;
+
+  // the last used runtime type adapter, values of a field mostly have the same type
+  private volatile RuntimeAdapter lastRuntimeAdapter;
+
+  public RuntimeTypeAdapter(Gson gson, TypeAdapter<T> delegate, Class<?> declaredType) {
+    this.gson = gson;
+    this.delegate = delegate;
+    this.declaredType = declaredType;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void write(JsonWriter out, T value) throws IOException {
+    if (value == null || value.getClass() == declaredType) {
+      delegate.write(out, value);
+      return;
+    }
+    RuntimeAdapter runtimeAdapter = lastRuntimeAdapter;
+    if (runtimeAdapter == null || runtimeAdapter.type != value.getClass()) {
+      runtimeAdapter = new RuntimeAdapter(value.getClass(), gson.getAdapter(value.getClass()));
+      lastRuntimeAdapter = runtimeAdapter;
+    }
+    TypeAdapter<Object> chosen = (TypeAdapter<Object>) runtimeAdapter.adapter;
+    if (chosen instanceof ReflectiveTypeAdapterFactory.Adapter
+        && !(delegate instanceof ReflectiveTypeAdapterFactory.Adapter)) {
+      // prefer adapter of the declared type over the reflective one
+      chosen = (TypeAdapter<Object>) delegate;
+    }
+    chosen.write(out, value);
+  }
+
+  @Override
+  public T read(JsonReader in) throws IOException {
+    return delegate.read(in);
+  }
+
+  private static final class RuntimeAdapter {
+    final Class<?> type;
+    final TypeAdapter<?> adapter;
+
+    RuntimeAdapter(Class<?> type, TypeAdapter<?> adapter) {
+      this.type = type;
+      this.adapter = adapter;
+    }
+  }
+}
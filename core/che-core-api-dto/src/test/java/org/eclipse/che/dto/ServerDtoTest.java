@@ -13,6 +13,8 @@ package org.eclipse.che.dto;
 
 import static java.util.Arrays.asList;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertTrue;
 
 import com.google.gson.Gson;
@@ -21,12 +23,14 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactory;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.eclipse.che.dto.definitions.ComplicatedDto;
 import org.eclipse.che.dto.definitions.DTOHierarchy;
+import org.eclipse.che.dto.definitions.DTOHierarchy.ChildDto;
 import org.eclipse.che.dto.definitions.DTOHierarchy.GrandchildDto;
 import org.eclipse.che.dto.definitions.DtoWithAny;
 import org.eclipse.che.dto.definitions.DtoWithDelegate;
@@ -179,6 +183,75 @@ public class ServerDtoTest {
     dtoFactory.toJson(dto1);
   }
 
+  @Test
+  public void testShadowedFieldsRoundTrip() throws Exception {
+    GrandchildDto dto = dtoFactory.createDto(GrandchildDto.class);
+    dto.setParentField("parent");
+    dto.setChildField("child");
+    dto.setDtoField("dto");
+    dto.setShadowedField(dtoFactory.createDto(ChildDto.class).withDtoField("shadowed"));
+
+    GrandchildDto copy = dtoFactory.createDtoFromJson(dtoFactory.toJson(dto), GrandchildDto.class);
+
+    assertEquals(copy, dto);
+  }
+
+  @Test
+  public void shouldUseGeneratedTypeAdapterForDtoImplementation() throws Exception {
+    SimpleDto dto = dtoFactory.createDto(SimpleDto.class);
+
+    assertFalse(
+        dtoFactory.getGson().getAdapter(dto.getClass())
+            instanceof ReflectiveTypeAdapterFactory.Adapter);
+  }
+
+  @Test
+  public void shouldSkipUnknownFieldsAndKeepPrimitiveDefaultOnNull() throws Exception {
+    String json = "{\"id\":null,\"name\":\"foo\",\"unknown\":{\"values\":[1,2]}}";
+
+    SimpleDto dto = dtoFactory.createDtoFromJson(json, SimpleDto.class);
+
+    assertEquals(dto.getId(), 0);
+    assertEquals(dto.getName(), "foo");
+    assertEquals(dto.getDefault(), null);
+  }
+
+  @Test
+  public void testCloneComplicatedDto() throws Exception {
+    SimpleDto simpleDto = dtoFactory.createDto(SimpleDto.class).withId(1).withName("simple");
+    Map<String, SimpleDto> map = new HashMap<>();
+    map.put("key", dtoFactory.createDto(SimpleDto.class).withId(2).withName("mapped"));
+    ComplicatedDto dto =
+        dtoFactory
+            .createDto(ComplicatedDto.class)
+            .withStrings(new ArrayList<>(asList("a", "b")))
+            .withSimpleEnum(ComplicatedDto.SimpleEnum.TWO)
+            .withMap(map)
+            .withSimpleDtos(new ArrayList<>(asList(simpleDto)))
+            .withArrayOfArrayOfEnum(
+                new ArrayList<>(asList(asList(ComplicatedDto.SimpleEnum.ONE))));
+
+    ComplicatedDto copy = dtoFactory.clone(dto);
+
+    assertEquals(copy, dto);
+    assertNotSame(copy.getSimpleDtos().get(0), simpleDto);
+    assertNotSame(copy.getMap().get("key"), map.get("key"));
+    copy.getSimpleDtos().get(0).setDefault("changed");
+    copy.getStrings().add("c");
+    assertEquals(simpleDto.getDefault(), null);
+    assertEquals(dto.getStrings(), asList("a", "b"));
+  }
+
+  @Test
+  public void testCloneDtoWithAny() throws Exception {
+    DtoWithAny dto = dtoFactory.createDto(DtoWithAny.class).withStuff(createTestValueForAny());
+
+    DtoWithAny copy = dtoFactory.clone(dto);
+
+    assertEquals(copy.getStuff(), createTestValueForAny());
+    assertNotSame(copy.getStuff(), dto.getStuff());
+  }
+
   /** Intentionally call several times to ensure non-reference equality */
   private static JsonElement createTestValueForAny() {
     return new JsonParser().parse("{a:100,b:{c:'blah'}}");
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.commons.lang.execution;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates executors which run each task in a new virtual thread. Virtual threads are available
+ * since Java 21 only, so the executors are looked up reflectively and are absent on older runtimes.
+ */
+public class VirtualThreadExecutors {
+
+  /**
+   * Returns an executor which starts a new virtual thread for each task, or empty optional if the
+   * runtime does not support virtual threads.
+   */
+  public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return Optional.of((ExecutorService) factory.invoke(null));
+    } catch (ReflectiveOperationException e) {
+      return Optional.empty();
+    }
+  }
+
+  private VirtualThreadExecutors() {}
+}
@@ -331,14 +331,14 @@ public class MeteredExecutorServiceWrapperTest {
             .tag("name", MeteredExecutorServiceWrapperTest.class.getName())
             .gauge()
             .value(),
-        2.0);
+        1.0);
     assertEquals(
         registry
             .get("thread.factory.created")
             .tag("name", MeteredExecutorServiceWrapperTest.class.getName())
             .counter()
             .count(),
-        2.0);
+        1.0);
     assertEquals(
         registry
             .get("executor.rejected")
@@ -354,15 +354,18 @@ public class MeteredExecutorServiceWrapperTest {
             .tags(userTags)
             .gauge()
             .value(),
-        2.0);
-    assertEquals(
-        registry
-            .get("executor.completed")
-            .tag("name", MeteredExecutorServiceWrapperTest.class.getName())
-            .tags(userTags)
-            .functionCounter()
-            .count(),
         1.0);
+    assertWithRetry(
+        () ->
+            registry
+                .get("executor.completed")
+                .tag("name", MeteredExecutorServiceWrapperTest.class.getName())
+                .tags(userTags)
+                .functionCounter()
+                .count(),
+        1.0,
+        10,
+        50);
     assertWithRetry(
         () ->
             registry
@@ -398,14 +401,17 @@ public class MeteredExecutorServiceWrapperTest {
             .timer()
             .count(),
         1);
-    assertEquals(
-        registry
-            .get("executor.active")
-            .tag("name", MeteredExecutorServiceWrapperTest.class.getName())
-            .tags(userTags)
-            .gauge()
-            .value(),
-        1.0);
+    assertWithRetry(
+        () ->
+            registry
+                .get("executor.active")
+                .tag("name", MeteredExecutorServiceWrapperTest.class.getName())
+                .tags(userTags)
+                .gauge()
+                .value(),
+        0.0,
+        10,
+        50);
     assertEquals(
         registry
             .get("executor.scheduled.once")
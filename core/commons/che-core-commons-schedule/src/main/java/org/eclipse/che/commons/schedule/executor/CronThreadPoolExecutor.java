@@ -11,11 +11,11 @@
  */
 package org.eclipse.che.commons.schedule.executor;
 
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.concurrent.CancellationException;
-import java.util.concurrent.CountDownLatch;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
@@ -28,13 +28,17 @@ import org.slf4j.LoggerFactory;
 /**
  * Scheduled thread-pool executor implementation that leverages a CronExpression to calculate future
  * execution times for scheduled tasks.
+ *
+ * <p>Cron jobs don't occupy threads between executions. Each of them is a delayed task of the pool
+ * which computes its next execution time once it is executed and schedules itself again, so the
+ * size of the pool doesn't depend on the number of scheduled cron jobs.
  */
 public class CronThreadPoolExecutor extends ScheduledThreadPoolExecutor
     implements CronExecutorService {
 
   private static final Logger LOG = LoggerFactory.getLogger(CronThreadPoolExecutor.class);
 
-  private final List<CountDownLatch> cronJobWatchDogs;
+  private final Set<CronJob> cronJobs = ConcurrentHashMap.newKeySet();
 
   /**
    * Constructs a new CronThreadPoolExecutor.
@@ -43,7 +47,6 @@ public class CronThreadPoolExecutor extends ScheduledThreadPoolExecutor
    */
   public CronThreadPoolExecutor(int corePoolSize) {
     super(corePoolSize);
-    this.cronJobWatchDogs = new ArrayList<>();
     this.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
   }
 
@@ -55,7 +58,6 @@ public class CronThreadPoolExecutor extends ScheduledThreadPoolExecutor
    */
   public CronThreadPoolExecutor(int corePoolSize, ThreadFactory threadFactory) {
     super(corePoolSize, threadFactory);
-    this.cronJobWatchDogs = new ArrayList<>();
     this.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
   }
 
@@ -67,7 +69,6 @@ public class CronThreadPoolExecutor extends ScheduledThreadPoolExecutor
    */
   public CronThreadPoolExecutor(int corePoolSize, RejectedExecutionHandler handler) {
     super(corePoolSize, handler);
-    this.cronJobWatchDogs = new ArrayList<>();
     this.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
   }
 
@@ -81,7 +82,6 @@ public class CronThreadPoolExecutor extends ScheduledThreadPoolExecutor
   public CronThreadPoolExecutor(
       int corePoolSize, ThreadFactory threadFactory, RejectedExecutionHandler handler) {
     super(corePoolSize, threadFactory, handler);
-    this.cronJobWatchDogs = new ArrayList<>();
   }
 
   @Override
@@ -89,46 +89,15 @@ public class CronThreadPoolExecutor extends ScheduledThreadPoolExecutor
     if (task == null) {
       throw new NullPointerException();
     }
-    setCorePoolSize(getCorePoolSize() + 1);
-    Runnable scheduleTask =
-        new Runnable() {
-          @Override
-          public void run() {
-            CountDownLatch countDownLatch = new CountDownLatch(1);
-            cronJobWatchDogs.add(countDownLatch);
-            Date now = new Date();
-            Date time = expression.getNextValidTimeAfter(now);
-            try {
-              while (time != null) {
-                CronThreadPoolExecutor.this.schedule(
-                    task, time.getTime() - now.getTime(), TimeUnit.MILLISECONDS);
-                while (now.before(time)) {
-                  LOG.debug("Cron watch dog wait {} ", time.getTime() - now.getTime());
-                  if (countDownLatch.await(time.getTime() - now.getTime(), TimeUnit.MILLISECONDS)) {
-                    LOG.debug("Stopping cron watch dog.");
-                    return;
-                  }
-                  now = new Date();
-                }
-                time = expression.getNextValidTimeAfter(now);
-              }
-            } catch (InterruptedException e) {
-              Thread.currentThread().interrupt();
-            } catch (RejectedExecutionException | CancellationException e) {
-              LOG.error(e.getMessage(), e);
-            }
-          }
-        };
-    return this.submit(scheduleTask);
+    CronJob job = new CronJob(task, expression);
+    cronJobs.add(job);
+    job.scheduleNext(new Date());
+    return job;
   }
 
   @Override
   public void shutdown() {
-
-    for (CountDownLatch cronJobWatchDog : cronJobWatchDogs) {
-      cronJobWatchDog.countDown();
-    }
-    cronJobWatchDogs.clear();
+    cancelCronJobs();
     super.shutdown();
     LOG.debug(
         "Active {} Pool {}, CEPTAS {} ,  EEDTAS {} , Task count {} , queue size {}",
@@ -142,10 +111,7 @@ public class CronThreadPoolExecutor extends ScheduledThreadPoolExecutor
 
   @Override
   public List<Runnable> shutdownNow() {
-    for (CountDownLatch cronJobWatchDog : cronJobWatchDogs) {
-      cronJobWatchDog.countDown();
-    }
-    cronJobWatchDogs.clear();
+    cancelCronJobs();
     LOG.debug(
         "Active {} Pool {}, CEPTAS {} ,  EEDTAS {} , Task count {} , queue size {}",
         getActiveCount(),
@@ -156,4 +122,76 @@ public class CronThreadPoolExecutor extends ScheduledThreadPoolExecutor
         getQueue().size());
     return super.shutdownNow();
   }
+
+  private void cancelCronJobs() {
+    for (CronJob cronJob : cronJobs) {
+      cronJob.cancel(false);
+    }
+  }
+
+  /**
+   * Cron job which is executed as a delayed task of this executor. After each execution the next
+   * execution time is computed with the cron expression and the job is scheduled again. The job is
+   * completed when the expression has no more valid times, and it is cancelled along with the
+   * currently scheduled execution.
+   */
+  private class CronJob extends CompletableFuture<Void> implements Runnable {
+
+    private final Runnable task;
+    private final CronExpression expression;
+
+    // guarded by this
+    private Future<?> next;
+    private Date nextTime;
+
+    private CronJob(Runnable task, CronExpression expression) {
+      this.task = task;
+      this.expression = expression;
+    }
+
+    @Override
+    public void run() {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        LOG.error(e.getMessage(), e);
+      } finally {
+        // the execution may start a bit earlier than planned according to the system clock,
+        // compute the next time after the planned one to not execute the job twice
+        Date now = new Date();
+        scheduleNext(now.before(nextTime) ? nextTime : now);
+      }
+    }
+
+    private synchronized void scheduleNext(Date after) {
+      if (isDone()) {
+        return;
+      }
+      Date time = expression.getNextValidTimeAfter(after);
+      if (time == null) {
+        cronJobs.remove(this);
+        complete(null);
+        return;
+      }
+      try {
+        nextTime = time;
+        next =
+            CronThreadPoolExecutor.this.schedule(
+                this, time.getTime() - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        LOG.error(e.getMessage(), e);
+        cronJobs.remove(this);
+        completeExceptionally(e);
+      }
+    }
+
+    @Override
+    public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+      cronJobs.remove(this);
+      if (next != null) {
+        next.cancel(mayInterruptIfRunning);
+      }
+      return super.cancel(mayInterruptIfRunning);
+    }
+  }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.commons.schedule.executor;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests {@link CronThreadPoolExecutor}. */
+public class CronThreadPoolExecutorTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CronThreadPoolExecutorTest.class);
+
+  private static final int POOL_SIZE = 2;
+  private static final String EVERY_SECOND = "* * * ? * *";
+
+  private CronThreadPoolExecutor executor;
+
+  @BeforeMethod
+  public void setUp() {
+    executor = new CronThreadPoolExecutor(POOL_SIZE);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void executesJobAtTimesOfCronExpression() throws Exception {
+    final BlockingQueue<Long> executions = new LinkedBlockingQueue<>();
+
+    executor.schedule(
+        () -> executions.add(System.currentTimeMillis()), new CronExpression(EVERY_SECOND));
+
+    long previous = -1;
+    for (int i = 0; i < 3; i++) {
+      Long time = executions.poll(5, TimeUnit.SECONDS);
+      assertTrue(time != null, "Job is not executed in time");
+      // executed close after the beginning of a second
+      assertTrue(time % 1000 < 300, "Job is executed " + time % 1000 + "ms late");
+      if (previous != -1) {
+        assertEquals(time / 1000 - previous / 1000, 1);
+      }
+      previous = time;
+    }
+  }
+
+  @Test
+  public void executesTwoHundredJobsWithConstantNumberOfThreads() throws Exception {
+    final int jobs = 200;
+    final int executionsPerJob = 3;
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    final int threadsBefore = threads.getThreadCount();
+    threads.resetPeakThreadCount();
+    final CountDownLatch latch = new CountDownLatch(jobs * executionsPerJob);
+    final List<AtomicInteger> executions = new ArrayList<>();
+
+    for (int i = 0; i < jobs; i++) {
+      final AtomicInteger jobExecutions = new AtomicInteger();
+      executions.add(jobExecutions);
+      executor.schedule(
+          () -> {
+            if (jobExecutions.incrementAndGet() <= executionsPerJob) {
+              latch.countDown();
+            }
+          },
+          new CronExpression(EVERY_SECOND));
+    }
+
+    assertTrue(latch.await(30, TimeUnit.SECONDS), "Not all the jobs are executed in time");
+    final int addedThreads = threads.getPeakThreadCount() - threadsBefore;
+    LOG.info("{} cron jobs are executed, {} threads were added", jobs, addedThreads);
+    assertEquals(executor.getPoolSize(), POOL_SIZE);
+    assertTrue(addedThreads <= POOL_SIZE, addedThreads + " threads were added");
+    // every job has at most one pending execution
+    assertTrue(executor.getQueue().size() <= jobs);
+    assertTrue(executions.stream().allMatch(e -> e.get() >= executionsPerJob));
+  }
+
+  @Test
+  public void doesNotExecuteCancelledJob() throws Exception {
+    final BlockingQueue<Long> executions = new LinkedBlockingQueue<>();
+    Future<?> future =
+        executor.schedule(
+            () -> executions.add(System.currentTimeMillis()), new CronExpression(EVERY_SECOND));
+    assertTrue(executions.poll(5, TimeUnit.SECONDS) != null);
+
+    assertTrue(future.cancel(false));
+
+    assertTrue(future.isCancelled());
+    assertTrue(executions.poll(2, TimeUnit.SECONDS) == null);
+  }
+
+  @Test
+  public void keepsExecutingJobWhichThrowsException() throws Exception {
+    final CountDownLatch latch = new CountDownLatch(2);
+
+    Future<?> future =
+        executor.schedule(
+            () -> {
+              latch.countDown();
+              throw new RuntimeException("error");
+            },
+            new CronExpression(EVERY_SECOND));
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertFalse(future.isDone());
+  }
+
+  @Test
+  public void completesJobWhenCronExpressionHasNoMoreTimes() throws Exception {
+    final AtomicInteger executions = new AtomicInteger();
+
+    Future<?> future =
+        executor.schedule(executions::incrementAndGet, new CronExpression("0 0 0 1 1 ? 2000"));
+
+    future.get(5, TimeUnit.SECONDS);
+    assertEquals(executions.get(), 0);
+  }
+
+  @Test
+  public void cancelsJobsOnShutdown() throws Exception {
+    Future<?> future = executor.schedule(() -> {}, new CronExpression(EVERY_SECOND));
+
+    executor.shutdown();
+
+    assertTrue(future.isCancelled());
+    assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+  }
+}
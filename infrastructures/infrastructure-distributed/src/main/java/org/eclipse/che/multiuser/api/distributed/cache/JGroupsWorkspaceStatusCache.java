@@ -11,14 +11,17 @@
  */
 package org.eclipse.che.multiuser.api.distributed.cache;
 
+import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.workspace.server.WorkspaceStatusCache;
+import org.eclipse.che.api.workspace.server.WorkspaceStatusIndex;
 import org.jgroups.JChannel;
 import org.jgroups.blocks.ReplicatedHashMap;
 import org.slf4j.Logger;
@@ -27,6 +30,11 @@ import org.slf4j.LoggerFactory;
 /**
  * JGroups based implementation of {@link WorkspaceStatusCache}.
  *
+ * <p>Each member of the cluster keeps its own {@link WorkspaceStatusIndex} of the replicated
+ * statuses. The index is refreshed by the notifications of the replicated map, which are delivered
+ * for the changes made by this member as well as for the changes made by other members and for the
+ * state received on start.
+ *
  * @author Anton Korneta
  */
 @Singleton
@@ -36,19 +44,24 @@ public class JGroupsWorkspaceStatusCache implements WorkspaceStatusCache {
   private static final Logger LOG = LoggerFactory.getLogger(JGroupsWorkspaceStatusCache.class);
 
   private final ReplicatedHashMap<String, WorkspaceStatus> delegate;
+  private final WorkspaceStatusIndex index = new WorkspaceStatusIndex();
 
   @Inject
   public JGroupsWorkspaceStatusCache(@Named("jgroups.config.file") String confFile) {
+    this(createReplicatedMap(confFile));
     try {
-      JChannel channel = new JChannel(confFile).connect(CHANNEL_NAME);
-      delegate = new ReplicatedHashMap<>(channel);
-      delegate.setBlockingUpdates(true);
       delegate.start(5000);
     } catch (Exception ex) {
       throw new RuntimeException("Jgroups cache creation failed. Cause :" + ex.getMessage());
     }
   }
 
+  @VisibleForTesting
+  JGroupsWorkspaceStatusCache(ReplicatedHashMap<String, WorkspaceStatus> delegate) {
+    this.delegate = delegate;
+    delegate.addNotifier(new IndexUpdater());
+  }
+
   @Override
   public WorkspaceStatus get(String workspaceId) {
     return delegate.get(workspaceId);
@@ -80,6 +93,16 @@ public class JGroupsWorkspaceStatusCache implements WorkspaceStatusCache {
     return new HashMap<>(delegate);
   }
 
+  @Override
+  public Set<String> getByStatus(WorkspaceStatus status) {
+    return index.get(status);
+  }
+
+  @Override
+  public int count(WorkspaceStatus status) {
+    return index.count(status);
+  }
+
   /**
    * Subscribes status changes listener.
    *
@@ -108,4 +131,43 @@ public class JGroupsWorkspaceStatusCache implements WorkspaceStatusCache {
       LOG.error("Failed to stop workspace status cache. Cause: " + ex.getMessage());
     }
   }
+
+  private static ReplicatedHashMap<String, WorkspaceStatus> createReplicatedMap(String confFile) {
+    try {
+      JChannel channel = new JChannel(confFile).connect(CHANNEL_NAME);
+      ReplicatedHashMap<String, WorkspaceStatus> map = new ReplicatedHashMap<>(channel);
+      map.setBlockingUpdates(true);
+      return map;
+    } catch (Exception ex) {
+      throw new RuntimeException("Jgroups cache creation failed. Cause :" + ex.getMessage());
+    }
+  }
+
+  /** Keeps the index in sync with the replicated map. */
+  private class IndexUpdater extends ReplicatedMapNotificationAdapter {
+
+    @Override
+    public void entrySet(Object workspaceId, Object workspaceStatus) {
+      index.refresh((String) workspaceId, delegate::get);
+    }
+
+    @Override
+    public void entryRemoved(Object workspaceId) {
+      index.refresh((String) workspaceId, delegate::get);
+    }
+
+    @Override
+    public void contentsSet(Map newEntries) {
+      for (Object workspaceId : newEntries.keySet()) {
+        index.refresh((String) workspaceId, delegate::get);
+      }
+    }
+
+    @Override
+    public void contentsCleared() {
+      for (String workspaceId : index.getIndexed()) {
+        index.refresh(workspaceId, delegate::get);
+      }
+    }
+  }
 }
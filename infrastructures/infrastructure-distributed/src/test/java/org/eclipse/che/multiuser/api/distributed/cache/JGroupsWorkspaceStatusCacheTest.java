@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.api.distributed.cache;
+
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STARTING;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.jgroups.blocks.ReplicatedHashMap;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the index of {@link JGroupsWorkspaceStatusCache} follows the notifications of the
+ * replicated map.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class JGroupsWorkspaceStatusCacheTest {
+
+  @Mock private ReplicatedHashMap<String, WorkspaceStatus> delegate;
+
+  private final Map<String, WorkspaceStatus> replicated = new HashMap<>();
+
+  private JGroupsWorkspaceStatusCache cache;
+  private ReplicatedHashMap.Notification notification;
+
+  @BeforeMethod
+  public void setUp() {
+    replicated.clear();
+    lenient().when(delegate.get(any())).thenAnswer(inv -> replicated.get(inv.getArgument(0)));
+
+    cache = new JGroupsWorkspaceStatusCache(delegate);
+
+    ArgumentCaptor<ReplicatedHashMap.Notification> captor =
+        ArgumentCaptor.forClass(ReplicatedHashMap.Notification.class);
+    verify(delegate).addNotifier(captor.capture());
+    notification = captor.getValue();
+  }
+
+  @Test
+  public void indexesStatusOnEntrySet() {
+    replicated.put("ws1", STARTING);
+    notification.entrySet("ws1", STARTING);
+    replicated.put("ws2", STARTING);
+    notification.entrySet("ws2", STARTING);
+
+    assertEquals(cache.getByStatus(STARTING), ImmutableSet.of("ws1", "ws2"));
+    assertEquals(cache.count(STARTING), 2);
+  }
+
+  @Test
+  public void movesWorkspaceToNewStatusOnEntrySet() {
+    replicated.put("ws1", STARTING);
+    notification.entrySet("ws1", STARTING);
+
+    replicated.put("ws1", RUNNING);
+    notification.entrySet("ws1", RUNNING);
+
+    assertTrue(cache.getByStatus(STARTING).isEmpty());
+    assertEquals(cache.getByStatus(RUNNING), ImmutableSet.of("ws1"));
+    assertEquals(cache.count(STARTING), 0);
+    assertEquals(cache.count(RUNNING), 1);
+  }
+
+  @Test
+  public void removesWorkspaceFromIndexOnEntryRemoved() {
+    replicated.put("ws1", RUNNING);
+    notification.entrySet("ws1", RUNNING);
+    replicated.put("ws2", RUNNING);
+    notification.entrySet("ws2", RUNNING);
+
+    replicated.remove("ws1");
+    notification.entryRemoved("ws1");
+
+    assertEquals(cache.getByStatus(RUNNING), ImmutableSet.of("ws2"));
+    assertEquals(cache.count(RUNNING), 1);
+  }
+
+  @Test
+  public void indexesStatusesReceivedWithStateTransfer() {
+    replicated.put("ws1", STARTING);
+    replicated.put("ws2", RUNNING);
+    replicated.put("ws3", RUNNING);
+
+    notification.contentsSet(ImmutableMap.copyOf(replicated));
+
+    assertEquals(cache.getByStatus(STARTING), ImmutableSet.of("ws1"));
+    assertEquals(cache.getByStatus(RUNNING), ImmutableSet.of("ws2", "ws3"));
+    assertEquals(cache.count(STARTING), 1);
+    assertEquals(cache.count(RUNNING), 2);
+  }
+
+  @Test
+  public void removesAllWorkspacesFromIndexOnContentsCleared() {
+    replicated.put("ws1", STARTING);
+    replicated.put("ws2", RUNNING);
+    notification.contentsSet(ImmutableMap.copyOf(replicated));
+
+    replicated.clear();
+    notification.contentsCleared();
+
+    assertTrue(cache.getByStatus(STARTING).isEmpty());
+    assertTrue(cache.getByStatus(RUNNING).isEmpty());
+    assertEquals(cache.count(STARTING), 0);
+    assertEquals(cache.count(RUNNING), 0);
+  }
+}
@@ -24,7 +24,7 @@ import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.workspace.activity.WorkspaceActivityDao;
 import org.eclipse.che.api.workspace.activity.WorkspaceActivityManager;
 import org.eclipse.che.api.workspace.server.WorkspaceManager;
-import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.multiuser.resource.api.type.TimeoutResourceType;
 import org.eclipse.che.multiuser.resource.api.usage.ResourceManager;
 import org.eclipse.che.multiuser.resource.model.Resource;
@@ -54,8 +54,9 @@ public class MultiUserWorkspaceActivityManager extends WorkspaceActivityManager
       EventService eventService,
       AccountManager accountManager,
       ResourceManager resourceManager,
-      @Named("che.limits.workspace.idle.timeout") long defaultTimeout) {
-    super(workspaceManager, activityDao, eventService, defaultTimeout);
+      @Named("che.limits.workspace.idle.timeout") long defaultTimeout,
+      @Named("che.workspace.activity_flush_period_ms") long flushPeriodMs) {
+    super(workspaceManager, activityDao, eventService, defaultTimeout, flushPeriodMs);
     this.accountManager = accountManager;
     this.resourceManager = resourceManager;
     this.defaultTimeout = defaultTimeout;
@@ -65,7 +66,7 @@ public class MultiUserWorkspaceActivityManager extends WorkspaceActivityManager
   protected long getIdleTimeout(String wsId) {
     List<? extends Resource> availableResources;
     try {
-      WorkspaceImpl workspace = workspaceManager.getWorkspace(wsId);
+      WorkspaceSummaryImpl workspace = workspaceManager.getWorkspaceSummary(wsId);
       Account account = accountManager.getByName(workspace.getNamespace());
       availableResources = resourceManager.getAvailableResources(account.getId());
 
@@ -21,7 +21,7 @@ import org.eclipse.che.account.shared.model.Account;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.workspace.activity.WorkspaceActivityDao;
 import org.eclipse.che.api.workspace.server.WorkspaceManager;
-import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.multiuser.resource.api.type.TimeoutResourceType;
 import org.eclipse.che.multiuser.resource.api.usage.ResourceManager;
 import org.eclipse.che.multiuser.resource.spi.impl.ResourceImpl;
@@ -42,7 +42,7 @@ public class MultiUserWorkspaceActivityManagerTest {
   @Mock private WorkspaceManager workspaceManager;
 
   @Mock private Account account;
-  @Mock private WorkspaceImpl workspace;
+  @Mock private WorkspaceSummaryImpl workspace;
   @Mock private WorkspaceActivityDao workspaceActivityDao;
 
   @Mock private EventService eventService;
@@ -58,12 +58,13 @@ public class MultiUserWorkspaceActivityManagerTest {
             eventService,
             accountManager,
             resourceManager,
-            DEFAULT_TIMEOUT);
+            DEFAULT_TIMEOUT,
+            -1);
 
     when(account.getId()).thenReturn("account123");
     when(accountManager.getByName(anyString())).thenReturn(account);
 
-    when(workspaceManager.getWorkspace(anyString())).thenReturn(workspace);
+    when(workspaceManager.getWorkspaceSummary(anyString())).thenReturn(workspace);
     when(workspace.getNamespace()).thenReturn("accountName");
   }
 
@@ -257,6 +257,13 @@ public class JpaEntitiesCascadeRemovalTest {
                 bind(String.class)
                     .annotatedWith(Names.named("che.workspace.plugin_registry_url"))
                     .toInstance("");
+                bind(Long.class)
+                    .annotatedWith(Names.named("che.workspace.devfile.conversion_cache.max_size"))
+                    .toInstance(0L);
+                bind(Long.class)
+                    .annotatedWith(
+                        Names.named("che.workspace.devfile.conversion_cache.expire_after_min"))
+                    .toInstance(0L);
                 MapBinder.newMapBinder(binder(), String.class, ChePluginsApplier.class);
                 Multibinder.newSetBinder(binder(), ResourceType.class)
                     .addBinding()
@@ -277,6 +284,10 @@ public class JpaEntitiesCascadeRemovalTest {
                                             RamResourceType.ID, 1024, RamResourceType.UNIT)))));
 
                 bindConstant().annotatedWith(Names.named("che.workspace.probe_pool_size")).to(1);
+                bindConstant().annotatedWith(Names.named("che.workspace.probe_event_loops")).to(1);
+                bindConstant()
+                    .annotatedWith(Names.named("che.workspace.recovery.parallelism"))
+                    .to(1);
 
                 // setup bindings for the devfile that would otherwise be read from the config
                 bindConstant()
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.keycloak.server;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import javax.validation.constraints.NotNull;
+import okhttp3.EventListener;
+import org.eclipse.che.api.core.rest.HttpJsonRequest;
+import org.eclipse.che.api.core.rest.PooledHttpJsonRequestFactory;
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+import org.eclipse.che.commons.env.EnvironmentContext;
+
+/**
+ * The same as {@link KeycloakHttpJsonRequestFactory} but creates requests which use pooled http
+ * client.
+ */
+@Singleton
+public class KeycloakPooledHttpJsonRequestFactory extends PooledHttpJsonRequestFactory {
+
+  @Inject
+  public KeycloakPooledHttpJsonRequestFactory(
+      @Named("che.core.rest.http_client.async_requests.max") int maxRequests,
+      @Named("che.core.rest.http_client.async_requests.max_per_host") int maxRequestsPerHost,
+      @Named("che.core.rest.http_client.connection_pool.max_idle") int maxIdleConnections,
+      @Named("che.core.rest.http_client.connection_pool.keep_alive_sec") int keepAliveSec,
+      EventListener eventListener) {
+    super(maxRequests, maxRequestsPerHost, maxIdleConnections, keepAliveSec, eventListener);
+  }
+
+  @Override
+  public HttpJsonRequest fromUrl(@NotNull String url) {
+    return super.fromUrl(url)
+        .setAuthorizationHeader(
+            "Bearer " + EnvironmentContext.getCurrent().getSubject().getToken());
+  }
+
+  @Override
+  public HttpJsonRequest fromLink(@NotNull Link link) {
+    return super.fromLink(link)
+        .setAuthorizationHeader(
+            "Bearer " + EnvironmentContext.getCurrent().getSubject().getToken());
+  }
+}
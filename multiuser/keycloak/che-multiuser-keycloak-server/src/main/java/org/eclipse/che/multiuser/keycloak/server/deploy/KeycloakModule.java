@@ -30,8 +30,13 @@ public class KeycloakModule extends AbstractModule {
   @Override
   protected void configure() {
 
-    bind(HttpJsonRequestFactory.class)
-        .to(org.eclipse.che.multiuser.keycloak.server.KeycloakHttpJsonRequestFactory.class);
+    if (Boolean.valueOf(System.getenv("CHE_CORE_REST_HTTP__CLIENT_POOLED"))) {
+      bind(HttpJsonRequestFactory.class)
+          .to(org.eclipse.che.multiuser.keycloak.server.KeycloakPooledHttpJsonRequestFactory.class);
+    } else {
+      bind(HttpJsonRequestFactory.class)
+          .to(org.eclipse.che.multiuser.keycloak.server.KeycloakHttpJsonRequestFactory.class);
+    }
     bind(TokenValidator.class).to(KeycloakTokenValidator.class);
     bind(KeycloakConfigurationService.class);
 
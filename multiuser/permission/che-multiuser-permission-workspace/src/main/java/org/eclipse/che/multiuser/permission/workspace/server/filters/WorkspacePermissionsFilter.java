@@ -30,7 +30,7 @@ import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.workspace.server.WorkspaceManager;
 import org.eclipse.che.api.workspace.server.WorkspaceService;
-import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.everrest.CheMethodInvokerFilter;
@@ -83,6 +83,7 @@ public class WorkspacePermissionsFilter extends CheMethodInvokerFilter {
     switch (methodName) {
       case "getSettings":
       case "getWorkspaces":
+      case "getWorkspaceSummaries":
         // methods accessible to every user
         return;
 
@@ -150,7 +151,7 @@ public class WorkspacePermissionsFilter extends CheMethodInvokerFilter {
         throw new ForbiddenException("The user does not have permission to perform this operation");
     }
 
-    final WorkspaceImpl workspace = workspaceManager.getWorkspace(key);
+    final WorkspaceSummaryImpl workspace = workspaceManager.getWorkspaceSummary(key);
     try {
       checkAccountPermissions(workspace.getNamespace(), AccountOperation.MANAGE_WORKSPACES);
       // user is authorized to perform any operation if workspace belongs to account where he has
@@ -13,11 +13,14 @@ package org.eclipse.che.multiuser.permission.workspace.server.spi.jpa;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.che.api.core.Pages.iterate;
 
 import com.google.inject.persist.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -36,10 +39,13 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.workspace.server.WorkspaceManager;
 import org.eclipse.che.api.workspace.server.event.BeforeWorkspaceRemovedEvent;
+import org.eclipse.che.api.workspace.server.jpa.JpaWorkspaceDao;
 import org.eclipse.che.api.workspace.server.model.impl.ProjectConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
 import org.eclipse.che.api.workspace.shared.event.WorkspaceRemovedEvent;
+import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.core.db.cascade.CascadeEventSubscriber;
 import org.eclipse.che.core.db.jpa.DuplicateKeyException;
 
@@ -64,6 +70,15 @@ public class MultiuserJpaWorkspaceDao implements WorkspaceDao {
           + "          LEFT JOIN worker.workspace ws "
           + "          WHERE worker.userId = :userId "
           + "          AND 'read' MEMBER OF worker.actions";
+  private static final String findSummariesByWorkerQuery =
+      "SELECT NEW org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl("
+          + "          ws.id, ws.name, ws.account.name, ws.isTemporary) "
+          + "          FROM Worker worker  "
+          + "          JOIN worker.workspace ws "
+          + "          WHERE worker.userId = :userId "
+          + "          AND 'read' MEMBER OF worker.actions "
+          + "          AND ws.id > :afterId "
+          + "          ORDER BY ws.id";
 
   @Override
   public WorkspaceImpl create(WorkspaceImpl workspace) throws ConflictException, ServerException {
@@ -148,6 +163,51 @@ public class MultiuserJpaWorkspaceDao implements WorkspaceDao {
     }
   }
 
+  @Override
+  @Transactional
+  public WorkspaceSummaryImpl getWorkspaceSummary(String id)
+      throws NotFoundException, ServerException {
+    requireNonNull(id, "Required non-null id");
+    try {
+      final EntityManager manager = managerProvider.get();
+      final WorkspaceSummaryImpl summary =
+          manager
+              .createNamedQuery("Workspace.getSummary", WorkspaceSummaryImpl.class)
+              .setParameter("id", id)
+              .getSingleResult();
+      JpaWorkspaceDao.fetchTimestamps(manager, singletonList(summary));
+      return summary;
+    } catch (NoResultException noResEx) {
+      throw new NotFoundException(format("Workspace with id '%s' doesn't exist", id));
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
+  @Override
+  @Transactional
+  public WorkspaceSummaryImpl getWorkspaceSummary(String name, String namespace)
+      throws NotFoundException, ServerException {
+    requireNonNull(name, "Required non-null name");
+    requireNonNull(namespace, "Required non-null namespace");
+    try {
+      final EntityManager manager = managerProvider.get();
+      final WorkspaceSummaryImpl summary =
+          manager
+              .createNamedQuery("Workspace.getSummaryByName", WorkspaceSummaryImpl.class)
+              .setParameter("namespace", namespace)
+              .setParameter("name", name)
+              .getSingleResult();
+      JpaWorkspaceDao.fetchTimestamps(manager, singletonList(summary));
+      return summary;
+    } catch (NoResultException noResEx) {
+      throw new NotFoundException(
+          format("Workspace with name '%s' in namespace '%s' doesn't exist", name, namespace));
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
   @Override
   @Transactional
   public Page<WorkspaceImpl> getByNamespace(String namespace, int maxItems, long skipCount)
@@ -203,6 +263,27 @@ public class MultiuserJpaWorkspaceDao implements WorkspaceDao {
     }
   }
 
+  @Override
+  @Transactional
+  public List<WorkspaceSummaryImpl> getWorkspaceSummaries(
+      String userId, @Nullable String afterId, int maxItems) throws ServerException {
+    checkArgument(maxItems >= 0, "The number of items to return can't be negative.");
+    try {
+      final EntityManager manager = managerProvider.get();
+      final List<WorkspaceSummaryImpl> summaries =
+          manager
+              .createQuery(findSummariesByWorkerQuery, WorkspaceSummaryImpl.class)
+              .setParameter("userId", userId)
+              .setParameter("afterId", afterId == null ? "" : afterId)
+              .setMaxResults(maxItems)
+              .getResultList();
+      JpaWorkspaceDao.fetchTimestamps(manager, summaries);
+      return summaries;
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
   @Override
   @Transactional
   public Page<WorkspaceImpl> getWorkspaces(boolean isTemporary, int maxItems, long skipCount)
@@ -235,6 +316,24 @@ public class MultiuserJpaWorkspaceDao implements WorkspaceDao {
     }
   }
 
+  @Override
+  @Transactional
+  public List<String> getTemporaryWorkspaceIds(Collection<String> ids) throws ServerException {
+    requireNonNull(ids, "Required non-null ids");
+    if (ids.isEmpty()) {
+      return emptyList();
+    }
+    try {
+      return managerProvider
+          .get()
+          .createNamedQuery("Workspace.getTemporaryIds", String.class)
+          .setParameter("ids", ids)
+          .getResultList();
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
   @Override
   @Transactional
   public long getWorkspacesTotalCount() throws ServerException {
@@ -44,7 +44,7 @@ import org.eclipse.che.api.core.rest.ApiExceptionMapper;
 import org.eclipse.che.api.core.rest.shared.dto.ServiceError;
 import org.eclipse.che.api.workspace.server.WorkspaceManager;
 import org.eclipse.che.api.workspace.server.WorkspaceService;
-import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.shared.dto.EnvironmentDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.devfile.DevfileDto;
@@ -99,12 +99,12 @@ public class WorkspacePermissionsFilterTest {
 
   @Mock private AccountPermissionsChecker accountPermissionsChecker;
 
-  @Mock private WorkspaceImpl workspace;
+  @Mock private WorkspaceSummaryImpl workspace;
 
   @BeforeMethod
   public void setUp() throws Exception {
     lenient().when(subject.getUserName()).thenReturn(USERNAME);
-    lenient().when(workspaceManager.getWorkspace(any())).thenReturn(workspace);
+    lenient().when(workspaceManager.getWorkspaceSummary(any())).thenReturn(workspace);
     lenient().when(workspace.getNamespace()).thenReturn("namespace");
     lenient().when(workspace.getId()).thenReturn("workspace123");
 
@@ -258,6 +258,23 @@ public class WorkspacePermissionsFilterTest {
     verifyZeroInteractions(subject);
   }
 
+  @Test
+  public void shouldNotCheckPermissionsOnWorkspaceSummariesGetting() throws Exception {
+    final Response response =
+        given()
+            .auth()
+            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+            .contentType("application/json")
+            .when()
+            .get(SECURE_PATH + "/workspace/summary");
+
+    assertEquals(response.getStatusCode(), 204);
+    verify(workspaceService)
+        .getWorkspaceSummaries(nullable(String.class), anyInt(), nullable(String.class));
+    verify(permissionsFilter, never()).checkAccountPermissions(anyString(), any());
+    verifyZeroInteractions(subject);
+  }
+
   @Test
   public void shouldCheckUserPermissionsOnWorkspaceStopping() throws Exception {
     when(superPrivilegesChecker.hasSuperPrivileges()).thenReturn(false);
@@ -364,9 +381,9 @@ public class WorkspacePermissionsFilterTest {
     User storedUser = mock(User.class);
     when(storedUser.getId()).thenReturn("user123");
 
-    WorkspaceImpl workspace = mock(WorkspaceImpl.class);
+    WorkspaceSummaryImpl workspace = mock(WorkspaceSummaryImpl.class);
     when(workspace.getId()).thenReturn("workspace123");
-    when(workspaceManager.getWorkspace("myWorkspace", "userok")).thenReturn(workspace);
+    when(workspaceManager.getWorkspaceSummary("userok:myWorkspace")).thenReturn(workspace);
 
     final Response response =
         given()
@@ -11,6 +11,7 @@
  */
 package org.eclipse.che.multiuser.permission.workspace.server.jpa;
 
+import static java.util.Collections.singletonList;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
@@ -24,6 +25,7 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.user.server.model.impl.UserImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.commons.test.tck.TckResourcesCleaner;
 import org.eclipse.che.multiuser.permission.workspace.server.model.impl.WorkerImpl;
 import org.eclipse.che.multiuser.permission.workspace.server.spi.jpa.MultiuserJpaWorkspaceDao;
@@ -144,4 +146,15 @@ public class MultiuserJpaWorkspaceDaoTest {
     assertTrue(results.contains(workspaces[0]));
     assertTrue(results.contains(workspaces[1]));
   }
+
+  @Test
+  public void shouldFindWorkspaceSummariesByPermissions() throws Exception {
+    List<WorkspaceSummaryImpl> firstPage = dao.getWorkspaceSummaries(users[0].getId(), null, 1);
+    List<WorkspaceSummaryImpl> secondPage = dao.getWorkspaceSummaries(users[0].getId(), "ws1", 30);
+
+    assertEquals(
+        firstPage, singletonList(new WorkspaceSummaryImpl("ws1", "wrksp1", "accountName", false)));
+    assertEquals(
+        secondPage, singletonList(new WorkspaceSummaryImpl("ws2", "wrksp2", "accountName", false)));
+  }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.core.notification.AsyncEventSubscriber;
+import org.eclipse.che.api.core.notification.EventService;
+
+/** Provides metrics of the events delivered to asynchronous subscribers of {@link EventService}. */
+@Singleton
+public class EventServiceMeterBinder implements MeterBinder {
+
+  private final EventService eventService;
+
+  @Inject
+  public EventServiceMeterBinder(EventService eventService) {
+    this.eventService = eventService;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("che.event.async.pending", this::getPendingEvents)
+        .description("The number of events waiting to be delivered to asynchronous subscribers")
+        .register(registry);
+
+    FunctionTimer.builder(
+            "che.event.async.lag",
+            this,
+            EventServiceMeterBinder::getDeliveredEvents,
+            EventServiceMeterBinder::getLagNanos,
+            NANOSECONDS)
+        .description("The time between publishing an event and its asynchronous delivery")
+        .register(registry);
+
+    FunctionCounter.builder(
+            "che.event.async.dropped", this, EventServiceMeterBinder::getDroppedEvents)
+        .description("The number of events dropped because asynchronous subscribers were full")
+        .register(registry);
+  }
+
+  private long getPendingEvents() {
+    long pending = 0;
+    for (AsyncEventSubscriber<?> subscriber : eventService.getAsyncSubscribers()) {
+      pending += subscriber.getPendingEvents();
+    }
+    return pending;
+  }
+
+  private long getDeliveredEvents() {
+    long delivered = 0;
+    for (AsyncEventSubscriber<?> subscriber : eventService.getAsyncSubscribers()) {
+      delivered += subscriber.getDeliveredEvents();
+    }
+    return delivered;
+  }
+
+  private long getDroppedEvents() {
+    long dropped = 0;
+    for (AsyncEventSubscriber<?> subscriber : eventService.getAsyncSubscribers()) {
+      dropped += subscriber.getDroppedEvents();
+    }
+    return dropped;
+  }
+
+  private long getLagNanos() {
+    long lag = 0;
+    for (AsyncEventSubscriber<?> subscriber : eventService.getAsyncSubscribers()) {
+      lag += subscriber.getLagNanos();
+    }
+    return lag;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.core.rest.HttpJsonRequestFactory;
+import org.eclipse.che.api.core.rest.PooledHttpJsonRequestFactory;
+
+/**
+ * Provides metrics of the connection pool and the request queue of the {@link
+ * PooledHttpJsonRequestFactory}, nothing is registered when other factory is used.
+ */
+@Singleton
+public class HttpJsonRequestMeterBinder implements MeterBinder {
+
+  private final HttpJsonRequestFactory requestFactory;
+
+  @Inject
+  public HttpJsonRequestMeterBinder(HttpJsonRequestFactory requestFactory) {
+    this.requestFactory = requestFactory;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    if (!(requestFactory instanceof PooledHttpJsonRequestFactory)) {
+      return;
+    }
+    PooledHttpJsonRequestFactory factory = (PooledHttpJsonRequestFactory) requestFactory;
+
+    Gauge.builder("che.http_client.connections", factory::getConnectionCount)
+        .description("The number of open connections of the pooled http client")
+        .register(registry);
+
+    Gauge.builder("che.http_client.connections.idle", factory::getIdleConnectionCount)
+        .description("The number of idle connections of the pooled http client")
+        .register(registry);
+
+    Gauge.builder("che.http_client.requests.running", factory::getRunningRequestCount)
+        .description("The number of asynchronous requests being executed")
+        .register(registry);
+
+    Gauge.builder("che.http_client.requests.queued", factory::getQueuedRequestCount)
+        .description("The number of asynchronous requests waiting for the concurrency limits")
+        .register(registry);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.core.jsonrpc.commons.ResponseDispatcher;
+import org.eclipse.che.api.core.jsonrpc.impl.ServerSideRequestProcessor;
+import org.eclipse.che.api.core.jsonrpc.impl.ServerSideRequestProcessor.MethodStatistics;
+
+/**
+ * Provides metrics of the JSON RPC requests sent by the master and of the requests processed by
+ * it, the latter are tagged by the method.
+ */
+@Singleton
+public class JsonRpcMeterBinder implements MeterBinder {
+
+  private final ResponseDispatcher responseDispatcher;
+  private final ServerSideRequestProcessor requestProcessor;
+
+  @Inject
+  public JsonRpcMeterBinder(
+      ResponseDispatcher responseDispatcher, ServerSideRequestProcessor requestProcessor) {
+    this.responseDispatcher = responseDispatcher;
+    this.requestProcessor = requestProcessor;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("che.jsonrpc.requests.inflight", responseDispatcher::getPendingPromisesCount)
+        .description("The number of JSON RPC requests waiting for a response")
+        .register(registry);
+
+    FunctionCounter.builder(
+            "che.jsonrpc.requests.timeout",
+            responseDispatcher,
+            ResponseDispatcher::getTimedOutPromisesCount)
+        .description("The number of JSON RPC requests which did not get a response in time")
+        .register(registry);
+
+    requestProcessor.setMethodStatisticsListener(statistics -> bindTo(registry, statistics));
+    for (MethodStatistics statistics : requestProcessor.getMethodStatistics()) {
+      bindTo(registry, statistics);
+    }
+  }
+
+  private void bindTo(MeterRegistry registry, MethodStatistics statistics) {
+    Gauge.builder("che.jsonrpc.method.requests.waiting", statistics::getWaitingRequests)
+        .tag("method", statistics.getMethod())
+        .description("The number of requests waiting for the method concurrency limit")
+        .register(registry);
+
+    FunctionCounter.builder(
+            "che.jsonrpc.method.requests.rejected",
+            statistics,
+            MethodStatistics::getRejectedRequests)
+        .tag("method", statistics.getMethod())
+        .description("The number of requests rejected because the method queue was full")
+        .register(registry);
+
+    FunctionTimer.builder(
+            "che.jsonrpc.method.requests.processing",
+            statistics,
+            MethodStatistics::getProcessedRequests,
+            MethodStatistics::getProcessingTimeNanos,
+            NANOSECONDS)
+        .tag("method", statistics.getMethod())
+        .description("The time from receiving to finishing processing of requests")
+        .register(registry);
+  }
+}
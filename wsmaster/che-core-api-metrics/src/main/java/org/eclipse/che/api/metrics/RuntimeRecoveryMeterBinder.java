@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static org.eclipse.che.api.metrics.WorkspaceBinders.withStandardTags;
+import static org.eclipse.che.api.metrics.WorkspaceBinders.workspaceMetric;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.workspace.server.WorkspaceRuntimes;
+
+/** Provides metrics of the progress of runtimes recovery on the start of workspace master. */
+@Singleton
+public class RuntimeRecoveryMeterBinder implements MeterBinder {
+
+  private final WorkspaceRuntimes workspaceRuntimes;
+
+  @Inject
+  public RuntimeRecoveryMeterBinder(WorkspaceRuntimes workspaceRuntimes) {
+    this.workspaceRuntimes = workspaceRuntimes;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder(workspaceMetric("recovery.total"), workspaceRuntimes::getRuntimesToRecover)
+        .tags(withStandardTags())
+        .description("The number of runtimes to recover on the start of workspace master")
+        .register(registry);
+
+    Gauge.builder(workspaceMetric("recovery.recovered"), workspaceRuntimes::getRecoveredRuntimes)
+        .tags(withStandardTags())
+        .description("The number of runtimes recovered so far")
+        .register(registry);
+
+    Gauge.builder(workspaceMetric("recovery.failed"), workspaceRuntimes::getFailedRuntimeRecoveries)
+        .tags(withStandardTags())
+        .description("The number of runtimes which failed to be recovered")
+        .register(registry);
+  }
+}
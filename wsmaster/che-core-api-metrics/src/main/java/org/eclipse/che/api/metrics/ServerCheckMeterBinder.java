@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.eclipse.che.api.metrics.WorkspaceBinders.withStandardTags;
+import static org.eclipse.che.api.metrics.WorkspaceBinders.workspaceMetric;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.workspace.server.hc.probe.ProbeEngine;
+
+/** Provides metrics of the readiness checks and liveness probes of workspace servers. */
+@Singleton
+public class ServerCheckMeterBinder implements MeterBinder {
+
+  private final ProbeEngine probeEngine;
+
+  @Inject
+  public ServerCheckMeterBinder(ProbeEngine probeEngine) {
+    this.probeEngine = probeEngine;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder(workspaceMetric("server.check.active"), probeEngine::getActiveChecks)
+        .tags(withStandardTags())
+        .description("The number of workspace server checks which are in progress")
+        .register(registry);
+
+    FunctionTimer.builder(
+            workspaceMetric("server.check"),
+            probeEngine,
+            ProbeEngine::getCompletedChecks,
+            ProbeEngine::getCompletedChecksNanos,
+            NANOSECONDS)
+        .tags(withStandardTags())
+        .description("The latency of workspace server checks")
+        .register(registry);
+  }
+}
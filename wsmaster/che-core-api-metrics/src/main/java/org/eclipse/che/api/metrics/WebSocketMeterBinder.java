@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.core.websocket.impl.BasicWebSocketMessageTransmitter;
+
+/** Provides metrics of the outbound websocket message queues. */
+@Singleton
+public class WebSocketMeterBinder implements MeterBinder {
+
+  private final BasicWebSocketMessageTransmitter transmitter;
+
+  @Inject
+  public WebSocketMeterBinder(BasicWebSocketMessageTransmitter transmitter) {
+    this.transmitter = transmitter;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("che.websocket.queue.size", transmitter::getQueuedMessagesCount)
+        .description("The number of messages waiting to be sent to websocket sessions")
+        .register(registry);
+
+    FunctionCounter.builder(
+            "che.websocket.messages.dropped",
+            transmitter,
+            BasicWebSocketMessageTransmitter::getDroppedMessagesCount)
+        .description("The number of messages dropped because a websocket session was too slow")
+        .register(registry);
+
+    FunctionTimer.builder(
+            "che.websocket.messages.send",
+            transmitter,
+            BasicWebSocketMessageTransmitter::getSentMessagesCount,
+            BasicWebSocketMessageTransmitter::getSendTimeNanos,
+            NANOSECONDS)
+        .description("The time of sending messages to websocket sessions")
+        .register(registry);
+  }
+}
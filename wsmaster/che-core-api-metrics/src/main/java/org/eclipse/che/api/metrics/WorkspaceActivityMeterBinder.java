@@ -14,41 +14,99 @@ package org.eclipse.che.api.metrics;
 import static org.eclipse.che.api.metrics.WorkspaceBinders.withStandardTags;
 import static org.eclipse.che.api.metrics.WorkspaceBinders.workspaceMetric;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.workspace.activity.WorkspaceActivityManager;
+import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
+import org.eclipse.che.api.workspace.shared.event.WorkspaceCreatedEvent;
+import org.eclipse.che.api.workspace.shared.event.WorkspaceRemovedEvent;
+import org.eclipse.che.commons.schedule.ScheduleDelay;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-/** Provides metrics of workspace activity. */
+/**
+ * Provides metrics of workspace activity.
+ *
+ * <p>The number of workspaces in each status is kept in memory and updated from workspace events,
+ * so scraping the metrics doesn't query the activity records. The counts are periodically
+ * reconciled with the activity records to correct possible drift, e.g. caused by status changes
+ * performed by other servers.
+ */
 @Singleton
 public class WorkspaceActivityMeterBinder implements MeterBinder {
 
+  private static final Logger LOG = LoggerFactory.getLogger(WorkspaceActivityMeterBinder.class);
+
   private final WorkspaceActivityManager activityManager;
+  private final EventService eventService;
+  private final Map<WorkspaceStatus, AtomicLong> counts = new EnumMap<>(WorkspaceStatus.class);
 
   @Inject
-  public WorkspaceActivityMeterBinder(WorkspaceActivityManager activityManager) {
+  public WorkspaceActivityMeterBinder(
+      WorkspaceActivityManager activityManager, EventService eventService) {
     this.activityManager = activityManager;
+    this.eventService = eventService;
+    for (WorkspaceStatus s : WorkspaceStatus.values()) {
+      counts.put(s, new AtomicLong());
+    }
   }
 
   @Override
   public void bindTo(MeterRegistry registry) {
     for (WorkspaceStatus s : WorkspaceStatus.values()) {
-      Gauge.builder(workspaceMetric("status"), () -> count(s))
+      Gauge.builder(workspaceMetric("status"), counts.get(s), AtomicLong::get)
           .tags(withStandardTags("status", s.name()))
           .description("The number of workspaces in a given status")
           .register(registry);
     }
+
+    eventService.subscribe(this::onStatusChanged, WorkspaceStatusEvent.class);
+    eventService.subscribe(
+        event -> counts.get(WorkspaceStatus.STOPPED).incrementAndGet(),
+        WorkspaceCreatedEvent.class);
+    eventService.subscribe(
+        event -> counts.get(WorkspaceStatus.STOPPED).decrementAndGet(),
+        WorkspaceRemovedEvent.class);
+
+    reconcile();
+  }
+
+  /**
+   * Replaces the counts with the numbers of activity records in each status. Status changes which
+   * happen while counting may be reflected twice or not at all until the next reconciliation.
+   */
+  @ScheduleDelay(
+      initialDelayParameterName = "che.metrics.workspace_status.reconcile_period_s",
+      delayParameterName = "che.metrics.workspace_status.reconcile_period_s")
+  @VisibleForTesting
+  void reconcile() {
+    long now = System.currentTimeMillis();
+    for (WorkspaceStatus s : WorkspaceStatus.values()) {
+      try {
+        counts.get(s).set(activityManager.countWorkspacesInStatus(s, now));
+      } catch (ServerException e) {
+        LOG.warn(
+            "Failed to count workspaces in status {}, keeping the previous count. Cause: {}",
+            s,
+            e.getMessage());
+      }
+    }
   }
 
-  private double count(WorkspaceStatus status) {
-    try {
-      return activityManager.countWorkspacesInStatus(status, System.currentTimeMillis());
-    } catch (ServerException e) {
-      return Double.NaN;
+  private void onStatusChanged(WorkspaceStatusEvent event) {
+    if (event.getPrevStatus() != null) {
+      counts.get(event.getPrevStatus()).decrementAndGet();
     }
+    counts.get(event.getStatus()).incrementAndGet();
   }
 }
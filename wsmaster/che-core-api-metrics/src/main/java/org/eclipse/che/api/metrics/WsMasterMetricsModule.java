@@ -36,5 +36,11 @@ public class WsMasterMetricsModule extends AbstractModule {
     meterMultibinder.addBinding().to(UserMeterBinder.class);
     meterMultibinder.addBinding().to(RuntimeLogMeterBinder.class);
     meterMultibinder.addBinding().to(WorkspaceMeterBinder.class);
+    meterMultibinder.addBinding().to(WebSocketMeterBinder.class);
+    meterMultibinder.addBinding().to(EventServiceMeterBinder.class);
+    meterMultibinder.addBinding().to(JsonRpcMeterBinder.class);
+    meterMultibinder.addBinding().to(HttpJsonRequestMeterBinder.class);
+    meterMultibinder.addBinding().to(RuntimeRecoveryMeterBinder.class);
+    meterMultibinder.addBinding().to(ServerCheckMeterBinder.class);
   }
 }
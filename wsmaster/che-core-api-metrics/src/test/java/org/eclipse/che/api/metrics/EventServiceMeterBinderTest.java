@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.che.api.core.notification.AsyncEventSubscriber;
+import org.eclipse.che.api.core.notification.EventService;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(MockitoTestNGListener.class)
+public class EventServiceMeterBinderTest {
+
+  @Mock private EventService eventService;
+
+  private AsyncEventSubscriber<?> subscriber1;
+  private AsyncEventSubscriber<?> subscriber2;
+  private MeterRegistry registry;
+
+  @BeforeMethod
+  public void setUp() {
+    subscriber1 = mock(AsyncEventSubscriber.class);
+    subscriber2 = mock(AsyncEventSubscriber.class);
+    when(eventService.getAsyncSubscribers()).thenReturn(asList(subscriber1, subscriber2));
+
+    registry = new SimpleMeterRegistry();
+    new EventServiceMeterBinder(eventService).bindTo(registry);
+  }
+
+  @Test
+  public void shouldCollectPendingEvents() {
+    when(subscriber1.getPendingEvents()).thenReturn(3);
+    when(subscriber2.getPendingEvents()).thenReturn(4);
+
+    assertEquals(registry.find("che.event.async.pending").gauge().value(), 7.0);
+  }
+
+  @Test
+  public void shouldCollectDeliveryLag() {
+    when(subscriber1.getDeliveredEvents()).thenReturn(1L);
+    when(subscriber1.getLagNanos()).thenReturn(2_000_000L);
+    when(subscriber2.getDeliveredEvents()).thenReturn(3L);
+    when(subscriber2.getLagNanos()).thenReturn(6_000_000L);
+
+    FunctionTimer timer = registry.find("che.event.async.lag").functionTimer();
+
+    assertEquals(timer.count(), 4.0);
+    assertEquals(timer.totalTime(MILLISECONDS), 8.0);
+  }
+
+  @Test
+  public void shouldCollectDroppedEvents() {
+    when(subscriber1.getDroppedEvents()).thenReturn(2L);
+    when(subscriber2.getDroppedEvents()).thenReturn(5L);
+
+    assertEquals(registry.find("che.event.async.dropped").functionCounter().count(), 7.0);
+  }
+}
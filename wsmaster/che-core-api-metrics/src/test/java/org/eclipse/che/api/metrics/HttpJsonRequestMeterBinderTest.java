@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.che.api.core.rest.DefaultHttpJsonRequestFactory;
+import org.eclipse.che.api.core.rest.PooledHttpJsonRequestFactory;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(MockitoTestNGListener.class)
+public class HttpJsonRequestMeterBinderTest {
+
+  @Mock private PooledHttpJsonRequestFactory requestFactory;
+
+  private MeterRegistry registry;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  public void shouldCollectPoolAndQueueSizes() {
+    new HttpJsonRequestMeterBinder(requestFactory).bindTo(registry);
+    when(requestFactory.getConnectionCount()).thenReturn(5);
+    when(requestFactory.getIdleConnectionCount()).thenReturn(3);
+    when(requestFactory.getRunningRequestCount()).thenReturn(2);
+    when(requestFactory.getQueuedRequestCount()).thenReturn(7);
+
+    assertEquals(registry.find("che.http_client.connections").gauge().value(), 5.0);
+    assertEquals(registry.find("che.http_client.connections.idle").gauge().value(), 3.0);
+    assertEquals(registry.find("che.http_client.requests.running").gauge().value(), 2.0);
+    assertEquals(registry.find("che.http_client.requests.queued").gauge().value(), 7.0);
+  }
+
+  @Test
+  public void shouldNotRegisterMetersForDefaultFactory() {
+    new HttpJsonRequestMeterBinder(new DefaultHttpJsonRequestFactory()).bindTo(registry);
+
+    assertTrue(registry.getMeters().isEmpty());
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.function.Consumer;
+import org.eclipse.che.api.core.jsonrpc.commons.ResponseDispatcher;
+import org.eclipse.che.api.core.jsonrpc.impl.ServerSideRequestProcessor;
+import org.eclipse.che.api.core.jsonrpc.impl.ServerSideRequestProcessor.MethodStatistics;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(MockitoTestNGListener.class)
+public class JsonRpcMeterBinderTest {
+
+  @Mock private ResponseDispatcher responseDispatcher;
+  @Mock private ServerSideRequestProcessor requestProcessor;
+  @Captor private ArgumentCaptor<Consumer<MethodStatistics>> listenerCaptor;
+
+  private MeterRegistry registry;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    new JsonRpcMeterBinder(responseDispatcher, requestProcessor).bindTo(registry);
+  }
+
+  @Test
+  public void shouldCollectInFlightRequests() {
+    when(responseDispatcher.getPendingPromisesCount()).thenReturn(12L);
+
+    assertEquals(registry.find("che.jsonrpc.requests.inflight").gauge().value(), 12.0);
+  }
+
+  @Test
+  public void shouldCollectTimedOutRequests() {
+    when(responseDispatcher.getTimedOutPromisesCount()).thenReturn(2L);
+
+    assertEquals(registry.find("che.jsonrpc.requests.timeout").functionCounter().count(), 2.0);
+  }
+
+  @Test
+  public void shouldCollectProcessingOfMethods() {
+    MethodStatistics statistics = mock(MethodStatistics.class);
+    when(statistics.getMethod()).thenReturn("test/method");
+    when(statistics.getWaitingRequests()).thenReturn(3);
+    when(statistics.getProcessedRequests()).thenReturn(4L);
+    when(statistics.getRejectedRequests()).thenReturn(5L);
+    when(statistics.getProcessingTimeNanos()).thenReturn(8_000_000L);
+    when(requestProcessor.getMethodStatistics()).thenReturn(singletonList(statistics));
+
+    new JsonRpcMeterBinder(responseDispatcher, requestProcessor).bindTo(registry);
+
+    Gauge gauge =
+        registry.find("che.jsonrpc.method.requests.waiting").tag("method", "test/method").gauge();
+    assertEquals(gauge.value(), 3.0);
+    assertEquals(
+        registry
+            .find("che.jsonrpc.method.requests.rejected")
+            .tag("method", "test/method")
+            .functionCounter()
+            .count(),
+        5.0);
+    FunctionTimer timer =
+        registry
+            .find("che.jsonrpc.method.requests.processing")
+            .tag("method", "test/method")
+            .functionTimer();
+    assertEquals(timer.count(), 4.0);
+    assertEquals(timer.totalTime(MILLISECONDS), 8.0);
+  }
+
+  @Test
+  public void shouldCollectProcessingOfNewlyRequestedMethods() {
+    verify(requestProcessor).setMethodStatisticsListener(listenerCaptor.capture());
+    MethodStatistics statistics = mock(MethodStatistics.class);
+    when(statistics.getMethod()).thenReturn("test/method");
+
+    listenerCaptor.getValue().accept(statistics);
+
+    assertNotNull(
+        registry
+            .find("che.jsonrpc.method.requests.processing")
+            .tag("method", "test/method")
+            .functionTimer());
+  }
+}
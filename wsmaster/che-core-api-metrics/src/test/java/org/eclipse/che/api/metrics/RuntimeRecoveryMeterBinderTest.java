@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.che.api.workspace.server.WorkspaceRuntimes;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(MockitoTestNGListener.class)
+public class RuntimeRecoveryMeterBinderTest {
+
+  @Mock private WorkspaceRuntimes workspaceRuntimes;
+
+  private MeterRegistry registry;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    new RuntimeRecoveryMeterBinder(workspaceRuntimes).bindTo(registry);
+  }
+
+  @Test
+  public void shouldCollectRecoveryProgress() {
+    when(workspaceRuntimes.getRuntimesToRecover()).thenReturn(500);
+    when(workspaceRuntimes.getRecoveredRuntimes()).thenReturn(120);
+    when(workspaceRuntimes.getFailedRuntimeRecoveries()).thenReturn(3);
+
+    assertEquals(registry.find("che.workspace.recovery.total").gauge().value(), 500.0);
+    assertEquals(registry.find("che.workspace.recovery.recovered").gauge().value(), 120.0);
+    assertEquals(registry.find("che.workspace.recovery.failed").gauge().value(), 3.0);
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.che.api.workspace.server.hc.probe.ProbeEngine;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(MockitoTestNGListener.class)
+public class ServerCheckMeterBinderTest {
+
+  @Mock private ProbeEngine probeEngine;
+
+  private MeterRegistry registry;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    new ServerCheckMeterBinder(probeEngine).bindTo(registry);
+  }
+
+  @Test
+  public void shouldCollectActiveChecks() {
+    when(probeEngine.getActiveChecks()).thenReturn(12);
+
+    assertEquals(registry.find("che.workspace.server.check.active").gauge().value(), 12.0);
+  }
+
+  @Test
+  public void shouldCollectChecksLatency() {
+    when(probeEngine.getCompletedChecks()).thenReturn(4L);
+    when(probeEngine.getCompletedChecksNanos()).thenReturn(10_000_000L);
+
+    FunctionTimer timer = registry.find("che.workspace.server.check").functionTimer();
+
+    assertEquals(timer.count(), 4.0);
+    assertEquals(timer.totalTime(MILLISECONDS), 10.0);
+  }
+}
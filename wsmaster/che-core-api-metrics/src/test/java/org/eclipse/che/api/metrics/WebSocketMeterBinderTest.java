@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.che.api.core.websocket.impl.BasicWebSocketMessageTransmitter;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(MockitoTestNGListener.class)
+public class WebSocketMeterBinderTest {
+
+  @Mock private BasicWebSocketMessageTransmitter transmitter;
+
+  private MeterRegistry registry;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    new WebSocketMeterBinder(transmitter).bindTo(registry);
+  }
+
+  @Test
+  public void shouldCollectQueueSize() {
+    when(transmitter.getQueuedMessagesCount()).thenReturn(42L);
+
+    assertEquals(registry.find("che.websocket.queue.size").gauge().value(), 42.0);
+  }
+
+  @Test
+  public void shouldCollectDroppedMessages() {
+    when(transmitter.getDroppedMessagesCount()).thenReturn(3L);
+
+    assertEquals(registry.find("che.websocket.messages.dropped").functionCounter().count(), 3.0);
+  }
+
+  @Test
+  public void shouldCollectSendTime() {
+    when(transmitter.getSentMessagesCount()).thenReturn(4L);
+    when(transmitter.getSendTimeNanos()).thenReturn(8_000_000L);
+
+    FunctionTimer timer = registry.find("che.websocket.messages.send").functionTimer();
+
+    assertEquals(timer.count(), 4.0);
+    assertEquals(timer.totalTime(MILLISECONDS), 8.0);
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STARTING;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPED;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPING;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.workspace.activity.WorkspaceActivityManager;
+import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class WorkspaceActivityMeterBinderTest {
+
+  private EventService eventService;
+  private WorkspaceActivityManager activityManager;
+  private MeterRegistry registry;
+  private WorkspaceActivityMeterBinder meterBinder;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    eventService = new EventService();
+    activityManager = mock(WorkspaceActivityManager.class);
+    when(activityManager.countWorkspacesInStatus(eq(STOPPED), anyLong())).thenReturn(1000L);
+    when(activityManager.countWorkspacesInStatus(eq(RUNNING), anyLong())).thenReturn(2L);
+    registry = new SimpleMeterRegistry();
+    meterBinder = new WorkspaceActivityMeterBinder(activityManager, eventService);
+    meterBinder.bindTo(registry);
+  }
+
+  @Test
+  public void shouldInitializeCountsFromActivityRecords() {
+    assertEquals(count(STOPPED), 1000d);
+    assertEquals(count(RUNNING), 2d);
+    assertEquals(count(STARTING), 0d);
+    assertEquals(count(STOPPING), 0d);
+  }
+
+  @Test
+  public void shouldNotQueryActivityRecordsWhenMetricsAreRead() throws Exception {
+    for (int i = 0; i < 10; i++) {
+      count(RUNNING);
+    }
+
+    verify(activityManager, times(WorkspaceStatus.values().length))
+        .countWorkspacesInStatus(any(), anyLong());
+  }
+
+  @Test
+  public void shouldMoveWorkspaceBetweenStatusesOnStatusChange() {
+    publish(STOPPED, STARTING);
+    publish(STARTING, RUNNING);
+    publish(RUNNING, STOPPING);
+
+    assertEquals(count(STOPPED), 999d);
+    assertEquals(count(RUNNING), 2d);
+    assertEquals(count(STOPPING), 1d);
+  }
+
+  @Test
+  public void shouldReplaceCountsWithActivityRecordsOnReconciliation() throws Exception {
+    publish(STOPPED, STARTING);
+    when(activityManager.countWorkspacesInStatus(eq(STARTING), anyLong())).thenReturn(0L);
+    when(activityManager.countWorkspacesInStatus(eq(RUNNING), anyLong())).thenReturn(3L);
+    when(activityManager.countWorkspacesInStatus(eq(STOPPED), anyLong())).thenReturn(9L);
+
+    meterBinder.reconcile();
+
+    assertEquals(count(STARTING), 0d);
+    assertEquals(count(RUNNING), 3d);
+    assertEquals(count(STOPPED), 9d);
+  }
+
+  @Test
+  public void shouldKeepPreviousCountWhenReconciliationFails() throws Exception {
+    publish(STOPPED, STARTING);
+    when(activityManager.countWorkspacesInStatus(eq(STARTING), anyLong()))
+        .thenThrow(new ServerException("error"));
+
+    meterBinder.reconcile();
+
+    assertEquals(count(STARTING), 1d);
+  }
+
+  @Test
+  public void shouldKeepCountsAccurateUnderConcurrentStartStopChurn() throws Exception {
+    final int threads = 8;
+    final int workspacesPerThread = 50;
+    final int cycles = 100;
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<CompletableFuture<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(
+            CompletableFuture.runAsync(
+                () -> {
+                  for (int c = 0; c < cycles; c++) {
+                    for (int w = 0; w < workspacesPerThread; w++) {
+                      publish(STOPPED, STARTING);
+                      publish(STARTING, RUNNING);
+                      publish(RUNNING, STOPPING);
+                      publish(STOPPING, STOPPED);
+                    }
+                  }
+                  // leave workspaces of each thread running
+                  for (int w = 0; w < workspacesPerThread; w++) {
+                    publish(STOPPED, STARTING);
+                    publish(STARTING, RUNNING);
+                  }
+                },
+                executor));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(1, TimeUnit.MINUTES);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(count(RUNNING), 2d + threads * workspacesPerThread);
+    assertEquals(count(STOPPED), 1000d - threads * workspacesPerThread);
+    assertEquals(count(STARTING), 0d);
+    assertEquals(count(STOPPING), 0d);
+  }
+
+  private void publish(WorkspaceStatus prevStatus, WorkspaceStatus status) {
+    eventService.publish(
+        DtoFactory.newDto(WorkspaceStatusEvent.class)
+            .withWorkspaceId("ws1")
+            .withPrevStatus(prevStatus)
+            .withStatus(status));
+  }
+
+  private double count(WorkspaceStatus status) {
+    return registry.get("che.workspace.status").tag("status", status.name()).gauge().value();
+  }
+}
@@ -13,8 +13,13 @@ package org.eclipse.che.api.workspace.activity;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.collect.Lists;
 import com.google.inject.persist.Transactional;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
@@ -36,6 +41,9 @@ import org.eclipse.che.core.db.jpa.IntegrityConstraintViolationException;
 @Singleton
 public class JpaWorkspaceActivityDao implements WorkspaceActivityDao {
 
+  /** Max number of workspace ids passed to a single query while updating expiration times. */
+  private static final int UPDATE_PARTITION_SIZE = 500;
+
   @Inject private Provider<EntityManager> managerProvider;
 
   @Override
@@ -44,6 +52,23 @@ public class JpaWorkspaceActivityDao implements WorkspaceActivityDao {
     doUpdate(workspaceId, a -> a.setExpiration(expirationTime));
   }
 
+  @Override
+  public void setExpirationTimes(Map<String, Long> expirationTimes) throws ServerException {
+    requireNonNull(expirationTimes, "Required non-null expiration times");
+    if (expirationTimes.isEmpty()) {
+      return;
+    }
+    try {
+      doUpdateExpirations(expirationTimes);
+    } catch (IntegrityConstraintViolationException e) {
+      throw new ServerException(
+          "Can not create activity records since some of the specified workspaces do not exist.",
+          e);
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getMessage(), x);
+    }
+  }
+
   @Override
   public void removeExpiration(String workspaceId) throws ServerException {
     requireNonNull(workspaceId, "Required non-null workspace id");
@@ -308,6 +333,36 @@ public class JpaWorkspaceActivityDao implements WorkspaceActivityDao {
     em.flush();
   }
 
+  /**
+   * Loads the activity records of the given workspaces with a query per {@link
+   * #UPDATE_PARTITION_SIZE} workspaces instead of a lookup per workspace, so the whole update takes
+   * a single transaction and a single flush.
+   */
+  @Transactional
+  void doUpdateExpirations(Map<String, Long> expirationTimes) {
+    EntityManager em = managerProvider.get();
+    Set<String> missing = new HashSet<>(expirationTimes.keySet());
+    for (List<String> workspaceIds :
+        Lists.partition(new ArrayList<>(expirationTimes.keySet()), UPDATE_PARTITION_SIZE)) {
+      List<WorkspaceActivity> activities =
+          em.createNamedQuery("WorkspaceActivity.getByWorkspaceIds", WorkspaceActivity.class)
+              .setParameter("workspaceIds", workspaceIds)
+              .getResultList();
+      for (WorkspaceActivity activity : activities) {
+        activity.setExpiration(expirationTimes.get(activity.getWorkspaceId()));
+        missing.remove(activity.getWorkspaceId());
+      }
+    }
+    for (String workspaceId : missing) {
+      WorkspaceActivity activity = new WorkspaceActivity();
+      activity.setWorkspaceId(workspaceId);
+      activity.setExpiration(expirationTimes.get(workspaceId));
+      em.persist(activity);
+    }
+
+    em.flush();
+  }
+
   private static String firstUpperCase(String str) {
     return Character.toUpperCase(str.charAt(0)) + str.substring(1).toLowerCase();
   }
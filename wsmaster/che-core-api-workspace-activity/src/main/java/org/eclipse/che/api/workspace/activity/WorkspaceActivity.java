@@ -28,6 +28,9 @@ import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
   @NamedQuery(
       name = "WorkspaceActivity.getExpired",
       query = "SELECT a FROM WorkspaceActivity a WHERE a.expiration < :expiration"),
+  @NamedQuery(
+      name = "WorkspaceActivity.getByWorkspaceIds",
+      query = "SELECT a FROM WorkspaceActivity a WHERE a.workspaceId IN :workspaceIds"),
   @NamedQuery(
       name = "WorkspaceActivity.getStoppedSince",
       query =
@@ -19,6 +19,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.time.Clock;
+import javax.inject.Named;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.Pages;
@@ -38,6 +39,14 @@ import org.slf4j.LoggerFactory;
  * {@link #cleanup()} which will try to clean up and reconcile the possibly invalid activity
  * records.
  *
+ * <p>Expired workspaces are found in the {@link WorkspaceExpirationIndex} of the {@link
+ * WorkspaceActivityManager} and are checked against their activity records before stopping, so the
+ * activity records are not queried on every check. The index is recovered from the activity
+ * records by the first {@link #cleanup()} which goes through all of them anyway, until then the
+ * expired workspaces are queried from the storage. The index of this server doesn't know about the
+ * expiration times set by other servers, so the expired workspaces are also queried from the
+ * storage once in {@code che.workspace.activity_check_storage_period_checks} checks.
+ *
  * @author Lukas Krejci
  */
 @Singleton
@@ -50,19 +59,28 @@ public class WorkspaceActivityChecker {
   private final WorkspaceManager workspaceManager;
   private final WorkspaceRuntimes workspaceRuntimes;
   private final WorkspaceActivityManager workspaceActivityManager;
+  private final WorkspaceExpirationIndex expirationIndex;
   private final Clock clock;
 
+  private final int storageCheckPeriod;
+
+  private volatile boolean expirationsIndexed;
+  // checks are not run concurrently
+  private int indexedChecks;
+
   @Inject
   public WorkspaceActivityChecker(
       WorkspaceActivityDao activityDao,
       WorkspaceManager workspaceManager,
       WorkspaceRuntimes workspaceRuntimes,
-      WorkspaceActivityManager workspaceActivityManager) {
+      WorkspaceActivityManager workspaceActivityManager,
+      @Named("che.workspace.activity_check_storage_period_checks") int storageCheckPeriod) {
     this(
         activityDao,
         workspaceManager,
         workspaceRuntimes,
         workspaceActivityManager,
+        storageCheckPeriod,
         Clock.systemDefaultZone());
   }
 
@@ -72,12 +90,15 @@ public class WorkspaceActivityChecker {
       WorkspaceManager workspaceManager,
       WorkspaceRuntimes workspaceRuntimes,
       WorkspaceActivityManager workspaceActivityManager,
+      int storageCheckPeriod,
       Clock clock) {
 
     this.activityDao = activityDao;
     this.workspaceManager = workspaceManager;
     this.workspaceRuntimes = workspaceRuntimes;
     this.workspaceActivityManager = workspaceActivityManager;
+    this.expirationIndex = workspaceActivityManager.getExpirationIndex();
+    this.storageCheckPeriod = storageCheckPeriod;
     this.clock = clock;
   }
 
@@ -100,13 +121,57 @@ public class WorkspaceActivityChecker {
   }
 
   private void stopAllExpired() {
+    // expiration times of the buffered activity must be stored before looking for expired ones
+    workspaceActivityManager.flush();
+    long now = clock.millis();
+    if (!expirationsIndexed) {
+      stopExpiredInStorage(now);
+      return;
+    }
+    for (String workspaceId : expirationIndex.getExpired(now)) {
+      try {
+        if (isExpired(workspaceId, now)) {
+          stopExpiredQuietly(workspaceId);
+        }
+      } catch (ServerException e) {
+        LOG.error(
+            "Failed to check expiration of workspace {}. Cause: {}",
+            workspaceId,
+            e.getMessage(),
+            e);
+      }
+    }
+    // picks up expiration times set by other servers, which are not in the index
+    if (storageCheckPeriod > 0 && ++indexedChecks % storageCheckPeriod == 0) {
+      stopExpiredInStorage(now);
+    }
+  }
+
+  private void stopExpiredInStorage(long now) {
     try {
-      activityDao.findExpired(clock.millis()).forEach(this::stopExpiredQuietly);
+      activityDao.findExpired(now).forEach(this::stopExpiredQuietly);
     } catch (ServerException e) {
       LOG.error("Failed to list all expired to perform stop. Cause: {}", e.getMessage(), e);
     }
   }
 
+  /**
+   * Checks the indexed expiration against the activity record, which may have been updated
+   * without this server knowing, and fixes the index if they differ.
+   */
+  private boolean isExpired(String workspaceId, long now) throws ServerException {
+    WorkspaceActivity activity = activityDao.findActivity(workspaceId);
+    if (activity == null || activity.getExpiration() == null) {
+      expirationIndex.remove(workspaceId);
+      return false;
+    }
+    if (activity.getExpiration() >= now) {
+      expirationIndex.put(workspaceId, activity.getExpiration());
+      return false;
+    }
+    return true;
+  }
+
   private void stopExpiredQuietly(String workspaceId) {
     try {
       Workspace workspace = workspaceManager.getWorkspace(workspaceId);
@@ -127,6 +192,7 @@ public class WorkspaceActivityChecker {
       } catch (ServerException e) {
         LOG.error(e.getMessage(), e);
       }
+      expirationIndex.remove(workspaceId);
     }
   }
 
@@ -173,11 +239,14 @@ public class WorkspaceActivityChecker {
 
   /**
    * Makes sure that any activity records are rectified if they do not reflect the true state of the
-   * workspace anymore.
+   * workspace anymore. Also adds the expiration times which are missing in the index.
    */
   private void reconcileActivityStatuses() {
     try {
       for (WorkspaceActivity a : Pages.iterateLazily(activityDao::getAll, 200)) {
+        if (a.getExpiration() != null) {
+          expirationIndex.putIfAbsent(a.getWorkspaceId(), a.getExpiration());
+        }
         try {
           reconcileOne(a);
         } catch (Exception e) {
@@ -188,6 +257,7 @@ public class WorkspaceActivityChecker {
               e);
         }
       }
+      expirationsIndexed = true;
     } catch (RuntimeException e) {
       LOG.error("Failed to load all activites to reconcile them. Cause: {}", e.getMessage(), e);
     }
@@ -12,6 +12,7 @@
 package org.eclipse.che.api.workspace.activity;
 
 import java.util.List;
+import java.util.Map;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
@@ -34,6 +35,19 @@ public interface WorkspaceActivityDao {
    */
   void setExpirationTime(String workspaceId, long expirationTime) throws ServerException;
 
+  /**
+   * Sets expiration times of several workspaces at once. Implementations are expected to store all
+   * the expiration times in a single transaction, so either all of them are stored or none.
+   *
+   * @param expirationTimes the new expiration times mapped by the ids of the workspaces
+   * @throws ServerException when operation failed
+   */
+  default void setExpirationTimes(Map<String, Long> expirationTimes) throws ServerException {
+    for (Map.Entry<String, Long> entry : expirationTimes.entrySet()) {
+      setExpirationTime(entry.getKey(), entry.getValue());
+    }
+  }
+
   /**
    * Removes workspace expiration time (basically used on ws stop).
    *
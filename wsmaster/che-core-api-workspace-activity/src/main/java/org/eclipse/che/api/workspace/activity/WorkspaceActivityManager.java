@@ -15,6 +15,10 @@ import static org.eclipse.che.api.workspace.shared.Constants.WORKSPACE_STOPPED_B
 
 import com.google.common.annotations.VisibleForTesting;
 import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
@@ -24,13 +28,16 @@ import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.workspace.Workspace;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.eclipse.che.api.core.notification.AsyncEventSubscriber;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.core.notification.TimestampedEventSubscriber;
 import org.eclipse.che.api.workspace.server.WorkspaceManager;
 import org.eclipse.che.api.workspace.server.event.BeforeWorkspaceRemovedEvent;
 import org.eclipse.che.api.workspace.shared.Constants;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
 import org.eclipse.che.api.workspace.shared.event.WorkspaceCreatedEvent;
+import org.eclipse.che.commons.schedule.ScheduleDelay;
 import org.eclipse.che.core.db.cascade.CascadeEventSubscriber;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +51,15 @@ import org.slf4j.LoggerFactory;
  * one minute rate. If workspace idle timeout is negative, then workspace would not be stopped
  * automatically.
  *
+ * <p>Activity updates are buffered in memory, only the latest activity time of each workspace is
+ * kept, and the buffer is flushed to the storage in batches with the configured period. So a
+ * crash of the server loses at most the activity of the last period. Buffering is disabled when
+ * the period is negative.
+ *
+ * <p>Status changes are recorded asynchronously with the time they were published, in the order of
+ * publishing for each workspace. The activity of a removed workspace is removed in the same order,
+ * after the status changes of the workspace which are waiting to be recorded.
+ *
  * @author Anton Korneta
  */
 @Singleton
@@ -53,7 +69,13 @@ public class WorkspaceActivityManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(WorkspaceActivityManager.class);
 
+  private static final long STATUS_CHANGES_TIMEOUT_SECONDS = 60;
+
   private final long defaultTimeout;
+  private final long flushPeriodMs;
+  private final Map<String, Long> pendingActivities = new ConcurrentHashMap<>();
+  private final Object flushLock = new Object();
+  private final WorkspaceExpirationIndex expirationIndex = new WorkspaceExpirationIndex();
   private final WorkspaceActivityDao activityDao;
   private final EventService eventService;
   private final EventSubscriber<WorkspaceStatusEvent> updateStatusChangedTimestampSubscriber;
@@ -64,14 +86,23 @@ public class WorkspaceActivityManager {
 
   private final Clock clock;
 
+  private volatile AsyncEventSubscriber<WorkspaceStatusEvent> statusChangeDelivery;
+
   @Inject
   public WorkspaceActivityManager(
       WorkspaceManager workspaceManager,
       WorkspaceActivityDao activityDao,
       EventService eventService,
-      @Named("che.limits.workspace.idle.timeout") long timeout) {
+      @Named("che.limits.workspace.idle.timeout") long timeout,
+      @Named("che.workspace.activity_flush_period_ms") long flushPeriodMs) {
 
-    this(workspaceManager, activityDao, eventService, timeout, Clock.systemDefaultZone());
+    this(
+        workspaceManager,
+        activityDao,
+        eventService,
+        timeout,
+        flushPeriodMs,
+        Clock.systemDefaultZone());
   }
 
   @VisibleForTesting
@@ -80,11 +111,13 @@ public class WorkspaceActivityManager {
       WorkspaceActivityDao activityDao,
       EventService eventService,
       long timeout,
+      long flushPeriodMs,
       Clock clock) {
     this.workspaceManager = workspaceManager;
     this.eventService = eventService;
     this.activityDao = activityDao;
     this.defaultTimeout = timeout;
+    this.flushPeriodMs = flushPeriodMs;
     this.clock = clock;
     if (timeout > 0 && timeout < MINIMAL_TIMEOUT) {
       LOG.warn(
@@ -113,7 +146,22 @@ public class WorkspaceActivityManager {
         new CascadeEventSubscriber<BeforeWorkspaceRemovedEvent>() {
           @Override
           public void onCascadeEvent(BeforeWorkspaceRemovedEvent event) throws Exception {
-            activityDao.removeActivity(event.getWorkspace().getId());
+            String workspaceId = event.getWorkspace().getId();
+            // the pending status changes of the workspace are recorded before the removal
+            try {
+              statusChangeDelivery.callInOrder(
+                  workspaceId,
+                  () -> {
+                    pendingActivities.remove(workspaceId);
+                    activityDao.removeActivity(workspaceId);
+                    expirationIndex.remove(workspaceId);
+                    return null;
+                  },
+                  STATUS_CHANGES_TIMEOUT_SECONDS,
+                  TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+              throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
           }
         };
 
@@ -123,28 +171,92 @@ public class WorkspaceActivityManager {
   @VisibleForTesting
   @PostConstruct
   void subscribe() {
-    eventService.subscribe(updateStatusChangedTimestampSubscriber, WorkspaceStatusEvent.class);
+    statusChangeDelivery =
+        eventService.subscribeAsync(
+            updateStatusChangedTimestampSubscriber,
+            WorkspaceStatusEvent.class,
+            WorkspaceStatusEvent::getWorkspaceId);
     eventService.subscribe(setCreatedTimestampSubscriber, WorkspaceCreatedEvent.class);
     eventService.subscribe(workspaceActivityRemover, BeforeWorkspaceRemovedEvent.class);
   }
 
   /**
-   * Update the expiry period the workspace if it exists, otherwise add new one
+   * Update the expiry period the workspace if it exists, otherwise add new one. When buffering is
+   * enabled the expiry period is updated by the next {@link #flush()}.
    *
    * @param wsId active workspace identifier
    * @param activityTime moment in which the activity occurred
    */
   public void update(String wsId, long activityTime) {
+    if (flushPeriodMs > 0) {
+      pendingActivities.merge(wsId, activityTime, Math::max);
+      return;
+    }
     try {
       long timeout = getIdleTimeout(wsId);
       if (timeout > 0) {
         activityDao.setExpirationTime(wsId, activityTime + timeout);
+        expirationIndex.put(wsId, activityTime + timeout);
       }
     } catch (ServerException e) {
       LOG.error(e.getLocalizedMessage(), e);
     }
   }
 
+  /**
+   * Updates the expiry periods of all the workspaces which have buffered activity with a single
+   * batch. If the batch fails, the expiry periods are updated one by one, so a single invalid
+   * workspace doesn't prevent the others from being updated.
+   */
+  @ScheduleDelay(
+      initialDelayParameterName = "che.workspace.activity_flush_period_ms",
+      delayParameterName = "che.workspace.activity_flush_period_ms",
+      unit = TimeUnit.MILLISECONDS)
+  public void flush() {
+    synchronized (flushLock) {
+      if (pendingActivities.isEmpty()) {
+        return;
+      }
+      final Map<String, Long> activities = new HashMap<>(pendingActivities);
+      final Map<String, Long> expirations = new HashMap<>();
+      activities.forEach(
+          (wsId, activityTime) -> {
+            long timeout = getIdleTimeout(wsId);
+            if (timeout > 0) {
+              expirations.put(wsId, activityTime + timeout);
+            }
+          });
+      try {
+        activityDao.setExpirationTimes(expirations);
+        expirations.forEach(expirationIndex::put);
+      } catch (ServerException e) {
+        LOG.warn(
+            "Failed to update expiration times of {} workspaces in a batch, updating them one "
+                + "by one. Cause: {}",
+            expirations.size(),
+            e.getMessage());
+        expirations.forEach(this::setExpirationTimeQuietly);
+      }
+      // activities that were updated while flushing are left for the next flush
+      activities.forEach(pendingActivities::remove);
+    }
+  }
+
+  /** Waits until the status changes of workspaces published before this call are recorded. */
+  void awaitStatusChanges() {
+    AsyncEventSubscriber<WorkspaceStatusEvent> delivery = statusChangeDelivery;
+    if (delivery == null) {
+      return;
+    }
+    try {
+      if (!delivery.awaitDelivery(STATUS_CHANGES_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOG.warn("Status changes of workspaces are not recorded in time");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   /**
    * Finds workspaces that have been in the provided status since before the provided time.
    *
@@ -166,21 +278,53 @@ public class WorkspaceActivityManager {
     return activityDao.countWorkspacesInStatus(status, threshold);
   }
 
+  /** Returns the index of the expiration times stored by this manager. */
+  WorkspaceExpirationIndex getExpirationIndex() {
+    return expirationIndex;
+  }
+
   protected long getIdleTimeout(String wsId) {
     return defaultTimeout;
   }
 
+  private void setExpirationTimeQuietly(String wsId, long expirationTime) {
+    try {
+      activityDao.setExpirationTime(wsId, expirationTime);
+      expirationIndex.put(wsId, expirationTime);
+    } catch (ServerException e) {
+      LOG.error(e.getLocalizedMessage(), e);
+    }
+  }
+
   private class UpdateStatusChangedTimestampSubscriber
-      implements EventSubscriber<WorkspaceStatusEvent> {
+      implements TimestampedEventSubscriber<WorkspaceStatusEvent> {
     @Override
     public void onEvent(WorkspaceStatusEvent event) {
-      long now = clock.millis();
+      onEvent(event, clock.millis());
+    }
+
+    @Override
+    public void onEvent(WorkspaceStatusEvent event, long publishTime) {
       String workspaceId = event.getWorkspaceId();
       WorkspaceStatus status = event.getStatus();
+      recordStatusChange(workspaceId, status, publishTime);
+
+      if (status == WorkspaceStatus.RUNNING) {
+        try {
+          Workspace workspace = workspaceManager.getWorkspace(workspaceId);
+          if (workspace.getAttributes().remove(WORKSPACE_STOPPED_BY) != null) {
+            workspaceManager.updateWorkspace(workspaceId, workspace);
+          }
+        } catch (Exception ex) {
+          LOG.warn("Failed to remove stopped information attribute for workspace {}", workspaceId);
+        }
+      }
+    }
 
+    private void recordStatusChange(String workspaceId, WorkspaceStatus status, long time) {
       // first, record the activity
       try {
-        activityDao.setStatusChangeTime(workspaceId, status, now);
+        activityDao.setStatusChangeTime(workspaceId, status, time);
       } catch (ServerException e) {
         LOG.warn(
             "Failed to record workspace activity. Workspace: {}, status: {}",
@@ -192,22 +336,18 @@ public class WorkspaceActivityManager {
       // now do any special handling
       switch (status) {
         case RUNNING:
-          try {
-            Workspace workspace = workspaceManager.getWorkspace(workspaceId);
-            if (workspace.getAttributes().remove(WORKSPACE_STOPPED_BY) != null) {
-              workspaceManager.updateWorkspace(workspaceId, workspace);
-            }
-          } catch (Exception ex) {
-            LOG.warn(
-                "Failed to remove stopped information attribute for workspace {}", workspaceId);
-          }
-          WorkspaceActivityManager.this.update(workspaceId, now);
+          WorkspaceActivityManager.this.update(workspaceId, time);
           break;
         case STOPPED:
-          try {
-            activityDao.removeExpiration(workspaceId);
-          } catch (ServerException e) {
-            LOG.error(e.getLocalizedMessage(), e);
+          // the lock prevents concurrent flush from restoring the expiration
+          synchronized (flushLock) {
+            pendingActivities.remove(workspaceId);
+            expirationIndex.remove(workspaceId);
+            try {
+              activityDao.removeExpiration(workspaceId);
+            } catch (ServerException e) {
+              LOG.error(e.getLocalizedMessage(), e);
+            }
           }
           break;
         default:
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.activity;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.system.server.CronThreadPullTermination;
+import org.eclipse.che.api.system.server.ServiceTermination;
+import org.eclipse.che.api.workspace.server.WorkspaceServiceTermination;
+
+/**
+ * Stores the workspace activity buffered by {@link WorkspaceActivityManager} and the status
+ * changes of workspaces which are waiting to be recorded before the persistence service is stopped.
+ */
+@Singleton
+public class WorkspaceActivityTermination implements ServiceTermination {
+
+  public static final String SERVICE_NAME = "WorkspaceActivity";
+
+  private final WorkspaceActivityManager workspaceActivityManager;
+
+  @Inject
+  public WorkspaceActivityTermination(WorkspaceActivityManager workspaceActivityManager) {
+    this.workspaceActivityManager = workspaceActivityManager;
+  }
+
+  @Override
+  public void terminate() {
+    workspaceActivityManager.awaitStatusChanges();
+    workspaceActivityManager.flush();
+  }
+
+  @Override
+  public void suspend() {
+    workspaceActivityManager.awaitStatusChanges();
+    workspaceActivityManager.flush();
+  }
+
+  @Override
+  public String getServiceName() {
+    return SERVICE_NAME;
+  }
+
+  /**
+   * Workspaces are stopped and scheduled flushes are cancelled before the last flush, so no
+   * activity is buffered after it.
+   */
+  @Override
+  public Set<String> getDependencies() {
+    return ImmutableSet.of(
+        WorkspaceServiceTermination.SERVICE_NAME, CronThreadPullTermination.SERVICE_NAME);
+  }
+}
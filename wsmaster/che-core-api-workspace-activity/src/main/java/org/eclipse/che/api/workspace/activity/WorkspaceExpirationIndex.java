@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.activity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Master-local index of workspace expiration times ordered by expiration. It allows to find the
+ * expired workspaces proportionally to the number of found workspaces instead of querying all the
+ * activity records.
+ *
+ * <p>The index is fed with the expiration times stored by {@link WorkspaceActivityManager}, so it
+ * doesn't know about expiration times changed by other servers or directly in the storage. Found
+ * workspaces must be checked against the storage before they are stopped.
+ */
+public class WorkspaceExpirationIndex {
+
+  // guarded by this
+  private final Map<String, Long> expirations = new HashMap<>();
+  private final NavigableSet<Expiration> byExpiration = new TreeSet<>();
+
+  /** Sets the expiration time of the given workspace replacing the previous one if any. */
+  public synchronized void put(String workspaceId, long expiration) {
+    Long previous = expirations.put(workspaceId, expiration);
+    if (previous != null) {
+      byExpiration.remove(new Expiration(workspaceId, previous));
+    }
+    byExpiration.add(new Expiration(workspaceId, expiration));
+  }
+
+  /** Sets the expiration time of the given workspace only if it isn't indexed yet. */
+  public synchronized void putIfAbsent(String workspaceId, long expiration) {
+    if (!expirations.containsKey(workspaceId)) {
+      put(workspaceId, expiration);
+    }
+  }
+
+  /** Removes the expiration time of the given workspace. */
+  public synchronized void remove(String workspaceId) {
+    Long previous = expirations.remove(workspaceId);
+    if (previous != null) {
+      byExpiration.remove(new Expiration(workspaceId, previous));
+    }
+  }
+
+  /**
+   * Returns identifiers of the workspaces which expiration time is older than given timestamp,
+   * ordered from the earliest expiration.
+   */
+  public synchronized List<String> getExpired(long timestamp) {
+    List<String> expired = new ArrayList<>();
+    for (Expiration expiration : byExpiration) {
+      if (expiration.time >= timestamp) {
+        break;
+      }
+      expired.add(expiration.workspaceId);
+    }
+    return expired;
+  }
+
+  /** Returns the number of indexed workspaces. */
+  public synchronized int size() {
+    return expirations.size();
+  }
+
+  private static class Expiration implements Comparable<Expiration> {
+    private final String workspaceId;
+    private final long time;
+
+    private Expiration(String workspaceId, long time) {
+      this.workspaceId = workspaceId;
+      this.time = time;
+    }
+
+    @Override
+    public int compareTo(Expiration that) {
+      int result = Long.compare(time, that.time);
+      return result != 0 ? result : workspaceId.compareTo(that.workspaceId);
+    }
+  }
+}
@@ -14,6 +14,7 @@ package org.eclipse.che.api.workspace.activity;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -29,6 +30,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertTrue;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -37,6 +39,11 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
@@ -48,6 +55,8 @@ import org.eclipse.che.api.workspace.shared.Constants;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
@@ -55,8 +64,12 @@ import org.testng.annotations.Test;
 @Listeners(value = MockitoTestNGListener.class)
 public class WorkspaceActivityCheckerTest {
   private static final long DEFAULT_TIMEOUT = 60_000L; // 1 minute
+  private static final int STORAGE_CHECK_PERIOD = 5;
+
+  private static final Logger LOG = LoggerFactory.getLogger(WorkspaceActivityCheckerTest.class);
 
   private ManualClock clock;
+  private WorkspaceActivityManager activityManager;
   private WorkspaceActivityChecker checker;
   @Mock private WorkspaceManager workspaceManager;
   @Mock private WorkspaceRuntimes workspaceRuntimes;
@@ -67,9 +80,9 @@ public class WorkspaceActivityCheckerTest {
   public void setUp() throws Exception {
     clock = new ManualClock();
 
-    WorkspaceActivityManager activityManager =
+    activityManager =
         new WorkspaceActivityManager(
-            workspaceManager, workspaceActivityDao, eventService, DEFAULT_TIMEOUT, clock);
+            workspaceManager, workspaceActivityDao, eventService, DEFAULT_TIMEOUT, -1, clock);
 
     lenient()
         .when(workspaceActivityDao.getAll(anyInt(), anyLong()))
@@ -83,7 +96,12 @@ public class WorkspaceActivityCheckerTest {
 
     checker =
         new WorkspaceActivityChecker(
-            workspaceActivityDao, workspaceManager, workspaceRuntimes, activityManager, clock);
+            workspaceActivityDao,
+            workspaceManager,
+            workspaceRuntimes,
+            activityManager,
+            STORAGE_CHECK_PERIOD,
+            clock);
   }
 
   @Test
@@ -98,6 +116,132 @@ public class WorkspaceActivityCheckerTest {
     verify(workspaceActivityDao).removeExpiration(eq("3"));
   }
 
+  @Test
+  public void shouldStopIndexedExpiredWorkspacesWithoutQueryingAllExpired() throws Exception {
+    checker.cleanup();
+    activityManager.update("1", clock.millis() - DEFAULT_TIMEOUT * 2);
+    activityManager.update("2", clock.millis());
+    when(workspaceActivityDao.findActivity("1"))
+        .thenReturn(newActivity("1", clock.millis() - DEFAULT_TIMEOUT));
+    when(workspaceManager.getWorkspace("1")).thenReturn(new WorkspaceImpl());
+
+    checker.expire();
+
+    verify(workspaceActivityDao, never()).findExpired(anyLong());
+    verify(workspaceManager).stopWorkspace(eq("1"), any());
+    verify(workspaceActivityDao).removeExpiration("1");
+    verify(workspaceActivityDao, never()).removeExpiration("2");
+    assertEquals(activityManager.getExpirationIndex().size(), 1);
+  }
+
+  @Test
+  public void shouldNotStopIndexedWorkspaceWhenItsActivityRecordIsNotExpired() throws Exception {
+    checker.cleanup();
+    activityManager.update("1", clock.millis() - DEFAULT_TIMEOUT * 2);
+    when(workspaceActivityDao.findActivity("1"))
+        .thenReturn(newActivity("1", clock.millis() + DEFAULT_TIMEOUT));
+
+    checker.expire();
+
+    verify(workspaceManager, never()).stopWorkspace(anyString(), any());
+    verify(workspaceActivityDao, never()).removeExpiration(anyString());
+    final long later = clock.millis() + DEFAULT_TIMEOUT;
+    assertTrue(activityManager.getExpirationIndex().getExpired(later).isEmpty());
+  }
+
+  @Test
+  public void shouldStopWorkspacesExpiredInStorageOnceInSeveralChecksWhenExpirationsAreIndexed()
+      throws Exception {
+    checker.cleanup();
+    // expiration set by another server, which is not in the index
+    when(workspaceActivityDao.findExpired(anyLong())).thenReturn(singletonList("1"));
+    when(workspaceManager.getWorkspace("1")).thenReturn(new WorkspaceImpl());
+
+    for (int i = 0; i < STORAGE_CHECK_PERIOD - 1; i++) {
+      checker.expire();
+    }
+    verify(workspaceActivityDao, never()).findExpired(anyLong());
+
+    checker.expire();
+
+    verify(workspaceActivityDao).findExpired(anyLong());
+    verify(workspaceManager).stopWorkspace(eq("1"), any());
+    verify(workspaceActivityDao).removeExpiration("1");
+  }
+
+  @Test
+  public void shouldRecoverExpirationIndexFromActivityRecordsOnCleanup() throws Exception {
+    final WorkspaceActivity activity = newActivity("1", clock.millis() - 1);
+    doAnswer(inv -> new Page<>(singleton(activity), 0, 200, 1))
+        .when(workspaceActivityDao)
+        .getAll(anyInt(), anyLong());
+    when(workspaceRuntimes.getStatus("1")).thenReturn(WorkspaceStatus.RUNNING);
+    when(workspaceActivityDao.findActivity("1")).thenReturn(activity);
+    when(workspaceManager.getWorkspace("1")).thenReturn(new WorkspaceImpl());
+
+    checker.cleanup();
+    checker.expire();
+
+    verify(workspaceActivityDao, never()).findExpired(anyLong());
+    verify(workspaceActivityDao).removeExpiration("1");
+  }
+
+  @Test
+  public void shouldQueryActivityRecordsOnlyForExpiredWorkspacesWhenTheyAreIndexed()
+      throws Exception {
+    final int workspaces = 10_000;
+    final int ticksPerHour = 60;
+    final Map<String, WorkspaceActivity> activities = new HashMap<>();
+    for (int i = 0; i < workspaces; i++) {
+      // every hundredth workspace becomes idle within the hour
+      long expiration = clock.millis() + TimeUnit.MINUTES.toMillis(i % 100 == 0 ? 30 : 120);
+      activities.put("ws" + i, newActivity("ws" + i, expiration));
+    }
+    final List<WorkspaceActivity> records = new ArrayList<>(activities.values());
+    doAnswer(
+            inv -> {
+              int maxItems = inv.getArgument(0);
+              long skipCount = inv.getArgument(1);
+              int from = (int) skipCount;
+              int to = Math.min(from + maxItems, records.size());
+              return new Page<>(records.subList(from, to), skipCount, maxItems, records.size());
+            })
+        .when(workspaceActivityDao)
+        .getAll(anyInt(), anyLong());
+    lenient().when(workspaceRuntimes.getStatus(anyString())).thenReturn(WorkspaceStatus.RUNNING);
+    lenient()
+        .when(workspaceActivityDao.findActivity(anyString()))
+        .thenAnswer(inv -> activities.get(inv.<String>getArgument(0)));
+    lenient().when(workspaceManager.getWorkspace(anyString())).thenReturn(new WorkspaceImpl());
+
+    // an hour of checks querying expired workspaces from the storage
+    for (int i = 0; i < ticksPerHour; i++) {
+      clock.forward(Duration.ofMinutes(1));
+      checker.expire();
+    }
+    verify(workspaceActivityDao, times(ticksPerHour)).findExpired(anyLong());
+
+    // an hour of checks using the index recovered by the cleanup
+    checker.cleanup();
+    for (int i = 0; i < ticksPerHour; i++) {
+      clock.forward(Duration.ofMinutes(1));
+      checker.expire();
+    }
+
+    LOG.info(
+        "{} workspaces, checks querying all expired workspaces perform {} queries per hour, "
+            + "checks using the index look up {} activity records and perform {} queries per hour "
+            + "after the index is recovered with a single pass over the activity records",
+        workspaces,
+        ticksPerHour,
+        workspaces / 100,
+        ticksPerHour / STORAGE_CHECK_PERIOD);
+    verify(workspaceActivityDao, times(ticksPerHour + ticksPerHour / STORAGE_CHECK_PERIOD))
+        .findExpired(anyLong());
+    verify(workspaceActivityDao, times(workspaces / 100)).findActivity(anyString());
+    verify(workspaceActivityDao, times(workspaces / 100)).removeExpiration(anyString());
+  }
+
   @Test
   public void shouldRecreateMissingActivityRecord() throws Exception {
     // given
@@ -350,6 +494,14 @@ public class WorkspaceActivityCheckerTest {
     checker.cleanup();
   }
 
+  private static WorkspaceActivity newActivity(String workspaceId, long expiration) {
+    WorkspaceActivity activity = new WorkspaceActivity();
+    activity.setWorkspaceId(workspaceId);
+    activity.setStatus(WorkspaceStatus.RUNNING);
+    activity.setExpiration(expiration);
+    return activity;
+  }
+
   private static final class ManualClock extends Clock {
 
     private Instant instant;
@@ -13,20 +13,32 @@ package org.eclipse.che.api.workspace.activity;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.eclipse.che.account.shared.model.Account;
+import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.eclipse.che.api.core.notification.AsyncEventSubscriber;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.core.notification.TimestampedEventSubscriber;
 import org.eclipse.che.api.workspace.server.WorkspaceManager;
 import org.eclipse.che.api.workspace.server.event.BeforeWorkspaceRemovedEvent;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
@@ -37,6 +49,7 @@ import org.eclipse.che.api.workspace.shared.event.WorkspaceCreatedEvent;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -61,14 +74,22 @@ public class WorkspaceActivityManagerTest {
   @Mock private WorkspaceActivityDao workspaceActivityDao;
 
   @Mock private EventService eventService;
+  @Mock private AsyncEventSubscriber<WorkspaceStatusEvent> statusChangeDelivery;
 
   private WorkspaceActivityManager activityManager;
 
   @BeforeMethod
   private void setUp() throws Exception {
+    lenient()
+        .doReturn(statusChangeDelivery)
+        .when(eventService)
+        .subscribeAsync(any(), any(), any());
+    lenient()
+        .when(statusChangeDelivery.callInOrder(any(), any(), anyLong(), any()))
+        .thenAnswer(inv -> inv.<Callable<?>>getArgument(1).call());
     activityManager =
         new WorkspaceActivityManager(
-            workspaceManager, workspaceActivityDao, eventService, DEFAULT_TIMEOUT);
+            workspaceManager, workspaceActivityDao, eventService, DEFAULT_TIMEOUT, -1);
 
     lenient().when(account.getName()).thenReturn("accountName");
     lenient().when(account.getId()).thenReturn("account123");
@@ -88,6 +109,106 @@ public class WorkspaceActivityManagerTest {
         .setExpirationTime(eq(wsId), eq(activityTime + DEFAULT_TIMEOUT));
   }
 
+  @Test
+  public void shouldStoreOnlyLatestBufferedActivityOfWorkspaceOnFlush() throws Exception {
+    activityManager = newBufferingActivityManager();
+
+    activityManager.update("ws1", 3000L);
+    activityManager.update("ws1", 1000L);
+    activityManager.update("ws2", 2000L);
+    activityManager.update("ws1", 2000L);
+    verify(workspaceActivityDao, never()).setExpirationTime(anyString(), anyLong());
+    activityManager.flush();
+
+    verify(workspaceActivityDao)
+        .setExpirationTimes(
+            ImmutableMap.of("ws1", 3000L + DEFAULT_TIMEOUT, "ws2", 2000L + DEFAULT_TIMEOUT));
+    verify(workspaceActivityDao, never()).setExpirationTime(anyString(), anyLong());
+  }
+
+  @Test
+  public void shouldNotStoreFlushedActivityAgain() throws Exception {
+    activityManager = newBufferingActivityManager();
+    activityManager.update("ws1", 1000L);
+    activityManager.flush();
+
+    activityManager.flush();
+
+    verify(workspaceActivityDao, times(1)).setExpirationTimes(anyMap());
+  }
+
+  @Test
+  public void shouldStoreActivitiesOneByOneWhenBatchFails() throws Exception {
+    activityManager = newBufferingActivityManager();
+    doThrow(new ServerException("fail")).when(workspaceActivityDao).setExpirationTimes(anyMap());
+    doThrow(new ServerException("fail"))
+        .when(workspaceActivityDao)
+        .setExpirationTime(eq("ws1"), anyLong());
+    activityManager.update("ws1", 1000L);
+    activityManager.update("ws2", 1000L);
+
+    activityManager.flush();
+    activityManager.flush();
+
+    verify(workspaceActivityDao, times(1)).setExpirationTimes(anyMap());
+    verify(workspaceActivityDao).setExpirationTime("ws1", 1000L + DEFAULT_TIMEOUT);
+    verify(workspaceActivityDao).setExpirationTime("ws2", 1000L + DEFAULT_TIMEOUT);
+  }
+
+  @Test
+  public void shouldDropBufferedActivityWhenWorkspaceStopped() throws Exception {
+    activityManager = newBufferingActivityManager();
+    activityManager.update("ws1", 1000L);
+    final EventSubscriber<WorkspaceStatusEvent> subscriber = subscribeAndGetStatusEventSubscriber();
+
+    subscriber.onEvent(
+        DtoFactory.newDto(WorkspaceStatusEvent.class)
+            .withStatus(WorkspaceStatus.STOPPED)
+            .withWorkspaceId("ws1"));
+    activityManager.flush();
+
+    verify(workspaceActivityDao).removeExpiration("ws1");
+    verify(workspaceActivityDao, never()).setExpirationTimes(anyMap());
+  }
+
+  @Test
+  public void shouldStoreBufferedActivityOnTermination() throws Exception {
+    activityManager = newBufferingActivityManager();
+    activityManager.update("ws1", 1000L);
+
+    new WorkspaceActivityTermination(activityManager).terminate();
+
+    verify(workspaceActivityDao)
+        .setExpirationTimes(ImmutableMap.of("ws1", 1000L + DEFAULT_TIMEOUT));
+  }
+
+  @Test
+  public void shouldReduceNumberOfStorageCallsForFiveThousandWorkspacesHeartbeatingEveryMinute()
+      throws Exception {
+    final int workspaces = 5000;
+    final int minutes = 5;
+    final long flushPeriodMs = 5000;
+    final WorkspaceActivityManager bufferingActivityManager = newBufferingActivityManager();
+
+    // each workspace sends a heartbeat every minute, the heartbeats are spread over the minute
+    for (long time = 0; time < TimeUnit.MINUTES.toMillis(minutes); time += 1000) {
+      for (int i = 0; i < workspaces; i++) {
+        if (i % 60 == (time / 1000) % 60) {
+          activityManager.update("ws" + i, time);
+          bufferingActivityManager.update("ws" + i, time);
+        }
+      }
+      if ((time + 1000) % flushPeriodMs == 0) {
+        bufferingActivityManager.flush();
+      }
+    }
+
+    final int heartbeats = workspaces * minutes;
+    final int flushes = (int) (TimeUnit.MINUTES.toMillis(minutes) / flushPeriodMs);
+    verify(workspaceActivityDao, times(heartbeats)).setExpirationTime(anyString(), anyLong());
+    verify(workspaceActivityDao, times(flushes)).setExpirationTimes(anyMap());
+  }
+
   @Test
   public void shouldAddWorkspaceForTrackActivityWhenWorkspaceRunning() throws Exception {
     final String wsId = "testWsId";
@@ -157,6 +278,78 @@ public class WorkspaceActivityManagerTest {
     verify(workspaceActivityDao, times(1)).removeActivity(eq(wsId));
   }
 
+  @Test
+  public void shouldRecordTimeOfStatusChangeWhenItIsPublished() throws Exception {
+    final TimestampedEventSubscriber<WorkspaceStatusEvent> subscriber =
+        (TimestampedEventSubscriber<WorkspaceStatusEvent>) subscribeAndGetStatusEventSubscriber();
+
+    subscriber.onEvent(
+        DtoFactory.newDto(WorkspaceStatusEvent.class)
+            .withStatus(WorkspaceStatus.RUNNING)
+            .withWorkspaceId("ws1"),
+        1000L);
+
+    verify(workspaceActivityDao).setStatusChangeTime("ws1", WorkspaceStatus.RUNNING, 1000L);
+    verify(workspaceActivityDao).setExpirationTime("ws1", 1000L + DEFAULT_TIMEOUT);
+  }
+
+  @Test
+  public void shouldRemoveActivityAfterPendingStatusChangesOfWorkspace() throws Exception {
+    final EventService events = new EventService();
+    doAnswer(
+            inv -> {
+              // the status change is recorded slower than the removal is published
+              Thread.sleep(200);
+              return null;
+            })
+        .when(workspaceActivityDao)
+        .setStatusChangeTime(eq("ws1"), eq(WorkspaceStatus.STOPPED), anyLong());
+    activityManager =
+        new WorkspaceActivityManager(
+            workspaceManager, workspaceActivityDao, events, DEFAULT_TIMEOUT, -1);
+    activityManager.subscribe();
+
+    events.publish(
+        DtoFactory.newDto(WorkspaceStatusEvent.class)
+            .withStatus(WorkspaceStatus.STOPPED)
+            .withWorkspaceId("ws1"));
+    final BeforeWorkspaceRemovedEvent removedEvent =
+        events.publish(
+            new BeforeWorkspaceRemovedEvent(
+                new WorkspaceImpl(DtoFactory.newDto(WorkspaceDto.class).withId("ws1"), null)));
+
+    assertFalse(removedEvent.getContext().isFailed());
+    final InOrder inOrder = inOrder(workspaceActivityDao);
+    inOrder
+        .verify(workspaceActivityDao)
+        .setStatusChangeTime(eq("ws1"), eq(WorkspaceStatus.STOPPED), anyLong());
+    inOrder.verify(workspaceActivityDao).removeExpiration("ws1");
+    inOrder.verify(workspaceActivityDao).removeActivity("ws1");
+  }
+
+  @Test
+  public void shouldFailWorkspaceRemovalWhenActivityIsNotRemoved() throws Exception {
+    doThrow(new ServerException("fail")).when(workspaceActivityDao).removeActivity("ws1");
+    final EventSubscriber<BeforeWorkspaceRemovedEvent> remover = subscribeAndGetRemoveSubscriber();
+    final BeforeWorkspaceRemovedEvent event =
+        new BeforeWorkspaceRemovedEvent(
+            new WorkspaceImpl(DtoFactory.newDto(WorkspaceDto.class).withId("ws1"), null));
+
+    remover.onEvent(event);
+
+    assertEquals(event.getContext().getCause().getClass(), ServerException.class);
+  }
+
+  @Test
+  public void shouldAwaitStatusChangesOnTermination() throws Exception {
+    when(statusChangeDelivery.awaitDelivery(anyLong(), any())).thenReturn(true);
+    activityManager.subscribe();
+
+    new WorkspaceActivityTermination(activityManager).terminate();
+
+    verify(statusChangeDelivery).awaitDelivery(anyLong(), any());
+  }
+
   @Test
   public void shouldCountWorkspacesInStatus() throws Exception {
     // given
@@ -178,6 +371,11 @@ public class WorkspaceActivityManagerTest {
         .toArray(Object[][]::new);
   }
 
+  private WorkspaceActivityManager newBufferingActivityManager() {
+    return new WorkspaceActivityManager(
+        workspaceManager, workspaceActivityDao, eventService, DEFAULT_TIMEOUT, 5000);
+  }
+
   private EventSubscriber<WorkspaceStatusEvent> subscribeAndGetStatusEventSubscriber() {
     subscribeToEventService();
     return statusChangeEventCaptor.getValue();
@@ -197,7 +395,8 @@ public class WorkspaceActivityManagerTest {
     activityManager.subscribe();
     verify(eventService).subscribe(createEventCaptor.capture(), eq(WorkspaceCreatedEvent.class));
     verify(eventService)
-        .subscribe(statusChangeEventCaptor.capture(), eq(WorkspaceStatusEvent.class));
+        .subscribeAsync(
+            statusChangeEventCaptor.capture(), eq(WorkspaceStatusEvent.class), any());
     verify(eventService)
         .subscribe(removeEventCaptor.capture(), eq(BeforeWorkspaceRemovedEvent.class));
   }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.activity;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests {@link WorkspaceExpirationIndex}. */
+public class WorkspaceExpirationIndexTest {
+
+  private WorkspaceExpirationIndex index;
+
+  @BeforeMethod
+  public void setUp() {
+    index = new WorkspaceExpirationIndex();
+  }
+
+  @Test
+  public void findsExpiredWorkspacesOrderedByExpiration() {
+    index.put("ws1", 300);
+    index.put("ws2", 100);
+    index.put("ws3", 200);
+    index.put("ws4", 400);
+
+    assertEquals(index.getExpired(400), asList("ws2", "ws3", "ws1"));
+  }
+
+  @Test
+  public void replacesPreviousExpiration() {
+    index.put("ws1", 100);
+    index.put("ws2", 200);
+
+    index.put("ws1", 300);
+
+    assertEquals(index.getExpired(250), singletonList("ws2"));
+    assertEquals(index.size(), 2);
+  }
+
+  @Test
+  public void doesNotReplaceExpirationWhenPuttingIfAbsent() {
+    index.put("ws1", 300);
+
+    index.putIfAbsent("ws1", 100);
+    index.putIfAbsent("ws2", 100);
+
+    assertEquals(index.getExpired(200), singletonList("ws2"));
+  }
+
+  @Test
+  public void removesExpiration() {
+    index.put("ws1", 100);
+    index.put("ws2", 100);
+
+    index.remove("ws1");
+    index.remove("ws3");
+
+    assertEquals(index.getExpired(200), singletonList("ws2"));
+    assertEquals(index.size(), 1);
+  }
+
+  @Test
+  public void returnsNothingWhenNoWorkspaceIsExpired() {
+    index.put("ws1", 100);
+
+    assertTrue(index.getExpired(100).isEmpty());
+  }
+}
@@ -23,6 +23,7 @@ import static org.testng.Assert.assertTrue;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -164,6 +165,40 @@ public class WorkspaceActivityDaoTest {
     assertEquals(found, expected);
   }
 
+  @Test(dependsOnMethods = "shouldFindExpirationsByTimestamp")
+  public void shouldUpdateAndCreateExpirationsInBatch() throws Exception {
+    workspaceActivityDao.removeActivity(activities[2].getWorkspaceId());
+
+    workspaceActivityDao.setExpirationTimes(
+        ImmutableMap.of(
+            activities[0].getWorkspaceId(),
+            3_000_000L,
+            activities[2].getWorkspaceId(),
+            1_500_000L));
+
+    List<String> found = workspaceActivityDao.findExpired(2_500_000);
+    assertEquals(
+        ImmutableSet.copyOf(found),
+        ImmutableSet.of(activities[1].getWorkspaceId(), activities[2].getWorkspaceId()));
+    assertEquals(
+        workspaceActivityDao.findActivity(activities[0].getWorkspaceId()).getExpiration(),
+        Long.valueOf(3_000_000L));
+  }
+
+  @Test(
+      expectedExceptions = ServerException.class,
+      dependsOnMethods = "shouldFindExpirationsByTimestamp")
+  public void shouldNotUpdateAnyExpirationInBatchWhenSomeWorkspaceDoesNotExist() throws Exception {
+    try {
+      workspaceActivityDao.setExpirationTimes(
+          ImmutableMap.of(activities[0].getWorkspaceId(), 3_000_000L, "non-existing", 1_750_000L));
+    } finally {
+      assertEquals(
+          workspaceActivityDao.findActivity(activities[0].getWorkspaceId()).getExpiration(),
+          activities[0].getExpiration());
+    }
+  }
+
   @Test(
       expectedExceptions = ConflictException.class,
       expectedExceptionsMessageRegExp = "Activity record for workspace ID ws0 already exists.")
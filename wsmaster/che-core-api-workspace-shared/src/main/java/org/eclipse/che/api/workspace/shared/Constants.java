@@ -149,6 +149,12 @@ public final class Constants {
 
   public static final String RUNTIME_LOG_METHOD = "runtime/log";
 
+  /**
+   * JSON RPC method for listening to runtime logs delivered in batches of {@link
+   * org.eclipse.che.api.workspace.shared.dto.event.RuntimeLogBatchEvent}.
+   */
+  public static final String RUNTIME_LOG_BATCH_METHOD = "runtime/logBatch";
+
   /**
    * JSON RPC methods for listening to machine logs.
    *
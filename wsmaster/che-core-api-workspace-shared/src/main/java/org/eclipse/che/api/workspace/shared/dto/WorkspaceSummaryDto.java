@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.shared.dto;
+
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Short description of a workspace which contains only the data needed for listing workspaces,
+ * e.g. by dashboard, without workspace config, devfile and runtime.
+ */
+@DTO
+public interface WorkspaceSummaryDto {
+
+  String getId();
+
+  void setId(String id);
+
+  WorkspaceSummaryDto withId(String id);
+
+  String getName();
+
+  void setName(String name);
+
+  WorkspaceSummaryDto withName(String name);
+
+  String getNamespace();
+
+  void setNamespace(String namespace);
+
+  WorkspaceSummaryDto withNamespace(String namespace);
+
+  WorkspaceStatus getStatus();
+
+  void setStatus(WorkspaceStatus status);
+
+  WorkspaceSummaryDto withStatus(WorkspaceStatus status);
+
+  boolean isTemporary();
+
+  void setTemporary(boolean isTemporary);
+
+  WorkspaceSummaryDto withTemporary(boolean isTemporary);
+
+  /** Returns the time of workspace creation in milliseconds, may be null. */
+  Long getCreated();
+
+  void setCreated(Long created);
+
+  WorkspaceSummaryDto withCreated(Long created);
+
+  /** Returns the time of the last workspace update in milliseconds, may be null. */
+  Long getUpdated();
+
+  void setUpdated(Long updated);
+
+  WorkspaceSummaryDto withUpdated(Long updated);
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.shared.dto.event;
+
+import java.util.List;
+import org.eclipse.che.api.workspace.shared.dto.RuntimeIdentityDto;
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Defines event format for runtime logs which are coalesced into a single message.
+ *
+ * @see RuntimeLogEvent
+ */
+@DTO
+public interface RuntimeLogBatchEvent {
+
+  /** Returns identity of the runtime that produced the logs. */
+  RuntimeIdentityDto getRuntimeId();
+
+  void setRuntimeId(RuntimeIdentityDto runtimeId);
+
+  RuntimeLogBatchEvent withRuntimeId(RuntimeIdentityDto runtimeId);
+
+  /**
+   * Returns the sequence number of the batch. Sequence numbers of batches of the same workspace
+   * are increased by one, so a gap between two received batches means that logs were lost.
+   */
+  long getSequenceNumber();
+
+  void setSequenceNumber(long sequenceNumber);
+
+  RuntimeLogBatchEvent withSequenceNumber(long sequenceNumber);
+
+  /** Returns log events in the order they were produced. */
+  List<RuntimeLogEvent> getLogs();
+
+  void setLogs(List<RuntimeLogEvent> logs);
+
+  RuntimeLogBatchEvent withLogs(List<RuntimeLogEvent> logs);
+}
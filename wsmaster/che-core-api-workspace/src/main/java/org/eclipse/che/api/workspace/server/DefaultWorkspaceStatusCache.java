@@ -13,17 +13,20 @@ package org.eclipse.che.api.workspace.server;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 
 /**
- * Default implementation of {@link WorkspaceStatusCache} based on {@link ConcurrentHashMap}.
+ * Default implementation of {@link WorkspaceStatusCache} based on {@link ConcurrentHashMap}. The
+ * statuses are indexed with {@link WorkspaceStatusIndex}.
  *
  * @author Anton Korneta
  */
 public class DefaultWorkspaceStatusCache implements WorkspaceStatusCache {
 
   private final ConcurrentHashMap<String, WorkspaceStatus> delegate = new ConcurrentHashMap<>();
+  private final WorkspaceStatusIndex index = new WorkspaceStatusIndex();
 
   @Override
   public WorkspaceStatus get(String workspaceId) {
@@ -32,27 +35,49 @@ public class DefaultWorkspaceStatusCache implements WorkspaceStatusCache {
 
   @Override
   public WorkspaceStatus replace(String workspaceId, WorkspaceStatus newStatus) {
-    return delegate.replace(workspaceId, newStatus);
+    final WorkspaceStatus prevStatus = delegate.replace(workspaceId, newStatus);
+    index.refresh(workspaceId, delegate::get);
+    return prevStatus;
   }
 
   @Override
   public boolean replace(
       String workspaceId, WorkspaceStatus prevStatus, WorkspaceStatus newStatus) {
-    return delegate.replace(workspaceId, prevStatus, newStatus);
+    final boolean replaced = delegate.replace(workspaceId, prevStatus, newStatus);
+    if (replaced) {
+      index.refresh(workspaceId, delegate::get);
+    }
+    return replaced;
   }
 
   @Override
   public WorkspaceStatus remove(String workspaceId) {
-    return delegate.remove(workspaceId);
+    final WorkspaceStatus prevStatus = delegate.remove(workspaceId);
+    index.refresh(workspaceId, delegate::get);
+    return prevStatus;
   }
 
   @Override
   public WorkspaceStatus putIfAbsent(String workspaceId, WorkspaceStatus status) {
-    return delegate.putIfAbsent(workspaceId, status);
+    final WorkspaceStatus prevStatus = delegate.putIfAbsent(workspaceId, status);
+    if (prevStatus == null) {
+      index.refresh(workspaceId, delegate::get);
+    }
+    return prevStatus;
   }
 
   @Override
   public Map<String, WorkspaceStatus> asMap() {
     return new HashMap<>(delegate);
   }
+
+  @Override
+  public Set<String> getByStatus(WorkspaceStatus status) {
+    return index.get(status);
+  }
+
+  @Override
+  public int count(WorkspaceStatus status) {
+    return index.count(status);
+  }
 }
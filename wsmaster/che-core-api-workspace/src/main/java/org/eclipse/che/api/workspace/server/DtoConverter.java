@@ -41,6 +41,7 @@ import org.eclipse.che.api.core.model.workspace.devfile.Source;
 import org.eclipse.che.api.core.model.workspace.runtime.Machine;
 import org.eclipse.che.api.core.model.workspace.runtime.RuntimeIdentity;
 import org.eclipse.che.api.core.model.workspace.runtime.Server;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.shared.dto.CommandDto;
 import org.eclipse.che.api.workspace.shared.dto.EnvironmentDto;
 import org.eclipse.che.api.workspace.shared.dto.MachineConfigDto;
@@ -56,6 +57,7 @@ import org.eclipse.che.api.workspace.shared.dto.VolumeDto;
 import org.eclipse.che.api.workspace.shared.dto.WarningDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceDto;
+import org.eclipse.che.api.workspace.shared.dto.WorkspaceSummaryDto;
 import org.eclipse.che.api.workspace.shared.dto.devfile.ComponentDto;
 import org.eclipse.che.api.workspace.shared.dto.devfile.DevfileActionDto;
 import org.eclipse.che.api.workspace.shared.dto.devfile.DevfileCommandDto;
@@ -102,6 +104,18 @@ public final class DtoConverter {
     return workspaceDto;
   }
 
+  /** Converts {@link WorkspaceSummaryImpl} to {@link WorkspaceSummaryDto}. */
+  public static WorkspaceSummaryDto asDto(WorkspaceSummaryImpl summary) {
+    return newDto(WorkspaceSummaryDto.class)
+        .withId(summary.getId())
+        .withName(summary.getName())
+        .withNamespace(summary.getNamespace())
+        .withStatus(summary.getStatus())
+        .withTemporary(summary.isTemporary())
+        .withCreated(summary.getCreated())
+        .withUpdated(summary.getUpdated());
+  }
+
   public static DevfileDto asDto(Devfile devfile) {
     List<DevfileCommandDto> commands =
         devfile.getCommands().stream().map(DtoConverter::asDto).collect(toList());
@@ -28,7 +28,9 @@ import static org.eclipse.che.api.workspace.shared.Constants.WORKSPACE_GENERATE_
 import static org.eclipse.che.api.workspace.shared.Constants.WORKSPACE_INFRASTRUCTURE_NAMESPACE_ATTRIBUTE;
 
 import com.google.inject.Inject;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -50,6 +52,7 @@ import org.eclipse.che.api.workspace.server.devfile.exception.DevfileFormatExcep
 import org.eclipse.che.api.workspace.server.devfile.validator.DevfileIntegrityValidator;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.server.model.impl.devfile.DevfileImpl;
 import org.eclipse.che.api.workspace.server.model.impl.devfile.MetadataImpl;
 import org.eclipse.che.api.workspace.server.spi.InfrastructureException;
@@ -61,6 +64,7 @@ import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.commons.annotation.Traced;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.lang.NameGenerator;
+import org.eclipse.che.commons.lang.Pair;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.commons.tracing.TracingTags;
 import org.slf4j.Logger;
@@ -207,6 +211,32 @@ public class WorkspaceManager {
     return normalizeState(getByKey(key), true);
   }
 
+  /**
+   * Gets summary of the workspace by composite key, see {@link #getWorkspace(String)} for the key
+   * rules.
+   *
+   * <p>Workspace config and devfile are not loaded, so the method should be preferred when only
+   * identity, namespace or status of the workspace is needed. Status of the returned summary is
+   * either {@link WorkspaceStatus#STOPPED} or defined by its runtime(if exists).
+   *
+   * @param key composite key(e.g. workspace 'id' or 'namespace/name')
+   * @return the workspace summary
+   * @throws NullPointerException when {@code key} is null
+   * @throws NotFoundException when workspace doesn't exist
+   * @throws ServerException when any server error occurs
+   */
+  public WorkspaceSummaryImpl getWorkspaceSummary(String key)
+      throws NotFoundException, ServerException {
+    requireNonNull(key, "Required non-null workspace key");
+    final Pair<String, String> namespaceAndName = parseKey(key);
+    final WorkspaceSummaryImpl summary =
+        namespaceAndName == null
+            ? workspaceDao.getWorkspaceSummary(key)
+            : workspaceDao.getWorkspaceSummary(namespaceAndName.second, namespaceAndName.first);
+    summary.setStatus(runtimes.getStatus(summary.getId()));
+    return summary;
+  }
+
   /**
    * Gets workspace by name and owner.
    *
@@ -253,6 +283,65 @@ public class WorkspaceManager {
     return workspaces;
   }
 
+  /**
+   * Gets summaries of the workspaces which user can read, ordered by workspace identifier.
+   *
+   * <p>Summaries are fetched without workspace configs and runtimes, status of each summary is
+   * defined by workspace runtime if it exists.
+   *
+   * @param user the id of the user
+   * @param afterId identifier of the last workspace of the previous page, null for the first page
+   * @param maxItems the maximum number of summaries to return
+   * @return the list of summaries or empty list if there are no more workspaces
+   * @throws NullPointerException when {@code user} is null
+   * @throws ServerException when any server error occurs while getting summaries with {@link
+   *     WorkspaceDao#getWorkspaceSummaries(String, String, int)}
+   */
+  public List<WorkspaceSummaryImpl> getWorkspaceSummaries(
+      String user, @Nullable String afterId, int maxItems) throws ServerException {
+    return getWorkspaceSummaries(user, afterId, maxItems, null);
+  }
+
+  /**
+   * Gets summaries of the workspaces which user can read and which have the given status, ordered
+   * by workspace identifier.
+   *
+   * <p>Status of a workspace is defined by its runtime, so it can't be filtered in the storage.
+   * Summaries are fetched page by page until the requested number of summaries with the given
+   * status is found or there are no more workspaces.
+   *
+   * @param user the id of the user
+   * @param afterId identifier of the last workspace of the previous page, null for the first page
+   * @param maxItems the maximum number of summaries to return
+   * @param status the status of workspaces to return, null to return workspaces in any status
+   * @return the list of summaries or empty list if there are no more workspaces
+   * @throws NullPointerException when {@code user} is null
+   * @throws ServerException when any server error occurs while getting summaries with {@link
+   *     WorkspaceDao#getWorkspaceSummaries(String, String, int)}
+   */
+  public List<WorkspaceSummaryImpl> getWorkspaceSummaries(
+      String user, @Nullable String afterId, int maxItems, @Nullable WorkspaceStatus status)
+      throws ServerException {
+    requireNonNull(user, "Required non-null user id");
+    final List<WorkspaceSummaryImpl> result = new ArrayList<>();
+    String after = afterId;
+    while (result.size() < maxItems) {
+      final List<WorkspaceSummaryImpl> summaries =
+          workspaceDao.getWorkspaceSummaries(user, after, maxItems);
+      for (WorkspaceSummaryImpl summary : summaries) {
+        summary.setStatus(runtimes.getStatus(summary.getId()));
+        if ((status == null || status == summary.getStatus()) && result.size() < maxItems) {
+          result.add(summary);
+        }
+      }
+      if (summaries.size() < maxItems) {
+        break;
+      }
+      after = summaries.get(summaries.size() - 1).getId();
+    }
+    return result;
+  }
+
   /**
    * Gets list of workspaces which has given namespace
    *
@@ -679,12 +768,20 @@ public class WorkspaceManager {
   }
 
   private WorkspaceImpl getByKey(String key) throws NotFoundException, ServerException {
+    final Pair<String, String> namespaceAndName = parseKey(key);
+    if (namespaceAndName == null) {
+      // key is id
+      return workspaceDao.get(key);
+    }
+    return workspaceDao.get(namespaceAndName.second, namespaceAndName.first);
+  }
 
+  /** Returns namespace and name of the workspace from the given key or null if the key is id. */
+  private Pair<String, String> parseKey(String key) {
     int lastColonIndex = key.indexOf(":");
     int lastSlashIndex = key.lastIndexOf("/");
     if (lastSlashIndex == -1 && lastColonIndex == -1) {
-      // key is id
-      return workspaceDao.get(key);
+      return null;
     }
 
     final String namespace;
@@ -700,6 +797,6 @@ public class WorkspaceManager {
       namespace = key.substring(0, lastSlashIndex);
       wsName = key.substring(lastSlashIndex + 1);
     }
-    return workspaceDao.get(wsName, namespace);
+    return Pair.of(namespace, wsName);
   }
 }
@@ -17,6 +17,7 @@ import static java.lang.String.format;
 import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
@@ -36,19 +37,25 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.google.common.collect.Sets.SetView;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
@@ -61,7 +68,7 @@ import org.eclipse.che.api.core.model.workspace.config.Environment;
 import org.eclipse.che.api.core.model.workspace.runtime.RuntimeIdentity;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
-import org.eclipse.che.api.workspace.server.devfile.convert.DevfileConverter;
+import org.eclipse.che.api.workspace.server.devfile.convert.DevfileConversionCache;
 import org.eclipse.che.api.workspace.server.event.RuntimeAbnormalStoppedEvent;
 import org.eclipse.che.api.workspace.server.event.RuntimeAbnormalStoppingEvent;
 import org.eclipse.che.api.workspace.server.hc.probe.ProbeScheduler;
@@ -117,7 +124,11 @@ public class WorkspaceRuntimes {
   private final Map<String, InternalEnvironmentFactory> environmentFactories;
   private final RuntimeInfrastructure infrastructure;
   private final ProbeScheduler probeScheduler;
-  private final DevfileConverter devfileConverter;
+  private final DevfileConversionCache devfileConversionCache;
+  private final int recoveryParallelism;
+  private final AtomicInteger runtimesToRecover = new AtomicInteger();
+  private final AtomicInteger recoveredRuntimes = new AtomicInteger();
+  private final AtomicInteger failedRuntimeRecoveries = new AtomicInteger();
   // Unique identifier for this workspace runtimes
   private final String workspaceRuntimesId;
 
@@ -133,7 +144,8 @@ public class WorkspaceRuntimes {
       ProbeScheduler probeScheduler,
       WorkspaceStatusCache statuses,
       WorkspaceLockService lockService,
-      DevfileConverter devfileConverter) {
+      DevfileConversionCache devfileConversionCache,
+      int recoveryParallelism) {
     this(
         eventService,
         envFactories,
@@ -144,7 +156,8 @@ public class WorkspaceRuntimes {
         probeScheduler,
         statuses,
         lockService,
-        devfileConverter);
+        devfileConversionCache,
+        recoveryParallelism);
     this.runtimes = runtimes;
   }
 
@@ -159,7 +172,8 @@ public class WorkspaceRuntimes {
       ProbeScheduler probeScheduler,
       WorkspaceStatusCache statuses,
       WorkspaceLockService lockService,
-      DevfileConverter devfileConverter) {
+      DevfileConversionCache devfileConversionCache,
+      @Named("che.workspace.recovery.parallelism") int recoveryParallelism) {
     this.probeScheduler = probeScheduler;
     this.runtimes = new ConcurrentHashMap<>();
     this.statuses = statuses;
@@ -170,7 +184,8 @@ public class WorkspaceRuntimes {
     this.infrastructure = infra;
     this.environmentFactories = ImmutableMap.copyOf(envFactories);
     this.lockService = lockService;
-    this.devfileConverter = devfileConverter;
+    this.devfileConversionCache = devfileConversionCache;
+    this.recoveryParallelism = Math.max(recoveryParallelism, 1);
     LOG.info("Configured factories for environments: '{}'", envFactories.keySet());
     LOG.info("Registered infrastructure '{}'", infra.getName());
     SetView<String> notSupportedByInfra =
@@ -219,7 +234,7 @@ public class WorkspaceRuntimes {
       throws ValidationException, NotFoundException, ServerException {
     WorkspaceConfigImpl config = workspace.getConfig();
     if (workspace.getDevfile() != null) {
-      config = devfileConverter.convert(workspace.getDevfile());
+      config = devfileConversionCache.convert(workspace.getDevfile());
     }
 
     if (envName != null && !config.getEnvironments().containsKey(envName)) {
@@ -429,7 +444,7 @@ public class WorkspaceRuntimes {
 
     WorkspaceConfigImpl config = workspace.getConfig();
     if (config == null) {
-      config = devfileConverter.convert(workspace.getDevfile());
+      config = devfileConversionCache.convert(workspace.getDevfile());
     }
 
     if (envName == null) {
@@ -563,13 +578,7 @@ public class WorkspaceRuntimes {
 
   /** Returns workspace ids which has {@link WorkspaceStatus#RUNNING} runtimes. */
   public Set<String> getRunning() {
-    return statuses
-        .asMap()
-        .entrySet()
-        .stream()
-        .filter(e -> RUNNING == e.getValue())
-        .map(Entry::getKey)
-        .collect(toSet());
+    return statuses.getByStatus(RUNNING);
   }
 
   /**
@@ -588,7 +597,9 @@ public class WorkspaceRuntimes {
    * WorkspaceStatus#STOPPED}), otherwise returns false.
    */
   public boolean isAnyActive() {
-    return !statuses.asMap().isEmpty();
+    return statuses.count(STARTING) > 0
+        || statuses.count(RUNNING) > 0
+        || statuses.count(STOPPING) > 0;
   }
 
   /**
@@ -596,12 +607,8 @@ public class WorkspaceRuntimes {
    * status is {@link WorkspaceStatus#STARTING} or {@link WorkspaceStatus#STOPPING})
    */
   public Set<String> getInProgress() {
-    return statuses
-        .asMap()
-        .entrySet()
-        .stream()
-        .filter(e -> STARTING == e.getValue() || STOPPING == e.getValue())
-        .map(Entry::getKey)
+    return Stream.concat(
+            statuses.getByStatus(STARTING).stream(), statuses.getByStatus(STOPPING).stream())
         .filter(this::containsThisRuntimesId)
         .collect(toSet());
   }
@@ -611,12 +618,11 @@ public class WorkspaceRuntimes {
    * {@link WorkspaceStatus#STARTING} or {@link WorkspaceStatus#STOPPING}), otherwise returns false.
    */
   public boolean isAnyInProgress() {
-    return statuses
-        .asMap()
-        .entrySet()
-        .stream()
-        .filter(e -> STARTING == e.getValue() || STOPPING == e.getValue())
-        .map(Entry::getKey)
+    if (statuses.count(STARTING) == 0 && statuses.count(STOPPING) == 0) {
+      return false;
+    }
+    return Stream.concat(
+            statuses.getByStatus(STARTING).stream(), statuses.getByStatus(STOPPING).stream())
         .anyMatch(this::containsThisRuntimesId);
   }
 
@@ -675,6 +681,21 @@ public class WorkspaceRuntimes {
     sharedPool.execute(new RecoverRuntimesTask(identities));
   }
 
+  /** Returns the number of runtimes which are recovered on the start of this component. */
+  public int getRuntimesToRecover() {
+    return runtimesToRecover.get();
+  }
+
+  /** Returns the number of runtimes which have been recovered so far. */
+  public int getRecoveredRuntimes() {
+    return recoveredRuntimes.get();
+  }
+
+  /** Returns the number of runtimes which failed to be recovered. */
+  public int getFailedRuntimeRecoveries() {
+    return failedRuntimeRecoveries.get();
+  }
+
   @VisibleForTesting
   InternalRuntime<?> recoverOne(RuntimeInfrastructure infra, RuntimeIdentity identity)
       throws ServerException, ConflictException {
@@ -698,7 +719,7 @@ public class WorkspaceRuntimes {
     Environment environment = null;
     WorkspaceConfigImpl workspaceConfig = workspace.getConfig();
     if (workspaceConfig == null) {
-      workspaceConfig = devfileConverter.convert(workspace.getDevfile());
+      workspaceConfig = devfileConversionCache.convert(workspace.getDevfile());
     }
 
     if (identity.getEnvName() != null) {
@@ -859,6 +880,13 @@ public class WorkspaceRuntimes {
     return nameIfNoUser;
   }
 
+  /**
+   * Recovers the runtimes in parallel, at most {@code che.workspace.recovery.parallelism} runtimes
+   * are recovered at the same time. The thread running the task takes part in the recovery as well,
+   * the others are taken from the {@link WorkspaceSharedPool}. Runtimes of the temporary
+   * workspaces, which are mostly created by automated clients, are recovered after the others, so
+   * the workspaces of interactive users become available first.
+   */
   @VisibleForTesting
   class RecoverRuntimesTask implements Runnable {
 
@@ -872,7 +900,52 @@ public class WorkspaceRuntimes {
     public void run() {
       long startTime = System.currentTimeMillis();
       LOG.info("Recovering of runtimes is started.");
+      Queue<RuntimeIdentity> queue = new ConcurrentLinkedQueue<>(prioritize(identities));
+      runtimesToRecover.addAndGet(queue.size());
+
+      List<CompletableFuture<Void>> workers = new ArrayList<>();
+      for (int i = 1; i < Math.min(recoveryParallelism, queue.size()); i++) {
+        workers.add(sharedPool.runAsync(() -> recoverAll(queue)));
+      }
+      recoverAll(queue);
+
+      CompletableFuture.allOf(workers.toArray(new CompletableFuture[0]))
+          .whenComplete(
+              (ignored, x) ->
+                  LOG.info(
+                      "Recovering of runtimes is finished in {} seconds, {} runtimes failed.",
+                      TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - startTime),
+                      failedRuntimeRecoveries.get()));
+    }
+
+    private List<RuntimeIdentity> prioritize(Set<RuntimeIdentity> identities) {
+      Set<String> temporaryIds = getTemporaryWorkspaceIds(identities);
+      List<RuntimeIdentity> prioritized = new ArrayList<>(identities.size());
+      List<RuntimeIdentity> temporary = new ArrayList<>();
       for (RuntimeIdentity identity : identities) {
+        if (temporaryIds.contains(identity.getWorkspaceId())) {
+          temporary.add(identity);
+        } else {
+          prioritized.add(identity);
+        }
+      }
+      prioritized.addAll(temporary);
+      return prioritized;
+    }
+
+    private Set<String> getTemporaryWorkspaceIds(Set<RuntimeIdentity> identities) {
+      try {
+        return new HashSet<>(
+            workspaceDao.getTemporaryWorkspaceIds(
+                identities.stream().map(RuntimeIdentity::getWorkspaceId).collect(toList())));
+      } catch (ServerException x) {
+        LOG.warn("Failed to find temporary workspaces, runtimes are recovered in any order", x);
+        return emptySet();
+      }
+    }
+
+    private void recoverAll(Queue<RuntimeIdentity> queue) {
+      for (RuntimeIdentity identity = queue.poll(); identity != null; identity = queue.poll()) {
         try (Unlocker ignored = lockService.writeLock(identity.getWorkspaceId())) {
           try {
             InternalRuntime<?> runtime = runtimes.get(identity.getWorkspaceId());
@@ -882,7 +955,9 @@ public class WorkspaceRuntimes {
             } else {
               LOG.info("Runtime {} already restored. Skipping it.", identity.getWorkspaceId());
             }
+            recoveredRuntimes.incrementAndGet();
           } catch (Exception e) {
+            failedRuntimeRecoveries.incrementAndGet();
             LOG.error(
                 "An error occurred while attempting to recover runtime '{}' using infrastructure '{}'. Reason: '{}'",
                 identity.getWorkspaceId(),
@@ -892,11 +967,6 @@ public class WorkspaceRuntimes {
           }
         }
       }
-
-      long finishTime = System.currentTimeMillis();
-      LOG.info(
-          "All runtimes have been recovered in {} seconds.",
-          TimeUnit.MILLISECONDS.toSeconds(finishTime - startTime));
     }
   }
 
@@ -57,6 +57,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriBuilder;
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
@@ -66,6 +67,7 @@ import org.eclipse.che.api.core.Pages;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.ValidationException;
 import org.eclipse.che.api.core.model.workspace.Workspace;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.model.workspace.config.ServerConfig;
 import org.eclipse.che.api.core.rest.Service;
 import org.eclipse.che.api.workspace.server.devfile.FileContentProvider;
@@ -75,6 +77,7 @@ import org.eclipse.che.api.workspace.server.model.impl.CommandImpl;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
 import org.eclipse.che.api.workspace.server.model.impl.ProjectConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.server.token.MachineAccessForbidden;
 import org.eclipse.che.api.workspace.server.token.MachineTokenException;
 import org.eclipse.che.api.workspace.server.token.MachineTokenProvider;
@@ -88,6 +91,7 @@ import org.eclipse.che.api.workspace.shared.dto.RuntimeDto;
 import org.eclipse.che.api.workspace.shared.dto.ServerDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceDto;
+import org.eclipse.che.api.workspace.shared.dto.WorkspaceSummaryDto;
 import org.eclipse.che.api.workspace.shared.dto.devfile.DevfileDto;
 import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.commons.env.EnvironmentContext;
@@ -362,6 +366,66 @@ public class WorkspaceService extends Service {
         .build();
   }
 
+  @GET
+  @Path("/summary")
+  @Produces(APPLICATION_JSON)
+  @ApiOperation(
+      value = "Get summaries of the workspaces which user can read",
+      notes =
+          "Summaries are ordered by workspace id. The next page is requested with the id of "
+              + "the last workspace of the previous page, the link to it is returned in "
+              + "the 'Link' header when there may be more workspaces",
+      response = WorkspaceSummaryDto.class,
+      responseContainer = "List")
+  @ApiResponses({
+    @ApiResponse(code = 200, message = "The workspace summaries successfully fetched"),
+    @ApiResponse(code = 400, message = "The number of items or the status is not valid"),
+    @ApiResponse(code = 500, message = "Internal server error occurred during workspaces fetching")
+  })
+  public Response getWorkspaceSummaries(
+      @ApiParam("The id of the last workspace of the previous page") @QueryParam("after")
+          String after,
+      @ApiParam("The limit of the items in the response, default is 30")
+          @DefaultValue("30")
+          @QueryParam("maxItems")
+          Integer maxItems,
+      @ApiParam("Workspace status") @QueryParam("status") String status)
+      throws ServerException, BadRequestException {
+    if (maxItems < 0) {
+      throw new BadRequestException("The number of items to return can't be negative.");
+    }
+    WorkspaceStatus statusFilter = null;
+    if (status != null) {
+      try {
+        statusFilter = WorkspaceStatus.valueOf(status.toUpperCase());
+      } catch (IllegalArgumentException x) {
+        throw new BadRequestException(format("Workspace status '%s' is not valid.", status));
+      }
+    }
+    final List<WorkspaceSummaryImpl> summaries =
+        workspaceManager.getWorkspaceSummaries(
+            EnvironmentContext.getCurrent().getSubject().getUserId(),
+            after,
+            maxItems,
+            statusFilter);
+    final Response.ResponseBuilder response =
+        Response.ok().entity(summaries.stream().map(DtoConverter::asDto).collect(toList()));
+    if (maxItems > 0 && summaries.size() == maxItems) {
+      final UriBuilder nextBuilder =
+          getServiceContext()
+              .getServiceUriBuilder()
+              .path(getClass(), "getWorkspaceSummaries")
+              .queryParam("after", summaries.get(summaries.size() - 1).getId())
+              .queryParam("maxItems", maxItems);
+      if (status != null) {
+        nextBuilder.queryParam("status", status);
+      }
+      final String next = nextBuilder.build().toString();
+      response.header("Link", format("<%s>; rel=\"next\"", next));
+    }
+    return response.build();
+  }
+
   @GET
   @Path("/namespace/{namespace:.*}")
   @Produces(APPLICATION_JSON)
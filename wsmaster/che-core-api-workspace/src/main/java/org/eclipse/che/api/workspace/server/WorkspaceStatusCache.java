@@ -12,6 +12,7 @@
 package org.eclipse.che.api.workspace.server;
 
 import java.util.Map;
+import java.util.Set;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 
 /**
@@ -70,4 +71,23 @@ public interface WorkspaceStatusCache {
 
   /** Returns copy of this cache as map. */
   Map<String, WorkspaceStatus> asMap();
+
+  /**
+   * Returns identifiers of the workspaces which have the given status. Unlike filtering of {@link
+   * #asMap()} the cost of this operation is proportional to the number of found workspaces.
+   *
+   * @param status workspace status
+   * @return identifiers of the workspaces with given status or an empty set if there are no such
+   *     workspaces
+   */
+  Set<String> getByStatus(WorkspaceStatus status);
+
+  /**
+   * Returns the number of workspaces which have the given status, the operation doesn't depend on
+   * the number of cached statuses.
+   *
+   * @param status workspace status
+   * @return number of workspaces with given status
+   */
+  int count(WorkspaceStatus status);
 }
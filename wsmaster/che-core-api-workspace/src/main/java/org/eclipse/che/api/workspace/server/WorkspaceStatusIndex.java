@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.server;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+
+/**
+ * Secondary index of a {@link WorkspaceStatusCache} which maps each status to the identifiers of
+ * the workspaces having it. It allows implementations to find the workspaces with the given status
+ * proportionally to the number of found workspaces and to count them in constant time instead of
+ * copying and iterating over all the cached statuses.
+ *
+ * <p>The cache must call {@link #refresh(String, Function)} after each modification of a workspace
+ * status. Refreshes of the same workspace are serialized and the status is read from the cache
+ * while refreshing, so the index converges to the state of the cache even when the modifications
+ * are concurrent. Lookups are weakly consistent, while the status is being changed the workspace
+ * may be found with both the previous and the new status.
+ */
+public class WorkspaceStatusIndex {
+
+  private final ConcurrentHashMap<String, WorkspaceStatus> indexed = new ConcurrentHashMap<>();
+  private final Map<WorkspaceStatus, Set<String>> byStatus = new EnumMap<>(WorkspaceStatus.class);
+
+  public WorkspaceStatusIndex() {
+    for (WorkspaceStatus status : WorkspaceStatus.values()) {
+      byStatus.put(status, ConcurrentHashMap.newKeySet());
+    }
+  }
+
+  /**
+   * Updates the index entry of the given workspace with its current status.
+   *
+   * @param workspaceId workspace identifier
+   * @param statuses function which returns the current status of the workspace from the indexed
+   *     cache or {@code null} if the cache doesn't contain it
+   */
+  public void refresh(String workspaceId, Function<String, WorkspaceStatus> statuses) {
+    indexed.compute(
+        workspaceId,
+        (id, previous) -> {
+          final WorkspaceStatus current = statuses.apply(id);
+          if (current != null) {
+            byStatus.get(current).add(id);
+          }
+          if (previous != null && previous != current) {
+            byStatus.get(previous).remove(id);
+          }
+          return current;
+        });
+  }
+
+  /** Returns identifiers of all the indexed workspaces. */
+  public Set<String> getIndexed() {
+    return ImmutableSet.copyOf(indexed.keySet());
+  }
+
+  /** Returns identifiers of the workspaces with the given status. */
+  public Set<String> get(WorkspaceStatus status) {
+    return ImmutableSet.copyOf(byStatus.get(status));
+  }
+
+  /** Returns the number of workspaces with the given status. */
+  public int count(WorkspaceStatus status) {
+    return byStatus.get(status).size();
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.server.devfile.convert;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.workspace.devfile.Action;
+import org.eclipse.che.api.core.model.workspace.devfile.Command;
+import org.eclipse.che.api.core.model.workspace.devfile.Component;
+import org.eclipse.che.api.core.model.workspace.devfile.Devfile;
+import org.eclipse.che.api.workspace.server.DtoConverter;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
+import org.eclipse.che.dto.server.DtoFactory;
+
+/**
+ * Caches workspace configs converted from devfiles by {@link DevfileConverter}.
+ *
+ * <p>Conversion of the devfile provisions the default editor and parses the components, so
+ * repeating it on each validation and start of the same workspace is wasteful. The cache is keyed
+ * by the hash of the devfile content, so workspaces with the same devfile share the conversion and
+ * any change of the devfile results in a new conversion. Only the successful conversions are
+ * cached.
+ *
+ * <p>Devfiles which reference external content, e.g. a component or a command action with a
+ * reference but without the inlined reference content, are converted on each call, since the
+ * referenced content may change at any time and is not part of the key. The conversion also
+ * depends on the settings of the server, which do not change while the server is running, so they
+ * are not part of the key either.
+ *
+ * <p>The cached configs are never exposed, each call returns a copy which may be modified by the
+ * caller. The number of cached conversions is bounded and they expire after the configured time.
+ * Concurrent conversions of the same content wait for a single conversion.
+ *
+ * @see DevfileConverter#convert(Devfile)
+ */
+@Singleton
+public class DevfileConversionCache {
+
+  private final DevfileConverter devfileConverter;
+  private final Cache<String, WorkspaceConfigImpl> configs;
+
+  @Inject
+  public DevfileConversionCache(
+      DevfileConverter devfileConverter,
+      @Named("che.workspace.devfile.conversion_cache.max_size") long maxSize,
+      @Named("che.workspace.devfile.conversion_cache.expire_after_min") long expireAfterMin) {
+    this.devfileConverter = devfileConverter;
+    this.configs =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(expireAfterMin, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Returns a copy of the workspace config converted from the given devfile, converts the devfile
+   * only if there is no cached conversion of the same content or the devfile references external
+   * content.
+   *
+   * @param devfile devfile to convert
+   * @return workspace config which can be modified by the caller
+   * @throws ServerException when the devfile can not be converted
+   */
+  public WorkspaceConfigImpl convert(Devfile devfile) throws ServerException {
+    if (hasExternalReferences(devfile)) {
+      return devfileConverter.convert(devfile);
+    }
+    try {
+      return new WorkspaceConfigImpl(
+          configs.get(keyOf(devfile), () -> devfileConverter.convert(devfile)));
+    } catch (ExecutionException e) {
+      // the converter throws only server exceptions
+      throw (ServerException) e.getCause();
+    }
+  }
+
+  /** Returns the number of conversions served from the cache. */
+  public long getHitCount() {
+    return configs.stats().hitCount();
+  }
+
+  /** Returns the number of performed conversions. */
+  public long getMissCount() {
+    return configs.stats().missCount();
+  }
+
+  /** Checks whether the conversion of the devfile fetches any referenced content. */
+  private static boolean hasExternalReferences(Devfile devfile) {
+    for (Component component : devfile.getComponents()) {
+      if (isExternalReference(component.getReference(), component.getReferenceContent())) {
+        return true;
+      }
+    }
+    for (Command command : devfile.getCommands()) {
+      for (Action action : command.getActions()) {
+        if (isExternalReference(action.getReference(), action.getReferenceContent())) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean isExternalReference(String reference, String referenceContent) {
+    return !isNullOrEmpty(reference) && isNullOrEmpty(referenceContent);
+  }
+
+  private static String keyOf(Devfile devfile) {
+    final String json = DtoFactory.getInstance().toJson(DtoConverter.asDto(devfile));
+    return Hashing.sha256().hashString(json, UTF_8).toString();
+  }
+}
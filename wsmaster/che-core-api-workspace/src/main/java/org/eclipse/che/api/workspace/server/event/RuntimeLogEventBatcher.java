@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.server.event;
+
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.workspace.shared.dto.event.RuntimeLogBatchEvent;
+import org.eclipse.che.api.workspace.shared.dto.event.RuntimeLogEvent;
+import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
+import org.eclipse.che.api.workspace.shared.event.WorkspaceRemovedEvent;
+import org.eclipse.che.commons.schedule.ScheduleDelay;
+
+/**
+ * Coalesces {@link RuntimeLogEvent runtime log events} of a workspace into {@link
+ * RuntimeLogBatchEvent batches}. A batch is published when it reaches the configured number of
+ * lines or when the configured time window elapses, whichever comes first. Batches of the same
+ * workspace are numbered sequentially, so clients are able to detect lost batches.
+ *
+ * <p>Pending logs of a workspace are published when it is stopped. The numbering of batches is kept
+ * across runs of the workspace until the workspace is removed.
+ *
+ * <p>Batching is disabled when the time window is not positive, which is the default, as every log
+ * event is then additionally buffered and published once more. In that case the batcher neither
+ * subscribes to the events nor is the flush scheduled.
+ */
+@Singleton
+public class RuntimeLogEventBatcher {
+
+  private final EventService eventService;
+  private final long windowMs;
+  private final int maxLines;
+  private final Map<String, Batch> batches = new ConcurrentHashMap<>();
+
+  @Inject
+  public RuntimeLogEventBatcher(
+      EventService eventService,
+      @Named("che.workspace.runtime_log.batch_window_ms") long windowMs,
+      @Named("che.workspace.runtime_log.batch_max_lines") int maxLines) {
+    this.eventService = eventService;
+    this.windowMs = windowMs;
+    this.maxLines = maxLines;
+  }
+
+  @VisibleForTesting
+  @PostConstruct
+  void subscribe() {
+    if (windowMs <= 0) {
+      return;
+    }
+    eventService.subscribe(this::add, RuntimeLogEvent.class);
+    eventService.subscribe(this::onStatusChanged, WorkspaceStatusEvent.class);
+    eventService.subscribe(this::onRemoved, WorkspaceRemovedEvent.class);
+  }
+
+  /** Publishes batches of all the workspaces that have pending log events. */
+  @ScheduleDelay(
+      initialDelayParameterName = "che.workspace.runtime_log.batch_window_ms",
+      delayParameterName = "che.workspace.runtime_log.batch_window_ms",
+      unit = TimeUnit.MILLISECONDS)
+  @VisibleForTesting
+  void flush() {
+    batches.values().forEach(Batch::publish);
+  }
+
+  private void add(RuntimeLogEvent event) {
+    batches.computeIfAbsent(event.getRuntimeId().getWorkspaceId(), k -> new Batch()).add(event);
+  }
+
+  private void onStatusChanged(WorkspaceStatusEvent event) {
+    if (event.getStatus() == WorkspaceStatus.STOPPED) {
+      Batch batch = batches.get(event.getWorkspaceId());
+      if (batch != null) {
+        batch.publish();
+      }
+    }
+  }
+
+  private void onRemoved(WorkspaceRemovedEvent event) {
+    Batch batch = batches.remove(event.getWorkspace().getId());
+    if (batch != null) {
+      batch.close();
+    }
+  }
+
+  private class Batch {
+    // guarded by this
+    private List<RuntimeLogEvent> logs = new ArrayList<>();
+    private long sequenceNumber;
+    private boolean closed;
+
+    /**
+     * Adds the event to the batch. Events added after the batch is closed, by the threads which got
+     * the batch before it was removed, are published immediately.
+     */
+    synchronized void add(RuntimeLogEvent event) {
+      logs.add(event);
+      if (closed || logs.size() >= maxLines) {
+        publish();
+      }
+    }
+
+    /** Publishes pending logs, further events are published without batching. */
+    synchronized void close() {
+      closed = true;
+      publish();
+    }
+
+    /** Publishes pending logs, the lock is held to keep batches of a workspace ordered. */
+    synchronized void publish() {
+      if (logs.isEmpty()) {
+        return;
+      }
+      RuntimeLogBatchEvent batchEvent =
+          newDto(RuntimeLogBatchEvent.class)
+              .withRuntimeId(logs.get(0).getRuntimeId())
+              .withSequenceNumber(sequenceNumber++)
+              .withLogs(logs);
+      logs = new ArrayList<>();
+      eventService.publish(batchEvent);
+    }
+  }
+}
@@ -12,13 +12,14 @@
 package org.eclipse.che.api.workspace.server.event;
 
 import static org.eclipse.che.api.workspace.shared.Constants.MACHINE_LOG_METHOD;
+import static org.eclipse.che.api.workspace.shared.Constants.RUNTIME_LOG_BATCH_METHOD;
 import static org.eclipse.che.api.workspace.shared.Constants.RUNTIME_LOG_METHOD;
 
-import java.util.Map;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.notification.RemoteSubscriptionManager;
+import org.eclipse.che.api.workspace.shared.dto.event.RuntimeLogBatchEvent;
 import org.eclipse.che.api.workspace.shared.dto.event.RuntimeLogEvent;
 
 /**
@@ -39,17 +40,22 @@ public class RuntimeLogJsonRpcMessenger {
 
   @PostConstruct
   private void postConstruct() {
-    subscriptionManager.register(RUNTIME_LOG_METHOD, RuntimeLogEvent.class, this::predicate);
     subscriptionManager.register(
-        MACHINE_LOG_METHOD, RuntimeLogEvent.class, this::predicateMachineLog);
-  }
-
-  private boolean predicate(RuntimeLogEvent event, Map<String, String> scope) {
-    return event.getRuntimeId().getWorkspaceId().equals(scope.get("workspaceId"));
+        RUNTIME_LOG_METHOD, RuntimeLogEvent.class, "workspaceId", this::workspaceId);
+    subscriptionManager.register(
+        MACHINE_LOG_METHOD,
+        RuntimeLogEvent.class,
+        "workspaceId",
+        this::workspaceId,
+        (event, scope) -> event.getMachineName() != null);
+    subscriptionManager.register(
+        RUNTIME_LOG_BATCH_METHOD,
+        RuntimeLogBatchEvent.class,
+        "workspaceId",
+        event -> event.getRuntimeId().getWorkspaceId());
   }
 
-  private boolean predicateMachineLog(RuntimeLogEvent event, Map<String, String> scope) {
-    return event.getMachineName() != null
-        && event.getRuntimeId().getWorkspaceId().equals(scope.get("workspaceId"));
+  private String workspaceId(RuntimeLogEvent event) {
+    return event.getRuntimeId().getWorkspaceId();
   }
 }
@@ -11,7 +11,6 @@
  */
 package org.eclipse.che.api.workspace.server.event;
 
-import java.util.Map;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -31,10 +30,9 @@ public class RuntimeStatusJsonRpcMessenger {
   @PostConstruct
   private void postConstruct() {
     remoteSubscriptionManager.register(
-        "runtime/statusChanged", RuntimeStatusEvent.class, this::predicate);
-  }
-
-  private boolean predicate(RuntimeStatusEvent event, Map<String, String> scope) {
-    return event.getIdentity().getWorkspaceId().equals(scope.get("workspaceId"));
+        "runtime/statusChanged",
+        RuntimeStatusEvent.class,
+        "workspaceId",
+        event -> event.getIdentity().getWorkspaceId());
   }
 }
@@ -15,8 +15,11 @@ import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.util.Timer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.workspace.server.hc.probe.ProbeEngine;
 
 /**
  * Server checker that uses http connection response code as a criteria of availability of a server.
@@ -39,9 +42,9 @@ public class HttpConnectionServerChecker extends ServerChecker {
       long timeout,
       int successThreshold,
       TimeUnit timeUnit,
-      Timer timer,
+      ProbeEngine probeEngine,
       String token) {
-    super(machineName, serverRef, period, timeout, successThreshold, timeUnit, timer);
+    super(machineName, serverRef, period, timeout, successThreshold, timeUnit, probeEngine);
     this.url = url;
     this.token = token;
   }
@@ -68,15 +71,36 @@ public class HttpConnectionServerChecker extends ServerChecker {
     }
   }
 
+  /**
+   * Checks plain HTTP servers without blocking a thread. TLS is not supported by the engine, so
+   * HTTPS servers are checked with {@link #isAvailable()}.
+   */
+  @Override
+  protected CompletableFuture<Boolean> checkAsync() {
+    if (!"http".equals(url.getProtocol())) {
+      return super.checkAsync();
+    }
+    Map<String, String> headers = new HashMap<>();
+    if (token != null) {
+      headers.put(AUTHORIZATION_HEADER, "Bearer " + token);
+    }
+    return getProbeEngine()
+        .probeHttp(
+            url, headers, (int) TimeUnit.SECONDS.toMillis(3), this::isSuccessfulResponseCode);
+  }
+
   boolean isConnectionSuccessful(HttpURLConnection conn) {
     try {
-      int responseCode = conn.getResponseCode();
-      return responseCode >= 200 && responseCode < 400;
+      return isSuccessfulResponseCode(conn.getResponseCode());
     } catch (IOException e) {
       return false;
     }
   }
 
+  boolean isSuccessfulResponseCode(int responseCode) {
+    return responseCode >= 200 && responseCode < 400;
+  }
+
   @VisibleForTesting
   HttpURLConnection createConnection(URL url) throws IOException {
     return (HttpURLConnection) url.openConnection();
@@ -11,17 +11,19 @@
  */
 package org.eclipse.che.api.workspace.server.hc;
 
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import org.eclipse.che.api.workspace.server.hc.probe.ProbeEngine;
 import org.eclipse.che.api.workspace.server.spi.InfrastructureException;
 
 /**
  * Checks availability of a server.
  *
+ * <p>Checks are scheduled by the shared {@link ProbeEngine}, so checking of a server doesn't
+ * occupy a thread between the checks.
+ *
  * @author Alexander Garagatyi
  */
 public abstract class ServerChecker {
@@ -31,7 +33,10 @@ public abstract class ServerChecker {
   private final long deadLine;
   private final int successThreshold;
   private final CompletableFuture<String> reportFuture;
-  private final Timer timer;
+  private final ProbeEngine probeEngine;
+
+  private volatile boolean stopped;
+  private volatile ProbeEngine.Timeout nextCheck;
 
   /**
    * Creates server checker instance.
@@ -44,6 +49,7 @@ public abstract class ServerChecker {
    * @param timeout max time allowed for the server availability checks to last before server is
    *     treated unavailable, measured in {@code timeUnit}
    * @param timeUnit measurement unit for {@code period} and {@code timeout} parameters
+   * @param probeEngine engine which schedules and executes the checks
    */
   protected ServerChecker(
       String machineName,
@@ -52,11 +58,11 @@ public abstract class ServerChecker {
       long timeout,
       int successThreshold,
       TimeUnit timeUnit,
-      Timer timer) {
+      ProbeEngine probeEngine) {
     this.machineName = machineName;
     this.serverRef = serverRef;
     this.successThreshold = successThreshold;
-    this.timer = timer;
+    this.probeEngine = probeEngine;
     this.period = TimeUnit.MILLISECONDS.convert(period, timeUnit);
     this.reportFuture = new CompletableFuture<>();
     this.deadLine = System.currentTimeMillis() + TimeUnit.MILLISECONDS.convert(timeout, timeUnit);
@@ -67,7 +73,16 @@ public abstract class ServerChecker {
    * checking times out.
    */
   public void start() {
-    timer.schedule(new ServerCheckingTask(0), 0);
+    scheduleCheck(0, 0);
+  }
+
+  /** Stops server availability checking without completing the report future. */
+  public void stop() {
+    stopped = true;
+    ProbeEngine.Timeout next = nextCheck;
+    if (next != null) {
+      next.cancel();
+    }
   }
 
   /**
@@ -89,6 +104,21 @@ public abstract class ServerChecker {
    */
   public abstract boolean isAvailable();
 
+  /**
+   * Checks the server availability asynchronously. By default {@link #isAvailable()} is executed by
+   * the blocking checks executor of the engine, implementations may override it to check the server
+   * without blocking a thread.
+   *
+   * @return future which is completed with true if server is available, false otherwise
+   */
+  protected CompletableFuture<Boolean> checkAsync() {
+    return probeEngine.check(this::isAvailable);
+  }
+
+  protected ProbeEngine getProbeEngine() {
+    return probeEngine;
+  }
+
   /**
    * Returns {@code CompletableFuture} that will be completed when server become available or
    * unavailable. When server become available completable future returns server reference.
@@ -107,30 +137,49 @@ public abstract class ServerChecker {
     return System.currentTimeMillis() > deadLine;
   }
 
-  private class ServerCheckingTask extends TimerTask {
-    private int currentNumberOfSequentialSuccessfulPings;
-
-    public ServerCheckingTask(int currentNumberOfSequentialSuccessfulPings) {
-      this.currentNumberOfSequentialSuccessfulPings = currentNumberOfSequentialSuccessfulPings;
+  private void scheduleCheck(int sequentialSuccessfulPings, long delay) {
+    if (stopped) {
+      return;
     }
+    nextCheck =
+        probeEngine.schedule(() -> check(sequentialSuccessfulPings), delay, TimeUnit.MILLISECONDS);
+  }
 
-    @Override
-    public void run() {
-      if (isTimedOut()) {
-        reportFuture.completeExceptionally(
-            new InfrastructureException(
-                String.format(
-                    "Server '%s' in container '%s' not available.", serverRef, machineName)));
-      } else if (isAvailable()) {
-        currentNumberOfSequentialSuccessfulPings++;
-        if (currentNumberOfSequentialSuccessfulPings == successThreshold) {
-          reportFuture.complete(serverRef);
-        } else {
-          timer.schedule(new ServerCheckingTask(currentNumberOfSequentialSuccessfulPings), period);
-        }
-      } else {
-        timer.schedule(new ServerCheckingTask(0), period);
-      }
+  /** Starts a check, called by the event loop of the engine, so it must not block. */
+  private void check(int sequentialSuccessfulPings) {
+    if (stopped || reportFuture.isDone()) {
+      return;
+    }
+    if (isTimedOut()) {
+      report(
+          () ->
+              reportFuture.completeExceptionally(
+                  new InfrastructureException(
+                      String.format(
+                          "Server '%s' in container '%s' not available.",
+                          serverRef, machineName))));
+      return;
     }
+    checkAsync()
+        .whenComplete(
+            (available, error) -> {
+              if (error == null && available) {
+                if (sequentialSuccessfulPings + 1 == successThreshold) {
+                  report(() -> reportFuture.complete(serverRef));
+                } else {
+                  scheduleCheck(sequentialSuccessfulPings + 1, period);
+                }
+              } else {
+                scheduleCheck(0, period);
+              }
+            });
+  }
+
+  /**
+   * Completes the report future by the blocking checks executor since the dependent stages, e.g.
+   * servers readiness handlers, may block.
+   */
+  private void report(Runnable completion) {
+    probeEngine.executeBlocking(completion);
   }
 }
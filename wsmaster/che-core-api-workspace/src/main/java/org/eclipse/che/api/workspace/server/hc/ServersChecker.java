@@ -20,7 +20,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Timer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -32,6 +31,7 @@ import javax.inject.Named;
 import javax.ws.rs.core.UriBuilder;
 import org.eclipse.che.api.core.model.workspace.runtime.RuntimeIdentity;
 import org.eclipse.che.api.core.model.workspace.runtime.Server;
+import org.eclipse.che.api.workspace.server.hc.probe.ProbeEngine;
 import org.eclipse.che.api.workspace.server.spi.InfrastructureException;
 import org.eclipse.che.api.workspace.server.spi.InternalInfrastructureException;
 import org.eclipse.che.api.workspace.server.token.MachineTokenProvider;
@@ -49,8 +49,8 @@ public class ServersChecker {
   private final int serverPingSuccessThreshold;
   private final long serverPingIntervalMillis;
   private final Set<String> livenessProbes;
+  private final ProbeEngine probeEngine;
 
-  private Timer timer;
   private long resultTimeoutSeconds;
   private CompletableFuture<?> result;
 
@@ -68,16 +68,17 @@ public class ServersChecker {
       MachineTokenProvider machineTokenProvider,
       @Named("che.workspace.server.ping_success_threshold") int serverPingSuccessThreshold,
       @Named("che.workspace.server.ping_interval_milliseconds") long serverPingInterval,
-      @Named("che.workspace.server.liveness_probes") String[] livenessProbes) {
+      @Named("che.workspace.server.liveness_probes") String[] livenessProbes,
+      ProbeEngine probeEngine) {
     this.runtimeIdentity = runtimeIdentity;
     this.machineName = machineName;
     this.servers = servers;
-    this.timer = new Timer("ServersChecker", true);
     this.machineTokenProvider = machineTokenProvider;
     this.serverPingSuccessThreshold = serverPingSuccessThreshold;
     this.serverPingIntervalMillis = serverPingInterval;
     this.livenessProbes =
         Arrays.stream(livenessProbes).map(String::trim).collect(Collectors.toSet());
+    this.probeEngine = probeEngine;
   }
 
   /**
@@ -91,7 +92,6 @@ public class ServersChecker {
    */
   public CompletableFuture<?> startAsync(Consumer<String> serverReadinessHandler)
       throws InfrastructureException {
-    timer = new Timer("ServersChecker", true);
     List<ServerChecker> serverCheckers = getServerCheckers();
     // should be completed with an exception if a server considered unavailable
     CompletableFuture<Void> firstNonAvailable = new CompletableFuture<>();
@@ -106,7 +106,7 @@ public class ServersChecker {
                         .exceptionally(
                             e -> {
                               // cleanup checkers tasks
-                              timer.cancel();
+                              serverCheckers.forEach(ServerChecker::stop);
                               firstNonAvailable.completeExceptionally(e);
                               return null;
                             }))
@@ -218,7 +218,7 @@ public class ServersChecker {
           TimeUnit.SECONDS.toMillis(180),
           serverPingSuccessThreshold,
           TimeUnit.MILLISECONDS,
-          timer,
+          probeEngine,
           token);
     }
     // TODO do not hardcode timeouts, use server conf instead
@@ -230,7 +230,7 @@ public class ServersChecker {
         TimeUnit.SECONDS.toMillis(180),
         serverPingSuccessThreshold,
         TimeUnit.MILLISECONDS,
-        timer,
+        probeEngine,
         token);
   }
 }
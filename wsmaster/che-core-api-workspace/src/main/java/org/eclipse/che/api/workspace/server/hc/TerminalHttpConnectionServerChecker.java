@@ -11,11 +11,9 @@
  */
 package org.eclipse.che.api.workspace.server.hc;
 
-import java.io.IOException;
-import java.net.HttpURLConnection;
 import java.net.URL;
-import java.util.Timer;
 import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.workspace.server.hc.probe.ProbeEngine;
 
 /**
  * This class is used as {@link ServerChecker} for terminal server as it doesn't have an endpoint
@@ -33,18 +31,22 @@ class TerminalHttpConnectionServerChecker extends HttpConnectionServerChecker {
       long timeout,
       int successThreshold,
       TimeUnit timeUnit,
-      Timer timer,
+      ProbeEngine probeEngine,
       String token) {
-    super(url, machineName, serverRef, period, timeout, successThreshold, timeUnit, timer, token);
+    super(
+        url,
+        machineName,
+        serverRef,
+        period,
+        timeout,
+        successThreshold,
+        timeUnit,
+        probeEngine,
+        token);
   }
 
   @Override
-  boolean isConnectionSuccessful(HttpURLConnection conn) {
-    try {
-      int responseCode = conn.getResponseCode();
-      return responseCode == 404;
-    } catch (IOException e) {
-      return false;
-    }
+  boolean isSuccessfulResponseCode(int responseCode) {
+    return responseCode == 404;
   }
 }
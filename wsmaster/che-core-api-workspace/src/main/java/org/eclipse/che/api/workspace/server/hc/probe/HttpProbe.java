@@ -74,8 +74,11 @@ public class HttpProbe extends Probe {
    */
   @Override
   public void cancel() {
-    httpURLConnection.disconnect();
-    this.httpURLConnection = null;
+    HttpURLConnection connection = httpURLConnection;
+    if (connection != null) {
+      connection.disconnect();
+      this.httpURLConnection = null;
+    }
   }
 
   private boolean isConnectionSuccessful(HttpURLConnection conn) {
@@ -14,10 +14,12 @@ package org.eclipse.che.api.workspace.server.hc.probe;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Produces {@link HttpProbe} instances
+ * Produces {@link HttpProbe} instances, probes plain HTTP endpoints with {@link
+ * ProbeEngine#probeHttp} which doesn't block a thread
  *
  * @see ProbeFactory
  * @author Alexander Garagatyi
@@ -52,4 +54,13 @@ public class HttpProbeFactory extends ProbeFactory {
   public HttpProbe get() {
     return new HttpProbe(url, timeout, headers);
   }
+
+  @Override
+  public CompletableFuture<Boolean> probe(ProbeEngine probeEngine) {
+    if ("http".equals(url.getProtocol())) {
+      return probeEngine.probeHttp(url, headers, timeout);
+    }
+    // TLS is not supported by the engine, so HTTPS endpoints are probed with blocking probes
+    return super.probe(probeEngine);
+  }
 }
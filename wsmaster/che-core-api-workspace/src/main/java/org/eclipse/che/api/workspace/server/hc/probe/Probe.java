@@ -19,7 +19,7 @@ package org.eclipse.che.api.workspace.server.hc.probe;
  */
 public abstract class Probe {
 
-  private Thread probeThread;
+  private volatile Thread probeThread;
 
   /**
    * Checks {@link Probe}. Note that it must not be called more than one time.
@@ -53,6 +53,8 @@ public abstract class Probe {
    * usage of a thread where {@link #probe()} is called.
    */
   public void cancel() {
-    probeThread.interrupt();
+    if (probeThread != null) {
+      probeThread.interrupt();
+    }
   }
 }
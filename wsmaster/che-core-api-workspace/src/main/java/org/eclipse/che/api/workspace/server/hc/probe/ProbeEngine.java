@@ -0,0 +1,527 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.server.hc.probe;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntPredicate;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.eclipse.che.commons.observability.ExecutorServiceWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes probes and readiness checks of workspace servers without dedicating a thread to each
+ * check. The engine is shared by {@link ProbeScheduler} and the servers readiness checkers.
+ *
+ * <p>Connections of HTTP probes are multiplexed over a few event loop threads. Each loop serves
+ * its channels with a {@link Selector} and keeps a hashed wheel of timeouts which is used both to
+ * time out the probes and to run the delayed tasks, so a hung server costs only a socket until the
+ * probe times out. Host names are resolved and blocking {@link Probe probes} are executed by the
+ * given executor.
+ *
+ * <p>Delayed tasks and callbacks of the futures returned by the engine are executed by the event
+ * loop threads, so they must not block.
+ */
+@Singleton
+public class ProbeEngine {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ProbeEngine.class);
+
+  private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final int WHEEL_SIZE = 512;
+  private static final int MAX_STATUS_LINE_LENGTH = 1024;
+
+  private final EventLoop[] loops;
+  private final Executor blockingExecutor;
+  private final AtomicInteger nextLoop = new AtomicInteger();
+  private final AtomicInteger activeChecks = new AtomicInteger();
+  private final LongAdder completedChecks = new LongAdder();
+  private final LongAdder completedChecksNanos = new LongAdder();
+
+  @Inject
+  public ProbeEngine(
+      @Named("che.workspace.probe_event_loops") int eventLoops,
+      @Named("che.workspace.probe_pool_size") int blockingPoolSize,
+      ExecutorServiceWrapper executorServiceWrapper) {
+    this(
+        eventLoops,
+        executorServiceWrapper.wrap(
+            newBlockingExecutor(blockingPoolSize), ProbeEngine.class.getName()));
+  }
+
+  /**
+   * Creates and starts the engine.
+   *
+   * @param eventLoops number of event loop threads
+   * @param blockingExecutor executor of the host names resolution and the blocking probes
+   */
+  public ProbeEngine(int eventLoops, Executor blockingExecutor) {
+    this.blockingExecutor = blockingExecutor;
+    this.loops = new EventLoop[Math.max(eventLoops, 1)];
+    for (int i = 0; i < loops.length; i++) {
+      loops[i] = new EventLoop(i);
+    }
+    for (EventLoop loop : loops) {
+      loop.thread.start();
+    }
+  }
+
+  /**
+   * Sends a GET request to the given HTTP endpoint and completes the returned future with {@code
+   * true} when the response code is >=200 and <400, with {@code false} when the response code is
+   * different, the endpoint is not reachable or doesn't respond in time. Cancellation of the
+   * returned future closes the connection.
+   *
+   * @param url HTTP endpoint to probe, TLS is not supported
+   * @param headers headers of the request, may be null
+   * @param timeoutMillis timeout of the whole probe
+   */
+  public CompletableFuture<Boolean> probeHttp(
+      URL url, Map<String, String> headers, int timeoutMillis) {
+    return probeHttp(url, headers, timeoutMillis, code -> code >= 200 && code < 400);
+  }
+
+  /**
+   * Sends a GET request to the given HTTP endpoint and completes the returned future with {@code
+   * true} when the response code matches the given predicate.
+   *
+   * @see #probeHttp(URL, Map, int)
+   */
+  public CompletableFuture<Boolean> probeHttp(
+      URL url, Map<String, String> headers, int timeoutMillis, IntPredicate successfulCode) {
+    final EventLoop loop = nextLoop();
+    final HttpExchange exchange = new HttpExchange(loop, url, headers, successfulCode);
+    loop.execute(() -> exchange.start(timeoutMillis));
+    return measured(exchange.result);
+  }
+
+  /**
+   * Executes the blocking check with the executor of the engine.
+   *
+   * @param check check which returns {@code true} when it passes
+   */
+  public CompletableFuture<Boolean> check(BooleanSupplier check) {
+    return measured(CompletableFuture.supplyAsync(check::getAsBoolean, blockingExecutor));
+  }
+
+  /** Executes the blocking task with the executor of the engine. */
+  public void executeBlocking(Runnable task) {
+    blockingExecutor.execute(task);
+  }
+
+  /**
+   * Executes the blocking probe with the executor of the engine and cancels it when the timeout is
+   * reached.
+   *
+   * @param probe probe to execute
+   * @param timeoutMillis timeout of the probe
+   */
+  public CompletableFuture<Boolean> probe(Probe probe, int timeoutMillis) {
+    final CompletableFuture<Boolean> result = check(probe::probe);
+    final Timeout timeout =
+        schedule(
+            () -> {
+              if (!result.isDone()) {
+                probe.cancel();
+              }
+            },
+            timeoutMillis,
+            TimeUnit.MILLISECONDS);
+    result.whenComplete((success, x) -> timeout.cancel());
+    return result;
+  }
+
+  /**
+   * Runs the task on one of the event loop threads after the given delay. The delay is respected
+   * with the precision of the timeouts wheel tick which is 100ms.
+   *
+   * @param task non blocking task
+   * @param delay delay of the task
+   * @param unit unit of the delay
+   * @return timeout which may be used to cancel the task
+   */
+  public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+    final EventLoop loop = nextLoop();
+    final Timeout timeout = new Timeout(task, System.nanoTime() + unit.toNanos(delay));
+    loop.execute(() -> loop.wheel.add(timeout));
+    return timeout;
+  }
+
+  /** Returns the number of checks which are in progress. */
+  public int getActiveChecks() {
+    return activeChecks.get();
+  }
+
+  /** Returns the number of completed checks. */
+  public long getCompletedChecks() {
+    return completedChecks.sum();
+  }
+
+  /** Returns the total time spent by the completed checks in nanoseconds. */
+  public long getCompletedChecksNanos() {
+    return completedChecksNanos.sum();
+  }
+
+  /**
+   * Stops the event loops and the executor of the blocking checks, probes which are in progress are
+   * completed with {@code false} and scheduled tasks are dismissed.
+   */
+  public void shutdown() {
+    for (EventLoop loop : loops) {
+      loop.shutdown();
+    }
+    if (blockingExecutor instanceof ExecutorService) {
+      ((ExecutorService) blockingExecutor).shutdownNow();
+    }
+    for (EventLoop loop : loops) {
+      try {
+        loop.thread.join(TimeUnit.SECONDS.toMillis(10));
+      } catch (InterruptedException x) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private CompletableFuture<Boolean> measured(CompletableFuture<Boolean> result) {
+    final long start = System.nanoTime();
+    activeChecks.incrementAndGet();
+    result.whenComplete(
+        (success, x) -> {
+          activeChecks.decrementAndGet();
+          completedChecks.increment();
+          completedChecksNanos.add(System.nanoTime() - start);
+        });
+    return result;
+  }
+
+  private static ExecutorService newBlockingExecutor(int poolSize) {
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ServerChecks-%s").build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private EventLoop nextLoop() {
+    return loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+  }
+
+  private static void runSafely(Runnable task) {
+    try {
+      task.run();
+    } catch (RuntimeException x) {
+      LOG.error(x.getLocalizedMessage(), x);
+    }
+  }
+
+  /** Task scheduled by the engine. */
+  public static class Timeout {
+    private final Runnable task;
+    private final long deadlineNanos;
+    private volatile boolean cancelled;
+    private long rounds;
+
+    private Timeout(Runnable task, long deadlineNanos) {
+      this.task = task;
+      this.deadlineNanos = deadlineNanos;
+    }
+
+    /** Dismisses the task if it is not executed yet. */
+    public void cancel() {
+      cancelled = true;
+    }
+
+    public boolean isCancelled() {
+      return cancelled;
+    }
+  }
+
+  /**
+   * Hashed wheel of timeouts. Each bucket of the wheel holds the timeouts which expire at the
+   * ticks mapped to the bucket, so adding and cancelling of a timeout take constant time
+   * regardless of the number of pending timeouts. Not thread safe, used only by its event loop.
+   */
+  private static class TimeoutsWheel {
+    private final List<Queue<Timeout>> buckets = new ArrayList<>(WHEEL_SIZE);
+    private final long startNanos = System.nanoTime();
+    private long tick;
+
+    TimeoutsWheel() {
+      for (int i = 0; i < WHEEL_SIZE; i++) {
+        buckets.add(new ArrayDeque<>());
+      }
+    }
+
+    void add(Timeout timeout) {
+      final long deadlineTick =
+          Math.max(tick + 1, (timeout.deadlineNanos - startNanos + TICK_NANOS - 1) / TICK_NANOS);
+      timeout.rounds = (deadlineTick - tick - 1) / WHEEL_SIZE;
+      buckets.get((int) (deadlineTick % WHEEL_SIZE)).add(timeout);
+    }
+
+    /** Runs the timeouts expired till the given time. */
+    void expire(long nowNanos) {
+      final List<Timeout> expired = new ArrayList<>();
+      while (startNanos + (tick + 1) * TICK_NANOS <= nowNanos) {
+        tick++;
+        for (Iterator<Timeout> it = buckets.get((int) (tick % WHEEL_SIZE)).iterator();
+            it.hasNext(); ) {
+          final Timeout timeout = it.next();
+          if (timeout.cancelled) {
+            it.remove();
+          } else if (timeout.rounds <= 0) {
+            it.remove();
+            expired.add(timeout);
+          } else {
+            timeout.rounds--;
+          }
+        }
+      }
+      // expired tasks may schedule new timeouts, so they are run after the buckets iteration
+      for (Timeout timeout : expired) {
+        if (!timeout.cancelled) {
+          runSafely(timeout.task);
+        }
+      }
+    }
+
+    long millisToNextTick(long nowNanos) {
+      final long nanos = startNanos + (tick + 1) * TICK_NANOS - nowNanos;
+      return Math.max(1, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+  }
+
+  private class EventLoop implements Runnable {
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final TimeoutsWheel wheel = new TimeoutsWheel();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    EventLoop(int index) {
+      try {
+        selector = Selector.open();
+      } catch (IOException x) {
+        throw new IllegalStateException("Unable to open selector of probes: " + x.getMessage(), x);
+      }
+      thread = new Thread(this, "ServerProbesLoop-" + index);
+      thread.setDaemon(true);
+    }
+
+    /** Runs the task on the loop thread. */
+    void execute(Runnable task) {
+      tasks.add(task);
+      selector.wakeup();
+    }
+
+    void shutdown() {
+      running = false;
+      selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+      while (running) {
+        try {
+          selector.select(wheel.millisToNextTick(System.nanoTime()));
+          for (Iterator<SelectionKey> it = selector.selectedKeys().iterator(); it.hasNext(); ) {
+            final SelectionKey key = it.next();
+            it.remove();
+            ((HttpExchange) key.attachment()).handle(key);
+          }
+          for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+            runSafely(task);
+          }
+          wheel.expire(System.nanoTime());
+        } catch (IOException | RuntimeException x) {
+          LOG.error("Error occurred in loop of server probes: " + x.getMessage(), x);
+        }
+      }
+      for (SelectionKey key : selector.keys()) {
+        ((HttpExchange) key.attachment()).complete(false);
+      }
+      try {
+        selector.close();
+      } catch (IOException x) {
+        LOG.warn("Unable to close selector of probes: " + x.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Single HTTP request which reads only the status line of the response. All the methods are
+   * called by the event loop thread.
+   */
+  private class HttpExchange {
+    private final EventLoop loop;
+    private final String host;
+    private final int port;
+    private final ByteBuffer request;
+    private final ByteBuffer response = ByteBuffer.allocate(MAX_STATUS_LINE_LENGTH);
+    private final IntPredicate successfulCode;
+    private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+    private SocketChannel channel;
+    private Timeout timeout;
+
+    HttpExchange(
+        EventLoop loop, URL url, Map<String, String> headers, IntPredicate successfulCode) {
+      this.loop = loop;
+      this.successfulCode = successfulCode;
+      this.host = url.getHost();
+      this.port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+      this.request = ByteBuffer.wrap(toRequest(url, headers).getBytes(ISO_8859_1));
+      result.whenComplete(
+          (success, x) -> {
+            if (result.isCancelled()) {
+              loop.execute(() -> complete(false));
+            }
+          });
+    }
+
+    void start(int timeoutMillis) {
+      timeout =
+          new Timeout(
+              () -> complete(false),
+              System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+      loop.wheel.add(timeout);
+      CompletableFuture.supplyAsync(() -> new InetSocketAddress(host, port), blockingExecutor)
+          .whenComplete((address, x) -> loop.execute(() -> connect(address)));
+    }
+
+    void connect(InetSocketAddress address) {
+      if (result.isDone()) {
+        return;
+      }
+      if (address == null || address.isUnresolved()) {
+        complete(false);
+        return;
+      }
+      try {
+        channel = SocketChannel.open();
+        channel.configureBlocking(false);
+        final int ops = channel.connect(address) ? SelectionKey.OP_WRITE : SelectionKey.OP_CONNECT;
+        channel.register(loop.selector, ops, this);
+      } catch (IOException x) {
+        complete(false);
+      }
+    }
+
+    void handle(SelectionKey key) {
+      try {
+        if (key.isConnectable()) {
+          channel.finishConnect();
+          key.interestOps(SelectionKey.OP_WRITE);
+        } else if (key.isWritable()) {
+          channel.write(request);
+          if (!request.hasRemaining()) {
+            key.interestOps(SelectionKey.OP_READ);
+          }
+        } else if (key.isReadable()) {
+          final boolean closed = channel.read(response) < 0;
+          final Boolean success = parseStatusLine();
+          if (success != null) {
+            complete(success);
+          } else if (closed || !response.hasRemaining()) {
+            complete(false);
+          }
+        }
+      } catch (IOException | CancelledKeyException x) {
+        complete(false);
+      }
+    }
+
+    /** Returns null when the status line is not received completely yet. */
+    private Boolean parseStatusLine() {
+      final byte[] received = response.array();
+      for (int i = 0; i < response.position(); i++) {
+        if (received[i] == '\n') {
+          final String[] parts = new String(received, 0, i, ISO_8859_1).trim().split("\\s+");
+          if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+            return false;
+          }
+          try {
+            return successfulCode.test(Integer.parseInt(parts[1]));
+          } catch (NumberFormatException x) {
+            return false;
+          }
+        }
+      }
+      return null;
+    }
+
+    void complete(boolean success) {
+      if (timeout != null) {
+        timeout.cancel();
+      }
+      if (channel != null) {
+        try {
+          channel.close();
+        } catch (IOException ignored) {
+          // the result is already known
+        }
+      }
+      result.complete(success);
+    }
+  }
+
+  private static String toRequest(URL url, Map<String, String> headers) {
+    final Map<String, String> requestHeaders = new LinkedHashMap<>();
+    final int port = url.getPort();
+    requestHeaders.put("Host", port == -1 ? url.getHost() : url.getHost() + ':' + port);
+    if (headers != null) {
+      requestHeaders.putAll(headers);
+    }
+    requestHeaders.put("Connection", "close");
+
+    final StringBuilder sb = new StringBuilder("GET ");
+    sb.append(url.getFile().isEmpty() ? "/" : url.getFile()).append(" HTTP/1.1\r\n");
+    requestHeaders.forEach(
+        (name, value) -> sb.append(name).append(": ").append(value).append("\r\n"));
+    return sb.append("\r\n").toString();
+  }
+}
@@ -11,6 +11,9 @@
  */
 package org.eclipse.che.api.workspace.server.hc.probe;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Produces {@link Probe} instances and holds information about probe configuration and Che
  * workspace server the probe corresponds to.
@@ -34,6 +37,16 @@ public abstract class ProbeFactory {
   /** Returns an instance of a probe for a server in a workspace */
   public abstract Probe get();
 
+  /**
+   * Starts a probe of the server with the given engine and returns the future of its result. By
+   * default the blocking probe returned by {@link #get()} is executed, implementations override it
+   * to probe the server without blocking a thread.
+   */
+  public CompletableFuture<Boolean> probe(ProbeEngine probeEngine) {
+    return probeEngine.probe(
+        get(), (int) TimeUnit.SECONDS.toMillis(probeConfig.getTimeoutSeconds()));
+  }
+
   /** Returns ID of a workspace the probe corresponds to */
   public String getWorkspaceId() {
     return workspaceId;
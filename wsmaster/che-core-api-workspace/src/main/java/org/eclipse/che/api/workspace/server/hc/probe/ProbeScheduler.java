@@ -15,8 +15,6 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -33,6 +31,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Schedules workspace servers probes checks asynchronously.
  *
+ * <p>Probes are scheduled and executed by the {@link ProbeEngine}, so the number of probes checked
+ * concurrently is not limited by the number of threads. The threads pool of the scheduler is used
+ * to pass probes results to the consumers and to wait for the workspaces to become running.
+ *
  * @author Alexander Garagatyi
  * @author Sergii Leshchenko
  */
@@ -41,19 +43,14 @@ public class ProbeScheduler {
   private static final Logger LOG = LoggerFactory.getLogger(ProbeScheduler.class);
 
   private final ScheduledExecutorService probesExecutor;
-  /**
-   * Use single thread for a scheduling of tasks interruption by timeout. Single thread can be used
-   * since it is supposed that interruption is a very quick call. Separate thread is needed to
-   * prevent a situation when executor is full of jobs and current ones are hanging but we need to
-   * time them out.
-   */
-  private final Timer timeouts;
-  /** Mapping of workspaceId to a list of futures with probes of a workspace. */
-  private final Map<String, List<ScheduledFuture>> probesFutures;
+  private final ProbeEngine probeEngine;
+  /** Mapping of workspaceId to a list of scheduled probes of a workspace. */
+  private final Map<String, List<Cancellable>> probesFutures;
 
   @Inject
   public ProbeScheduler(
       @Named("che.workspace.probe_pool_size") int probeSchedulerPoolSize,
+      ProbeEngine probeEngine,
       ExecutorServiceWrapper executorServiceWrapper) {
     probesExecutor =
         executorServiceWrapper.wrap(
@@ -64,7 +61,7 @@ public class ProbeScheduler {
                     .setNameFormat("ServerProbes-%s")
                     .build()),
             ProbeScheduler.class.getName());
-    timeouts = new Timer("ServerProbesTimeouts", true);
+    this.probeEngine = probeEngine;
     probesFutures = new ConcurrentHashMap<>();
   }
 
@@ -80,6 +77,9 @@ public class ProbeScheduler {
    * @throws RejectedExecutionException when {@link ProbeScheduler} is terminated
    */
   public void schedule(WorkspaceProbes probes, Consumer<ProbeResult> probeResultConsumer) {
+    if (probesExecutor.isShutdown()) {
+      throw new RejectedExecutionException("Probe scheduler is terminated");
+    }
     probesFutures.putIfAbsent(probes.getWorkspaceId(), new ArrayList<>());
     probes
         .getProbes()
@@ -118,11 +118,11 @@ public class ProbeScheduler {
     probesFutures.compute(
         probes.getWorkspaceId(),
         (key, scheduledFutures) -> {
-          List<ScheduledFuture> target = scheduledFutures;
+          List<Cancellable> target = scheduledFutures;
           if (target == null) {
             target = new ArrayList<>();
           }
-          target.add(scheduledFuture);
+          target.add(() -> scheduledFuture.cancel(true));
           return target;
         });
   }
@@ -132,9 +132,9 @@ public class ProbeScheduler {
    * specified ID.
    */
   public void cancel(String workspaceId) {
-    List<ScheduledFuture> tasks = probesFutures.remove(workspaceId);
+    List<Cancellable> tasks = probesFutures.remove(workspaceId);
     if (tasks != null) {
-      tasks.forEach(task -> task.cancel(true));
+      tasks.forEach(Cancellable::cancel);
     }
   }
 
@@ -164,35 +164,33 @@ public class ProbeScheduler {
 
   private void schedule(
       String workspaceId, ProbeFactory probeFactory, Consumer<ProbeResult> probeResultConsumer) {
-    ProbeConfig probeConfig = probeFactory.getProbeConfig();
     Task task = new Task(probeFactory, probeResultConsumer);
-    // scheduleWithFixedDelay is used in favor of scheduleAtFixedRate because in case of big amount
-    // of scheduled probes start time of tasks may shift and this may lead to a situation when
-    // another probeConfig is needed immediately after the previous one is finished which doesn't
-    // seem a good thing
-    ScheduledFuture scheduledFuture =
-        probesExecutor.scheduleWithFixedDelay(
-            task,
-            probeConfig.getInitialDelaySeconds(),
-            probeConfig.getPeriodSeconds(),
-            TimeUnit.SECONDS);
-
-    List<ScheduledFuture> workspaceProbes =
+    List<Cancellable> workspaceProbes =
         probesFutures.computeIfPresent(
             workspaceId,
-            (key, scheduledFutures) -> {
-              scheduledFutures.add(scheduledFuture);
-              return scheduledFutures;
+            (key, scheduledProbes) -> {
+              scheduledProbes.add(task);
+              return scheduledProbes;
             });
     // check whether workspace probes were cancelled concurrently which led to removal of the value
     // in the map
     if (workspaceProbes == null) {
-      scheduledFuture.cancel(true);
       task.cancel();
+      return;
     }
+    task.scheduleNext(probeFactory.getProbeConfig().getInitialDelaySeconds());
+  }
+
+  private interface Cancellable {
+    void cancel();
   }
 
-  private class Task implements Runnable {
+  /**
+   * Periodically checks a probe. The next check is scheduled when the previous one is finished and
+   * its result is passed to the consumer, so the consumer receives the results of a probe one by
+   * one, while checks themselves don't occupy threads.
+   */
+  private class Task implements Cancellable {
     private final ProbeFactory probeFactory;
     private final Consumer<ProbeResult> probeResultConsumer;
     private final ProbeConfig probeConfig;
@@ -200,6 +198,8 @@ public class ProbeScheduler {
     private int failures = 0;
     private int successes = 0;
     private AtomicBoolean cancelled = new AtomicBoolean(false);
+    private volatile ProbeEngine.Timeout nextCheck;
+    private volatile CompletableFuture<Boolean> currentCheck;
 
     public Task(ProbeFactory probeFactory, Consumer<ProbeResult> probeResultConsumer) {
       this.probeFactory = probeFactory;
@@ -207,36 +207,44 @@ public class ProbeScheduler {
       this.probeResultConsumer = probeResultConsumer;
     }
 
-    @Override
-    public void run() {
+    void scheduleNext(long delaySeconds) {
+      nextCheck = probeEngine.schedule(this::check, delaySeconds, TimeUnit.SECONDS);
+      if (cancelled.get()) {
+        nextCheck.cancel();
+      }
+    }
+
+    private void check() {
+      if (cancelled.get()) {
+        return;
+      }
+      currentCheck = probeFactory.probe(probeEngine);
+      currentCheck.whenComplete(
+          (success, error) -> {
+            if (error != null && !(error instanceof CancellationException)) {
+              LOG.error(
+                  "Probe of server '{}' of workspace '{}' failed: {}",
+                  probeFactory.getServerName(),
+                  probeFactory.getWorkspaceId(),
+                  error.getMessage());
+            }
+            onResult(error == null && success);
+          });
+    }
+
+    private void onResult(boolean success) {
       if (cancelled.get()) {
         return;
       }
-      Probe probe = probeFactory.get();
-      TimeoutProbeTask timeoutProbeTask = new TimeoutProbeTask(probe);
-      timeouts.schedule(
-          timeoutProbeTask, TimeUnit.SECONDS.toMillis(probeConfig.getTimeoutSeconds()));
-      boolean success = probe.probe();
-      timeoutProbeTask.cancel();
+      ProbeStatus status = null;
       if (success) {
         // current success increases successes count and clears failures count
         successes++;
         failures = 0;
 
         if (successes >= probeConfig.getSuccessThreshold()) {
-          // TODO make them completable futures? Then we should ensure that
-          // consecutive calls won't use executors thread time but rather use common thread
-          // pool to perform processing of passed probe result
-          if (cancelled.get()) {
-            return;
-          }
           // Health check satisfies probeConfig health conditions
-          probeResultConsumer.accept(
-              new ProbeResult(
-                  probeFactory.getWorkspaceId(),
-                  probeFactory.getMachineName(),
-                  probeFactory.getServerName(),
-                  ProbeStatus.PASSED));
+          status = ProbeStatus.PASSED;
         }
       } else {
         // current failure increases failures count and clears successes count
@@ -244,22 +252,44 @@ public class ProbeScheduler {
         successes = 0;
 
         if (failures >= probeConfig.getFailureThreshold()) {
-          if (cancelled.get()) {
-            return;
-          }
           // Health check satisfies probeConfig failure conditions
-          probeResultConsumer.accept(
-              new ProbeResult(
-                  probeFactory.getWorkspaceId(),
-                  probeFactory.getMachineName(),
-                  probeFactory.getServerName(),
-                  ProbeStatus.FAILED));
+          status = ProbeStatus.FAILED;
         }
       }
+      if (status == null) {
+        scheduleNext(probeConfig.getPeriodSeconds());
+        return;
+      }
+      // consumers may block, so results are passed to them by the threads of the pool instead of
+      // the threads of the engine
+      ProbeResult probeResult =
+          new ProbeResult(
+              probeFactory.getWorkspaceId(),
+              probeFactory.getMachineName(),
+              probeFactory.getServerName(),
+              status);
+      probesExecutor.execute(
+          () -> {
+            if (cancelled.get()) {
+              return;
+            }
+            probeResultConsumer.accept(probeResult);
+            // like a periodic task the probe is not checked anymore when its consumer fails
+            scheduleNext(probeConfig.getPeriodSeconds());
+          });
     }
 
+    @Override
     public void cancel() {
       cancelled.set(true);
+      ProbeEngine.Timeout next = nextCheck;
+      if (next != null) {
+        next.cancel();
+      }
+      CompletableFuture<Boolean> current = currentCheck;
+      if (current != null) {
+        current.cancel(false);
+      }
     }
   }
 
@@ -305,17 +335,4 @@ public class ProbeScheduler {
       }
     }
   }
-
-  private class TimeoutProbeTask extends TimerTask {
-    private final Probe probe;
-
-    public TimeoutProbeTask(Probe probe) {
-      this.probe = probe;
-    }
-
-    @Override
-    public void run() {
-      probe.cancel();
-    }
-  }
 }
@@ -19,7 +19,7 @@ import org.eclipse.che.api.system.server.ServiceTermination;
 import org.eclipse.che.api.workspace.server.WorkspaceServiceTermination;
 
 /**
- * Terminates {@link ProbeScheduler}.
+ * Terminates {@link ProbeScheduler} and {@link ProbeEngine}.
  *
  * @author Sergii Leshchenko
  */
@@ -28,15 +28,18 @@ public class ProbeSchedulerTermination implements ServiceTermination {
   public static final String SERVICE_NAME = "ProbeScheduler";
 
   private final ProbeScheduler probeScheduler;
+  private final ProbeEngine probeEngine;
 
   @Inject
-  public ProbeSchedulerTermination(ProbeScheduler probeScheduler) {
+  public ProbeSchedulerTermination(ProbeScheduler probeScheduler, ProbeEngine probeEngine) {
     this.probeScheduler = probeScheduler;
+    this.probeEngine = probeEngine;
   }
 
   @Override
   public void terminate() {
     probeScheduler.shutdown();
+    probeEngine.shutdown();
   }
 
   @Override
@@ -13,12 +13,20 @@ package org.eclipse.che.api.workspace.server.jpa;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.che.api.core.Pages.iterate;
+import static org.eclipse.che.api.workspace.shared.Constants.CREATED_ATTRIBUTE_NAME;
+import static org.eclipse.che.api.workspace.shared.Constants.UPDATED_ATTRIBUTE_NAME;
 
 import com.google.inject.persist.Transactional;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
@@ -38,8 +46,10 @@ import org.eclipse.che.api.workspace.server.WorkspaceManager;
 import org.eclipse.che.api.workspace.server.event.BeforeWorkspaceRemovedEvent;
 import org.eclipse.che.api.workspace.server.model.impl.ProjectConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
 import org.eclipse.che.api.workspace.shared.event.WorkspaceRemovedEvent;
+import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.core.db.cascade.CascadeEventSubscriber;
 import org.eclipse.che.core.db.jpa.DuplicateKeyException;
 
@@ -137,6 +147,51 @@ public class JpaWorkspaceDao implements WorkspaceDao {
     }
   }
 
+  @Override
+  @Transactional
+  public WorkspaceSummaryImpl getWorkspaceSummary(String id)
+      throws NotFoundException, ServerException {
+    requireNonNull(id, "Required non-null id");
+    try {
+      final EntityManager manager = managerProvider.get();
+      final WorkspaceSummaryImpl summary =
+          manager
+              .createNamedQuery("Workspace.getSummary", WorkspaceSummaryImpl.class)
+              .setParameter("id", id)
+              .getSingleResult();
+      fetchTimestamps(manager, singletonList(summary));
+      return summary;
+    } catch (NoResultException noResEx) {
+      throw new NotFoundException(format("Workspace with id '%s' doesn't exist", id));
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
+  @Override
+  @Transactional
+  public WorkspaceSummaryImpl getWorkspaceSummary(String name, String namespace)
+      throws NotFoundException, ServerException {
+    requireNonNull(name, "Required non-null name");
+    requireNonNull(namespace, "Required non-null namespace");
+    try {
+      final EntityManager manager = managerProvider.get();
+      final WorkspaceSummaryImpl summary =
+          manager
+              .createNamedQuery("Workspace.getSummaryByName", WorkspaceSummaryImpl.class)
+              .setParameter("namespace", namespace)
+              .setParameter("name", name)
+              .getSingleResult();
+      fetchTimestamps(manager, singletonList(summary));
+      return summary;
+    } catch (NoResultException noResEx) {
+      throw new NotFoundException(
+          format("Workspace with name '%s' in namespace '%s' doesn't exist", name, namespace));
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
   @Override
   @Transactional
   public Page<WorkspaceImpl> getByNamespace(String namespace, int maxItems, long skipCount)
@@ -191,6 +246,26 @@ public class JpaWorkspaceDao implements WorkspaceDao {
     }
   }
 
+  @Override
+  @Transactional
+  public List<WorkspaceSummaryImpl> getWorkspaceSummaries(
+      String userId, @Nullable String afterId, int maxItems) throws ServerException {
+    checkArgument(maxItems >= 0, "The number of items to return can't be negative.");
+    try {
+      final EntityManager manager = managerProvider.get();
+      final List<WorkspaceSummaryImpl> summaries =
+          manager
+              .createNamedQuery("Workspace.getSummaries", WorkspaceSummaryImpl.class)
+              .setParameter("afterId", afterId == null ? "" : afterId)
+              .setMaxResults(maxItems)
+              .getResultList();
+      fetchTimestamps(manager, summaries);
+      return summaries;
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
   @Override
   @Transactional
   public Page<WorkspaceImpl> getWorkspaces(boolean isTemporary, int maxItems, long skipCount)
@@ -262,6 +337,24 @@ public class JpaWorkspaceDao implements WorkspaceDao {
     return merged;
   }
 
+  @Override
+  @Transactional
+  public List<String> getTemporaryWorkspaceIds(Collection<String> ids) throws ServerException {
+    requireNonNull(ids, "Required non-null ids");
+    if (ids.isEmpty()) {
+      return emptyList();
+    }
+    try {
+      return managerProvider
+          .get()
+          .createNamedQuery("Workspace.getTemporaryIds", String.class)
+          .setParameter("ids", ids)
+          .getResultList();
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
   @Override
   @Transactional
   public long getWorkspacesTotalCount() throws ServerException {
@@ -275,6 +368,43 @@ public class JpaWorkspaceDao implements WorkspaceDao {
     }
   }
 
+  /**
+   * Sets creation and update time of the given summaries, fetching the corresponding workspace
+   * attributes with a single query.
+   */
+  public static void fetchTimestamps(EntityManager manager, List<WorkspaceSummaryImpl> summaries) {
+    if (summaries.isEmpty()) {
+      return;
+    }
+    final Map<String, WorkspaceSummaryImpl> byId = new HashMap<>();
+    for (WorkspaceSummaryImpl summary : summaries) {
+      byId.put(summary.getId(), summary);
+    }
+    final List<Object[]> rows =
+        manager
+            .createNamedQuery("Workspace.getSummaryAttributes", Object[].class)
+            .setParameter("ids", byId.keySet())
+            .setParameter("names", asList(CREATED_ATTRIBUTE_NAME, UPDATED_ATTRIBUTE_NAME))
+            .getResultList();
+    for (Object[] row : rows) {
+      final WorkspaceSummaryImpl summary = byId.get((String) row[0]);
+      final Long time = parseTime((String) row[2]);
+      if (CREATED_ATTRIBUTE_NAME.equals(row[1])) {
+        summary.setCreated(time);
+      } else {
+        summary.setUpdated(time);
+      }
+    }
+  }
+
+  private static Long parseTime(String value) {
+    try {
+      return value == null ? null : Long.valueOf(value);
+    } catch (NumberFormatException x) {
+      return null;
+    }
+  }
+
   @Singleton
   public static class RemoveWorkspaceBeforeAccountRemovedEventSubscriber
       extends CascadeEventSubscriber<BeforeAccountRemovedEvent> {
@@ -20,7 +20,6 @@ import javax.persistence.Column;
 import javax.persistence.ElementCollection;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
-import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
@@ -29,6 +28,8 @@ import javax.persistence.Table;
 import org.eclipse.che.api.core.model.workspace.config.Command;
 import org.eclipse.che.api.core.model.workspace.devfile.PreviewUrl;
 import org.eclipse.che.api.workspace.server.model.impl.devfile.PreviewUrlImpl;
+import org.eclipse.persistence.annotations.BatchFetch;
+import org.eclipse.persistence.annotations.BatchFetchType;
 
 /**
  * Data object for {@link Command}.
@@ -55,7 +56,8 @@ public class CommandImpl implements Command {
 
   @Embedded private PreviewUrlImpl previewUrl;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(name = "command_attributes", joinColumns = @JoinColumn(name = "command_id"))
   @MapKeyColumn(name = "name")
   @Column(name = "value", columnDefinition = "TEXT")
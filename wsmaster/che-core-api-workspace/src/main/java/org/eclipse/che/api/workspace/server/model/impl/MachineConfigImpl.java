@@ -22,7 +22,6 @@ import javax.persistence.CollectionTable;
 import javax.persistence.Column;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
-import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
@@ -32,6 +31,8 @@ import javax.persistence.Table;
 import org.eclipse.che.api.core.model.workspace.config.MachineConfig;
 import org.eclipse.che.api.core.model.workspace.config.ServerConfig;
 import org.eclipse.che.api.core.model.workspace.config.Volume;
+import org.eclipse.persistence.annotations.BatchFetch;
+import org.eclipse.persistence.annotations.BatchFetchType;
 
 /** @author Alexander Garagatyi */
 @Entity(name = "ExternalMachine")
@@ -43,14 +44,16 @@ public class MachineConfigImpl implements MachineConfig {
   @Column(name = "id")
   private Long id;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(
       name = "externalmachine_installers",
       joinColumns = @JoinColumn(name = "externalmachine_id"))
   @Column(name = "installers")
   private List<String> installers;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(
       name = "externalmachine_attributes",
       joinColumns = @JoinColumn(name = "externalmachine_id"))
@@ -58,7 +61,8 @@ public class MachineConfigImpl implements MachineConfig {
   @Column(name = "attributes")
   private Map<String, String> attributes;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(
       name = "externalmachine_env",
       joinColumns = @JoinColumn(name = "externalmachine_id"))
@@ -66,12 +70,14 @@ public class MachineConfigImpl implements MachineConfig {
   @Column(name = "env_value")
   private Map<String, String> env;
 
-  @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+  @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchFetch(BatchFetchType.IN)
   @JoinColumn(name = "servers_id")
   @MapKeyColumn(name = "servers_key")
   private Map<String, ServerConfigImpl> servers;
 
-  @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+  @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchFetch(BatchFetchType.IN)
   @JoinColumn(name = "machine_id")
   @MapKeyColumn(name = "name")
   private Map<String, VolumeImpl> volumes;
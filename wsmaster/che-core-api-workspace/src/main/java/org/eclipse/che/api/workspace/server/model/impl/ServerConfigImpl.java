@@ -21,7 +21,6 @@ import javax.persistence.CollectionTable;
 import javax.persistence.Column;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
-import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
@@ -29,6 +28,8 @@ import javax.persistence.MapKeyColumn;
 import javax.persistence.Table;
 import org.eclipse.che.api.core.model.workspace.config.ServerConfig;
 import org.eclipse.che.api.core.model.workspace.devfile.Endpoint;
+import org.eclipse.persistence.annotations.BatchFetch;
+import org.eclipse.persistence.annotations.BatchFetchType;
 
 /** @author Alexander Garagatyi */
 @Entity(name = "ServerConf")
@@ -49,7 +50,8 @@ public class ServerConfigImpl implements ServerConfig {
   @Column(name = "path")
   private String path;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(
       name = "serverconf_attributes",
       joinColumns = @JoinColumn(name = "serverconf_id"))
@@ -20,7 +20,6 @@ import javax.persistence.CollectionTable;
 import javax.persistence.Column;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
-import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
@@ -29,6 +28,8 @@ import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
 import javax.persistence.Table;
 import org.eclipse.che.api.core.model.workspace.config.SourceStorage;
+import org.eclipse.persistence.annotations.BatchFetch;
+import org.eclipse.persistence.annotations.BatchFetchType;
 
 /**
  * Data object for {@link SourceStorage}.
@@ -50,7 +51,8 @@ public class SourceStorageImpl implements SourceStorage {
   @Column(name = "location", columnDefinition = "TEXT")
   private String location;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(
       name = "sourcestorage_parameters",
       joinColumns = @JoinColumn(name = "sourcestorage_id"))
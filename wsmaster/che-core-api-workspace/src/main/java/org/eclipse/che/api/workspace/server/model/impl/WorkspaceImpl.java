@@ -20,7 +20,6 @@ import javax.persistence.Column;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
-import javax.persistence.FetchType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
@@ -42,6 +41,8 @@ import org.eclipse.che.api.core.model.workspace.devfile.Devfile;
 import org.eclipse.che.api.workspace.server.model.impl.devfile.DevfileImpl;
 import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.commons.lang.NameGenerator;
+import org.eclipse.persistence.annotations.BatchFetch;
+import org.eclipse.persistence.annotations.BatchFetchType;
 import org.eclipse.persistence.descriptors.DescriptorEvent;
 import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
 
@@ -72,7 +73,38 @@ import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
       query = "SELECT COUNT(w) FROM Workspace w"),
   @NamedQuery(
       name = "Workspace.getByTemporaryCount",
-      query = "SELECT COUNT(w) " + "FROM Workspace w " + "WHERE w.isTemporary = :temporary ")
+      query = "SELECT COUNT(w) " + "FROM Workspace w " + "WHERE w.isTemporary = :temporary "),
+  @NamedQuery(
+      name = "Workspace.getSummaries",
+      query =
+          "SELECT NEW org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl("
+              + "w.id, w.name, w.account.name, w.isTemporary) "
+              + "FROM Workspace w "
+              + "WHERE w.id > :afterId "
+              + "ORDER BY w.id"),
+  @NamedQuery(
+      name = "Workspace.getSummary",
+      query =
+          "SELECT NEW org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl("
+              + "w.id, w.name, w.account.name, w.isTemporary) "
+              + "FROM Workspace w "
+              + "WHERE w.id = :id"),
+  @NamedQuery(
+      name = "Workspace.getSummaryByName",
+      query =
+          "SELECT NEW org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl("
+              + "w.id, w.name, w.account.name, w.isTemporary) "
+              + "FROM Workspace w "
+              + "WHERE w.account.name = :namespace AND w.name = :name"),
+  @NamedQuery(
+      name = "Workspace.getTemporaryIds",
+      query = "SELECT w.id FROM Workspace w WHERE w.id IN :ids AND w.isTemporary = true"),
+  @NamedQuery(
+      name = "Workspace.getSummaryAttributes",
+      query =
+          "SELECT w.id, KEY(a), VALUE(a) "
+              + "FROM Workspace w JOIN w.attributes a "
+              + "WHERE w.id IN :ids AND KEY(a) IN :names")
 })
 @EntityListeners(WorkspaceImpl.SyncNameOnUpdateAndPersistEventListener.class)
 public class WorkspaceImpl implements Workspace {
@@ -93,14 +125,17 @@ public class WorkspaceImpl implements Workspace {
   private String name;
 
   @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchFetch(BatchFetchType.IN)
   @JoinColumn(name = "config_id")
   private WorkspaceConfigImpl config;
 
   @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchFetch(BatchFetchType.IN)
   @JoinColumn(name = "devfile_id")
   private DevfileImpl devfile;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(name = "workspace_attributes", joinColumns = @JoinColumn(name = "workspace_id"))
   @MapKeyColumn(name = "attributes_key")
   @Column(name = "attributes")
@@ -110,6 +145,7 @@ public class WorkspaceImpl implements Workspace {
   private boolean isTemporary;
 
   @ManyToOne
+  @BatchFetch(BatchFetchType.IN)
   @JoinColumn(name = "accountid", nullable = false)
   private AccountImpl account;
 
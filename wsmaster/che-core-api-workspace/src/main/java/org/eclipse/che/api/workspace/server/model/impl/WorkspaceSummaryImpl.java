@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.server.model.impl;
+
+import java.util.Objects;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+
+/**
+ * Projection of {@link WorkspaceImpl} which contains only the data needed for listing workspaces.
+ * Instances are created by JPQL constructor queries, so loading them doesn't load workspace config,
+ * devfile and attributes.
+ */
+public class WorkspaceSummaryImpl {
+
+  private final String id;
+  private final String name;
+  private final String namespace;
+  private final boolean isTemporary;
+
+  private WorkspaceStatus status;
+  private Long created;
+  private Long updated;
+
+  public WorkspaceSummaryImpl(String id, String name, String namespace, boolean isTemporary) {
+    this.id = id;
+    this.name = name;
+    this.namespace = namespace;
+    this.isTemporary = isTemporary;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getNamespace() {
+    return namespace;
+  }
+
+  public boolean isTemporary() {
+    return isTemporary;
+  }
+
+  public WorkspaceStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(WorkspaceStatus status) {
+    this.status = status;
+  }
+
+  /** Returns the time of workspace creation in milliseconds or null if it is unknown. */
+  public Long getCreated() {
+    return created;
+  }
+
+  public void setCreated(Long created) {
+    this.created = created;
+  }
+
+  /** Returns the time of the last workspace update in milliseconds or null if it is unknown. */
+  public Long getUpdated() {
+    return updated;
+  }
+
+  public void setUpdated(Long updated) {
+    this.updated = updated;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof WorkspaceSummaryImpl)) {
+      return false;
+    }
+    final WorkspaceSummaryImpl that = (WorkspaceSummaryImpl) obj;
+    return isTemporary == that.isTemporary
+        && Objects.equals(id, that.id)
+        && Objects.equals(name, that.name)
+        && Objects.equals(namespace, that.namespace)
+        && Objects.equals(status, that.status)
+        && Objects.equals(created, that.created)
+        && Objects.equals(updated, that.updated);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, name, namespace, isTemporary, status, created, updated);
+  }
+
+  @Override
+  public String toString() {
+    return "WorkspaceSummaryImpl{"
+        + "id='"
+        + id
+        + '\''
+        + ", name='"
+        + name
+        + '\''
+        + ", namespace='"
+        + namespace
+        + '\''
+        + ", isTemporary="
+        + isTemporary
+        + ", status="
+        + status
+        + ", created="
+        + created
+        + ", updated="
+        + updated
+        + '}';
+  }
+}
@@ -26,7 +26,6 @@ import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
-import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
@@ -40,6 +39,8 @@ import org.eclipse.che.api.core.model.workspace.devfile.Env;
 import org.eclipse.che.api.core.model.workspace.devfile.Volume;
 import org.eclipse.che.api.workspace.server.devfile.PreferencesDeserializer;
 import org.eclipse.che.api.workspace.server.devfile.SerializableConverter;
+import org.eclipse.persistence.annotations.BatchFetch;
+import org.eclipse.persistence.annotations.BatchFetchType;
 
 /** @author Sergii Leshchenko */
 @Entity(name = "DevfileComponent")
@@ -54,7 +55,8 @@ public class ComponentImpl implements Component {
   @Column(name = "component_id", nullable = false)
   private String componentId;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(
       name = "devfile_component_preferences",
       joinColumns = @JoinColumn(name = "devfile_component_id"))
@@ -79,7 +81,8 @@ public class ComponentImpl implements Component {
   @Column(name = "reference_content")
   private String referenceContent;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(
       name = "devfile_component_selector",
       joinColumns = @JoinColumn(name = "devfile_component_id"))
@@ -105,33 +108,39 @@ public class ComponentImpl implements Component {
   @Column(name = "mount_sources")
   private Boolean mountSources;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(
       name = "devfile_component_command",
       joinColumns = @JoinColumn(name = "devfile_component_id"))
   @Column(name = "command")
   private List<String> command;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(
       name = "devfile_component_arg",
       joinColumns = @JoinColumn(name = "devfile_component_id"))
   @Column(name = "args")
   private List<String> args;
 
-  @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+  @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchFetch(BatchFetchType.IN)
   @JoinColumn(name = "devfile_component_id")
   private List<EntrypointImpl> entrypoints;
 
-  @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+  @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchFetch(BatchFetchType.IN)
   @JoinColumn(name = "devfile_component_id")
   private List<VolumeImpl> volumes;
 
-  @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+  @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchFetch(BatchFetchType.IN)
   @JoinColumn(name = "devfile_component_id")
   private List<EnvImpl> env;
 
-  @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+  @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchFetch(BatchFetchType.IN)
   @JoinColumn(name = "devfile_component_id")
   private List<EndpointImpl> endpoints;
 
@@ -18,13 +18,14 @@ import javax.persistence.CollectionTable;
 import javax.persistence.Column;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
-import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.MapKeyColumn;
 import javax.persistence.Table;
 import org.eclipse.che.api.core.model.workspace.devfile.Endpoint;
+import org.eclipse.persistence.annotations.BatchFetch;
+import org.eclipse.persistence.annotations.BatchFetchType;
 
 /** @author Sergii Leshchenko */
 @Entity(name = "DevfileEndpoint")
@@ -42,7 +43,8 @@ public class EndpointImpl implements Endpoint {
   @Column(name = "port", nullable = false)
   private Integer port;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(
       name = "devfile_endpoint_attributes",
       joinColumns = @JoinColumn(name = "devfile_endpoint_id"))
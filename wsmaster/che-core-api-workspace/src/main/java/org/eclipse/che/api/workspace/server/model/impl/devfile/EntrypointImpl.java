@@ -20,13 +20,14 @@ import javax.persistence.CollectionTable;
 import javax.persistence.Column;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
-import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.MapKeyColumn;
 import javax.persistence.Table;
 import org.eclipse.che.api.core.model.workspace.devfile.Entrypoint;
+import org.eclipse.persistence.annotations.BatchFetch;
+import org.eclipse.persistence.annotations.BatchFetchType;
 
 /** @author Sergii Leshchenko */
 @Entity(name = "DevfileEntrypoint")
@@ -44,21 +45,24 @@ public class EntrypointImpl implements Entrypoint {
   @Column(name = "container_name", nullable = false)
   private String containerName;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(
       name = "devfile_entrypoint_commands",
       joinColumns = @JoinColumn(name = "devfile_entrypoint_id"))
   @Column(name = "command")
   private List<String> command;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(
       name = "devfile_entrypoint_arg",
       joinColumns = @JoinColumn(name = "devfile_entrypoint_id"))
   @Column(name = "arg")
   private List<String> args;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
+  @BatchFetch(BatchFetchType.IN)
   @CollectionTable(
       name = "devfile_entrypoint_selector",
       joinColumns = @JoinColumn(name = "devfile_entrypoint_id"))
@@ -11,12 +11,16 @@
  */
 package org.eclipse.che.api.workspace.server.spi;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
+import org.eclipse.che.commons.annotation.Nullable;
 
 /**
  * Defines data access object contract for {@link WorkspaceImpl}.
@@ -99,6 +103,34 @@ public interface WorkspaceDao {
    */
   WorkspaceImpl get(String name, String namespace) throws NotFoundException, ServerException;
 
+  /**
+   * Gets summary of the workspace by identifier.
+   *
+   * <p>Unlike {@link #get(String)} doesn't load workspace config or devfile, so it should be used
+   * when only identity of the workspace and its timestamps are needed, e.g. for permission checks.
+   * Status of the returned summary is not set.
+   *
+   * @param id workspace identifier
+   * @return workspace summary, never null
+   * @throws NullPointerException when {@code id} is null
+   * @throws NotFoundException when workspace with given {@code id} was not found
+   * @throws ServerException when any other error occurs during workspace fetching
+   */
+  WorkspaceSummaryImpl getWorkspaceSummary(String id) throws NotFoundException, ServerException;
+
+  /**
+   * Gets summary of the workspace by name in namespace, see {@link #getWorkspaceSummary(String)}.
+   *
+   * @param name workspace name
+   * @param namespace namespace of workspace
+   * @return workspace summary, never null
+   * @throws NullPointerException when {@code name} or {@code namespace} is null
+   * @throws NotFoundException when workspace with given name & namespace was not found
+   * @throws ServerException when any other error occurs during workspace fetching
+   */
+  WorkspaceSummaryImpl getWorkspaceSummary(String name, String namespace)
+      throws NotFoundException, ServerException;
+
   /**
    * Gets list of workspaces in given namespace.
    *
@@ -121,6 +153,23 @@ public interface WorkspaceDao {
   Page<WorkspaceImpl> getWorkspaces(String userId, int maxItems, long skipCount)
       throws ServerException;
 
+  /**
+   * Gets summaries of the workspaces which user can read ordered by workspace identifier.
+   *
+   * <p>Unlike {@link #getWorkspaces(String, int, long)} uses keyset pagination, the next page is
+   * requested with the identifier of the last workspace of the previous page, so fetching a page
+   * neither counts nor skips workspaces. Status of the returned summaries is not set.
+   *
+   * @param userId id of user
+   * @param afterId identifier of the last workspace of the previous page, null for the first page
+   * @param maxItems the maximum number of summaries to return
+   * @return list of summaries or empty list if there are no more workspaces
+   * @throws ServerException when any other error occurs during workspaces fetching
+   * @throws IllegalArgumentException when {@code maxItems} is negative
+   */
+  List<WorkspaceSummaryImpl> getWorkspaceSummaries(
+      String userId, @Nullable String afterId, int maxItems) throws ServerException;
+
   /**
    * Gets workspaces by temporary attribute.
    *
@@ -135,6 +184,17 @@ public interface WorkspaceDao {
   Page<WorkspaceImpl> getWorkspaces(boolean isTemporary, int maxItems, long skipCount)
       throws ServerException;
 
+  /**
+   * Gets identifiers of the temporary workspaces among the workspaces with the given identifiers,
+   * fetching them with a single query. Identifiers of not existing workspaces are ignored.
+   *
+   * @param ids identifiers of the workspaces
+   * @return identifiers of the temporary workspaces or empty list if there are no such workspaces
+   * @throws NullPointerException when {@code ids} is null
+   * @throws ServerException when any other error occurs during workspaces fetching
+   */
+  List<String> getTemporaryWorkspaceIds(Collection<String> ids) throws ServerException;
+
   /**
    * Get the count of all workspaces from the persistent layer.
    *
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.server;
+
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STARTING;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPING;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests {@link DefaultWorkspaceStatusCache} and its {@link WorkspaceStatusIndex}. */
+public class DefaultWorkspaceStatusCacheTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DefaultWorkspaceStatusCacheTest.class);
+
+  private DefaultWorkspaceStatusCache statuses;
+
+  @BeforeMethod
+  public void setUp() {
+    statuses = new DefaultWorkspaceStatusCache();
+  }
+
+  @Test
+  public void indexesPutStatus() {
+    statuses.putIfAbsent("ws1", STARTING);
+    statuses.putIfAbsent("ws2", STARTING);
+
+    assertEquals(statuses.getByStatus(STARTING), ImmutableSet.of("ws1", "ws2"));
+    assertEquals(statuses.count(STARTING), 2);
+  }
+
+  @Test
+  public void doesNotReindexStatusWhenItIsAlreadyPresent() {
+    statuses.putIfAbsent("ws1", STARTING);
+
+    assertEquals(statuses.putIfAbsent("ws1", RUNNING), STARTING);
+
+    assertEquals(statuses.getByStatus(STARTING), ImmutableSet.of("ws1"));
+    assertTrue(statuses.getByStatus(RUNNING).isEmpty());
+  }
+
+  @Test
+  public void movesWorkspaceToNewStatusOnReplace() {
+    statuses.putIfAbsent("ws1", STARTING);
+
+    assertEquals(statuses.replace("ws1", RUNNING), STARTING);
+
+    assertTrue(statuses.getByStatus(STARTING).isEmpty());
+    assertEquals(statuses.getByStatus(RUNNING), ImmutableSet.of("ws1"));
+    assertEquals(statuses.count(STARTING), 0);
+    assertEquals(statuses.count(RUNNING), 1);
+  }
+
+  @Test
+  public void movesWorkspaceToNewStatusOnlyWhenConditionalReplaceSucceeds() {
+    statuses.putIfAbsent("ws1", RUNNING);
+
+    assertFalse(statuses.replace("ws1", STARTING, STOPPING));
+    assertEquals(statuses.getByStatus(RUNNING), ImmutableSet.of("ws1"));
+
+    assertTrue(statuses.replace("ws1", RUNNING, STOPPING));
+    assertTrue(statuses.getByStatus(RUNNING).isEmpty());
+    assertEquals(statuses.getByStatus(STOPPING), ImmutableSet.of("ws1"));
+  }
+
+  @Test
+  public void doesNotIndexAbsentWorkspaceOnReplace() {
+    assertEquals(statuses.replace("ws1", RUNNING), null);
+
+    assertTrue(statuses.getByStatus(RUNNING).isEmpty());
+  }
+
+  @Test
+  public void removesWorkspaceFromIndexOnRemove() {
+    statuses.putIfAbsent("ws1", STOPPING);
+
+    assertEquals(statuses.remove("ws1"), STOPPING);
+
+    assertTrue(statuses.getByStatus(STOPPING).isEmpty());
+    assertEquals(statuses.count(STOPPING), 0);
+  }
+
+  @Test
+  public void keepsIndexConsistentWithCacheUnderConcurrentModifications() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<CompletableFuture<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(
+            CompletableFuture.runAsync(
+                () -> {
+                  for (int j = 0; j < 1000; j++) {
+                    final String workspaceId = "ws" + (j % 50);
+                    statuses.putIfAbsent(workspaceId, STARTING);
+                    statuses.replace(workspaceId, STARTING, RUNNING);
+                    statuses.replace(workspaceId, STOPPING);
+                    if (j % 3 == 0) {
+                      statuses.remove(workspaceId);
+                    }
+                  }
+                },
+                executor));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(1, TimeUnit.MINUTES);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (WorkspaceStatus status : WorkspaceStatus.values()) {
+      final long expected = statuses.asMap().values().stream().filter(s -> s == status).count();
+      assertEquals(statuses.count(status), expected);
+      assertEquals(statuses.getByStatus(status).size(), expected);
+    }
+  }
+
+  @Test
+  public void findsWorkspacesByStatusAmongTenThousandWorkspaces() {
+    final int workspaces = 10_000;
+    for (int i = 0; i < workspaces; i++) {
+      statuses.putIfAbsent("ws" + i, i % 100 == 0 ? STARTING : RUNNING);
+    }
+
+    final int lookups = 1000;
+    long start = System.nanoTime();
+    for (int i = 0; i < lookups; i++) {
+      assertEquals(
+          statuses.asMap().entrySet().stream().filter(e -> e.getValue() == STARTING).count(),
+          100);
+    }
+    final long filteringNanos = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    for (int i = 0; i < lookups; i++) {
+      assertEquals(statuses.getByStatus(STARTING).size(), 100);
+      assertEquals(statuses.count(RUNNING), workspaces - 100);
+    }
+    final long indexNanos = System.nanoTime() - start;
+
+    LOG.info(
+        "{} lookups of starting workspaces among {} workspaces took {}ms filtering "
+            + "the copy of the cache and {}ms using the index",
+        lookups,
+        workspaces,
+        TimeUnit.NANOSECONDS.toMillis(filteringNanos),
+        TimeUnit.NANOSECONDS.toMillis(indexNanos));
+  }
+}
@@ -89,6 +89,7 @@ import org.eclipse.che.api.workspace.server.model.impl.ServerConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WarningImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.server.model.impl.devfile.DevfileImpl;
 import org.eclipse.che.api.workspace.server.spi.InfrastructureException;
 import org.eclipse.che.api.workspace.server.spi.NamespaceResolutionContext;
@@ -328,6 +329,75 @@ public class WorkspaceManagerTest {
     assertEquals(result, workspace);
   }
 
+  @Test
+  public void getsWorkspaceSummaryByIdWithStatusOfItsRuntime() throws Exception {
+    final WorkspaceSummaryImpl summary =
+        new WorkspaceSummaryImpl("workspace123", "name", NAMESPACE_1, false);
+    when(workspaceDao.getWorkspaceSummary("workspace123")).thenReturn(summary);
+    when(runtimes.getStatus("workspace123")).thenReturn(RUNNING);
+
+    final WorkspaceSummaryImpl result = workspaceManager.getWorkspaceSummary("workspace123");
+
+    assertEquals(result.getStatus(), RUNNING);
+    verify(workspaceDao, never()).get(anyString());
+  }
+
+  @Test
+  public void getsWorkspaceSummaryByKey() throws Exception {
+    final WorkspaceSummaryImpl summary =
+        new WorkspaceSummaryImpl("workspace123", "name", NAMESPACE_1, false);
+    when(workspaceDao.getWorkspaceSummary("name", NAMESPACE_1)).thenReturn(summary);
+    when(runtimes.getStatus("workspace123")).thenReturn(STOPPED);
+
+    final WorkspaceSummaryImpl result = workspaceManager.getWorkspaceSummary(NAMESPACE_1 + "/name");
+
+    assertEquals(result, summary);
+    assertEquals(result.getStatus(), STOPPED);
+  }
+
+  @Test
+  public void getsPageOfWorkspaceSummariesWithGivenStatusFromSeveralPagesOfStorage()
+      throws Exception {
+    final WorkspaceSummaryImpl summary1 = new WorkspaceSummaryImpl("ws1", "n1", NAMESPACE_1, false);
+    final WorkspaceSummaryImpl summary2 = new WorkspaceSummaryImpl("ws2", "n2", NAMESPACE_1, false);
+    final WorkspaceSummaryImpl summary3 = new WorkspaceSummaryImpl("ws3", "n3", NAMESPACE_1, false);
+    final WorkspaceSummaryImpl summary4 = new WorkspaceSummaryImpl("ws4", "n4", NAMESPACE_1, false);
+    when(workspaceDao.getWorkspaceSummaries(NAMESPACE_1, null, 2))
+        .thenReturn(asList(summary1, summary2));
+    when(workspaceDao.getWorkspaceSummaries(NAMESPACE_1, "ws2", 2))
+        .thenReturn(asList(summary3, summary4));
+    when(runtimes.getStatus("ws1")).thenReturn(STOPPED);
+    when(runtimes.getStatus("ws2")).thenReturn(RUNNING);
+    when(runtimes.getStatus("ws3")).thenReturn(STOPPED);
+    when(runtimes.getStatus("ws4")).thenReturn(RUNNING);
+
+    final List<WorkspaceSummaryImpl> result =
+        workspaceManager.getWorkspaceSummaries(NAMESPACE_1, null, 2, RUNNING);
+
+    assertEquals(result, asList(summary2, summary4));
+    verify(workspaceDao, never()).getWorkspaceSummaries(NAMESPACE_1, "ws4", 2);
+  }
+
+  @Test
+  public void returnsShortPageOfWorkspaceSummariesWithGivenStatusWhenStorageIsExhausted()
+      throws Exception {
+    final WorkspaceSummaryImpl summary1 = new WorkspaceSummaryImpl("ws1", "n1", NAMESPACE_1, false);
+    final WorkspaceSummaryImpl summary2 = new WorkspaceSummaryImpl("ws2", "n2", NAMESPACE_1, false);
+    final WorkspaceSummaryImpl summary3 = new WorkspaceSummaryImpl("ws3", "n3", NAMESPACE_1, false);
+    when(workspaceDao.getWorkspaceSummaries(NAMESPACE_1, null, 2))
+        .thenReturn(asList(summary1, summary2));
+    when(workspaceDao.getWorkspaceSummaries(NAMESPACE_1, "ws2", 2))
+        .thenReturn(singletonList(summary3));
+    when(runtimes.getStatus("ws1")).thenReturn(STOPPED);
+    when(runtimes.getStatus("ws2")).thenReturn(STOPPED);
+    when(runtimes.getStatus("ws3")).thenReturn(RUNNING);
+
+    final List<WorkspaceSummaryImpl> result =
+        workspaceManager.getWorkspaceSummaries(NAMESPACE_1, null, 2, RUNNING);
+
+    assertEquals(result, singletonList(summary3));
+  }
+
   @Test
   public void getsWorkspacesAvailableForUserWithRuntimes() throws Exception {
     final WorkspaceConfig config = createConfig();
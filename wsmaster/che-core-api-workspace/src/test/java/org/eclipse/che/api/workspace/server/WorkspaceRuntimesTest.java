@@ -11,6 +11,7 @@
  */
 package org.eclipse.che.api.workspace.server;
 
+import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -26,10 +27,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -66,7 +70,7 @@ import org.eclipse.che.api.core.model.workspace.runtime.Machine;
 import org.eclipse.che.api.core.model.workspace.runtime.MachineStatus;
 import org.eclipse.che.api.core.model.workspace.runtime.RuntimeIdentity;
 import org.eclipse.che.api.core.notification.EventService;
-import org.eclipse.che.api.workspace.server.devfile.convert.DevfileConverter;
+import org.eclipse.che.api.workspace.server.devfile.convert.DevfileConversionCache;
 import org.eclipse.che.api.workspace.server.event.RuntimeAbnormalStoppedEvent;
 import org.eclipse.che.api.workspace.server.event.RuntimeAbnormalStoppingEvent;
 import org.eclipse.che.api.workspace.server.hc.probe.ProbeScheduler;
@@ -91,10 +95,12 @@ import org.eclipse.che.api.workspace.server.spi.environment.InternalEnvironmentF
 import org.eclipse.che.api.workspace.shared.dto.RuntimeIdentityDto;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
 import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.commons.subject.SubjectImpl;
 import org.eclipse.che.core.db.DBInitializer;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.testng.MockitoTestNGListener;
@@ -124,7 +130,7 @@ public class WorkspaceRuntimesTest {
 
   @Mock private WorkspaceStatusCache statuses;
 
-  @Mock private DevfileConverter devfileConverter;
+  @Mock private DevfileConversionCache devfileConversionCache;
 
   private RuntimeInfrastructure infrastructure;
 
@@ -149,7 +155,8 @@ public class WorkspaceRuntimesTest {
             probeScheduler,
             statuses,
             lockService,
-            devfileConverter);
+            devfileConversionCache,
+            1);
 
     lenient().when(sharedPool.getExecutor()).thenReturn(executorService);
   }
@@ -220,7 +227,8 @@ public class WorkspaceRuntimesTest {
             probeScheduler,
             statuses,
             lockService,
-            devfileConverter);
+            devfileConversionCache,
+            1);
     InternalEnvironment expectedEnvironment = mock(InternalEnvironment.class);
     when(noEnvFactory.create(eq(null))).thenReturn(expectedEnvironment);
 
@@ -295,7 +303,7 @@ public class WorkspaceRuntimesTest {
     assertNotNull(workspace.getRuntime());
     assertEquals(workspace.getStatus(), WorkspaceStatus.STARTING);
 
-    verify(devfileConverter).convert(workspaceMock.getDevfile());
+    verify(devfileConversionCache).convert(workspaceMock.getDevfile());
   }
 
   @Test
@@ -517,6 +525,100 @@ public class WorkspaceRuntimesTest {
         .recoverOne(any(RuntimeInfrastructure.class), any(RuntimeIdentity.class));
   }
 
+  @Test
+  public void shouldRecoverRuntimesInParallel() throws Exception {
+    // given
+    int runtimesCount = 500;
+    long recoveryMillis = 10;
+    WorkspaceSharedPool pool =
+        new WorkspaceSharedPool("fixed", "10", null, new NoopExecutorServiceWrapper());
+    WorkspaceRuntimes parallelRuntimes =
+        new WorkspaceRuntimes(
+            runtimesMap,
+            eventService,
+            ImmutableMap.of(TEST_ENVIRONMENT_TYPE, testEnvFactory),
+            infrastructure,
+            pool,
+            workspaceDao,
+            dbInitializer,
+            probeScheduler,
+            statuses,
+            lockService,
+            devfileConversionCache,
+            10);
+    Set<RuntimeIdentity> identities = generateRuntimeIdentitySet(runtimesCount);
+    for (RuntimeIdentity identity : identities) {
+      mockWorkspaceWithDevfile(identity);
+      RuntimeContext context = mockContext(identity);
+      when(context.getRuntime())
+          .thenReturn(new TestInternalRuntime(context, emptyMap(), WorkspaceStatus.STARTING));
+      doAnswer(
+              inv -> {
+                // simulates requests to the infrastructure
+                Thread.sleep(recoveryMillis);
+                return context;
+              })
+          .when(infrastructure)
+          .prepare(eq(identity), any());
+    }
+    doReturn(mock(InternalEnvironment.class)).when(testEnvFactory).create(any(Environment.class));
+
+    // when
+    long start = System.currentTimeMillis();
+    try {
+      parallelRuntimes.new RecoverRuntimesTask(identities).run();
+      while (parallelRuntimes.getRecoveredRuntimes() < runtimesCount
+          && System.currentTimeMillis() - start < 60_000) {
+        Thread.sleep(10);
+      }
+    } finally {
+      pool.shutdown();
+    }
+    long elapsed = System.currentTimeMillis() - start;
+
+    // then
+    assertEquals(parallelRuntimes.getRuntimesToRecover(), runtimesCount);
+    assertEquals(parallelRuntimes.getRecoveredRuntimes(), runtimesCount);
+    assertEquals(parallelRuntimes.getFailedRuntimeRecoveries(), 0);
+    assertEquals(runtimesMap.size(), runtimesCount);
+    assertTrue(
+        format(
+            "Recovery of %s runtimes took %sms, sequential recovery takes at least %sms",
+            runtimesCount, elapsed, runtimesCount * recoveryMillis),
+        elapsed < runtimesCount * recoveryMillis / 2);
+  }
+
+  @Test
+  public void shouldRecoverRuntimesOfTemporaryWorkspacesLast() throws Exception {
+    // given
+    RuntimeIdentity temporary =
+        new RuntimeIdentityImpl("workspace1", "env1", "owner1", "infraNamespace");
+    RuntimeIdentity persistent =
+        new RuntimeIdentityImpl("workspace2", "env2", "owner2", "infraNamespace");
+    Set<RuntimeIdentity> identities = ImmutableSet.of(temporary, persistent);
+    for (RuntimeIdentity identity : identities) {
+      mockWorkspaceWithConfig(identity);
+      RuntimeContext context = mockContext(identity);
+      when(context.getRuntime())
+          .thenReturn(new TestInternalRuntime(context, emptyMap(), WorkspaceStatus.STARTING));
+      doReturn(context).when(infrastructure).prepare(eq(identity), any());
+    }
+    when(workspaceDao.getTemporaryWorkspaceIds(any()))
+        .thenReturn(singletonList(temporary.getWorkspaceId()));
+    doReturn(mock(InternalEnvironment.class)).when(testEnvFactory).create(any(Environment.class));
+
+    // when
+    runtimes.new RecoverRuntimesTask(identities).run();
+
+    // then
+    InOrder inOrder = inOrder(infrastructure);
+    inOrder.verify(infrastructure).prepare(eq(persistent), any());
+    inOrder.verify(infrastructure).prepare(eq(temporary), any());
+    assertEquals(runtimes.getRecoveredRuntimes(), 2);
+    verify(workspaceDao).getTemporaryWorkspaceIds(any());
+    verify(workspaceDao, never()).getWorkspaceSummary(anyString());
+  }
+
   @Test
   public void runtimeRecoveryContinuesThroughRuntimeException() throws Exception {
     // Given
@@ -593,7 +695,8 @@ public class WorkspaceRuntimesTest {
             probeScheduler,
             statuses,
             lockService,
-            devfileConverter);
+            devfileConversionCache,
+            1);
     localRuntimes.init();
     RuntimeIdentityDto identity =
         DtoFactory.newDto(RuntimeIdentityDto.class)
@@ -635,7 +738,8 @@ public class WorkspaceRuntimesTest {
             probeScheduler,
             statuses,
             lockService,
-            devfileConverter);
+            devfileConversionCache,
+            1);
     localRuntimes.init();
     RuntimeIdentityDto identity =
         DtoFactory.newDto(RuntimeIdentityDto.class)
@@ -686,7 +790,8 @@ public class WorkspaceRuntimesTest {
             probeScheduler,
             statuses,
             lockService,
-            devfileConverter);
+            devfileConversionCache,
+            1);
 
     // when
     localRuntimes.injectRuntime(workspace);
@@ -830,14 +935,8 @@ public class WorkspaceRuntimesTest {
   @Test
   public void shouldReturnWorkspaceIdsOfRunningRuntimes() {
     // given
-    when(statuses.asMap())
-        .thenReturn(
-            ImmutableMap.of(
-                "ws1", WorkspaceStatus.STARTING,
-                "ws2", WorkspaceStatus.RUNNING,
-                "ws3", WorkspaceStatus.RUNNING,
-                "ws4", WorkspaceStatus.RUNNING,
-                "ws5", WorkspaceStatus.STOPPING));
+    when(statuses.getByStatus(WorkspaceStatus.RUNNING))
+        .thenReturn(ImmutableSet.of("ws2", "ws3", "ws4"));
 
     // when
     Set<String> running = runtimes.getRunning();
@@ -847,6 +946,21 @@ public class WorkspaceRuntimesTest {
     assertTrue(running.containsAll(asList("ws2", "ws3", "ws4")));
   }
 
+  @Test
+  public void shouldNotLookUpWorkspacesInProgressWhenNoneIsStartingOrStopping() {
+    // given
+    when(statuses.count(WorkspaceStatus.STARTING)).thenReturn(0);
+    when(statuses.count(WorkspaceStatus.STOPPING)).thenReturn(0);
+
+    // when
+    boolean anyInProgress = runtimes.isAnyInProgress();
+
+    // then
+    assertFalse(anyInProgress);
+    verify(statuses, never()).getByStatus(any());
+    verify(statuses, never()).asMap();
+  }
+
   private RuntimeIdentityImpl newRandomRuntimeIdentity() {
     return new RuntimeIdentityImpl(
         generate("workspace", 6),
@@ -913,7 +1027,7 @@ public class WorkspaceRuntimesTest {
     lenient()
         .when(convertedConfig.getEnvironments())
         .thenReturn(ImmutableMap.of(identity.getEnvName(), environment));
-    lenient().when(devfileConverter.convert(devfile)).thenReturn(convertedConfig);
+    lenient().when(devfileConversionCache.convert(devfile)).thenReturn(convertedConfig);
 
     return workspace;
   }
@@ -935,7 +1049,7 @@ public class WorkspaceRuntimesTest {
     lenient()
         .when(convertedConfig.getEnvironments())
         .thenReturn(ImmutableMap.of(envName, environment));
-    lenient().when(devfileConverter.convert(devfile)).thenReturn(convertedConfig);
+    lenient().when(devfileConversionCache.convert(devfile)).thenReturn(convertedConfig);
 
     return workspace;
   }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.server.devfile.convert;
+
+import static org.eclipse.che.api.workspace.server.devfile.Constants.CURRENT_API_VERSION;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.fail;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.workspace.devfile.Devfile;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
+import org.eclipse.che.api.workspace.server.model.impl.devfile.ComponentImpl;
+import org.eclipse.che.api.workspace.server.model.impl.devfile.DevfileImpl;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests {@link DevfileConversionCache}. */
+@Listeners(MockitoTestNGListener.class)
+public class DevfileConversionCacheTest {
+
+  @Mock private DevfileConverter devfileConverter;
+
+  private DevfileConversionCache conversionCache;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    conversionCache = new DevfileConversionCache(devfileConverter, 10, 30);
+    lenient()
+        .when(devfileConverter.convert(any()))
+        .thenAnswer(
+            inv -> {
+              Devfile devfile = inv.getArgument(0);
+              WorkspaceConfigImpl config = new WorkspaceConfigImpl();
+              config.setName(devfile.getName());
+              config.getAttributes().put("converted", "true");
+              return config;
+            });
+  }
+
+  @Test
+  public void shouldConvertDevfileWithTheSameContentOnlyOnce() throws Exception {
+    conversionCache.convert(newDevfile("petclinic"));
+    WorkspaceConfigImpl config = conversionCache.convert(newDevfile("petclinic"));
+
+    assertEquals(config.getName(), "petclinic");
+    verify(devfileConverter).convert(any());
+    assertEquals(conversionCache.getMissCount(), 1);
+    assertEquals(conversionCache.getHitCount(), 1);
+  }
+
+  @Test
+  public void shouldConvertDevfileWithDifferentContent() throws Exception {
+    WorkspaceConfigImpl config1 = conversionCache.convert(newDevfile("petclinic"));
+    WorkspaceConfigImpl config2 = conversionCache.convert(newDevfile("spring"));
+
+    assertEquals(config1.getName(), "petclinic");
+    assertEquals(config2.getName(), "spring");
+    verify(devfileConverter, times(2)).convert(any());
+  }
+
+  @Test
+  public void shouldReturnCopyOfCachedConfig() throws Exception {
+    DevfileImpl devfile = newDevfile("petclinic");
+
+    WorkspaceConfigImpl config1 = conversionCache.convert(devfile);
+    config1.setName("modified");
+    config1.getAttributes().clear();
+    WorkspaceConfigImpl config2 = conversionCache.convert(devfile);
+
+    assertNotSame(config1, config2);
+    assertEquals(config2.getName(), "petclinic");
+    assertEquals(config2.getAttributes().get("converted"), "true");
+  }
+
+  @Test
+  public void shouldNotCacheConversionOfDevfileWithExternalReferences() throws Exception {
+    DevfileImpl devfile = newDevfile("petclinic");
+    devfile
+        .getComponents()
+        .add(new ComponentImpl("kubernetes", null, "app.yaml", null, null, null));
+
+    conversionCache.convert(devfile);
+    conversionCache.convert(devfile);
+
+    verify(devfileConverter, times(2)).convert(any());
+    assertEquals(conversionCache.getHitCount(), 0);
+  }
+
+  @Test
+  public void shouldCacheConversionOfDevfileWithInlinedReferenceContent() throws Exception {
+    DevfileImpl devfile = newDevfile("petclinic");
+    devfile
+        .getComponents()
+        .add(new ComponentImpl("kubernetes", null, "app.yaml", "kind: List", null, null));
+
+    conversionCache.convert(devfile);
+    conversionCache.convert(devfile);
+
+    verify(devfileConverter).convert(any());
+  }
+
+  @Test
+  public void shouldNotCacheFailedConversion() throws Exception {
+    DevfileImpl devfile = newDevfile("petclinic");
+    doThrow(new ServerException("failed"))
+        .doReturn(new WorkspaceConfigImpl())
+        .when(devfileConverter)
+        .convert(any());
+    try {
+      conversionCache.convert(devfile);
+      fail("Conversion must fail");
+    } catch (ServerException ignored) {
+    }
+
+    conversionCache.convert(devfile);
+    conversionCache.convert(devfile);
+
+    verify(devfileConverter, times(2)).convert(any());
+    assertEquals(conversionCache.getHitCount(), 1);
+  }
+
+  @Test
+  public void shouldServeRepeatedStartsOfTheSameWorkspaceFromCache() throws Exception {
+    DevfileImpl devfile = newDevfile("petclinic");
+    int starts = 1000;
+
+    for (int i = 0; i < starts; i++) {
+      assertEquals(conversionCache.convert(new DevfileImpl(devfile)).getName(), "petclinic");
+    }
+
+    verify(devfileConverter).convert(any());
+    assertEquals(conversionCache.getHitCount(), starts - 1);
+    assertEquals(conversionCache.getMissCount(), 1);
+  }
+
+  private DevfileImpl newDevfile(String name) {
+    DevfileImpl devfile = new DevfileImpl();
+    devfile.setApiVersion(CURRENT_API_VERSION);
+    devfile.setName(name);
+    return devfile;
+  }
+}
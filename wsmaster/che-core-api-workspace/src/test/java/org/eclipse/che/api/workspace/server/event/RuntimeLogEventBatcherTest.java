@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.server.event;
+
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPED;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.shared.dto.RuntimeIdentityDto;
+import org.eclipse.che.api.workspace.shared.dto.event.RuntimeLogBatchEvent;
+import org.eclipse.che.api.workspace.shared.dto.event.RuntimeLogEvent;
+import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
+import org.eclipse.che.api.workspace.shared.event.WorkspaceRemovedEvent;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests for {@link RuntimeLogEventBatcher}. */
+public class RuntimeLogEventBatcherTest {
+  private static final int MAX_LINES = 200;
+
+  private EventService eventService;
+  private List<RuntimeLogBatchEvent> batches;
+
+  @BeforeMethod
+  public void setUp() {
+    eventService = new EventService();
+    batches = Collections.synchronizedList(new ArrayList<>());
+    eventService.subscribe(batches::add, RuntimeLogBatchEvent.class);
+  }
+
+  @Test
+  public void shouldCoalesceBurstOfLogsIntoBatches() {
+    RuntimeLogEventBatcher batcher = new RuntimeLogEventBatcher(eventService, 100, MAX_LINES);
+    batcher.subscribe();
+
+    for (int i = 0; i < 10_000; i++) {
+      eventService.publish(logEvent("ws1", "line " + i));
+    }
+    batcher.flush();
+
+    assertEquals(batches.size(), 10_000 / MAX_LINES);
+    int line = 0;
+    for (int i = 0; i < batches.size(); i++) {
+      RuntimeLogBatchEvent batch = batches.get(i);
+      assertEquals(batch.getSequenceNumber(), i);
+      assertEquals(batch.getRuntimeId().getWorkspaceId(), "ws1");
+      for (RuntimeLogEvent log : batch.getLogs()) {
+        assertEquals(log.getText(), "line " + line++);
+      }
+    }
+    assertEquals(line, 10_000);
+  }
+
+  @Test
+  public void shouldPublishPendingLogsOnFlush() {
+    RuntimeLogEventBatcher batcher = new RuntimeLogEventBatcher(eventService, 100, MAX_LINES);
+    batcher.subscribe();
+
+    eventService.publish(logEvent("ws1", "first"));
+    eventService.publish(logEvent("ws2", "second"));
+    eventService.publish(logEvent("ws1", "third"));
+    assertTrue(batches.isEmpty());
+
+    batcher.flush();
+
+    assertEquals(batches.size(), 2);
+    batcher.flush();
+    assertEquals(batches.size(), 2);
+  }
+
+  @Test
+  public void shouldPublishPendingLogsWhenWorkspaceIsStopped() {
+    RuntimeLogEventBatcher batcher = new RuntimeLogEventBatcher(eventService, 100, MAX_LINES);
+    batcher.subscribe();
+
+    eventService.publish(logEvent("ws1", "first"));
+    eventService.publish(
+        newDto(WorkspaceStatusEvent.class).withWorkspaceId("ws1").withStatus(STOPPED));
+
+    assertEquals(batches.size(), 1);
+    assertEquals(batches.get(0).getLogs().size(), 1);
+  }
+
+  @Test
+  public void shouldContinueSequenceNumbersAfterWorkspaceIsStopped() {
+    RuntimeLogEventBatcher batcher = new RuntimeLogEventBatcher(eventService, 100, MAX_LINES);
+    batcher.subscribe();
+
+    eventService.publish(logEvent("ws1", "first"));
+    eventService.publish(
+        newDto(WorkspaceStatusEvent.class).withWorkspaceId("ws1").withStatus(STOPPED));
+    eventService.publish(logEvent("ws1", "second"));
+    batcher.flush();
+
+    assertEquals(batches.size(), 2);
+    assertEquals(batches.get(0).getSequenceNumber(), 0);
+    assertEquals(batches.get(1).getSequenceNumber(), 1);
+  }
+
+  @Test
+  public void shouldPublishPendingLogsWhenWorkspaceIsRemoved() {
+    RuntimeLogEventBatcher batcher = new RuntimeLogEventBatcher(eventService, 100, MAX_LINES);
+    batcher.subscribe();
+    WorkspaceImpl workspace = new WorkspaceImpl();
+    workspace.setId("ws1");
+
+    eventService.publish(logEvent("ws1", "first"));
+    eventService.publish(new WorkspaceRemovedEvent(workspace));
+
+    assertEquals(batches.size(), 1);
+    assertEquals(batches.get(0).getLogs().get(0).getText(), "first");
+  }
+
+  @Test
+  public void shouldNotLoseLogsPublishedConcurrentlyWithWorkspaceStop() throws Exception {
+    final int lines = 10_000;
+    RuntimeLogEventBatcher batcher = new RuntimeLogEventBatcher(eventService, 100, MAX_LINES);
+    batcher.subscribe();
+
+    CompletableFuture<Void> logs =
+        CompletableFuture.runAsync(
+            () -> {
+              for (int i = 0; i < lines; i++) {
+                eventService.publish(logEvent("ws1", "line " + i));
+              }
+            });
+    while (!logs.isDone()) {
+      eventService.publish(
+          newDto(WorkspaceStatusEvent.class).withWorkspaceId("ws1").withStatus(STOPPED));
+    }
+    logs.get(1, TimeUnit.MINUTES);
+    batcher.flush();
+
+    int published = 0;
+    for (int i = 0; i < batches.size(); i++) {
+      assertEquals(batches.get(i).getSequenceNumber(), i);
+      published += batches.get(i).getLogs().size();
+    }
+    assertEquals(published, lines);
+  }
+
+  @Test
+  public void shouldNotBatchLogsIfWindowIsNotPositive() {
+    RuntimeLogEventBatcher batcher = new RuntimeLogEventBatcher(eventService, 0, MAX_LINES);
+    batcher.subscribe();
+
+    for (int i = 0; i < MAX_LINES; i++) {
+      eventService.publish(logEvent("ws1", "line " + i));
+    }
+    batcher.flush();
+
+    assertTrue(batches.isEmpty());
+  }
+
+  private RuntimeLogEvent logEvent(String workspaceId, String text) {
+    return newDto(RuntimeLogEvent.class)
+        .withRuntimeId(newDto(RuntimeIdentityDto.class).withWorkspaceId(workspaceId))
+        .withText(text);
+  }
+}
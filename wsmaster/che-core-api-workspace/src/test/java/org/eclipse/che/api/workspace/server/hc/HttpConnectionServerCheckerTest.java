@@ -23,8 +23,8 @@ import static org.testng.Assert.assertTrue;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.util.Timer;
 import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.workspace.server.hc.probe.ProbeEngine;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -39,7 +39,7 @@ public class HttpConnectionServerCheckerTest {
   private String SERVER_REF = "ref1";
   private URL SERVER_URL;
 
-  @Mock private Timer timer;
+  @Mock private ProbeEngine probeEngine;
   @Mock private HttpURLConnection conn;
 
   private HttpConnectionServerChecker checker;
@@ -51,7 +51,15 @@ public class HttpConnectionServerCheckerTest {
     checker =
         spy(
             new HttpConnectionServerChecker(
-                SERVER_URL, MACHINE_NAME, SERVER_REF, 1, 10, 1, TimeUnit.SECONDS, timer, null));
+                SERVER_URL,
+                MACHINE_NAME,
+                SERVER_REF,
+                1,
+                10,
+                1,
+                TimeUnit.SECONDS,
+                probeEngine,
+                null));
 
     doReturn(conn).when(checker).createConnection(nullable(URL.class));
     when(conn.getResponseCode()).thenReturn(200);
@@ -17,11 +17,12 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
-import java.util.Timer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.workspace.server.hc.probe.ProbeEngine;
 import org.eclipse.che.api.workspace.server.spi.InfrastructureException;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -36,17 +37,17 @@ public class ServerCheckerTest {
   private static final long TEST_TIMEOUT_MS = CHECKER_TIMEOUT_MS + 5000;
   private static final int SUCCESS_THRESHOLD = 1;
 
-  private Timer timer;
+  private ProbeEngine probeEngine;
   private TestServerChecker checker;
 
   @BeforeMethod
   public void setUp() throws Exception {
-    timer = new Timer(true);
+    probeEngine = new ProbeEngine(1, Executors.newCachedThreadPool());
   }
 
   @AfterMethod
   public void tearDown() throws Exception {
-    timer.cancel();
+    probeEngine.shutdown();
   }
 
   @Test(timeOut = TEST_TIMEOUT_MS)
@@ -59,7 +60,7 @@ public class ServerCheckerTest {
             CHECKER_TIMEOUT_MS,
             SUCCESS_THRESHOLD,
             TimeUnit.MILLISECONDS,
-            timer);
+            probeEngine);
     CompletableFuture<String> reportCompFuture = checker.getReportCompFuture();
     // not considered as available before start
     assertFalse(reportCompFuture.isDone());
@@ -89,7 +90,7 @@ public class ServerCheckerTest {
             PERIOD_MS * 2,
             SUCCESS_THRESHOLD,
             TimeUnit.MILLISECONDS,
-            timer);
+            probeEngine);
 
     // ensure server not available before start
     checker.setAvailable(false);
@@ -125,8 +126,8 @@ public class ServerCheckerTest {
         long timeout,
         int successThreshold,
         TimeUnit timeUnit,
-        Timer timer) {
-      super(machineName, serverRef, period, timeout, successThreshold, timeUnit, timer);
+        ProbeEngine probeEngine) {
+      super(machineName, serverRef, period, timeout, successThreshold, timeUnit, probeEngine);
     }
 
     @Override
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.server.hc;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.che.api.workspace.server.hc.probe.ProbeEngine;
+import org.eclipse.che.api.workspace.server.model.impl.RuntimeIdentityImpl;
+import org.eclipse.che.api.workspace.server.model.impl.ServerImpl;
+import org.eclipse.che.api.workspace.server.token.MachineTokenProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Checks readiness of a big number of servers against local stub servers. */
+public class ServersCheckerLoadTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ServersCheckerLoadTest.class);
+
+  private static final int MACHINES = 200;
+  private static final int SERVERS_PER_MACHINE = 10;
+  private static final int MAX_ADDED_THREADS = 50;
+
+  private final List<HttpServer> stubServers = new ArrayList<>();
+  private ExecutorService stubServersExecutor;
+  private ProbeEngine probeEngine;
+  private MachineTokenProvider machineTokenProvider;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    stubServersExecutor = Executors.newFixedThreadPool(8);
+    probeEngine = new ProbeEngine(2, Executors.newFixedThreadPool(4));
+    machineTokenProvider = mock(MachineTokenProvider.class);
+    when(machineTokenProvider.getToken(anyString(), anyString())).thenReturn("token");
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    probeEngine.shutdown();
+    stubServers.forEach(server -> server.stop(0));
+    stubServers.clear();
+    stubServersExecutor.shutdownNow();
+  }
+
+  @Test(timeOut = 120_000)
+  public void checksTwoThousandServersSimultaneouslyWithBoundedNumberOfThreads() throws Exception {
+    // servers become ready after a few unsuccessful checks
+    final long readyAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+    for (int i = 0; i < 4; i++) {
+      startStubServer(readyAt);
+    }
+    final String[] serverRefs = new String[SERVERS_PER_MACHINE];
+    for (int i = 0; i < SERVERS_PER_MACHINE; i++) {
+      serverRefs[i] = "server" + i;
+    }
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    final int threadsBefore = threads.getThreadCount();
+    threads.resetPeakThreadCount();
+    final AtomicInteger readyServers = new AtomicInteger();
+    final long start = System.nanoTime();
+
+    final List<ServersChecker> checkers = new ArrayList<>();
+    for (int i = 0; i < MACHINES; i++) {
+      final Map<String, ServerImpl> servers = new HashMap<>();
+      for (int j = 0; j < SERVERS_PER_MACHINE; j++) {
+        final int port = stubServers.get((i + j) % stubServers.size()).getAddress().getPort();
+        servers.put(serverRefs[j], new ServerImpl().withUrl("http://127.0.0.1:" + port + "/"));
+      }
+      final ServersChecker checker =
+          new ServersChecker(
+              new RuntimeIdentityImpl("ws" + i, "env", "owner", "ns"),
+              "machine" + i,
+              servers,
+              machineTokenProvider,
+              1,
+              100,
+              serverRefs,
+              probeEngine);
+      checker.startAsync(ref -> readyServers.incrementAndGet());
+      checkers.add(checker);
+    }
+    for (ServersChecker checker : checkers) {
+      checker.await();
+    }
+
+    final int addedThreads = threads.getPeakThreadCount() - threadsBefore;
+    LOG.info(
+        "Readiness of {} servers is checked in {}ms, {} threads were added",
+        MACHINES * SERVERS_PER_MACHINE,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+        addedThreads);
+    assertEquals(readyServers.get(), MACHINES * SERVERS_PER_MACHINE);
+    assertTrue(addedThreads <= MAX_ADDED_THREADS, addedThreads + " threads were added");
+    assertTrue(probeEngine.getCompletedChecks() >= MACHINES * SERVERS_PER_MACHINE);
+  }
+
+  private void startStubServer(long readyAt) throws Exception {
+    HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+    server.createContext(
+        "/",
+        exchange -> {
+          exchange.sendResponseHeaders(System.nanoTime() < readyAt ? 503 : 200, -1);
+          exchange.close();
+        });
+    server.setExecutor(stubServersExecutor);
+    server.start();
+    stubServers.add(server);
+  }
+}
@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import org.eclipse.che.api.core.model.workspace.runtime.RuntimeIdentity;
+import org.eclipse.che.api.workspace.server.hc.probe.ProbeEngine;
 import org.eclipse.che.api.workspace.server.model.impl.ServerImpl;
 import org.eclipse.che.api.workspace.server.spi.InfrastructureException;
 import org.eclipse.che.api.workspace.server.token.MachineTokenProvider;
@@ -62,6 +63,7 @@ public class ServersCheckerTest {
   @Mock private MachineTokenProvider machineTokenProvider;
   @Mock private HttpConnectionServerChecker connectionChecker;
   @Mock private RuntimeIdentity runtimeIdentity;
+  @Mock private ProbeEngine probeEngine;
   private Map<String, ServerImpl> servers;
 
   private ServersChecker checker;
@@ -91,7 +93,8 @@ public class ServersCheckerTest {
                 machineTokenProvider,
                 SERVER_PING_SUCCESS_THRESHOLD,
                 SERVER_PING_INTERVAL_MILLIS,
-                CONFIGURED_SERVERS));
+                CONFIGURED_SERVERS,
+                probeEngine));
     when(checker.doCreateChecker(any(URL.class), anyString(), anyString()))
         .thenReturn(connectionChecker);
     when(machineTokenProvider.getToken(anyString(), anyString())).thenReturn(MACHINE_TOKEN);
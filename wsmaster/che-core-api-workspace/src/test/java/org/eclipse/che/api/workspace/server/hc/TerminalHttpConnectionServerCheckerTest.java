@@ -17,8 +17,8 @@ import static org.testng.Assert.assertTrue;
 
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.util.Timer;
 import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.workspace.server.hc.probe.ProbeEngine;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -31,7 +31,7 @@ public class TerminalHttpConnectionServerCheckerTest {
   private String MACHINE_NAME = "mach1";
   private String SERVER_REF = "ref1";
 
-  @Mock private Timer timer;
+  @Mock private ProbeEngine probeEngine;
   @Mock private HttpURLConnection conn;
 
   private TerminalHttpConnectionServerChecker checker;
@@ -47,7 +47,7 @@ public class TerminalHttpConnectionServerCheckerTest {
             10,
             1,
             TimeUnit.SECONDS,
-            timer,
+            probeEngine,
             null);
   }
 
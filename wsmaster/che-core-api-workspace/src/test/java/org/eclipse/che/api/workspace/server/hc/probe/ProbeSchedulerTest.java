@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2012-2018 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.server.hc.probe;
+
+import static java.util.Collections.singletonList;
+import static org.eclipse.che.api.workspace.server.hc.probe.ProbeResult.ProbeStatus.FAILED;
+import static org.eclipse.che.api.workspace.server.hc.probe.ProbeResult.ProbeStatus.PASSED;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.workspace.server.hc.probe.ProbeResult.ProbeStatus;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests {@link ProbeScheduler} and {@link ProbeEngine} against local stub servers. */
+public class ProbeSchedulerTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ProbeSchedulerTest.class);
+
+  private static final String WORKSPACE_ID = "ws123";
+
+  private final List<HttpServer> servers = new ArrayList<>();
+  private ExecutorService serversExecutor;
+  private ProbeEngine probeEngine;
+  private ProbeScheduler probeScheduler;
+
+  @BeforeMethod
+  public void setUp() {
+    serversExecutor = Executors.newFixedThreadPool(8);
+    probeEngine = new ProbeEngine(2, Executors.newFixedThreadPool(4));
+    probeScheduler = new ProbeScheduler(4, probeEngine, new NoopExecutorServiceWrapper());
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    probeScheduler.shutdown();
+    probeEngine.shutdown();
+    servers.forEach(server -> server.stop(0));
+    servers.clear();
+    serversExecutor.shutdownNow();
+  }
+
+  @Test
+  public void passesProbeWhenServerRespondsWithSuccessCode() throws Exception {
+    HttpServer server = startServer(204);
+    BlockingQueue<ProbeResult> results = new LinkedBlockingQueue<>();
+
+    probeScheduler.schedule(
+        new WorkspaceProbes(WORKSPACE_ID, singletonList(newProbeFactory(server, "server", 1, 1))),
+        results::add);
+
+    ProbeResult result = results.poll(10, TimeUnit.SECONDS);
+    assertNotNull(result);
+    assertEquals(result.getStatus(), PASSED);
+    assertEquals(result.getWorkspaceId(), WORKSPACE_ID);
+    assertEquals(result.getServerName(), "server");
+  }
+
+  @Test
+  public void failsProbeOnlyWhenFailureThresholdIsReached() throws Exception {
+    HttpServer server = startServer(500);
+    BlockingQueue<ProbeResult> results = new LinkedBlockingQueue<>();
+    long start = System.nanoTime();
+
+    probeScheduler.schedule(
+        new WorkspaceProbes(WORKSPACE_ID, singletonList(newProbeFactory(server, "server", 1, 2))),
+        results::add);
+
+    ProbeResult result = results.poll(10, TimeUnit.SECONDS);
+    assertNotNull(result);
+    assertEquals(result.getStatus(), FAILED);
+    // the second check is performed after the period of the probe
+    assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(900));
+  }
+
+  @Test
+  public void failsProbeWhenServerDoesNotRespondInTime() throws Exception {
+    // connections are accepted by the backlog of the socket but nothing is ever responded
+    try (ServerSocket socket = new ServerSocket(0, 50)) {
+      BlockingQueue<ProbeResult> results = new LinkedBlockingQueue<>();
+
+      probeScheduler.schedule(
+          new WorkspaceProbes(
+              WORKSPACE_ID,
+              singletonList(newProbeFactory(socket.getLocalPort(), "/", "server", 1, 1))),
+          results::add);
+
+      ProbeResult result = results.poll(10, TimeUnit.SECONDS);
+      assertNotNull(result);
+      assertEquals(result.getStatus(), FAILED);
+    }
+  }
+
+  @Test
+  public void failsProbeWhenServerIsNotReachable() throws Exception {
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    BlockingQueue<ProbeResult> results = new LinkedBlockingQueue<>();
+
+    probeScheduler.schedule(
+        new WorkspaceProbes(
+            WORKSPACE_ID, singletonList(newProbeFactory(port, "/", "server", 1, 1))),
+        results::add);
+
+    ProbeResult result = results.poll(10, TimeUnit.SECONDS);
+    assertNotNull(result);
+    assertEquals(result.getStatus(), FAILED);
+  }
+
+  @Test
+  public void doesNotPassResultsOfCancelledProbes() throws Exception {
+    HttpServer server = startServer(200);
+    BlockingQueue<ProbeResult> results = new LinkedBlockingQueue<>();
+    probeScheduler.schedule(
+        new WorkspaceProbes(WORKSPACE_ID, singletonList(newProbeFactory(server, "server", 1, 1))),
+        results::add);
+    assertNotNull(results.poll(10, TimeUnit.SECONDS));
+
+    probeScheduler.cancel(WORKSPACE_ID);
+
+    // period of the probe is 1 second
+    assertNull(results.poll(2, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void checksTenThousandConcurrentProbes() throws Exception {
+    final int probes = 10_000;
+    for (int i = 0; i < 4; i++) {
+      startServer(200);
+    }
+    final Map<String, ProbeStatus> statuses = new ConcurrentHashMap<>();
+    final CountDownLatch latch = new CountDownLatch(probes);
+    final long start = System.nanoTime();
+
+    for (int i = 0; i < probes; i++) {
+      ProbeFactory probeFactory =
+          new HttpProbeFactory(
+              "ws" + i,
+              "machine",
+              "server",
+              new HttpProbeConfig(
+                  servers.get(i % servers.size()).getAddress().getPort(),
+                  "127.0.0.1",
+                  "http",
+                  "/",
+                  null,
+                  1,
+                  1,
+                  60,
+                  60,
+                  0));
+      probeScheduler.schedule(
+          new WorkspaceProbes("ws" + i, singletonList(probeFactory)),
+          result -> {
+            if (statuses.putIfAbsent(result.getWorkspaceId(), result.getStatus()) == null) {
+              latch.countDown();
+            }
+          });
+    }
+
+    assertTrue(latch.await(2, TimeUnit.MINUTES), "Not all the probes are checked in time");
+    assertTrue(statuses.values().stream().allMatch(PASSED::equals));
+    LOG.info(
+        "{} concurrent probes are checked in {}ms",
+        probes,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  private HttpServer startServer(int responseCode) throws Exception {
+    HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+    server.createContext(
+        "/",
+        exchange -> {
+          exchange.sendResponseHeaders(responseCode, -1);
+          exchange.close();
+        });
+    server.setExecutor(serversExecutor);
+    server.start();
+    servers.add(server);
+    return server;
+  }
+
+  private ProbeFactory newProbeFactory(
+      HttpServer server, String serverName, int successThreshold, int failureThreshold)
+      throws Exception {
+    return newProbeFactory(
+        server.getAddress().getPort(), "/", serverName, successThreshold, failureThreshold);
+  }
+
+  private ProbeFactory newProbeFactory(
+      int port, String path, String serverName, int successThreshold, int failureThreshold)
+      throws Exception {
+    return new HttpProbeFactory(
+        WORKSPACE_ID,
+        "machine",
+        serverName,
+        new HttpProbeConfig(
+            port, "127.0.0.1", "http", path, null, successThreshold, failureThreshold, 1, 1, 0));
+  }
+}
@@ -11,10 +11,16 @@
  */
 package org.eclipse.che.api.workspace.server.jpa;
 
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.eclipse.che.api.workspace.server.spi.tck.WorkspaceDaoTest.createWorkspaceFromConfig;
 import static org.eclipse.che.api.workspace.server.spi.tck.WorkspaceDaoTest.createWorkspaceFromDevfile;
+import static org.eclipse.che.api.workspace.shared.Constants.CREATED_ATTRIBUTE_NAME;
+import static org.eclipse.che.api.workspace.shared.Constants.UPDATED_ATTRIBUTE_NAME;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import com.google.inject.Guice;
 import com.google.inject.Injector;
@@ -25,8 +31,11 @@ import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.workspace.server.model.impl.ProjectConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.commons.test.tck.TckResourcesCleaner;
 import org.eclipse.che.core.db.jpa.DuplicateKeyException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -38,6 +47,8 @@ import org.testng.annotations.Test;
  */
 public class JpaWorkspaceDaoTest {
 
+  private static final Logger LOG = LoggerFactory.getLogger(JpaWorkspaceDaoTest.class);
+
   private TckResourcesCleaner tckResourcesCleaner;
   private EntityManager manager;
   private JpaWorkspaceDao workspaceDao;
@@ -220,6 +231,201 @@ public class JpaWorkspaceDaoTest {
     }
   }
 
+  @Test
+  public void shouldGetWorkspaceSummariesPageByPage() throws Exception {
+    final AccountImpl account = new AccountImpl("accountId", "namespace", "test");
+    final WorkspaceImpl workspace1 = createWorkspaceFromDevfile("id1", account, "name1");
+    final WorkspaceImpl workspace2 = createWorkspaceFromDevfile("id2", account, "name2");
+    final WorkspaceImpl workspace3 = createWorkspaceFromDevfile("id3", account, "name3");
+    workspace2.getAttributes().put(CREATED_ATTRIBUTE_NAME, "1000");
+    workspace2.getAttributes().put(UPDATED_ATTRIBUTE_NAME, "2000");
+    manager.getTransaction().begin();
+    manager.persist(account);
+    manager.persist(workspace3);
+    manager.persist(workspace1);
+    manager.persist(workspace2);
+    manager.getTransaction().commit();
+    manager.clear();
+
+    final List<WorkspaceSummaryImpl> firstPage =
+        workspaceDao.getWorkspaceSummaries("user", null, 2);
+    final List<WorkspaceSummaryImpl> secondPage =
+        workspaceDao.getWorkspaceSummaries("user", firstPage.get(1).getId(), 2);
+
+    final WorkspaceSummaryImpl expected =
+        new WorkspaceSummaryImpl("id2", "name2", "namespace", false);
+    expected.setCreated(1000L);
+    expected.setUpdated(2000L);
+    assertEquals(
+        firstPage,
+        asList(new WorkspaceSummaryImpl("id1", "name1", "namespace", false), expected));
+    assertEquals(
+        secondPage,
+        singletonList(new WorkspaceSummaryImpl("id3", "name3", "namespace", false)));
+  }
+
+  @Test
+  public void shouldFetchWorkspaceSummariesWithConstantNumberOfQueries() throws Exception {
+    final AccountImpl account = new AccountImpl("accountId", "namespace", "test");
+    manager.getTransaction().begin();
+    manager.persist(account);
+    for (int i = 0; i < 500; i++) {
+      final WorkspaceImpl workspace =
+          createWorkspaceFromDevfile(format("id%03d", i), account, "name" + i);
+      workspace.getAttributes().put(CREATED_ATTRIBUTE_NAME, Long.toString(i));
+      manager.persist(workspace);
+    }
+    manager.getTransaction().commit();
+    manager.clear();
+    manager.getEntityManagerFactory().getCache().evictAll();
+
+    // fetch the first page of full workspaces the same way as before summaries were introduced
+    resetQueryStatistics();
+    long start = System.nanoTime();
+    assertEquals(workspaceDao.getWorkspaces("user", 30, 0).getItems().size(), 30);
+    final long workspacesNanos = System.nanoTime() - start;
+    final long workspacesQueries = getExecutedQueriesCount();
+
+    // fetch all the summaries with pages of the same size
+    resetQueryStatistics();
+    start = System.nanoTime();
+    final List<String> ids = new ArrayList<>();
+    List<WorkspaceSummaryImpl> page = workspaceDao.getWorkspaceSummaries("user", null, 30);
+    final long firstPageNanos = System.nanoTime() - start;
+    final long firstPageQueries = getExecutedQueriesCount();
+    while (!page.isEmpty()) {
+      for (WorkspaceSummaryImpl summary : page) {
+        ids.add(summary.getId());
+        assertEquals(summary.getCreated(), Long.valueOf(summary.getId().substring(2)));
+      }
+      page = workspaceDao.getWorkspaceSummaries("user", ids.get(ids.size() - 1), 30);
+    }
+    final long allPagesNanos = System.nanoTime() - start;
+    final long allPagesQueries = getExecutedQueriesCount();
+
+    LOG.info(
+        "First page of 30 workspaces: {} queries, {} ms. First page of 30 summaries: {} queries, "
+            + "{} ms. All 500 summaries: {} queries, {} ms",
+        workspacesQueries,
+        NANOSECONDS.toMillis(workspacesNanos),
+        firstPageQueries,
+        NANOSECONDS.toMillis(firstPageNanos),
+        allPagesQueries,
+        NANOSECONDS.toMillis(allPagesNanos));
+    assertEquals(ids.size(), 500);
+    assertEquals(ids.get(0), "id000");
+    assertEquals(ids.get(499), "id499");
+    // summaries and timestamps of the page, no count query and no queries per workspace
+    assertEquals(firstPageQueries, 2L);
+    // 17 pages with summaries and the last empty page
+    assertEquals(allPagesQueries, 17 * 2 + 1L);
+    assertTrue(firstPageQueries < workspacesQueries);
+  }
+
+  @Test
+  public void shouldNotLoadDevfileWhenGettingWorkspaceSummary() throws Exception {
+    final AccountImpl account = new AccountImpl("accountId", "namespace", "test");
+    final WorkspaceImpl workspace = createWorkspaceFromDevfile("id1", account, "name1");
+    workspace.getAttributes().put(CREATED_ATTRIBUTE_NAME, "1000");
+    manager.getTransaction().begin();
+    manager.persist(account);
+    manager.persist(workspace);
+    manager.getTransaction().commit();
+    manager.clear();
+    manager.getEntityManagerFactory().getCache().evictAll();
+
+    resetQueryStatistics();
+    final WorkspaceSummaryImpl byId = workspaceDao.getWorkspaceSummary("id1");
+    final WorkspaceSummaryImpl byName = workspaceDao.getWorkspaceSummary("name1", "namespace");
+
+    final WorkspaceSummaryImpl expected =
+        new WorkspaceSummaryImpl("id1", "name1", "namespace", false);
+    expected.setCreated(1000L);
+    assertEquals(byId, expected);
+    assertEquals(byName, expected);
+    // summary and timestamps for each of the lookups
+    assertEquals(getExecutedQueriesCount(), 4L);
+    assertEquals(getExecutedQueriesCount("devfile"), 0L);
+  }
+
+  @Test
+  public void shouldLoadWorkspacesWithNumberOfQueriesIndependentOfPageSize() throws Exception {
+    final AccountImpl account = new AccountImpl("accountId", "namespace", "test");
+    manager.getTransaction().begin();
+    manager.persist(account);
+    for (int i = 0; i < 20; i++) {
+      manager.persist(createWorkspaceFromDevfile(format("id%02d", i), account, "name" + i));
+    }
+    manager.getTransaction().commit();
+
+    final long smallPageQueries = countQueriesOfWorkspacesPage(5);
+    final long largePageQueries = countQueriesOfWorkspacesPage(20);
+
+    // each relation is loaded for all the workspaces of the page at once
+    assertEquals(largePageQueries, smallPageQueries);
+  }
+
+  @Test
+  public void shouldLoadWorkspaceWithOneQueryPerRelation() throws Exception {
+    final AccountImpl account = new AccountImpl("accountId", "namespace", "test");
+    final WorkspaceImpl workspace = createWorkspaceFromDevfile("id1", account, "name1");
+    manager.getTransaction().begin();
+    manager.persist(account);
+    manager.persist(workspace);
+    manager.getTransaction().commit();
+    manager.clear();
+    manager.getEntityManagerFactory().getCache().evictAll();
+
+    resetQueryStatistics();
+    assertEquals(workspaceDao.get("id1"), workspace);
+
+    // no statement is executed more than once, components of the devfile are loaded together
+    assertEquals(getMaxQueryExecutionCount(), 1L);
+  }
+
+  private long countQueriesOfWorkspacesPage(int pageSize) throws Exception {
+    manager.clear();
+    manager.getEntityManagerFactory().getCache().evictAll();
+    resetQueryStatistics();
+    assertEquals(workspaceDao.getWorkspaces("user", pageSize, 0).getItems().size(), pageSize);
+    return getExecutedQueriesCount();
+  }
+
+  private void resetQueryStatistics() {
+    manager.getTransaction().begin();
+    manager.createNativeQuery("SET QUERY_STATISTICS FALSE").executeUpdate();
+    manager.createNativeQuery("SET QUERY_STATISTICS TRUE").executeUpdate();
+    manager.getTransaction().commit();
+  }
+
+  private long getExecutedQueriesCount() {
+    return getExecutedQueriesCount("");
+  }
+
+  private long getExecutedQueriesCount(String table) {
+    final Number count =
+        (Number)
+            manager
+                .createNativeQuery(
+                    "SELECT SUM(EXECUTION_COUNT) FROM INFORMATION_SCHEMA.QUERY_STATISTICS "
+                        + "WHERE SQL_STATEMENT NOT LIKE '%QUERY_STATISTICS%' "
+                        + "AND LOWER(SQL_STATEMENT) LIKE ?1")
+                .setParameter(1, "%" + table + "%")
+                .getSingleResult();
+    return count == null ? 0 : count.longValue();
+  }
+
+  private long getMaxQueryExecutionCount() {
+    final Number count =
+        (Number)
+            manager
+                .createNativeQuery(
+                    "SELECT MAX(EXECUTION_COUNT) FROM INFORMATION_SCHEMA.QUERY_STATISTICS "
+                        + "WHERE SQL_STATEMENT NOT LIKE '%QUERY_STATISTICS%'")
+                .getSingleResult();
+    return count == null ? 0 : count.longValue();
+  }
+
   private long asLong(String query) {
     return manager.createQuery(query, Long.class).getSingleResult();
   }
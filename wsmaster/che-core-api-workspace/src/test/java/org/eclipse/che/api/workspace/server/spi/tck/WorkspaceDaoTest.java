@@ -12,6 +12,7 @@
 package org.eclipse.che.api.workspace.server.spi.tck;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
@@ -310,6 +311,25 @@ public class WorkspaceDaoTest {
     assertEquals(result.getItems().iterator().next(), workspaceDao.get(workspace.getId()));
   }
 
+  @Test
+  public void shouldGetIdsOfTemporaryWorkspacesAmongGivenOnes() throws Exception {
+    workspaces[0].setTemporary(true);
+    workspaceDao.update(workspaces[0]);
+    workspaces[2].setTemporary(true);
+    workspaceDao.update(workspaces[2]);
+
+    List<String> result =
+        workspaceDao.getTemporaryWorkspaceIds(
+            asList(workspaces[0].getId(), workspaces[1].getId(), "not-existing"));
+
+    assertEquals(result, singletonList(workspaces[0].getId()));
+  }
+
+  @Test
+  public void shouldReturnEmptyListOfTemporaryWorkspaceIdsWhenNoIdsGiven() throws Exception {
+    assertTrue(workspaceDao.getTemporaryWorkspaceIds(emptyList()).isEmpty());
+  }
+
   @Test(expectedExceptions = IllegalArgumentException.class)
   public void shouldThrowIllegalStateExceptionOnNegativeLimit() throws Exception {
     workspaceDao.getWorkspaces(true, 0, -2);
@@ -74,7 +74,7 @@ import org.eclipse.che.api.workspace.server.WorkspaceManager;
 import org.eclipse.che.api.workspace.server.WorkspaceRuntimes;
 import org.eclipse.che.api.workspace.server.WorkspaceSharedPool;
 import org.eclipse.che.api.workspace.server.devfile.SerializableConverter;
-import org.eclipse.che.api.workspace.server.devfile.convert.DevfileConverter;
+import org.eclipse.che.api.workspace.server.devfile.convert.DevfileConversionCache;
 import org.eclipse.che.api.workspace.server.devfile.validator.ComponentIntegrityValidator;
 import org.eclipse.che.api.workspace.server.hc.probe.ProbeScheduler;
 import org.eclipse.che.api.workspace.server.jpa.JpaWorkspaceDao.RemoveWorkspaceBeforeAccountRemovedEventSubscriber;
@@ -239,6 +239,9 @@ public class CascadeRemovalTest {
                 bind(Long.class)
                     .annotatedWith(Names.named("che.limits.workspace.idle.timeout"))
                     .toInstance(100000L);
+                bind(Long.class)
+                    .annotatedWith(Names.named("che.workspace.activity_flush_period_ms"))
+                    .toInstance(-1L);
                 bind(UserManager.class);
                 bind(AccountManager.class);
 
@@ -269,7 +272,8 @@ public class CascadeRemovalTest {
                             mock(ProbeScheduler.class),
                             new DefaultWorkspaceStatusCache(),
                             new DefaultWorkspaceLockService(),
-                            mock(DevfileConverter.class)));
+                            mock(DevfileConversionCache.class),
+                            1));
                 when(wR.hasRuntime(anyString())).thenReturn(false);
                 bind(WorkspaceRuntimes.class).toInstance(wR);
                 bind(AccountManager.class);